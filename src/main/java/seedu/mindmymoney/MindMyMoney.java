@@ -2,25 +2,44 @@ package seedu.mindmymoney;
 
 import seedu.mindmymoney.command.Command;
 import seedu.mindmymoney.userfinancial.User;
+import seedu.mindmymoney.userfinancial.UserSnapshot;
 
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
 
 /**
  * Represents the entry point of the MindMyMoney program. Initializes the program and starts interaction with the
  * user.
+ *
+ * <p>Started with "--batch FILE", the program instead runs the commands in the file one after another, without the
+ * intro or prompts, and saves once at the end rather than after every command. "--batch" without a file reads the
+ * commands from standard input, and "--save-every N" also saves after every N commands.
  */
 public class MindMyMoney {
+    public static final String BATCH_OPTION = "--batch";
+    public static final String SAVE_EVERY_OPTION = "--save-every";
+    private static final String STANDARD_INPUT_FILENAME = "-";
     private final Ui ui;
     private User user;
     private final Storage storage;
     private static final String STORAGE_FILENAME = "data.txt";
 
     public MindMyMoney() {
+        this(new File(STORAGE_FILENAME));
+    }
+
+    public MindMyMoney(File storageFile) {
         Storage savedStorage;
         ui = new Ui();
         user = new User();
         try {
-            savedStorage = new Storage(new File(STORAGE_FILENAME));
+            savedStorage = new Storage(storageFile);
         } catch (MindMyMoneyException e) {
             System.out.println(e.getMessage());
             savedStorage = null;
@@ -30,37 +49,134 @@ public class MindMyMoney {
 
     public void run() {
         ui.printIntro();
+        loadUser();
 
-        if (storage != null) {
+        boolean isExit = false;
+        while (!isExit) {
             try {
-                user = storage.load();
+                String input = ui.readInput();
+                Command commandType = Parser.parseCommand(input, user);
+                commandType.executeCommand();
+
+                isExit = commandType.isExit();
+
+                save();
+
             } catch (MindMyMoneyException e) {
                 System.out.println(e.getMessage());
-                System.out.println(System.lineSeparator());
+                System.out.print(System.lineSeparator());
             }
         }
+    }
+
+    /**
+     * Runs each line of the reader as a command, until the reader runs out of lines or a command exits the program.
+     * Blank lines are skipped, and a command that fails prints its error without stopping the batch. The data is
+     * saved after every saveInterval commands, and once more at the end if anything ran since the last save.
+     *
+     * @param commands Reader of the commands, one per line.
+     * @param saveInterval The number of commands between saves, or 0 to only save at the end.
+     * @return The number of times the data was saved.
+     * @throws IOException when the commands cannot be read.
+     */
+    public int runBatch(BufferedReader commands, int saveInterval) throws IOException {
+        assert saveInterval >= 0 : "Save interval cannot be negative";
+        loadUser();
 
+        int saveCount = 0;
+        int unsavedCount = 0;
         boolean isExit = false;
-        while (!isExit) {
+        for (String input = commands.readLine(); input != null && !isExit; input = commands.readLine()) {
+            if (input.isBlank()) {
+                continue;
+            }
             try {
-                String input = ui.readInput();
                 Command commandType = Parser.parseCommand(input, user);
                 commandType.executeCommand();
-
                 isExit = commandType.isExit();
-
-                if (storage != null) {
-                    storage.save(user);
-                }
-
             } catch (MindMyMoneyException e) {
                 System.out.println(e.getMessage());
                 System.out.print(System.lineSeparator());
             }
+            unsavedCount++;
+            if (unsavedCount == saveInterval) {
+                saveCount += saveInBatch();
+                unsavedCount = 0;
+            }
+        }
+        if (unsavedCount > 0) {
+            saveCount += saveInBatch();
+        }
+        return saveCount;
+    }
+
+    private void loadUser() {
+        if (storage != null) {
+            try {
+                user = storage.load();
+            } catch (MindMyMoneyException e) {
+                System.out.println(e.getMessage());
+                System.out.println(System.lineSeparator());
+            }
+        }
+    }
+
+    private void save() throws MindMyMoneyException {
+        UserSnapshot snapshot = user.publishSnapshot();
+        if (storage != null) {
+            storage.save(snapshot);
+        }
+    }
+
+    /**
+     * Saves the data during a batch, printing the error instead of stopping the batch if the save fails.
+     *
+     * @return 1 if the data was saved, 0 otherwise.
+     */
+    private int saveInBatch() {
+        try {
+            save();
+            return (storage != null) ? 1 : 0;
+        } catch (MindMyMoneyException e) {
+            System.out.println(e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Runs the commands in a batch file, or in standard input if the file is "-".
+     *
+     * @param fileName The path of the batch file.
+     * @param saveInterval The number of commands between saves, or 0 to only save at the end.
+     */
+    private void runBatchFrom(String fileName, int saveInterval) {
+        try (BufferedReader commands = fileName.equals(STANDARD_INPUT_FILENAME)
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+            runBatch(commands, saveInterval);
+        } catch (IOException | InvalidPathException e) {
+            System.out.println("Unable to read " + fileName + ": " + e.getMessage());
         }
     }
 
     public static void main(String[] args) {
-        new MindMyMoney().run();
+        String batchFileName = null;
+        int saveInterval = 0;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals(BATCH_OPTION)) {
+                boolean hasFileName = i + 1 < args.length && !args[i + 1].startsWith("--");
+                batchFileName = hasFileName ? args[++i] : STANDARD_INPUT_FILENAME;
+            } else if (args[i].equals(SAVE_EVERY_OPTION) && i + 1 < args.length && args[i + 1].matches("\\d{1,9}")) {
+                saveInterval = Integer.parseInt(args[++i]);
+            } else {
+                System.out.println("Usage: MindMyMoney [" + BATCH_OPTION + " {FILE}] [" + SAVE_EVERY_OPTION + " N]");
+                return;
+            }
+        }
+        if (batchFileName == null) {
+            new MindMyMoney().run();
+        } else {
+            new MindMyMoney().runBatchFrom(batchFileName, saveInterval);
+        }
     }
 }
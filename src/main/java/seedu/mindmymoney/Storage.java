@@ -1,6 +1,7 @@
 package seedu.mindmymoney;
 
 import seedu.mindmymoney.userfinancial.User;
+import seedu.mindmymoney.userfinancial.UserSnapshot;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -55,9 +56,19 @@ public class Storage {
      * @throws MindMyMoneyException if an error occurs while saving.
      */
     public void save(User user) throws MindMyMoneyException {
+        save(user.snapshot());
+    }
+
+    /**
+     * Saves the information in the given snapshot of a User. Snapshots do not change, so this may run on a
+     * different thread from the one changing the user's lists.
+     * @param snapshot Snapshot of the lists that need to be saved.
+     * @throws MindMyMoneyException if an error occurs while saving.
+     */
+    public void save(UserSnapshot snapshot) throws MindMyMoneyException {
         try {
             BufferedWriter bufferedWriter = new BufferedWriter(new FileWriter(storageFile));
-            bufferedWriter.write(user.serialize());
+            bufferedWriter.write(snapshot.serialize());
             bufferedWriter.flush();
             bufferedWriter.close();
         } catch (FileNotFoundException e) {
@@ -1,15 +1,19 @@
 package seedu.mindmymoney.command;
 
 import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.BudgetList;
 import seedu.mindmymoney.data.CreditCardList;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.helper.CommandFlags;
 import seedu.mindmymoney.userfinancial.Expenditure;
 import seedu.mindmymoney.userfinancial.CreditCard;
 import seedu.mindmymoney.userfinancial.Income;
 import seedu.mindmymoney.userfinancial.User;
 
-import static seedu.mindmymoney.constants.Flags.FLAG_END_VALUE;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_AMOUNT;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_CARD_LIMIT;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_CARD_NAME;
@@ -24,79 +28,101 @@ import static seedu.mindmymoney.constants.Flags.FLAG_OF_TIME;
 import static seedu.mindmymoney.helper.AddCommandInputTests.testExpenditureParameters;
 import static seedu.mindmymoney.helper.AddCommandInputTests.testIncomeParameters;
 import static seedu.mindmymoney.helper.AddCommandInputTests.testCreditCardParameters;
+import static seedu.mindmymoney.helper.FlagTokenizer.CREDIT_CARD_FLAGS;
+import static seedu.mindmymoney.helper.FlagTokenizer.EXPENDITURE_FLAGS;
+import static seedu.mindmymoney.helper.FlagTokenizer.INCOME_FLAGS;
 import static seedu.mindmymoney.helper.GeneralFunctions.capitalise;
-import static seedu.mindmymoney.helper.GeneralFunctions.parseInputWithCommandFlag;
 import static seedu.mindmymoney.helper.GeneralFunctions.formatFloat;
+import static seedu.mindmymoney.helper.GeneralFunctions.fromCents;
+import static seedu.mindmymoney.helper.ForecastFunctions.forecastRunRate;
+import static seedu.mindmymoney.helper.TimeFunctions.getYearMonth;
 
 /**
- * Represents the Add command.
+ * Represents the Add command. Whether an expenditure, credit card or income is added is picked from the flag
+ * after the instruction.
  */
 public class AddCommand extends Command {
+    public static final String DUPLICATE_WARNING = "Note: an expenditure with the same payment method, amount and "
+        + "description was already added around this date. Use 'delete /e [INDEX]' if this was a mistake.";
+    static final FlagTable<CommandAction<AddCommand>> ACTIONS_BY_FLAG = new FlagTable<CommandAction<AddCommand>>()
+        .put(FLAG_OF_EXPENSES, AddCommand::addExpenditure)
+        .put(FLAG_OF_CREDIT_CARD, AddCommand::addCreditCard)
+        .put(FLAG_OF_INCOME, AddCommand::addIncome);
+
     private String addInput;
+    private final CommandAction<AddCommand> action;
     public ExpenditureList expenditureList;
     public CreditCardList creditCardList;
     public IncomeList incomeList;
+    public BudgetList budgetList;
 
+    /**
+     * Creates an add command that adds an expenditure, credit card or income, depending on the flag at the start of
+     * the input. Executing it fails with a message about the missing flag if there is no such flag.
+     *
+     * @param addInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     */
     public AddCommand(String addInput, User user) {
-        this.addInput = addInput;
-        this.expenditureList = user.getExpenditureListArray();
-        this.creditCardList = user.getCreditCardListArray();
-        this.incomeList = user.getIncomeListArray();
+        this(addInput, user, ACTIONS_BY_FLAG.findOrDefault(addInput, AddCommand::rejectMissingFlag));
     }
 
     /**
-     * Indicates whether the program should exit.
+     * Creates an add command for an input without a flag to say what to add. Executing it fails with a message about
+     * the missing flag.
      *
-     * @return true if the program should exit, false otherwise.
+     * @param addInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @return The add command.
      */
-    @Override
-    public boolean isExit() {
-        return false;
+    public static AddCommand missingFlag(String addInput, User user) {
+        return new AddCommand(addInput, user, AddCommand::rejectMissingFlag);
     }
 
     /**
-     * Indicates whether the add command is to add an expenditure by checking for the expenditure flag.
+     * Creates an add command that runs the given action when executed.
      *
-     * @return true if the /e flag is present, false otherwise.
+     * @param addInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @param action The action, for eg. AddCommand::addExpenditure.
      */
-    private boolean hasExpenditureFlag() {
-        return addInput.startsWith(FLAG_OF_EXPENSES);
+    public AddCommand(String addInput, User user, CommandAction<AddCommand> action) {
+        this.addInput = addInput;
+        this.action = action;
+        this.expenditureList = user.getExpenditureListArray();
+        this.creditCardList = user.getCreditCardListArray();
+        this.incomeList = user.getIncomeListArray();
+        this.budgetList = user.getBudgetListArray();
     }
 
     /**
-     * Indicates whether the add command is to add a credit card by looking for the credit card flag.
+     * Indicates whether the program should exit.
      *
-     * @return true if the credit card flag is present, false otherwise.
+     * @return true if the program should exit, false otherwise.
      */
-    private boolean hasCreditCardFlag() {
-        return addInput.startsWith(FLAG_OF_CREDIT_CARD);
+    @Override
+    public boolean isExit() {
+        return false;
     }
 
     /**
      * Updates the total expenditure field in the credit card specified in the expenditure item and returns
-     * the balance left.
+     * the balance left for the month of the expenditure.
      *
      * @param cardName Name of credit card to be updated.
      * @param amount amount of new expenditure.
+     * @param time date of new expenditure.
      * @return The credit card balance left.
      * @throws MindMyMoneyException when the card is not found in user's credit card list.
      */
-    private float updateCreditCardTotalExpenditure(String cardName, float amount) throws MindMyMoneyException {
+    private float updateCreditCardTotalExpenditure(String cardName, float amount, String time)
+        throws MindMyMoneyException {
         CreditCard creditCard = creditCardList.get(cardName);
         if (creditCard == null) {
             throw new MindMyMoneyException("Invalid Card Name!");
         }
-        creditCard.addExpenditure(amount);
-        return creditCard.getBalanceLeft();
-    }
-
-    /**
-     * Indicates whether the add command is to add an income by looking for the /i flag.
-     *
-     * @return true if the /i flag is present, false otherwise.
-     */
-    private boolean hasIncomeFlag() {
-        return addInput.startsWith(FLAG_OF_INCOME);
+        creditCard.addExpenditure(amount, time);
+        return creditCard.getBalanceLeft(getYearMonth(time));
     }
 
     /**
@@ -105,11 +131,12 @@ public class AddCommand extends Command {
      * @throws MindMyMoneyException when inputs are invalid or flags are missing.
      */
     public void addExpenditure() throws MindMyMoneyException {
-        String paymentMethod = parseInputWithCommandFlag(addInput, FLAG_OF_PAYMENT_METHOD, FLAG_OF_CATEGORY).trim();
-        String inputCategory = parseInputWithCommandFlag(addInput, FLAG_OF_CATEGORY, FLAG_OF_DESCRIPTION).trim();
-        String description = parseInputWithCommandFlag(addInput, FLAG_OF_DESCRIPTION, FLAG_OF_AMOUNT).trim();
-        String amountAsString = parseInputWithCommandFlag(addInput, FLAG_OF_AMOUNT, FLAG_OF_TIME).trim();
-        String inputTime = parseInputWithCommandFlag(addInput, FLAG_OF_TIME, FLAG_END_VALUE).trim();
+        CommandFlags flags = EXPENDITURE_FLAGS.tokenizeInOrder(addInput);
+        String paymentMethod = flags.getRequired(FLAG_OF_PAYMENT_METHOD);
+        String inputCategory = flags.getRequired(FLAG_OF_CATEGORY);
+        String description = flags.getRequired(FLAG_OF_DESCRIPTION);
+        String amountAsString = flags.getRequired(FLAG_OF_AMOUNT);
+        String inputTime = flags.getRequired(FLAG_OF_TIME);
         testExpenditureParameters(paymentMethod, inputCategory, description, amountAsString, inputTime, creditCardList);
 
         if (capitalise(paymentMethod).equals("Cash")) {
@@ -118,7 +145,9 @@ public class AddCommand extends Command {
         String category = capitalise(inputCategory);
         float amountAsFloat = Float.parseFloat(amountAsString);
         float amountFloat = formatFloat(amountAsFloat);
-        expenditureList.add(new Expenditure(paymentMethod, category, description, amountFloat, inputTime));
+        Expenditure expenditure = new Expenditure(paymentMethod, category, description, amountFloat, inputTime);
+        boolean isDuplicate = expenditureList.hasDuplicate(expenditure);
+        expenditureList.add(expenditure);
 
         System.out.println("Successfully added: \n\n"
             + "Description: " + description + "\n"
@@ -127,26 +156,48 @@ public class AddCommand extends Command {
             + "Payment method: " + paymentMethod + "\n"
             + "Date: " + inputTime + "\n\n"
             + "into the account");
+        if (isDuplicate) {
+            System.out.println(DUPLICATE_WARNING);
+        }
 
         if (!paymentMethod.equals("Cash")) {
-            float balanceLeft = updateCreditCardTotalExpenditure(paymentMethod, amountFloat);
+            float balanceLeft = updateCreditCardTotalExpenditure(paymentMethod, amountFloat, inputTime);
             System.out.printf(paymentMethod + " has a balance of $%.2f left%n", balanceLeft);
         }
+        for (String alert : budgetList.checkExpenditure(expenditure, expenditureList)) {
+            System.out.println(alert);
+        }
+        printForecast(expenditure);
         System.out.print(System.lineSeparator());
     }
 
+    /**
+     * Prints the run-rate forecast of the category of an expenditure made this month. The total of the month so far
+     * is read from the monthly totals of the ExpenditureList, so this takes O(1) time.
+     *
+     * @param expenditure The expenditure that was added.
+     */
+    private void printForecast(Expenditure expenditure) {
+        LocalDate today = LocalDate.now();
+        YearMonth month = getYearMonth(expenditure.getTime());
+        if (!month.equals(YearMonth.from(today))) {
+            return;
+        }
+        long totalSoFarInCents = expenditureList.getMonthlyTotalOfCategory(expenditure.getCategory(), month);
+        System.out.printf("At this rate, you will spend $%.2f on %s by the end of the month%n",
+            fromCents(forecastRunRate(totalSoFarInCents, today)), expenditure.getCategory());
+    }
+
     /**
      * Inserts a CreditCard object into user's list of credit card(s).
      *
      * @throws MindMyMoneyException Exception thrown when input is invalid
      */
     public void addCreditCard() throws MindMyMoneyException {
-        final String cardName = parseInputWithCommandFlag(addInput, FLAG_OF_CARD_NAME,
-            FLAG_OF_CASHBACK).trim();
-        final String cashBack = parseInputWithCommandFlag(addInput, FLAG_OF_CASHBACK,
-            FLAG_OF_CARD_LIMIT).trim();
-        final String cardLimit = parseInputWithCommandFlag(addInput, FLAG_OF_CARD_LIMIT,
-            FLAG_END_VALUE).trim();
+        CommandFlags flags = CREDIT_CARD_FLAGS.tokenizeInOrder(addInput);
+        final String cardName = flags.getRequired(FLAG_OF_CARD_NAME);
+        final String cashBack = flags.getRequired(FLAG_OF_CASHBACK);
+        final String cardLimit = flags.getRequired(FLAG_OF_CARD_LIMIT);
         testCreditCardParameters(cardName, cashBack, cardLimit, creditCardList);
         Float cashBackAsFloat = formatFloat(Float.parseFloat(cashBack));
         Float cardLimitAsFloat = formatFloat(Float.parseFloat(cardLimit));
@@ -161,24 +212,34 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Inserts an Income object into user's list of income(s).
+     * Inserts an Income object into user's list of income(s). Incomes given a date with the /t flag are counted in
+     * the month of the date, while incomes without a date are counted in every month.
      *
-     * @throws MindMyMoneyException when the input amount is not a number.
+     * @throws MindMyMoneyException when the input amount is not a number, or the date is invalid.
      */
     public void addIncome() throws MindMyMoneyException {
-        String amountAsString = parseInputWithCommandFlag(addInput, FLAG_OF_AMOUNT, FLAG_OF_CATEGORY).trim();
+        CommandFlags flags = INCOME_FLAGS.tokenizeInOrder(addInput);
+        String amountAsString = flags.getRequired(FLAG_OF_AMOUNT);
 
         try {
             int amountAsInt = Integer.parseInt(amountAsString);
-            String inputCategory = parseInputWithCommandFlag(addInput, FLAG_OF_CATEGORY, FLAG_END_VALUE).trim();
-            testIncomeParameters(amountAsInt, inputCategory);
+            boolean isDated = flags.has(FLAG_OF_TIME);
+            String inputCategory = flags.getRequired(FLAG_OF_CATEGORY);
+            String time = null;
+            if (isDated) {
+                time = flags.get(FLAG_OF_TIME);
+                testIncomeParameters(amountAsInt, inputCategory, time);
+            } else {
+                testIncomeParameters(amountAsInt, inputCategory);
+            }
             String category = capitalise(inputCategory);
 
-            incomeList.add(new Income(amountAsInt, category));
+            incomeList.add(new Income(amountAsInt, category, time));
 
             System.out.print("Successfully added: \n\n"
                 + "Amount: $" + amountAsInt + "\n"
-                + "Category: " + category + "\n\n"
+                + "Category: " + category + "\n"
+                + (isDated ? "Date: " + time + "\n" : "") + "\n"
                 + "into the account");
             System.out.println(System.lineSeparator());
         } catch (NumberFormatException e) {
@@ -187,23 +248,25 @@ public class AddCommand extends Command {
     }
 
     /**
-     * Inserts either an Expenditure, CreditCard or Income object into the user's list based on the input.
+     * Fails because the input has no flag to say what to add.
      *
-     * @throws MindMyMoneyException when an invalid command is received, along with its corresponding error message.
+     * @throws MindMyMoneyException always, with a message pointing to the help pages.
      */
-    @Override
-    public void executeCommand() throws MindMyMoneyException {
-        if (hasExpenditureFlag()) {
-            addExpenditure();
-        } else if (hasCreditCardFlag()) {
-            addCreditCard();
-        } else if (hasIncomeFlag()) {
-            addIncome();
-        } else {
-            throw new MindMyMoneyException("You are missing a flag in your command\n"
+    private void rejectMissingFlag() throws MindMyMoneyException {
+        throw new MindMyMoneyException("You are missing a flag in your command\n"
                 + "Type \"help /e\" to view the list of supported expenditure commands\n"
                 + "Type \"help /cc\" to view the list of supported Credit Card commands\n"
                 + "Type \"help /i\" to view the list of supported income commands");
-        }
+    }
+
+    /**
+     * Inserts an Expenditure, CreditCard or Income object into the user's list, depending on the action the command
+     * was created with.
+     *
+     * @throws MindMyMoneyException when an invalid command is received, along with its corresponding error message.
+     */
+    @Override
+    public void executeCommand() throws MindMyMoneyException {
+        action.run(this);
     }
 }
@@ -0,0 +1,185 @@
+package seedu.mindmymoney.command;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.BudgetTypes;
+import seedu.mindmymoney.constants.PrintStrings;
+import seedu.mindmymoney.data.BudgetList;
+import seedu.mindmymoney.data.CreditCardList;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.userfinancial.Budget;
+import seedu.mindmymoney.userfinancial.User;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_AMOUNT;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CATEGORY;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_PAYMENT_METHOD;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_WARNING;
+import static seedu.mindmymoney.helper.AddCommandInputTests.testExpenditureCategory;
+import static seedu.mindmymoney.helper.AddCommandInputTests.testPaymentMethod;
+import static seedu.mindmymoney.helper.GeneralFunctions.capitalise;
+import static seedu.mindmymoney.helper.GeneralFunctions.formatFloat;
+import static seedu.mindmymoney.helper.GeneralFunctions.fromCents;
+
+/**
+ * Represents the Budget command, which sets, removes and lists the monthly budgets of categories and payment
+ * methods.
+ */
+public class BudgetCommand extends Command {
+    private static final float MAX_MONTHLY_LIMIT = 1000000;
+    private static final int MAX_WARNING_PERCENTAGE = 100;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM/yyyy");
+
+    private final String budgetInput;
+    public BudgetList budgetList;
+    public ExpenditureList expenditureList;
+    public CreditCardList creditCardList;
+
+    public BudgetCommand(String budgetInput, User user) {
+        this.budgetInput = budgetInput;
+        this.budgetList = user.getBudgetListArray();
+        this.expenditureList = user.getExpenditureListArray();
+        this.creditCardList = user.getCreditCardListArray();
+    }
+
+    /**
+     * Indicates whether the program should exit.
+     *
+     * @return true if the program should exit, false otherwise.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Lists the budgets if no flags are given, and otherwise sets or removes a budget.
+     *
+     * @throws MindMyMoneyException when the flags or their values are invalid.
+     */
+    @Override
+    public void executeCommand() throws MindMyMoneyException {
+        if (budgetInput.trim().isEmpty()) {
+            System.out.println(budgetListToString(YearMonth.now()));
+            return;
+        }
+        HashMap<String, String> fields = parseFields(budgetInput);
+        boolean hasCategory = fields.containsKey(FLAG_OF_CATEGORY);
+        if (hasCategory == fields.containsKey(FLAG_OF_PAYMENT_METHOD)) {
+            throw new MindMyMoneyException("Please give either a category with " + FLAG_OF_CATEGORY
+                + " or a payment method with " + FLAG_OF_PAYMENT_METHOD + ", for eg. 'budget /c Food /a 300'");
+        }
+        BudgetTypes type = hasCategory ? BudgetTypes.CATEGORY : BudgetTypes.PAYMENT_METHOD;
+        String name = hasCategory ? parseCategory(fields.get(FLAG_OF_CATEGORY))
+            : parsePaymentMethod(fields.get(FLAG_OF_PAYMENT_METHOD));
+        float monthlyLimit = parseMonthlyLimit(fields.get(FLAG_OF_AMOUNT));
+
+        if (monthlyLimit == 0) {
+            Budget removedBudget = budgetList.remove(type, name);
+            if (removedBudget == null) {
+                throw new MindMyMoneyException("There is no budget for " + name + " to remove!");
+            }
+            System.out.println("Successfully removed budget: " + removedBudget);
+            return;
+        }
+        int warningPercentage = parseWarningPercentage(fields.get(FLAG_OF_WARNING));
+        Budget budget = new Budget(type, name, monthlyLimit, warningPercentage);
+        budgetList.set(budget);
+        System.out.println("Successfully set budget: " + budget);
+    }
+
+    /**
+     * Formats the budgets with the amount spent against each of them in the given month.
+     *
+     * @param month The month to show the spending of.
+     * @return The formatted budgets.
+     */
+    public String budgetListToString(YearMonth month) {
+        List<Budget> budgets = budgetList.getBudgets();
+        if (budgets.isEmpty()) {
+            return "You have not set any budgets. Use 'budget /c CATEGORY /a AMOUNT' or "
+                + "'budget /pm PAYMENT_METHOD /a AMOUNT' to set one.";
+        }
+        StringBuilder output = new StringBuilder(PrintStrings.LINE);
+        for (int i = 0; i < budgets.size(); i++) {
+            Budget budget = budgets.get(i);
+            long spentInCents = (budget.getType() == BudgetTypes.CATEGORY)
+                ? expenditureList.getMonthlyTotalOfCategory(budget.getName(), month)
+                : expenditureList.getMonthlyTotalOfPaymentMethod(budget.getName(), month);
+            output.append(i + 1).append(". ").append(budget).append(" [Spent in ").append(month.format(MONTH_FORMAT))
+                .append(": $").append(String.format("%.2f", fromCents(spentInCents))).append("]")
+                .append(System.lineSeparator());
+        }
+        output.append(PrintStrings.LINE);
+        return output.toString().trim();
+    }
+
+    /**
+     * Reads the value of each flag in the input.
+     *
+     * @param input The input, for eg. "/c Food /a 300 /w 90".
+     * @return The value of each flag given.
+     */
+    private static HashMap<String, String> parseFields(String input) {
+        List<String> supportedFlags = List.of(FLAG_OF_CATEGORY, FLAG_OF_PAYMENT_METHOD, FLAG_OF_AMOUNT,
+            FLAG_OF_WARNING);
+        HashMap<String, String> fields = new HashMap<>();
+        String flag = null;
+        for (String token : input.trim().split(" +")) {
+            if (supportedFlags.contains(token)) {
+                flag = token;
+                fields.put(flag, "");
+            } else if (flag != null) {
+                fields.put(flag, (fields.get(flag) + " " + token).trim());
+            }
+        }
+        return fields;
+    }
+
+    private static String parseCategory(String inputCategory) throws MindMyMoneyException {
+        testExpenditureCategory(inputCategory);
+        return capitalise(inputCategory);
+    }
+
+    private String parsePaymentMethod(String inputPaymentMethod) throws MindMyMoneyException {
+        testPaymentMethod(inputPaymentMethod, creditCardList);
+        if (capitalise(inputPaymentMethod).equals("Cash")) {
+            return capitalise(inputPaymentMethod);
+        }
+        return inputPaymentMethod;
+    }
+
+    private static float parseMonthlyLimit(String inputAmount) throws MindMyMoneyException {
+        if (inputAmount == null || inputAmount.isEmpty()) {
+            throw new MindMyMoneyException("Please give the monthly budget after " + FLAG_OF_AMOUNT
+                + ", or " + FLAG_OF_AMOUNT + " 0 to remove the budget");
+        }
+        try {
+            float monthlyLimit = formatFloat(Float.parseFloat(inputAmount));
+            if (monthlyLimit >= 0 && monthlyLimit <= MAX_MONTHLY_LIMIT) {
+                return monthlyLimit;
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the error below.
+        }
+        throw new MindMyMoneyException("Budget must be a number from 0 to 1000000");
+    }
+
+    private static int parseWarningPercentage(String inputPercentage) throws MindMyMoneyException {
+        if (inputPercentage == null) {
+            return Budget.DEFAULT_WARNING_PERCENTAGE;
+        }
+        try {
+            int warningPercentage = Integer.parseInt(inputPercentage);
+            if (warningPercentage > 0 && warningPercentage <= MAX_WARNING_PERCENTAGE) {
+                return warningPercentage;
+            }
+        } catch (NumberFormatException e) {
+            // Falls through to the error below.
+        }
+        throw new MindMyMoneyException(FLAG_OF_WARNING + " must be followed by a whole number from 1 to 100");
+    }
+}
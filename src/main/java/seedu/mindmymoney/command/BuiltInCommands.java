@@ -0,0 +1,58 @@
+package seedu.mindmymoney.command;
+
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_EXPENSES;
+
+/**
+ * Registers the commands that come with MindMyMoney. Commands that act on several lists, such as add and list, are
+ * registered once for each flag in their table of actions, with a handler that creates the command with the action
+ * of that flag. The handler of the instruction alone creates a command that reports the missing flag. Help is
+ * registered for the instruction alone, as its flag must be the whole input.
+ */
+public class BuiltInCommands implements CommandProvider {
+    /**
+     * Registers the handlers of the built-in commands.
+     *
+     * @param registry The registry that the handlers are added to.
+     */
+    @Override
+    public void registerCommands(CommandRegistry registry) {
+        registry.register("help", (arguments, user) -> new HelpCommand(true, arguments));
+        registry.register("bye", (arguments, user) -> new ByeCommand());
+
+        registry.register("add", requiringArguments(AddCommand::missingFlag));
+        AddCommand.ACTIONS_BY_FLAG.forEach((flag, action) ->
+            registry.register("add", flag, (arguments, user) -> new AddCommand(arguments, user, action)));
+
+        registry.register("update", requiringArguments(UpdateCommand::missingFlag));
+        UpdateCommand.ACTIONS_BY_FLAG.forEach((flag, action) ->
+            registry.register("update", flag, (arguments, user) -> new UpdateCommand(arguments, user, action)));
+
+        registry.register("list", requiringArguments(ListCommand::missingFlag));
+        ListCommand.ACTIONS_BY_FLAG.forEach((flag, action) ->
+            registry.register("list", flag, (arguments, user) -> new ListCommand(arguments, user, action)));
+
+        registry.register("delete", DeleteCommand::missingFlag);
+        DeleteCommand.ACTIONS_BY_FLAG.forEach((flag, action) ->
+            registry.register("delete", flag, (arguments, user) -> new DeleteCommand(arguments, user, action)));
+
+        registry.register("import", ImportCommand::missingFlag);
+        ImportCommand.ACTIONS_BY_FLAG.forEach((flag, action) ->
+            registry.register("import", flag, (arguments, user) -> new ImportCommand(arguments, user, action)));
+
+        registry.register("calculate", requiringArguments(CalculateInputCommand::new));
+        registry.register("budget", BudgetCommand::new);
+        registry.register("stats", StatsCommand::new);
+        registry.register("forecast", ForecastCommand::new);
+    }
+
+    /**
+     * Wraps a handler so that an instruction given without any arguments is treated as an invalid command.
+     *
+     * @param handler The handler of the instruction.
+     * @return The wrapped handler.
+     */
+    private static CommandHandler requiringArguments(CommandHandler handler) {
+        return (arguments, user) -> arguments.isEmpty() ? new HelpCommand(false, FLAG_OF_EXPENSES)
+                : handler.createCommand(arguments, user);
+    }
+}
@@ -2,24 +2,58 @@ package seedu.mindmymoney.command;
 
 import seedu.mindmymoney.MindMyMoneyException;
 import seedu.mindmymoney.data.ExpenditureList;
-import seedu.mindmymoney.helper.GeneralFunctions;
+import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.data.ResultCache;
+import seedu.mindmymoney.helper.CommandFlags;
+import seedu.mindmymoney.helper.ExpenditureQuery;
+import seedu.mindmymoney.helper.FlagTokenizer;
 import seedu.mindmymoney.userfinancial.User;
 
-import static seedu.mindmymoney.constants.Indexes.INDEX_OF_FIRST_ITEM;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CHART;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_EXPENDITURE_PER_MONTH;
-import static seedu.mindmymoney.constants.Indexes.INDEX_OF_SECOND_ITEM;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_GROUP_BY;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_MONTH_OVER_MONTH;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_NET_CASH_FLOW;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_ROLLING;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_TIME;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_YEAR_OVER_YEAR;
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_M;
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_Y;
+import static seedu.mindmymoney.helper.Calculations.calculateChart;
+import static seedu.mindmymoney.helper.Calculations.calculateComparison;
 import static seedu.mindmymoney.helper.Calculations.calculateExpenditure;
+import static seedu.mindmymoney.helper.Calculations.calculateGroupedExpenditure;
+import static seedu.mindmymoney.helper.Calculations.calculateNetCashFlow;
+import static seedu.mindmymoney.helper.Calculations.calculateRollingExpenditure;
+import static seedu.mindmymoney.helper.Calculations.parseFilter;
+import static seedu.mindmymoney.helper.ExpenditureFilter.WHERE_KEYWORD;
 
 /**
- * Represents the Calculate command.
+ * Represents the Calculate command. Results are kept in the user's ResultCache, so a calculation that is repeated
+ * while the months it covers have not changed is printed without searching the expenditures again.
  */
 public class CalculateInputCommand extends Command {
+    private static final String CACHE_KEY_PREFIX = "calculate ";
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM/yyyy");
+    private static final FlagTokenizer CALCULATE_FLAGS = new FlagTokenizer(FLAG_OF_EXPENDITURE_PER_MONTH,
+            FLAG_OF_GROUP_BY, FLAG_OF_TIME, FLAG_OF_ROLLING, FLAG_OF_YEAR_OVER_YEAR, FLAG_OF_MONTH_OVER_MONTH,
+            FLAG_OF_NET_CASH_FLOW, FLAG_OF_CHART);
+
     private String calculateInput;
+    private String cacheKey;
     public ExpenditureList expenditureList;
+    public IncomeList incomeList;
+    public ResultCache resultCache;
 
     public CalculateInputCommand(String calculateInput, User user) {
         this.calculateInput = calculateInput;
         this.expenditureList = user.getExpenditureListArray();
+        this.incomeList = user.getIncomeListArray();
+        this.resultCache = user.getResultCache();
     }
 
     /**
@@ -33,25 +67,207 @@ public class CalculateInputCommand extends Command {
     }
 
     /**
-     * Parses the input for calculate command.
+     * Prints the result of the calculation, reusing the cached result if it is still up to date. Results are cached
+     * under the normalized flags of the input, so different spellings of the same calculation share one entry.
      *
      * @throws MindMyMoneyException when inputs are invalid or flags are missing.
      */
     @Override
     public void executeCommand() throws MindMyMoneyException {
-        try {
-            String[] parsedCalculateInput = GeneralFunctions.parseInput(calculateInput);
-            assert parsedCalculateInput[INDEX_OF_FIRST_ITEM] != null
-                    : "First element in parsedCalculateInput is null";
-            switch (parsedCalculateInput[INDEX_OF_FIRST_ITEM].toLowerCase()) {
-            case FLAG_OF_EXPENDITURE_PER_MONTH:
-                calculateExpenditure(parsedCalculateInput[INDEX_OF_SECOND_ITEM], expenditureList);
-                break;
-            default:
-                throw new MindMyMoneyException("Remember to use a proper flag!");
-            }
-        } catch (ArrayIndexOutOfBoundsException e) {
+        CommandFlags flags = parseFlags();
+        String cachedOutput = resultCache.get(cacheKey, expenditureList);
+        System.out.println((cachedOutput != null) ? cachedOutput : calculateToString(flags));
+    }
+
+    /**
+     * Parses the input for calculate command and works out the result. Results that depend on the current date or on
+     * incomes are not cached.
+     *
+     * @return The result, formatted for printing.
+     * @throws MindMyMoneyException when inputs are invalid or flags are missing.
+     */
+    public String calculateToString() throws MindMyMoneyException {
+        return calculateToString(parseFlags());
+    }
+
+    /**
+     * Reads the flags of the input and checks that they make up one calculation. The cache key is set from the
+     * flags, so it is the same for every spelling of the calculation.
+     *
+     * @return The flags of the input.
+     * @throws MindMyMoneyException when the flags are invalid or a value is missing.
+     */
+    private CommandFlags parseFlags() throws MindMyMoneyException {
+        CommandFlags flags = CALCULATE_FLAGS.tokenize(calculateInput);
+        String flag = flags.getFirstFlag();
+        String groupTime = FLAG_OF_GROUP_BY.equals(flag) ? flags.get(FLAG_OF_TIME) : null;
+        int expectedFlagCount = (groupTime != null) ? 2 : 1;
+        if (flag == null || flags.size() != expectedFlagCount || !flags.getPositionalText().isEmpty()) {
+            throw new MindMyMoneyException("Remember to use a proper flag!");
+        }
+        if (flags.get(flag).isEmpty() && !flag.equals(FLAG_OF_ROLLING)) {
             throw new MindMyMoneyException("Missing input after command!");
         }
+        cacheKey = CACHE_KEY_PREFIX + flags.toNormalizedString();
+        return flags;
+    }
+
+    /**
+     * Works out the result of the calculation given by the flags.
+     *
+     * @param flags The flags of the input, as checked by parseFlags.
+     * @return The result, formatted for printing.
+     * @throws MindMyMoneyException when inputs are invalid.
+     */
+    private String calculateToString(CommandFlags flags) throws MindMyMoneyException {
+        long epoch = expenditureList.getEpoch();
+        String flag = flags.getFirstFlag();
+        String value = flags.get(flag);
+        switch (flag) {
+        case FLAG_OF_EXPENDITURE_PER_MONTH:
+            return calculatePeriod(value, epoch);
+        case FLAG_OF_GROUP_BY:
+            return calculateGrouped(value, flags.get(FLAG_OF_TIME), epoch);
+        case FLAG_OF_ROLLING:
+            return calculateRollingExpenditure(expenditureList);
+        case FLAG_OF_YEAR_OVER_YEAR:
+            return calculateYearOverYear(value, epoch);
+        case FLAG_OF_MONTH_OVER_MONTH:
+            return calculateMonthOverMonth(value, epoch);
+        case FLAG_OF_NET_CASH_FLOW:
+            return calculateNet(value);
+        case FLAG_OF_CHART:
+            return calculateCharts(value, epoch);
+        default:
+            throw new MindMyMoneyException("Remember to use a proper flag!");
+        }
+    }
+
+    /**
+     * Calculates the total expenditure in a day, month or year, and its breakdown by category.
+     *
+     * @param period The period in "dd/mm/yyyy", "mm/yyyy" or "yyyy" format.
+     * @param epoch The epoch of the expenditure list before the total is calculated.
+     * @return The total and breakdown, formatted for printing.
+     * @throws MindMyMoneyException when the period is invalid or has no expenditures.
+     */
+    private String calculatePeriod(String period, long epoch) throws MindMyMoneyException {
+        String output = calculateExpenditure(period, expenditureList);
+        resultCache.put(cacheKey, ExpenditureQuery.inPeriod(period), epoch, output);
+        return output;
+    }
+
+    /**
+     * Compares the spending of each category and payment method in a year with the year before.
+     *
+     * @param year The year in "yyyy" format.
+     * @param epoch The epoch of the expenditure list before the comparison is calculated.
+     * @return The comparison, formatted for printing.
+     * @throws MindMyMoneyException when the year is invalid, or neither year has expenditures.
+     */
+    private String calculateYearOverYear(String year, long epoch) throws MindMyMoneyException {
+        if (!year.matches(VALIDATION_REGEX_Y)) {
+            throw new MindMyMoneyException("Year has to be in \"yyyy\" format!");
+        }
+        YearMonth firstMonth = YearMonth.of(Integer.parseInt(year), 1);
+        return calculateComparisonFrom(firstMonth, MONTHS_IN_YEAR, epoch);
+    }
+
+    /**
+     * Compares the spending of each category and payment method in a month with the month before.
+     *
+     * @param month The month in "mm/yyyy" format.
+     * @param epoch The epoch of the expenditure list before the comparison is calculated.
+     * @return The comparison, formatted for printing.
+     * @throws MindMyMoneyException when the month is invalid, or neither month has expenditures.
+     */
+    private String calculateMonthOverMonth(String month, long epoch) throws MindMyMoneyException {
+        if (!month.matches(VALIDATION_REGEX_M)) {
+            throw new MindMyMoneyException("Month has to be in \"mm/yyyy\" format!");
+        }
+        return calculateComparisonFrom(YearMonth.parse(month, MONTH_FORMAT), 1, epoch);
+    }
+
+    private String calculateComparisonFrom(YearMonth firstMonth, int monthCount, long epoch)
+            throws MindMyMoneyException {
+        String output = calculateComparison(firstMonth, monthCount, expenditureList);
+        resultCache.put(cacheKey, firstMonth.minusMonths(monthCount),
+                firstMonth.plusMonths(monthCount - 1), epoch, output);
+        return output;
+    }
+
+    /**
+     * Calculates the income, expenses and net cash flow of each month in a month or year.
+     *
+     * @param period The period in "mm/yyyy" or "yyyy" format.
+     * @return The cash flow of each month, formatted for printing.
+     * @throws MindMyMoneyException when the period is invalid, or has no income and no expenditures.
+     */
+    private String calculateNet(String period) throws MindMyMoneyException {
+        if (period.matches(VALIDATION_REGEX_Y)) {
+            return calculateNetCashFlow(YearMonth.of(Integer.parseInt(period), 1), MONTHS_IN_YEAR, expenditureList,
+                    incomeList);
+        }
+        if (period.matches(VALIDATION_REGEX_M)) {
+            return calculateNetCashFlow(YearMonth.parse(period, MONTH_FORMAT), 1, expenditureList, incomeList);
+        }
+        throw new MindMyMoneyException("Period has to be in \"mm/yyyy\" or \"yyyy\" format!");
+    }
+
+    /**
+     * Charts the monthly, per-category and daily expenditure of a year, or of a range of years such as
+     * "2020 2022".
+     *
+     * @param years The year, or the first and last years, in "yyyy" format.
+     * @param epoch The epoch of the expenditure list before the charts are calculated.
+     * @return The charts, formatted for printing.
+     * @throws MindMyMoneyException when the years are invalid, or have no expenditures.
+     */
+    private String calculateCharts(String years, long epoch) throws MindMyMoneyException {
+        String[] parsedYears = years.split("\\s+");
+        if (parsedYears.length > 2 || !parsedYears[0].matches(VALIDATION_REGEX_Y)
+                || !parsedYears[parsedYears.length - 1].matches(VALIDATION_REGEX_Y)) {
+            throw new MindMyMoneyException("Years have to be in \"yyyy\" or \"yyyy yyyy\" format!");
+        }
+        int firstYear = Integer.parseInt(parsedYears[0]);
+        int lastYear = Integer.parseInt(parsedYears[parsedYears.length - 1]);
+        if (firstYear > lastYear) {
+            throw new MindMyMoneyException("The first year cannot be after the last year!");
+        }
+        String output = calculateChart(firstYear, lastYear, expenditureList);
+        resultCache.put(cacheKey, YearMonth.of(firstYear, 1),
+                YearMonth.of(lastYear, MONTHS_IN_YEAR), epoch, output);
+        return output;
+    }
+
+    /**
+     * Calculates the stats of each group of expenditures, for input such as "category,month /t 2022" or
+     * "category where amount>50 and date in 2022".
+     *
+     * @param groupInput The fields to group by, optionally followed by a query.
+     * @param time The date given with the /t flag, or null if there is none.
+     * @param epoch The epoch of the expenditure list before the stats are calculated.
+     * @return The stats of each group, formatted for printing.
+     * @throws MindMyMoneyException when the fields, date or query are invalid.
+     */
+    private String calculateGrouped(String groupInput, String time, long epoch) throws MindMyMoneyException {
+        if (time != null && time.isEmpty()) {
+            throw new MindMyMoneyException("Please give a date or query after " + FLAG_OF_TIME);
+        }
+        String groupFields = groupInput;
+        String filter = time;
+        String paddedInput = " " + groupInput + " ";
+        String whereKeyword = " " + WHERE_KEYWORD + " ";
+        int whereIndex = paddedInput.indexOf(whereKeyword);
+        if (time == null && whereIndex >= 0) {
+            groupFields = paddedInput.substring(0, whereIndex).trim();
+            filter = paddedInput.substring(whereIndex + whereKeyword.length()).trim();
+            if (filter.isEmpty()) {
+                throw new MindMyMoneyException("Please give a date or query after " + WHERE_KEYWORD);
+            }
+        }
+        String output = calculateGroupedExpenditure(groupFields, filter, expenditureList);
+        resultCache.put(cacheKey, parseFilter(filter), epoch, output);
+        return output;
     }
 }
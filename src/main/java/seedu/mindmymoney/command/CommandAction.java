@@ -0,0 +1,21 @@
+package seedu.mindmymoney.command;
+
+import seedu.mindmymoney.MindMyMoneyException;
+
+/**
+ * Runs one action of a command that acts on several lists, such as adding an expenditure with an AddCommand. The
+ * CommandRegistry picks the action from the instruction and the flag after it, so the command does not check its
+ * flags again when it is executed.
+ *
+ * @param <T> The type of the command.
+ */
+@FunctionalInterface
+public interface CommandAction<T extends Command> {
+    /**
+     * Runs the action on a command.
+     *
+     * @param command The command, which holds the input and the user's lists.
+     * @throws MindMyMoneyException when the input is invalid.
+     */
+    void run(T command) throws MindMyMoneyException;
+}
@@ -0,0 +1,19 @@
+package seedu.mindmymoney.command;
+
+import seedu.mindmymoney.userfinancial.User;
+
+/**
+ * Creates the Command for an instruction, such as "add" or "list /cc". Handlers hold no state of their own, so each
+ * one is built once when the CommandRegistry is loaded and reused for every input it handles.
+ */
+@FunctionalInterface
+public interface CommandHandler {
+    /**
+     * Creates the Command for an input.
+     *
+     * @param arguments The input after the instruction, which is empty if there is none.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @return Command object with respect to the input.
+     */
+    Command createCommand(String arguments, User user);
+}
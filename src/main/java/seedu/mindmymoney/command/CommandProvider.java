@@ -0,0 +1,16 @@
+package seedu.mindmymoney.command;
+
+/**
+ * Registers a set of command handlers with the CommandRegistry. Providers other than the built-in commands are found
+ * with ServiceLoader, so a new command is plugged in by listing its provider's class name in
+ * META-INF/services/seedu.mindmymoney.command.CommandProvider, without editing the Parser. A provider must be a public
+ * class with a public constructor that takes no arguments.
+ */
+public interface CommandProvider {
+    /**
+     * Registers the handlers of this provider.
+     *
+     * @param registry The registry that the handlers are added to.
+     */
+    void registerCommands(CommandRegistry registry);
+}
@@ -0,0 +1,101 @@
+package seedu.mindmymoney.command;
+
+import seedu.mindmymoney.userfinancial.User;
+
+import java.util.HashMap;
+import java.util.ServiceLoader;
+
+import static seedu.mindmymoney.constants.Flags.EMPTY_PARAMETER;
+
+/**
+ * Maps instructions to the handlers that create their commands. A handler is registered either for an instruction,
+ * such as "budget", or for an instruction and the flag after it, such as "list /cc", in which case it is chosen over
+ * the handler of the instruction alone. Looking up a handler takes constant time, and the input is only split at the
+ * spaces after the instruction and the flag.
+ */
+public class CommandRegistry {
+    private static final char SPACE = ' ';
+
+    private final HashMap<String, Instruction> instructionsByVerb = new HashMap<>();
+
+    /**
+     * Creates a registry of the built-in commands, and of the commands of any providers found by ServiceLoader.
+     * Providers found later replace the handlers registered before them.
+     *
+     * @return The registry.
+     */
+    public static CommandRegistry load() {
+        CommandRegistry registry = new CommandRegistry();
+        new BuiltInCommands().registerCommands(registry);
+        for (CommandProvider provider : ServiceLoader.load(CommandProvider.class)) {
+            provider.registerCommands(registry);
+        }
+        return registry;
+    }
+
+    /**
+     * Registers the handler of an instruction, whatever flag follows it.
+     *
+     * @param verb The instruction, for eg. "add", in lower case.
+     * @param handler The handler.
+     */
+    public void register(String verb, CommandHandler handler) {
+        instructionsByVerb.computeIfAbsent(verb, key -> new Instruction()).handler = handler;
+    }
+
+    /**
+     * Registers the handler of an instruction followed by a flag.
+     *
+     * @param verb The instruction, for eg. "list", in lower case.
+     * @param flag The flag, for eg. "/cc", in lower case.
+     * @param handler The handler.
+     */
+    public void register(String verb, String flag, CommandHandler handler) {
+        instructionsByVerb.computeIfAbsent(verb, key -> new Instruction()).handlersByFlag.put(flag, handler);
+    }
+
+    /**
+     * Finds the handler of an input and creates its command. Instructions and flags are matched ignoring case.
+     *
+     * @param input The command to be parsed.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @return The command, or null if no handler is registered for the instruction.
+     */
+    public Command createCommand(String input, User user) {
+        int verbEnd = input.indexOf(SPACE);
+        String verb = (verbEnd < 0) ? input : input.substring(0, verbEnd);
+        String arguments = (verbEnd < 0) ? EMPTY_PARAMETER : input.substring(verbEnd + 1);
+        Instruction instruction = instructionsByVerb.get(verb);
+        if (instruction == null) {
+            instruction = instructionsByVerb.get(verb.toLowerCase());
+        }
+        if (instruction == null) {
+            return null;
+        }
+        CommandHandler handler = instruction.findHandler(arguments);
+        return (handler == null) ? null : handler.createCommand(arguments, user);
+    }
+
+    /**
+     * Handlers of an instruction, by the flag that follows it.
+     */
+    private static class Instruction {
+        private CommandHandler handler;
+        private final FlagTable<CommandHandler> handlersByFlag = new FlagTable<>();
+
+        /**
+         * Finds the handler of the flag at the start of the arguments, or the handler of the instruction alone if
+         * no handler is registered for that flag.
+         *
+         * @param arguments The input after the instruction.
+         * @return The handler, or null if there is none.
+         */
+        private CommandHandler findHandler(String arguments) {
+            if (handlersByFlag.isEmpty()) {
+                return handler;
+            }
+            CommandHandler flagHandler = handlersByFlag.find(arguments);
+            return (flagHandler != null) ? flagHandler : handler;
+        }
+    }
+}
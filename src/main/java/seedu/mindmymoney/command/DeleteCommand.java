@@ -2,94 +2,139 @@ package seedu.mindmymoney.command;
 
 import seedu.mindmymoney.MindMyMoneyException;
 
+import seedu.mindmymoney.data.CreditCardAdjustments;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.data.CreditCardList;
 import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.helper.CommandFlags;
+import seedu.mindmymoney.helper.FlagTokenizer;
 import seedu.mindmymoney.userfinancial.CreditCard;
 import seedu.mindmymoney.userfinancial.Expenditure;
 import seedu.mindmymoney.userfinancial.User;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_CREDIT_CARD;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_EXPENSES;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_INCOME;
-import static seedu.mindmymoney.constants.Indexes.INDEX_OF_THIRD_ITEM;
 import static seedu.mindmymoney.constants.Indexes.LIST_INDEX_CORRECTION;
-import static seedu.mindmymoney.constants.Indexes.MINIMUM_CREDIT_CARD_COMMAND_LENGTH;
-import static seedu.mindmymoney.constants.Indexes.MINIMUM_EXPENDITURE_COMMAND_LENGTH;
-import static seedu.mindmymoney.constants.Indexes.MINIMUM_INCOME_COMMAND_LENGTH;
+import static seedu.mindmymoney.helper.ExpenditureFilter.WHERE_KEYWORD;
+import static seedu.mindmymoney.helper.ExpenditureFilter.parseConditions;
 
 /**
- * Represents the Delete command.
+ * Represents the Delete command. Whether an expenditure, credit card or income is deleted is picked from the flag in
+ * the input.
  */
 public class DeleteCommand extends Command {
+    private static final FlagTokenizer DELETE_FLAGS = new FlagTokenizer(FLAG_OF_EXPENSES, FLAG_OF_CREDIT_CARD,
+            FLAG_OF_INCOME);
+    static final FlagTable<CommandAction<DeleteCommand>> ACTIONS_BY_FLAG =
+        new FlagTable<CommandAction<DeleteCommand>>()
+        .put(FLAG_OF_EXPENSES, DeleteCommand::deleteExpenditure)
+        .put(FLAG_OF_CREDIT_CARD, DeleteCommand::deleteCreditCard)
+        .put(FLAG_OF_INCOME, DeleteCommand::deleteIncome);
+
     private String input;
+    private final CommandAction<DeleteCommand> action;
     public ExpenditureList expenditureList;
     public CreditCardList creditCardList;
     public IncomeList incomeList;
 
+    /**
+     * Creates a delete command that deletes an expenditure, credit card or income, depending on the first flag in the
+     * input. Executing it fails with a message about the missing flag if there is no such flag.
+     *
+     * @param input The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     */
     public DeleteCommand(String input, User user) {
-        this.input = input;
-        this.expenditureList = user.getExpenditureListArray();
-        this.creditCardList = user.getCreditCardListArray();
-        this.incomeList = user.getIncomeListArray();
+        this(input, user, findAction(input));
     }
 
     /**
-     * Indicates whether the program should exit.
+     * Creates a delete command for an input without a flag to say what to delete. Executing it fails with a message
+     * about the missing flag.
      *
-     * @return true if the program should exit, false otherwise.
+     * @param input The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @return The delete command.
      */
-    @Override
-    public boolean isExit() {
-        return false;
+    public static DeleteCommand missingFlag(String input, User user) {
+        return new DeleteCommand(input, user, DeleteCommand::rejectMissingFlag);
     }
 
     /**
-     * Indicates whether the delete command is to delete a credit card by looking for the /e flag.
+     * Finds the action of the first word of the input that is a flag, for eg. the /e in "delete /e 1".
      *
-     * @return true if the /cc flag is present, false otherwise.
+     * @param input The input of the command.
+     * @return The action, or the action that fails with a message about the missing flag if there is no flag.
      */
-    private boolean hasExpenditureFlag() {
-        return input.contains(FLAG_OF_EXPENSES);
+    private static CommandAction<DeleteCommand> findAction(String input) {
+        for (String word : input.split(" ")) {
+            CommandAction<DeleteCommand> action = ACTIONS_BY_FLAG.find(word);
+            if (action != null) {
+                return action;
+            }
+        }
+        return DeleteCommand::rejectMissingFlag;
     }
 
     /**
-     * Indicates whether the delete command is to delete a credit card by looking for the /cc flag.
+     * Creates a delete command that runs the given action when executed.
      *
-     * @return true if the /cc flag is present, false otherwise.
+     * @param input The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @param action The action, for eg. DeleteCommand::deleteExpenditure.
      */
-    private boolean hasCreditCardFlag() {
-        return input.contains(FLAG_OF_CREDIT_CARD);
+    public DeleteCommand(String input, User user, CommandAction<DeleteCommand> action) {
+        this.input = input;
+        this.action = action;
+        this.expenditureList = user.getExpenditureListArray();
+        this.creditCardList = user.getCreditCardListArray();
+        this.incomeList = user.getIncomeListArray();
     }
 
     /**
-     * Indicates whether the delete command is to delete an income by looking for the /i flag.
+     * Indicates whether the program should exit.
      *
-     * @return true if the /i flag is present, false otherwise.
+     * @return true if the program should exit, false otherwise.
      */
-    private boolean hasIncomeFlag() {
-        return input.contains(FLAG_OF_INCOME);
+    @Override
+    public boolean isExit() {
+        return false;
     }
 
     /**
      * Updates the total expenditure field in the credit card specified in the expenditure item.
      *
      * @param cardName Name of credit card to be updated.
-     * @param amount amount of new expenditure.
+     * @param amount amount of removed expenditure.
+     * @param time date of removed expenditure.
      */
-    private void updateCreditCardTotalExpenditure(String cardName, float amount) {
+    private void updateCreditCardTotalExpenditure(String cardName, float amount, String time) {
         CreditCard creditCard = creditCardList.get(cardName);
         if (creditCard != null) {
-            creditCard.deductExpenditure(amount);
+            creditCard.deductExpenditure(amount, time);
         }
     }
 
     /**
-     * Removes an expenditure from user's list of expenditure(s).
+     * Removes the expenditure given by the input after the /e flag.
      *
      * @throws MindMyMoneyException when expenditure list is empty or an invalid command is received.
      */
     public void deleteExpenditure() throws MindMyMoneyException {
+        deleteExpenditure(getInputAfterFlag(FLAG_OF_EXPENSES));
+    }
+
+    /**
+     * Removes an expenditure from user's list of expenditure(s).
+     *
+     * @param deleteInput The input after the /e flag, which is an index or "where" followed by conditions.
+     * @throws MindMyMoneyException when expenditure list is empty or an invalid command is received.
+     */
+    public void deleteExpenditure(String deleteInput) throws MindMyMoneyException {
         try {
             if (expenditureList.isEmpty()) {
                 throw new MindMyMoneyException(System.lineSeparator()
@@ -97,26 +142,29 @@ public class DeleteCommand extends Command {
                         + System.lineSeparator());
             }
 
-            String[] splitMessage = input.split(" ");
-            if (splitMessage.length != MINIMUM_EXPENDITURE_COMMAND_LENGTH) {
+            if (deleteInput.startsWith(WHERE_KEYWORD + " ")) {
+                deleteMatchingExpenditures(deleteInput.substring(WHERE_KEYWORD.length()));
+                return;
+            }
+            if (!isSingleWord(deleteInput)) {
                 throw new MindMyMoneyException(System.lineSeparator() + "Please check your input parameters\n"
                         + "Enter 'delete /e [INDEX]' to remove an expenditure from your list.\n");
             }
 
-            String getNumber = splitMessage[INDEX_OF_THIRD_ITEM];
-            int positionToDelete = Integer.parseInt(getNumber) + LIST_INDEX_CORRECTION;
-            Expenditure expenditure = expenditureList.get(positionToDelete);
+            int positionToDelete = Integer.parseInt(deleteInput) + LIST_INDEX_CORRECTION;
+            long idToDelete = expenditureList.getIdAt(positionToDelete);
+            Expenditure expenditure = expenditureList.getById(idToDelete);
 
             String paymentMethod = expenditure.getPaymentMethod();
             if (!paymentMethod.equals("Cash")) {
-                updateCreditCardTotalExpenditure(paymentMethod, expenditure.getAmount());
+                updateCreditCardTotalExpenditure(paymentMethod, expenditure.getAmount(), expenditure.getTime());
             }
 
             System.out.println("I have removed "
                     + expenditure.getDescription()
                     + " of $" + String.format("%.2f",expenditure.getAmount())
                     + " from the account" + System.lineSeparator());
-            expenditureList.delete(positionToDelete);
+            expenditureList.deleteById(idToDelete);
             assert positionToDelete >= 0 : "Index should always be >= 0";
 
         } catch (NumberFormatException e) {
@@ -127,11 +175,42 @@ public class DeleteCommand extends Command {
     }
 
     /**
-     * Removes a credit card from user's list of credit card(s).
+     * Removes all expenditures matching the conditions after "where" in a single pass over the user's list, then
+     * updates the totals of the affected credit cards once.
+     *
+     * @param conditions The conditions after "where".
+     * @throws MindMyMoneyException when the conditions are invalid.
+     */
+    private void deleteMatchingExpenditures(String conditions) throws MindMyMoneyException {
+        Predicate<Expenditure> filter = parseConditions(conditions);
+
+        List<Expenditure> removedExpenditures = expenditureList.deleteIf(filter);
+        CreditCardAdjustments adjustments = new CreditCardAdjustments();
+        for (Expenditure expenditure : removedExpenditures) {
+            adjustments.remove(expenditure);
+        }
+        adjustments.applyTo(creditCardList);
+
+        System.out.println("I have removed " + removedExpenditures.size()
+                + " expenditure(s) from the account" + System.lineSeparator());
+    }
+
+    /**
+     * Removes the credit card given by the input after the /cc flag.
      *
      * @throws MindMyMoneyException when credit card list is empty or an invalid command is received.
      */
     public void deleteCreditCard() throws MindMyMoneyException {
+        deleteCreditCard(getInputAfterFlag(FLAG_OF_CREDIT_CARD));
+    }
+
+    /**
+     * Removes a credit card from user's list of credit card(s).
+     *
+     * @param deleteInput The input after the /cc flag, which is an index.
+     * @throws MindMyMoneyException when credit card list is empty or an invalid command is received.
+     */
+    public void deleteCreditCard(String deleteInput) throws MindMyMoneyException {
         try {
             if (creditCardList.isEmpty()) {
                 throw new MindMyMoneyException(System.lineSeparator()
@@ -139,14 +218,12 @@ public class DeleteCommand extends Command {
                         + System.lineSeparator());
             }
 
-            String[] splitMessage = input.split(" ");
-            if (splitMessage.length != MINIMUM_CREDIT_CARD_COMMAND_LENGTH) {
+            if (!isSingleWord(deleteInput)) {
                 throw new MindMyMoneyException(System.lineSeparator() + "Please input a number\n"
                         + "For eg. 'delete /cc 2' to remove the second credit card on your list.\n");
             }
 
-            String getNumber = splitMessage[INDEX_OF_THIRD_ITEM];
-            int positionToDelete = Integer.parseInt(getNumber) + LIST_INDEX_CORRECTION;
+            int positionToDelete = Integer.parseInt(deleteInput) + LIST_INDEX_CORRECTION;
 
             System.out.println("I have removed "
                     + creditCardList.get(positionToDelete).getNameOfCard()
@@ -162,11 +239,21 @@ public class DeleteCommand extends Command {
     }
 
     /**
-     * Removes an income from user's list of income(s).
+     * Removes the income given by the input after the /i flag.
      *
      * @throws MindMyMoneyException when income list is empty or an invalid command is received.
      */
     public void deleteIncome() throws MindMyMoneyException {
+        deleteIncome(getInputAfterFlag(FLAG_OF_INCOME));
+    }
+
+    /**
+     * Removes an income from user's list of income(s).
+     *
+     * @param deleteInput The input after the /i flag, which is an index.
+     * @throws MindMyMoneyException when income list is empty or an invalid command is received.
+     */
+    public void deleteIncome(String deleteInput) throws MindMyMoneyException {
         try {
             if (incomeList.isEmpty()) {
                 throw new MindMyMoneyException(System.lineSeparator()
@@ -174,14 +261,12 @@ public class DeleteCommand extends Command {
                         + System.lineSeparator());
             }
 
-            String[] splitMessage = input.split(" ");
-            if (splitMessage.length != MINIMUM_INCOME_COMMAND_LENGTH) {
+            if (!isSingleWord(deleteInput)) {
                 throw new MindMyMoneyException(System.lineSeparator() + "Please input a number\n"
                         + "For eg. 'delete /i 2' to remove the second income on your list.\n");
             }
 
-            String getNumber = splitMessage[INDEX_OF_THIRD_ITEM];
-            int positionToDelete = Integer.parseInt(getNumber) + LIST_INDEX_CORRECTION;
+            int positionToDelete = Integer.parseInt(deleteInput) + LIST_INDEX_CORRECTION;
 
             System.out.println("I have removed "
                     + incomeList.get(positionToDelete).getCategory()
@@ -195,24 +280,47 @@ public class DeleteCommand extends Command {
         }
     }
 
+    private static boolean isSingleWord(String deleteInput) {
+        return !deleteInput.isEmpty() && deleteInput.indexOf(' ') < 0;
+    }
+
     /**
-     * Removes an expenditure, credit card or income from the user's list based on the input.
+     * Retrieves the input after the flag that chose the list to delete from. The input is read in a single pass by a
+     * FlagTokenizer, which also makes sure it does not name a second list.
      *
-     * @throws MindMyMoneyException when an invalid command is received, along with its corresponding error message.
+     * @param flag The flag that chose the list.
+     * @return The input after the flag.
+     * @throws MindMyMoneyException when the input names more than one list, or does not have the flag.
      */
-    @Override
-    public void executeCommand() throws MindMyMoneyException {
-        if (hasExpenditureFlag()) {
-            deleteExpenditure();
-        } else if (hasCreditCardFlag()) {
-            deleteCreditCard();
-        } else if (hasIncomeFlag()) {
-            deleteIncome();
-        } else {
-            throw new MindMyMoneyException("You are missing a flag in your command\n"
+    private String getInputAfterFlag(String flag) throws MindMyMoneyException {
+        CommandFlags flags = DELETE_FLAGS.tokenize(input);
+        if (flags.size() > 1) {
+            throw new MindMyMoneyException("Please delete from one list at a time, using only one of "
+                    + FLAG_OF_EXPENSES + ", " + FLAG_OF_CREDIT_CARD + " or " + FLAG_OF_INCOME);
+        }
+        return flags.getRequired(flag);
+    }
+
+    /**
+     * Fails because the input has no flag to say what to delete.
+     *
+     * @throws MindMyMoneyException always, with a message pointing to the help pages.
+     */
+    private void rejectMissingFlag() throws MindMyMoneyException {
+        throw new MindMyMoneyException("You are missing a flag in your command\n"
                     + "Type \"help /e\" to view the list of supported expenditure commands\n"
                     + "Type \"help /cc\" to view the list of supported Credit Card commands\n"
                     + "Type \"help /i\" to view the list of supported income commands");
-        }
+    }
+
+    /**
+     * Removes an expenditure, credit card or income from the user's list, depending on the action the command was
+     * created with.
+     *
+     * @throws MindMyMoneyException when an invalid command is received, along with its corresponding error message.
+     */
+    @Override
+    public void executeCommand() throws MindMyMoneyException {
+        action.run(this);
     }
 }
@@ -0,0 +1,82 @@
+package seedu.mindmymoney.command;
+
+import java.util.HashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Maps the flags that follow an instruction, such as "/e" or "/cc", to values. The CommandRegistry uses it to find
+ * the handler of "list /cc", and commands use it to find the action of their flag, so both read the flag of an input
+ * in the same way.
+ *
+ * @param <V> The type of the values.
+ */
+public class FlagTable<V> {
+    private static final char SPACE = ' ';
+
+    private final HashMap<String, V> valuesByFlag = new HashMap<>();
+
+    /**
+     * Maps a flag to a value, replacing any value mapped to it before.
+     *
+     * @param flag The flag, for eg. "/cc", in lower case.
+     * @param value The value.
+     * @return This table, so that flags can be added one after another.
+     */
+    public FlagTable<V> put(String flag, V value) {
+        valuesByFlag.put(flag, value);
+        return this;
+    }
+
+    /**
+     * Retrieves the value of a flag as it is written.
+     *
+     * @param flag The flag.
+     * @return The value, or null if the flag is not in the table.
+     */
+    public V get(String flag) {
+        return valuesByFlag.get(flag);
+    }
+
+    /**
+     * Finds the value of the flag at the start of the input, ignoring case.
+     *
+     * @param arguments The input after the instruction.
+     * @return The value, or null if the input does not start with a flag in the table.
+     */
+    public V find(String arguments) {
+        int flagEnd = arguments.indexOf(SPACE);
+        String flag = (flagEnd < 0) ? arguments : arguments.substring(0, flagEnd);
+        V value = valuesByFlag.get(flag);
+        return (value != null) ? value : valuesByFlag.get(flag.toLowerCase());
+    }
+
+    /**
+     * Finds the value of the flag at the start of the input, ignoring case, or gives a default value.
+     *
+     * @param arguments The input after the instruction.
+     * @param defaultValue The value if the input does not start with a flag in the table.
+     * @return The value.
+     */
+    public V findOrDefault(String arguments, V defaultValue) {
+        V value = find(arguments);
+        return (value != null) ? value : defaultValue;
+    }
+
+    /**
+     * Checks if the table has no flags.
+     *
+     * @return true if the table is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return valuesByFlag.isEmpty();
+    }
+
+    /**
+     * Runs an action on each flag and its value.
+     *
+     * @param action The action.
+     */
+    public void forEach(BiConsumer<String, V> action) {
+        valuesByFlag.forEach(action);
+    }
+}
@@ -0,0 +1,159 @@
+package seedu.mindmymoney.command;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.PrintStrings;
+import seedu.mindmymoney.data.CreditCardList;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.userfinancial.CreditCard;
+import seedu.mindmymoney.userfinancial.User;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static seedu.mindmymoney.helper.ForecastFunctions.TRAILING_DAYS;
+import static seedu.mindmymoney.helper.ForecastFunctions.forecastRunRate;
+import static seedu.mindmymoney.helper.ForecastFunctions.forecastTrailingAverage;
+import static seedu.mindmymoney.helper.GeneralFunctions.fromCents;
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
+
+/**
+ * Represents the Forecast command, which projects the month-end total of each category and payment method, and the
+ * credit card limit left at the end of the month. The projections are worked out from the daily and monthly totals
+ * that the ExpenditureList keeps up to date, so the expenditures are not scanned.
+ */
+public class ForecastCommand extends Command {
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM/yyyy");
+
+    private final String forecastInput;
+    public ExpenditureList expenditureList;
+    public CreditCardList creditCardList;
+
+    public ForecastCommand(String forecastInput, User user) {
+        this.forecastInput = forecastInput;
+        this.expenditureList = user.getExpenditureListArray();
+        this.creditCardList = user.getCreditCardListArray();
+    }
+
+    /**
+     * Indicates whether the program should exit.
+     *
+     * @return true if the program should exit, false otherwise.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Prints the forecasts for the current month.
+     *
+     * @throws MindMyMoneyException when input is given, or there is nothing to forecast from.
+     */
+    @Override
+    public void executeCommand() throws MindMyMoneyException {
+        if (!forecastInput.trim().isEmpty()) {
+            throw new MindMyMoneyException("Please use 'forecast' on its own to forecast this month's spending");
+        }
+        System.out.println(forecastToString(LocalDate.now()));
+    }
+
+    /**
+     * Formats the forecasts of each category and payment method for the month of the given day. Each forecast
+     * shows the total so far, the run-rate and trailing average projections, and the total of the same month last
+     * year.
+     *
+     * @param today The current day.
+     * @return The formatted forecasts.
+     * @throws MindMyMoneyException when nothing was spent this month, in the last 30 days or in the same month last
+     *                              year.
+     */
+    public String forecastToString(LocalDate today) throws MindMyMoneyException {
+        YearMonth month = YearMonth.from(today);
+        YearMonth sameMonthLastYear = month.minusYears(1);
+        TreeMap<String, Long> totalsByCategory = expenditureList.getRollingTotalsByCategory(today,
+                today.getDayOfMonth());
+        TreeMap<String, Long> trailingTotalsByCategory = expenditureList.getRollingTotalsByCategory(today,
+                TRAILING_DAYS);
+        TreeMap<String, Long> lastYearTotalsByCategory = expenditureList.getTotalsByCategory(sameMonthLastYear,
+                sameMonthLastYear);
+        if (totalsByCategory.isEmpty() && trailingTotalsByCategory.isEmpty() && lastYearTotalsByCategory.isEmpty()) {
+            throw new MindMyMoneyException("No expenditures found this month, in the last " + TRAILING_DAYS
+                    + " days or in " + sameMonthLastYear.format(MONTH_FORMAT) + " to forecast from!");
+        }
+
+        StringBuilder output = new StringBuilder("Forecast for " + month.format(MONTH_FORMAT) + ", on day "
+                + today.getDayOfMonth() + " of " + today.lengthOfMonth() + ":");
+        output.append(System.lineSeparator()).append(PrintStrings.LINE);
+        appendForecasts(output, today, totalsByCategory, trailingTotalsByCategory, lastYearTotalsByCategory, false);
+        output.append(PrintStrings.LINE);
+        appendForecasts(output, today, expenditureList.getRollingTotalsByPaymentMethod(today, today.getDayOfMonth()),
+                expenditureList.getRollingTotalsByPaymentMethod(today, TRAILING_DAYS),
+                expenditureList.getTotalsByPaymentMethod(sameMonthLastYear, sameMonthLastYear), true);
+        output.append(PrintStrings.LINE);
+        output.append("Overall: ").append(formatForecast(today, sumTotals(totalsByCategory),
+                sumTotals(trailingTotalsByCategory), sumTotals(lastYearTotalsByCategory)));
+        return output.toString();
+    }
+
+    /**
+     * Appends the forecast of each name that has spending in any of the totals.
+     *
+     * @param output Builder that the forecasts are appended to.
+     * @param today The current day.
+     * @param totals Total of each name this month so far, in cents.
+     * @param trailingTotals Total of each name in the last 30 days, in cents.
+     * @param lastYearTotals Total of each name in the same month last year, in cents.
+     * @param isPaymentMethod Whether the names are payment methods, whose credit card limits are also forecast.
+     */
+    private void appendForecasts(StringBuilder output, LocalDate today, TreeMap<String, Long> totals,
+                                 TreeMap<String, Long> trailingTotals, TreeMap<String, Long> lastYearTotals,
+                                 boolean isPaymentMethod) {
+        TreeSet<String> names = new TreeSet<>(totals.keySet());
+        names.addAll(trailingTotals.keySet());
+        names.addAll(lastYearTotals.keySet());
+        for (String name : names) {
+            long totalInCents = totals.getOrDefault(name, 0L);
+            output.append(name).append(": ").append(formatForecast(today, totalInCents,
+                    trailingTotals.getOrDefault(name, 0L), lastYearTotals.getOrDefault(name, 0L)));
+            CreditCard creditCard = isPaymentMethod ? creditCardList.get(name) : null;
+            if (creditCard != null) {
+                long limitLeftInCents = toCents(creditCard.getMonthlyCardLimit())
+                        - forecastRunRate(totalInCents, today);
+                output.append((limitLeftInCents < 0) ? ", over limit by $" : ", limit left $")
+                        .append(String.format("%.2f", fromCents(Math.abs(limitLeftInCents))));
+            }
+            output.append(System.lineSeparator());
+        }
+    }
+
+    private static long sumTotals(TreeMap<String, Long> totals) {
+        long sumInCents = 0;
+        for (long totalInCents : totals.values()) {
+            sumInCents += totalInCents;
+        }
+        return sumInCents;
+    }
+
+    /**
+     * Formats the forecasts of one category, payment method or the overall total.
+     *
+     * @param today The current day.
+     * @param totalInCents The total this month so far, in cents.
+     * @param trailingTotalInCents The total in the last 30 days, in cents.
+     * @param lastYearTotalInCents The total in the same month last year, in cents.
+     * @return The formatted forecasts.
+     */
+    private static String formatForecast(LocalDate today, long totalInCents, long trailingTotalInCents,
+                                         long lastYearTotalInCents) {
+        String lastYearTotal = (lastYearTotalInCents == 0) ? "none"
+                : "$" + String.format("%.2f", fromCents(lastYearTotalInCents));
+        return "$" + String.format("%.2f", fromCents(totalInCents)) + " so far"
+                + ", run-rate $" + String.format("%.2f", fromCents(forecastRunRate(totalInCents, today)))
+                + ", trailing average $" + String.format("%.2f", fromCents(forecastTrailingAverage(totalInCents,
+                        trailingTotalInCents, today)))
+                + ", same month last year " + lastYearTotal;
+    }
+}
@@ -9,52 +9,63 @@ import static seedu.mindmymoney.constants.Flags.EMPTY_PARAMETER;
 
 /**
  * Represents the Help command. This class also serves as a dummy class to return when an invalid command is
- * received.
+ * received. The help page to print is picked from the flag after the instruction, which must be the whole input.
  */
 public class HelpCommand extends Command {
+    static final FlagTable<CommandAction<HelpCommand>> ACTIONS_BY_FLAG = new FlagTable<CommandAction<HelpCommand>>()
+        .put(FLAG_OF_EXPENSES, HelpCommand::printExpenditureHelpPage)
+        .put(FLAG_OF_CREDIT_CARD, HelpCommand::printCreditCardHelpPage)
+        .put(FLAG_OF_INCOME, HelpCommand::printIncomeHelpPage);
+
     protected boolean isFromUser;
     public String helpInput;
-
-    public HelpCommand(boolean isFromUser, String helpInput) {
-        this.isFromUser = isFromUser;
-        this.helpInput = helpInput;
-    }
+    private final CommandAction<HelpCommand> action;
 
     /**
-     * Indicates whether the program should exit.
+     * Creates a help command that prints the help page of the flag that makes up the input, or every help page if
+     * there is no input. Executing it fails for any other input. A help command that is not from the user prints an
+     * invalid command message instead.
      *
-     * @return true if the program should exit, false otherwise.
+     * @param isFromUser Whether the user asked for help.
+     * @param helpInput The input after the instruction.
      */
-    @Override
-    public boolean isExit() {
-        return false;
+    public HelpCommand(boolean isFromUser, String helpInput) {
+        this(isFromUser, helpInput, findAction(helpInput));
     }
 
     /**
-     * Indicates whether the help command is for expenses by looking for the /e flag.
+     * Finds the action of an input that is exactly one of the flags, so that "help /e extra" is not taken as
+     * "help /e".
      *
-     * @return true if the /e flag is present, false otherwise.
+     * @param helpInput The input after the instruction.
+     * @return The action.
      */
-    private boolean hasExpensesFlag() {
-        return helpInput.equals(FLAG_OF_EXPENSES);
+    private static CommandAction<HelpCommand> findAction(String helpInput) {
+        CommandAction<HelpCommand> action = ACTIONS_BY_FLAG.get(helpInput);
+        return (action != null) ? action : HelpCommand::printAllHelpPages;
     }
 
     /**
-     * Indicates whether the help command is for credit card by looking for the /cc flag.
+     * Creates a help command that runs the given action when executed.
      *
-     * @return true if the /cc flag is present, false otherwise.
+     * @param isFromUser Whether the user asked for help.
+     * @param helpInput The input after the instruction.
+     * @param action The action, for eg. HelpCommand::printIncomeHelpPage.
      */
-    private boolean hasCreditCardListFlag() {
-        return FLAG_OF_CREDIT_CARD.equals(helpInput);
+    public HelpCommand(boolean isFromUser, String helpInput, CommandAction<HelpCommand> action) {
+        this.isFromUser = isFromUser;
+        this.helpInput = helpInput;
+        this.action = action;
     }
 
     /**
-     * Indicates whether the help command is for income by looking for the /i flag.
+     * Indicates whether the program should exit.
      *
-     * @return true if the /i flag is present, false otherwise.
+     * @return true if the program should exit, false otherwise.
      */
-    private boolean hasIncomeFlag() {
-        return FLAG_OF_INCOME.equals(helpInput);
+    @Override
+    public boolean isExit() {
+        return false;
     }
 
     /**
@@ -65,7 +76,8 @@ public class HelpCommand extends Command {
         if (isFromUser) {
             String helpPage = "---------------------------------------Expenditure Help Page------------------------"
                     + "---------------\n"
-                    + "1. Listing all Expenditures: list /e {DATE}\n"
+                    + "1. Listing Expenditures: list /e {DATE or QUERY} {/search [DESCRIPTION]} {/sort [FIELD]} "
+                    + "{/desc} {/top [COUNT]} {/page [PAGE]} {/size [SIZE]} {/limit [COUNT]}\n"
                     + "2. Adding an Expenditure entry: add /e /pm [PAYMENT_METHOD] /c [CATEGORY] "
                     + "/d [DESCRIPTION] /a [AMOUNT] /t [DATE]\n"
                     + "3. Calculating the total expenditure in a month: calculate /epm [DATE]\n"
@@ -111,8 +123,8 @@ public class HelpCommand extends Command {
         String incomeHelpPage = "--------------------------------Income Help Page------------------------------"
                 + "---------\n"
                 + "1. Listing all Incomes: list /i\n"
-                + "2. Adding an Income entry: add /i /a [AMOUNT] /c [CATEGORY]\n"
-                + "3. Updating an Income entry: update /i [INDEX] /a [NEW_AMOUNT] /c [NEW_CATEGORY]\n"
+                + "2. Adding an Income entry: add /i /a [AMOUNT] /c [CATEGORY] {/t [DATE]}\n"
+                + "3. Updating an Income entry: update /i [INDEX] /a [NEW_AMOUNT] /c [NEW_CATEGORY] {/t [NEW_DATE]}\n"
                 + "4. Removing an Income entry: delete /i [INDEX]\n"
                 + "---------------------------------------------------------------------------------------\n";
 
@@ -120,21 +132,15 @@ public class HelpCommand extends Command {
     }
 
     /**
-     * Prints either the Expenditure, Credit Card or Income help page based on the user's input.
+     * Prints every help page if there is no input.
      *
-     * @throws MindMyMoneyException when an invalid command is received.
+     * @throws MindMyMoneyException when the input is not empty.
      */
-    public void executeCommand() throws MindMyMoneyException {
+    private void printAllHelpPages() throws MindMyMoneyException {
         if (helpInput.equals(EMPTY_PARAMETER)) {
             printExpenditureHelpPage();
             printCreditCardHelpPage();
             printIncomeHelpPage();
-        } else if (hasExpensesFlag()) {
-            printExpenditureHelpPage();
-        } else if (hasCreditCardListFlag()) {
-            printCreditCardHelpPage();
-        } else if (hasIncomeFlag()) {
-            printIncomeHelpPage();
         } else {
             throw new MindMyMoneyException("Please ensure that you have entered a valid help command.\n"
                     + "Type \"help /e\" to view the list of supported expenditure commands\n"
@@ -142,4 +148,13 @@ public class HelpCommand extends Command {
                     + "Type \"help /i\" to view the list of supported income commands");
         }
     }
+
+    /**
+     * Prints the Expenditure, Credit Card or Income help page, depending on the action the command was created with.
+     *
+     * @throws MindMyMoneyException when an invalid command is received.
+     */
+    public void executeCommand() throws MindMyMoneyException {
+        action.run(this);
+    }
 }
@@ -0,0 +1,192 @@
+package seedu.mindmymoney.command;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.CreditCardList;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.userfinancial.Expenditure;
+import seedu.mindmymoney.userfinancial.User;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_EXPENSES;
+import static seedu.mindmymoney.helper.AddCommandInputTests.testExpenditureParameters;
+import static seedu.mindmymoney.helper.GeneralFunctions.capitalise;
+import static seedu.mindmymoney.helper.GeneralFunctions.formatFloat;
+
+/**
+ * Represents the Import command, which adds the expenditures in a statement file to the expenditure list. Each line
+ * of the file is "DATE,AMOUNT,PAYMENT_METHOD,CATEGORY,DESCRIPTION". Expenditures that are already in the list, or
+ * earlier in the file, are skipped, so importing the same statement twice does not double the spending.
+ */
+public class ImportCommand extends Command {
+    private static final String FIELD_SEPARATOR = ",";
+    private static final String COMMENT_PREFIX = "#";
+    private static final int FIELD_COUNT = 5;
+    private static final int INDEX_OF_DATE = 0;
+    private static final int INDEX_OF_AMOUNT = 1;
+    private static final int INDEX_OF_PAYMENT_METHOD = 2;
+    private static final int INDEX_OF_CATEGORY = 3;
+    private static final int INDEX_OF_DESCRIPTION = 4;
+    static final FlagTable<CommandAction<ImportCommand>> ACTIONS_BY_FLAG =
+        new FlagTable<CommandAction<ImportCommand>>()
+        .put(FLAG_OF_EXPENSES, ImportCommand::importExpenditures);
+
+    private final String importInput;
+    private final CommandAction<ImportCommand> action;
+    public ExpenditureList expenditureList;
+    public CreditCardList creditCardList;
+
+    /**
+     * Creates an import command that imports the file named after the /e flag at the start of the input. Executing
+     * it fails with a message showing how to give the file to import if there is no such flag.
+     *
+     * @param importInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     */
+    public ImportCommand(String importInput, User user) {
+        this(importInput, user, ACTIONS_BY_FLAG.findOrDefault(importInput, ImportCommand::rejectMissingFile));
+    }
+
+    /**
+     * Creates an import command for an input without the /e flag. Executing it fails with a message showing how to
+     * give the file to import.
+     *
+     * @param importInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @return The import command.
+     */
+    public static ImportCommand missingFlag(String importInput, User user) {
+        return new ImportCommand(importInput, user, ImportCommand::rejectMissingFile);
+    }
+
+    /**
+     * Creates an import command that runs the given action when executed.
+     *
+     * @param importInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @param action The action, for eg. ImportCommand::importExpenditures.
+     */
+    public ImportCommand(String importInput, User user, CommandAction<ImportCommand> action) {
+        this.importInput = importInput;
+        this.action = action;
+        this.expenditureList = user.getExpenditureListArray();
+        this.creditCardList = user.getCreditCardListArray();
+    }
+
+    /**
+     * Indicates whether the program should exit.
+     *
+     * @return true if the program should exit, false otherwise.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Imports the expenditures in the file named after the /e flag, and prints how many were imported and skipped.
+     *
+     * @throws MindMyMoneyException when the input has no file, or the file cannot be read.
+     */
+    public void importExpenditures() throws MindMyMoneyException {
+        int flagEnd = importInput.indexOf(' ');
+        String fileName = (flagEnd < 0) ? "" : importInput.substring(flagEnd + 1).trim();
+        if (fileName.isEmpty()) {
+            rejectMissingFile();
+        }
+        System.out.println(importFrom(fileName));
+    }
+
+    /**
+     * Fails because the input does not give a file after the /e flag.
+     *
+     * @throws MindMyMoneyException always, with an example of the command.
+     */
+    private void rejectMissingFile() throws MindMyMoneyException {
+        throw new MindMyMoneyException("Please give the file to import after /e, for eg. "
+            + "\"import /e statement.csv\"");
+    }
+
+    /**
+     * Imports the expenditures in a statement file, depending on the action the command was created with.
+     *
+     * @throws MindMyMoneyException when the input has no file, or the file cannot be read.
+     */
+    @Override
+    public void executeCommand() throws MindMyMoneyException {
+        action.run(this);
+    }
+
+    /**
+     * Adds the expenditures in a file to the list, one line at a time. Each expenditure is checked against the
+     * fingerprints of the expenditures already in the list, so the file is imported in time linear in its length.
+     *
+     * @param fileName The path of the file.
+     * @return A summary of the lines imported and skipped.
+     * @throws MindMyMoneyException when the file cannot be read.
+     */
+    public String importFrom(String fileName) throws MindMyMoneyException {
+        int importedCount = 0;
+        int duplicateCount = 0;
+        StringBuilder invalidLines = new StringBuilder();
+        try (BufferedReader reader = Files.newBufferedReader(Paths.get(fileName), StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                lineNumber++;
+                if (line.isBlank() || line.trim().startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                try {
+                    Expenditure expenditure = parseLine(line);
+                    if (expenditureList.hasDuplicate(expenditure)) {
+                        duplicateCount++;
+                        continue;
+                    }
+                    expenditureList.add(expenditure);
+                    if (!expenditure.getPaymentMethod().equals("Cash")) {
+                        creditCardList.get(expenditure.getPaymentMethod())
+                            .addExpenditure(expenditure.getAmount(), expenditure.getTime());
+                    }
+                    importedCount++;
+                } catch (MindMyMoneyException e) {
+                    invalidLines.append("Line ").append(lineNumber).append(" was not imported: ")
+                        .append(e.getMessage()).append(System.lineSeparator());
+                }
+            }
+        } catch (IOException | InvalidPathException e) {
+            throw new MindMyMoneyException("Unable to read " + fileName + ": " + e.getMessage());
+        }
+        return invalidLines + "Imported " + importedCount + " expenditure(s) from " + fileName + "."
+            + System.lineSeparator() + "Skipped " + duplicateCount + " duplicate(s) already in your list.";
+    }
+
+    /**
+     * Reads an expenditure from a line of the file.
+     *
+     * @param line The line, in "DATE,AMOUNT,PAYMENT_METHOD,CATEGORY,DESCRIPTION" format.
+     * @return The expenditure.
+     * @throws MindMyMoneyException when a field is missing or invalid.
+     */
+    private Expenditure parseLine(String line) throws MindMyMoneyException {
+        String[] fields = line.split(FIELD_SEPARATOR, FIELD_COUNT);
+        if (fields.length < FIELD_COUNT) {
+            throw new MindMyMoneyException("Expected DATE,AMOUNT,PAYMENT_METHOD,CATEGORY,DESCRIPTION");
+        }
+        String time = fields[INDEX_OF_DATE].trim();
+        String amountAsString = fields[INDEX_OF_AMOUNT].trim();
+        String paymentMethod = fields[INDEX_OF_PAYMENT_METHOD].trim();
+        String inputCategory = fields[INDEX_OF_CATEGORY].trim();
+        String description = fields[INDEX_OF_DESCRIPTION].trim();
+        testExpenditureParameters(paymentMethod, inputCategory, description, amountAsString, time, creditCardList);
+        if (capitalise(paymentMethod).equals("Cash")) {
+            paymentMethod = capitalise(paymentMethod);
+        }
+        return new Expenditure(paymentMethod, capitalise(inputCategory), description,
+            formatFloat(Float.parseFloat(amountAsString)), time);
+    }
+}
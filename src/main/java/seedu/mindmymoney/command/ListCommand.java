@@ -5,33 +5,105 @@ import seedu.mindmymoney.constants.PrintStrings;
 import seedu.mindmymoney.data.CreditCardList;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.data.IncomeList;
-import seedu.mindmymoney.helper.GeneralFunctions;
+import seedu.mindmymoney.data.ResultCache;
+import seedu.mindmymoney.constants.SortFields;
+import seedu.mindmymoney.data.SortedSlotView;
+import seedu.mindmymoney.helper.CommandFlags;
+import seedu.mindmymoney.helper.ExpenditureQuery;
+import seedu.mindmymoney.helper.FlagTokenizer;
+import seedu.mindmymoney.helper.SortFunctions;
 import seedu.mindmymoney.userfinancial.CreditCard;
 import seedu.mindmymoney.userfinancial.Expenditure;
 import seedu.mindmymoney.userfinancial.Income;
 import seedu.mindmymoney.userfinancial.User;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Comparator;
+import java.util.List;
+
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CREDIT_CARD;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_DESCENDING;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_EXPENSES;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_INCOME;
-import static seedu.mindmymoney.constants.Flags.FLAG_OF_CREDIT_CARD;
-import static seedu.mindmymoney.constants.Indexes.INDEX_OF_FIRST_ITEM;
-import static seedu.mindmymoney.constants.Indexes.INDEX_OF_SECOND_ITEM;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_LIMIT;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_PAGE;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_PAGE_SIZE;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_SEARCH;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_SORT;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_TOP;
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
 import static seedu.mindmymoney.helper.TimeFunctions.isValidInputCalculateCommand;
 
 /**
- * Represents the List command.
+ * Represents the List command. Listings of expenditures are kept in the user's ResultCache, so a listing that is
+ * repeated while the months it covers have not changed is printed without searching the expenditures again.
  */
 public class ListCommand extends Command {
+    static final FlagTable<CommandAction<ListCommand>> ACTIONS_BY_FLAG = new FlagTable<CommandAction<ListCommand>>()
+        .put(FLAG_OF_EXPENSES, ListCommand::printExpenditureList)
+        .put(FLAG_OF_CREDIT_CARD, ListCommand::printCreditCardList)
+        .put(FLAG_OF_INCOME, ListCommand::printIncomeList);
+
     public ExpenditureList expenditureList;
     public CreditCardList creditCardList;
     public IncomeList incomeList;
+    public ResultCache resultCache;
     private String listInput;
-    private static final int COUNTVALUE = 1;
+    private final CommandAction<ListCommand> action;
+    private static final String CACHE_KEY_PREFIX = "list ";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+    private static final FlagTokenizer EXPENSES_LIST_FLAGS = new FlagTokenizer(new String[]{FLAG_OF_SEARCH},
+        new String[]{FLAG_OF_PAGE, FLAG_OF_PAGE_SIZE, FLAG_OF_LIMIT, FLAG_OF_SORT, FLAG_OF_TOP},
+        new String[]{FLAG_OF_DESCENDING});
+    private int pageNumber = 1;
+    private int pageSize = Integer.MAX_VALUE;
+    private boolean isPaged = false;
+    private boolean isLimited = false;
+    private SortFields sortField = null;
+    private boolean isDescending = false;
+    private ExpenditureQuery scope = ExpenditureQuery.all();
 
+    /**
+     * Creates a list command that lists the expenditures, credit cards or incomes, depending on the flag at the start
+     * of the input. Executing it fails with a message listing the valid list commands if there is no such flag.
+     *
+     * @param listInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     */
     public ListCommand(String listInput, User user) {
+        this(listInput, user, ACTIONS_BY_FLAG.findOrDefault(listInput, ListCommand::rejectMissingFlag));
+    }
+
+    /**
+     * Creates a list command for an input without a flag to say what to list. Executing it fails with a message
+     * listing the valid list commands.
+     *
+     * @param listInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @return The list command.
+     */
+    public static ListCommand missingFlag(String listInput, User user) {
+        return new ListCommand(listInput, user, ListCommand::rejectMissingFlag);
+    }
+
+    /**
+     * Creates a list command that runs the given action when executed.
+     *
+     * @param listInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @param action The action, for eg. ListCommand::printCreditCardList.
+     */
+    public ListCommand(String listInput, User user, CommandAction<ListCommand> action) {
+        this.action = action;
         this.expenditureList = user.getExpenditureListArray();
         this.creditCardList = user.getCreditCardListArray();
         this.incomeList = user.getIncomeListArray();
+        this.resultCache = user.getResultCache();
         this.listInput = listInput;
     }
 
@@ -46,130 +118,248 @@ public class ListCommand extends Command {
     }
 
     /**
-     * Indicates whether the list command is to list expenditure(s) by looking for the /e flag.
+     * Gets the expenditures to be shown and formats them into a String to be printed.
      *
-     * @return true if the /pm flag is present, false otherwise.
+     * @return String of expenditures.
+     * @throws MindMyMoneyException Throws an exception when the date, query or page options are invalid.
      */
-    private boolean hasExpensesFlag() {
-        return listInput.startsWith(FLAG_OF_EXPENSES);
+    public String expenditureListToString() throws MindMyMoneyException {
+        StringWriter output = new StringWriter();
+        try {
+            writeExpenditureList(output);
+        } catch (IOException e) {
+            throw new MindMyMoneyException("Failed to list expenditures: " + e.getMessage());
+        }
+        assert output.getBuffer().length() != 0 : "Return string should be non-empty";
+        return output.toString();
     }
 
     /**
-     * Indicates whether the list command is to list credit card(s) by looking for the /cc flag.
+     * Writes the expenditures to be shown, one row at a time. Only the rows on the requested page are formatted,
+     * and the whole list is never copied unless a date or query has to be matched first.
      *
-     * @return true if the /cc flag is present, false otherwise.
+     * @param output Writer that the rows are written to.
+     * @throws MindMyMoneyException Throws an exception when the date, query or page options are invalid, or
+     *                              nothing matches the date or query.
+     * @throws IOException when the output cannot be written to.
      */
-    private boolean hasCreditCardListFlag() {
-        return FLAG_OF_CREDIT_CARD.equals(listInput);
+    public void writeExpenditureList(Writer output) throws MindMyMoneyException, IOException {
+        writeExpenditureList(output, parseExpenditureListFlags());
     }
 
     /**
-     * Indicates whether the list command is to list income(s) by looking for the /i flag.
+     * Reads the flags of the input after the /e flag.
      *
-     * @return true if the /i flag is present, false otherwise.
+     * @return The flags and their values.
+     * @throws MindMyMoneyException when a flag is given more than once.
      */
-    private boolean hasIncomeListFlag() {
-        return FLAG_OF_INCOME.equals(listInput);
+    private CommandFlags parseExpenditureListFlags() throws MindMyMoneyException {
+        return EXPENSES_LIST_FLAGS.tokenize(listInput.substring(FLAG_OF_EXPENSES.length()));
     }
 
     /**
-     * Gets all expenditures and formats them into a String to be printed.
+     * Writes the expenditures to be shown by the given flags, one row at a time.
      *
-     * @return String of expenditures.
-     * @throws MindMyMoneyException Throws an exception when the date is not in the correct format
+     * @param output Writer that the rows are written to.
+     * @param flags The flags of the input after the /e flag.
+     * @throws MindMyMoneyException when the date, query or page options are invalid, or nothing matches the date
+     *                              or query.
+     * @throws IOException when the output cannot be written to.
      */
-    public String expenditureListToString() throws MindMyMoneyException {
-        try {
-            int count = COUNTVALUE;
-            String listInString = "";
-            if (listInput.equals(FLAG_OF_EXPENSES)) {
-                listInString = listString(count, listInString);
-            } else {
-                listInString = outputListWithDate(count, listInString);
+    private void writeExpenditureList(Writer output, CommandFlags flags) throws MindMyMoneyException, IOException {
+        parsePageOptions(flags);
+        String filter = flags.getPositionalText();
+        String term = flags.get(FLAG_OF_SEARCH);
+        List<Expenditure> shownItems;
+        if (term != null) {
+            if (term.isEmpty()) {
+                throw new MindMyMoneyException("Please give a description to search for after " + FLAG_OF_SEARCH);
             }
-            assert listInString.length() != 0 : "Return string should be non-empty";
-            return listInString;
-        } catch (ArrayIndexOutOfBoundsException e) {
-            throw new MindMyMoneyException("Please ensure that you have entered a valid list command.\n"
-                + "Use 'list /e' to view your current list of expenditure\n"
-                + "Use 'list /cc' to view your current list of stored credit cards\n"
-                + "Use list /i to view your current list of incomes");
+            if (!filter.isEmpty()) {
+                throw new MindMyMoneyException("Please search on its own, without a date or query");
+            }
+            shownItems = expenditureList.searchDescriptions(term);
+            if (shownItems.isEmpty()) {
+                throw new MindMyMoneyException("No descriptions are similar to \"" + term + "\"!");
+            }
+        } else if (filter.isEmpty()) {
+            shownItems = expenditureList.getExpenditures();
+        } else if (ExpenditureQuery.isQuery(filter)) {
+            scope = ExpenditureQuery.parse(filter);
+            shownItems = scope.findAll(expenditureList);
+            if (shownItems.isEmpty()) {
+                throw new MindMyMoneyException("No expenditures match your query! Do check your input");
+            }
+        } else {
+            if (!isValidInputCalculateCommand(filter)) {
+                throw new MindMyMoneyException("Date has to be valid and"
+                    + " in \"dd/mm/yyyy\", \"mm/yyyy\" or \"yyyy\" format!");
+            }
+            scope = ExpenditureQuery.inPeriod(filter);
+            shownItems = scope.findAll(expenditureList);
+            if (shownItems.isEmpty()) {
+                throw new MindMyMoneyException("Date not found in the list! Do check your input");
+            }
+        }
+
+        int itemCount = shownItems.size();
+        if (sortField != null) {
+            shownItems = sortItems(term == null && filter.isEmpty(), shownItems);
+        }
+        int pageCount = Math.max((itemCount + pageSize - 1) / pageSize, 1);
+        if (pageNumber > pageCount) {
+            throw new MindMyMoneyException("Page " + pageNumber + " does not exist! There are only "
+                + pageCount + " page(s).");
+        }
+        int start = (pageNumber - 1) * pageSize;
+        int end = (int) Math.min((long) start + pageSize, shownItems.size());
+        StringBuilder row = new StringBuilder();
+        output.write(PrintStrings.LINE);
+        for (int i = start; i < end; i++) {
+            row.setLength(0);
+            appendExpenditureRow(row, i + 1, shownItems.get(i));
+            output.append(row);
+        }
+        output.write(PrintStrings.LINE);
+        if (isPaged) {
+            output.write("Showing " + (start + 1) + "-" + end + " of " + itemCount + " expenditure(s)"
+                + " (page " + pageNumber + " of " + pageCount + ")" + System.lineSeparator());
+        } else if (isLimited && end < itemCount) {
+            output.write("Showing " + end + " of " + itemCount + " expenditure(s)" + System.lineSeparator());
         }
     }
 
     /**
-     * Outputs the list of expenses with date.
+     * Orders the expenditures to be shown. The whole list uses the sort order cached by the ExpenditureList, and
+     * the top expenditures of a filtered list are found with a bounded heap.
      *
-     * @param count To obtain the numbering when listing the expenses.
-     * @param listInString String where the content of output is appended to.
-     * @return String of expenditures.
-     * @throws MindMyMoneyException Throws an exception when the date is not in the correct format.
+     * @param isWholeList Whether the expenditures are the whole list.
+     * @param items The expenditures to be shown.
+     * @return The sorted expenditures.
      */
-    public String outputListWithDate(int count, String listInString) throws MindMyMoneyException {
-        String[] inputArray = GeneralFunctions.parseInput(listInput);
-        if (!inputArray[INDEX_OF_SECOND_ITEM].equals("")) {
-            if (!isValidInputCalculateCommand(inputArray[INDEX_OF_SECOND_ITEM])) {
-                throw new MindMyMoneyException("Date has to be valid and"
-                    + " in \"dd/mm/yyyy\", \"mm/yyyy\" or \"yyyy\" format!");
-            }
-            if (listStringWithDate(count, listInString, inputArray).equals("")) {
-                throw new MindMyMoneyException("Date not found in the list! Do check your input");
-            }
-            return PrintStrings.LINE + listStringWithDate(count, listInString, inputArray) + PrintStrings.LINE;
-        } else {
-            return listString(count, listInString);
+    private List<Expenditure> sortItems(boolean isWholeList, List<Expenditure> items) {
+        if (isWholeList) {
+            return expenditureList.getSortedExpenditures(sortField, isDescending);
+        }
+        Comparator<Expenditure> order = SortedSlotView.getOrder(sortField);
+        if (isLimited) {
+            return SortFunctions.top(items, order, isDescending, pageSize);
         }
+        return SortFunctions.sort(items, order, isDescending);
     }
 
     /**
-     * Formats the output of expenses in list according to date.
+     * Records the values of the /page, /size, /limit, /sort, /desc and /top options.
      *
-     * @param count To obtain the numbering when listing the expenses.
-     * @param listInString String where the content of output is appended to.
-     * @return String of expenditures
+     * @param flags The flags given after the /e flag.
+     * @throws MindMyMoneyException when an option has no valid value, /limit or /top is combined with /page or
+     *                              /size, or /desc or /top is given without /sort.
      */
-    public String listStringWithDate(int count, String listInString, String[] inputArray) {
-        for (Expenditure expenditure : expenditureList.expenditureListArray) {
-            if (expenditure.getTime().contains(inputArray[INDEX_OF_SECOND_ITEM])) {
-                listInString += count + ". $" + String.format("%.2f", expenditure.getAmount()) + " was spent on "
-                    + expenditure.getDescription() + "(" + expenditure.getCategory() + ") " + "using "
-                    + expenditure.getPaymentMethod() + " [" + expenditure.getTime() + "]" + "\n";
-                count++;
+    private void parsePageOptions(CommandFlags flags) throws MindMyMoneyException {
+        isDescending = flags.has(FLAG_OF_DESCENDING);
+        if (flags.has(FLAG_OF_SORT)) {
+            sortField = parseSortField(flags.get(FLAG_OF_SORT));
+        }
+        if (flags.has(FLAG_OF_PAGE)) {
+            pageNumber = parsePositiveNumber(FLAG_OF_PAGE, flags.get(FLAG_OF_PAGE));
+            isPaged = true;
+        }
+        if (flags.has(FLAG_OF_PAGE_SIZE)) {
+            pageSize = parsePositiveNumber(FLAG_OF_PAGE_SIZE, flags.get(FLAG_OF_PAGE_SIZE));
+            isPaged = true;
+        }
+        if (flags.has(FLAG_OF_LIMIT)) {
+            pageSize = parsePositiveNumber(FLAG_OF_LIMIT, flags.get(FLAG_OF_LIMIT));
+            isLimited = true;
+        }
+        boolean hasTop = flags.has(FLAG_OF_TOP);
+        if (hasTop) {
+            pageSize = parsePositiveNumber(FLAG_OF_TOP, flags.get(FLAG_OF_TOP));
+            isLimited = true;
+        }
+        if ((isDescending || hasTop) && sortField == null) {
+            throw new MindMyMoneyException("Please choose what to sort by with " + FLAG_OF_SORT
+                + ", for eg. " + FLAG_OF_SORT + " amount " + FLAG_OF_DESCENDING + " " + FLAG_OF_TOP + " 5");
+        }
+        if (isPaged && isLimited) {
+            throw new MindMyMoneyException("Please use either " + FLAG_OF_LIMIT + " or " + FLAG_OF_PAGE + " and "
+                + FLAG_OF_PAGE_SIZE + ", but not both");
+        }
+        if (isPaged && pageSize == Integer.MAX_VALUE) {
+            pageSize = DEFAULT_PAGE_SIZE;
+        }
+    }
+
+    private static SortFields parseSortField(String value) throws MindMyMoneyException {
+        try {
+            return SortFields.valueOf(value.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new MindMyMoneyException(FLAG_OF_SORT + " must be followed by amount, date or category");
+        }
+    }
+
+    private static int parsePositiveNumber(String flag, String value) throws MindMyMoneyException {
+        try {
+            int number = Integer.parseInt(value);
+            if (number > 0) {
+                return number;
             }
+        } catch (NumberFormatException e) {
+            // Falls through to the error below.
         }
-        return listInString;
+        throw new MindMyMoneyException(flag + " must be followed by a positive whole number, for eg. "
+            + flag + " 2");
     }
 
     /**
-     * Formats the output of all expenses in list.
+     * Formats an expenditure as a numbered row of the list.
      *
-     * @param count To obtain the numbering when listing the expenses.
-     * @param listInString String where the content of output is appended to.
-     * @return String of expenditures
+     * @param row Builder that the row is appended to.
+     * @param number Number shown in front of the row.
+     * @param expenditure The expenditure.
      */
-    public String listString(int count, String listInString) {
-        listInString += PrintStrings.LINE;
-        for (Expenditure expenditure : expenditureList.expenditureListArray) {
-            listInString += count + ". $" + String.format("%.2f", expenditure.getAmount()) + " was spent on "
-                + expenditure.getDescription() + "(" + expenditure.getCategory() + ") " + "using "
-                + expenditure.getPaymentMethod() + " [" + expenditure.getTime() + "]" + "\n";
-            count++;
+    private static void appendExpenditureRow(StringBuilder row, int number, Expenditure expenditure) {
+        long amountInCents = toCents(expenditure.getAmount());
+        row.append(number).append(". $").append(amountInCents / 100).append('.');
+        long cents = amountInCents % 100;
+        if (cents < 10) {
+            row.append('0');
         }
-        listInString += PrintStrings.LINE;
-        return listInString;
+        row.append(cents).append(" was spent on ").append(expenditure.getDescription())
+            .append('(').append(expenditure.getCategory()).append(") using ").append(expenditure.getPaymentMethod())
+            .append(" [").append(expenditure.getTime()).append("]\n");
     }
 
     /**
-     * Prints user's current list of expenditures.
+     * Prints the expenditures to be shown, streaming the rows through a buffered writer. The rows are copied into
+     * the result cache as they are written, unless there are too many of them to cache.
      *
-     * @throws MindMyMoneyException when expenditure list is empty.
+     * @throws MindMyMoneyException when expenditure list is empty, or the date, query or page options are invalid.
      */
     public void printExpenditureList() throws MindMyMoneyException {
         if (expenditureList.isEmpty()) {
             throw new MindMyMoneyException(
                 "Your expenditure list is currently empty! Please add some expenditures to your list first");
-        } else {
-            System.out.println(expenditureListToString());
+        }
+        CommandFlags flags = parseExpenditureListFlags();
+        String cacheKey = CACHE_KEY_PREFIX + flags.toNormalizedString();
+        String cachedOutput = resultCache.get(cacheKey, expenditureList);
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out), OUTPUT_BUFFER_SIZE);
+        try {
+            if (cachedOutput != null) {
+                output.write(cachedOutput);
+            } else {
+                long epoch = expenditureList.getEpoch();
+                ResultCache.RecordingWriter recorder = new ResultCache.RecordingWriter(output);
+                writeExpenditureList(recorder, flags);
+                if (recorder.getRecording() != null) {
+                    resultCache.put(cacheKey, scope, epoch, recorder.getRecording());
+                }
+            }
+            output.write(System.lineSeparator());
+            output.flush();
+        } catch (IOException e) {
+            throw new MindMyMoneyException("Failed to list expenditures: " + e.getMessage());
         }
     }
 
@@ -180,14 +370,14 @@ public class ListCommand extends Command {
      */
     public String creditCardListToString() {
         int indexOfList = 1;
-        String listInString = "";
+        StringBuilder listInString = new StringBuilder();
         for (CreditCard creditCard : creditCardList.creditCardListArray) {
-            listInString += indexOfList + ". " + creditCard.toString();
+            listInString.append(indexOfList).append(". ").append(creditCard.toString());
             indexOfList++;
         }
 
         assert listInString.length() != 0 : "Return string should be non-empty";
-        return listInString;
+        return listInString.toString();
     }
 
     /**
@@ -213,14 +403,14 @@ public class ListCommand extends Command {
      */
     public String incomeListToString() {
         int indexOfList = 1;
-        String listInString = "";
+        StringBuilder listInString = new StringBuilder();
         for (Income income : incomeList.incomeListArray) {
-            listInString += indexOfList + ". " + income.toString();
+            listInString.append(indexOfList).append(". ").append(income.toString());
             indexOfList++;
         }
 
         assert listInString.length() != 0 : "Return string should be non-empty";
-        return listInString;
+        return listInString.toString();
     }
 
     /**
@@ -240,23 +430,25 @@ public class ListCommand extends Command {
     }
 
     /**
-     * Prints either a list of expenditure(s), credit card(s) or income(s) based on the user's input.
+     * Fails because the input has no flag to say what to list.
      *
-     * @throws MindMyMoneyException when an invalid command is received, along with its corresponding error message.
+     * @throws MindMyMoneyException always, with a message listing the valid list commands.
      */
-    @Override
-    public void executeCommand() throws MindMyMoneyException {
-        if (hasExpensesFlag()) {
-            printExpenditureList();
-        } else if (hasCreditCardListFlag()) {
-            printCreditCardList();
-        } else if (hasIncomeListFlag()) {
-            printIncomeList();
-        } else {
-            throw new MindMyMoneyException("Please ensure that you have entered a valid list command.\n"
+    private void rejectMissingFlag() throws MindMyMoneyException {
+        throw new MindMyMoneyException("Please ensure that you have entered a valid list command.\n"
                 + "Use 'list /e' to view your current list of expenditure\n"
                 + "Use 'list /cc' to view your current list of stored credit cards\n"
                 + "Use list /i to view your current list of incomes");
-        }
+    }
+
+    /**
+     * Prints a list of expenditure(s), credit card(s) or income(s), depending on the action the command was created
+     * with.
+     *
+     * @throws MindMyMoneyException when an invalid command is received, along with its corresponding error message.
+     */
+    @Override
+    public void executeCommand() throws MindMyMoneyException {
+        action.run(this);
     }
 }
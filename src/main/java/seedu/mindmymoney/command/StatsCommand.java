@@ -0,0 +1,132 @@
+package seedu.mindmymoney.command;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.GroupFields;
+import seedu.mindmymoney.constants.PrintStrings;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.helper.QuantileSketch;
+import seedu.mindmymoney.userfinancial.User;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_GROUP_BY;
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_M;
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_Y;
+import static seedu.mindmymoney.helper.GeneralFunctions.fromCents;
+
+/**
+ * Represents the Stats command, which shows the median, 90th and 99th percentile expenditure amounts of each
+ * category or month. The amounts come from sketches that the ExpenditureList keeps for every month and category,
+ * so the expenditures are not sorted for each request.
+ */
+public class StatsCommand extends Command {
+    private static final double MEDIAN = 0.5;
+    private static final double P90 = 0.9;
+    private static final double P99 = 0.99;
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM/yyyy");
+
+    private String statsInput;
+    public ExpenditureList expenditureList;
+
+    public StatsCommand(String statsInput, User user) {
+        this.statsInput = statsInput;
+        this.expenditureList = user.getExpenditureListArray();
+    }
+
+    /**
+     * Indicates whether the program should exit.
+     *
+     * @return true if the program should exit, false otherwise.
+     */
+    @Override
+    public boolean isExit() {
+        return false;
+    }
+
+    /**
+     * Prints the distribution stats of the expenditures.
+     *
+     * @throws MindMyMoneyException when the period or group is invalid, or no expenditure is found.
+     */
+    @Override
+    public void executeCommand() throws MindMyMoneyException {
+        System.out.println(statsToString());
+    }
+
+    /**
+     * Formats the distribution stats for input such as "", "2022", "03/2022 /by category" or "2022 /by month".
+     *
+     * @return The formatted stats.
+     * @throws MindMyMoneyException when the period or group is invalid, or no expenditure is found.
+     */
+    public String statsToString() throws MindMyMoneyException {
+        String period = statsInput.trim();
+        GroupFields groupField = GroupFields.CATEGORY;
+        int groupIndex = (" " + period + " ").indexOf(" " + FLAG_OF_GROUP_BY + " ");
+        if (groupIndex >= 0) {
+            groupField = parseGroupField(period.substring(groupIndex + FLAG_OF_GROUP_BY.length()).trim());
+            period = period.substring(0, groupIndex).trim();
+        }
+
+        YearMonth firstMonth = null;
+        YearMonth lastMonth = null;
+        if (period.matches(VALIDATION_REGEX_Y)) {
+            firstMonth = YearMonth.of(Integer.parseInt(period), 1);
+            lastMonth = firstMonth.plusMonths(MONTHS_IN_YEAR - 1);
+        } else if (period.matches(VALIDATION_REGEX_M)) {
+            firstMonth = YearMonth.parse(period, MONTH_FORMAT);
+            lastMonth = firstMonth;
+        } else if (!period.isEmpty()) {
+            throw new MindMyMoneyException("Date has to be in \"mm/yyyy\" or \"yyyy\" format!");
+        }
+
+        TreeMap<?, QuantileSketch> sketches = (groupField == GroupFields.MONTH)
+                ? expenditureList.getAmountSketchesByMonth(firstMonth, lastMonth)
+                : expenditureList.getAmountSketchesByCategory(firstMonth, lastMonth);
+        if (sketches.isEmpty()) {
+            throw new MindMyMoneyException("No expenditures found! Do check your input");
+        }
+
+        StringBuilder output = new StringBuilder("Spending distribution by " + groupField.name().toLowerCase());
+        output.append(period.isEmpty() ? ":" : " in " + period + ":").append(System.lineSeparator());
+        output.append(PrintStrings.LINE);
+        QuantileSketch overall = new QuantileSketch();
+        for (Map.Entry<?, QuantileSketch> entry : sketches.entrySet()) {
+            String label = (entry.getKey() instanceof YearMonth)
+                    ? ((YearMonth) entry.getKey()).format(MONTH_FORMAT)
+                    : entry.getKey().toString();
+            output.append(label).append(": ").append(formatQuantiles(entry.getValue()))
+                    .append(System.lineSeparator());
+            overall.merge(entry.getValue());
+        }
+        output.append(PrintStrings.LINE);
+        output.append("Overall: ").append(formatQuantiles(overall));
+        return output.toString();
+    }
+
+    private static GroupFields parseGroupField(String input) throws MindMyMoneyException {
+        if (input.equalsIgnoreCase("category")) {
+            return GroupFields.CATEGORY;
+        } else if (input.equalsIgnoreCase("month")) {
+            return GroupFields.MONTH;
+        }
+        throw new MindMyMoneyException(FLAG_OF_GROUP_BY + " must be followed by category or month");
+    }
+
+    /**
+     * Formats the count and quantiles of a sketch for printing.
+     *
+     * @param sketch The sketch.
+     * @return The formatted quantiles.
+     */
+    private static String formatQuantiles(QuantileSketch sketch) {
+        return "count " + sketch.getCount()
+                + ", median $" + String.format("%.2f", fromCents(sketch.getQuantile(MEDIAN)))
+                + ", p90 $" + String.format("%.2f", fromCents(sketch.getQuantile(P90)))
+                + ", p99 $" + String.format("%.2f", fromCents(sketch.getQuantile(P99)));
+    }
+}
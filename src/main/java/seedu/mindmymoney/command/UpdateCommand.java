@@ -1,28 +1,38 @@
 package seedu.mindmymoney.command;
 
 import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.BudgetList;
+import seedu.mindmymoney.data.CreditCardAdjustments;
 import seedu.mindmymoney.data.CreditCardList;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.helper.CommandFlags;
 import seedu.mindmymoney.userfinancial.CreditCard;
 import seedu.mindmymoney.userfinancial.Expenditure;
 import seedu.mindmymoney.userfinancial.Income;
 import seedu.mindmymoney.userfinancial.User;
 
-import static seedu.mindmymoney.constants.Flags.FLAG_OF_CREDIT_CARD;
-import static seedu.mindmymoney.constants.Flags.FLAG_OF_INCOME;
-import static seedu.mindmymoney.constants.Flags.FLAG_OF_CATEGORY;
-import static seedu.mindmymoney.constants.Flags.FLAG_OF_PAYMENT_METHOD;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_AMOUNT;
-import static seedu.mindmymoney.constants.Flags.FLAG_OF_TIME;
-import static seedu.mindmymoney.constants.Flags.FLAG_END_VALUE;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_CARD_LIMIT;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_CARD_NAME;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_CASHBACK;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CATEGORY;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CREDIT_CARD;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_DESCRIPTION;
 import static seedu.mindmymoney.constants.Flags.FLAG_OF_EXPENSES;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_INCOME;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_PAYMENT_METHOD;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_TIME;
 
 import static seedu.mindmymoney.constants.Indexes.INDEX_OF_SECOND_ITEM;
+import static seedu.mindmymoney.constants.Indexes.INDEX_OF_THIRD_ITEM;
 import static seedu.mindmymoney.constants.Indexes.LIST_INDEX_CORRECTION;
 import static seedu.mindmymoney.data.CreditCardList.isEqualName;
 import static seedu.mindmymoney.data.CreditCardList.isEqualCashback;
@@ -35,63 +45,88 @@ import static seedu.mindmymoney.data.ExpenditureList.isEqualTime;
 import static seedu.mindmymoney.data.IncomeList.isEqualIncomeCategory;
 import static seedu.mindmymoney.data.IncomeList.isEqualIncomeAmount;
 import static seedu.mindmymoney.helper.AddCommandInputTests.testCreditCardParameters;
+import static seedu.mindmymoney.helper.AddCommandInputTests.testDescription;
+import static seedu.mindmymoney.helper.AddCommandInputTests.testExpenditureAmountRange;
+import static seedu.mindmymoney.helper.AddCommandInputTests.testExpenditureCategory;
+import static seedu.mindmymoney.helper.AddCommandInputTests.testExpenditureDate;
+import static seedu.mindmymoney.helper.AddCommandInputTests.testPaymentMethod;
 import static seedu.mindmymoney.helper.AddCommandInputTests.testUpdateExpenditureParameters;
 import static seedu.mindmymoney.helper.AddCommandInputTests.testUpdateIncomeParameters;
+import static seedu.mindmymoney.helper.ExpenditureFilter.SET_KEYWORD;
+import static seedu.mindmymoney.helper.ExpenditureFilter.WHERE_KEYWORD;
+import static seedu.mindmymoney.helper.ExpenditureFilter.parseConditions;
+import static seedu.mindmymoney.helper.FlagTokenizer.CREDIT_CARD_FLAGS;
+import static seedu.mindmymoney.helper.FlagTokenizer.EXPENDITURE_FLAGS;
+import static seedu.mindmymoney.helper.FlagTokenizer.INCOME_FLAGS;
 import static seedu.mindmymoney.helper.GeneralFunctions.capitalise;
-import static seedu.mindmymoney.helper.GeneralFunctions.parseInputWithCommandFlag;
 import static seedu.mindmymoney.helper.GeneralFunctions.formatFloat;
 
 /**
- * Represents the Update command.
+ * Represents the Update command. Whether an expenditure, credit card or income is updated is picked from the flag
+ * after the instruction.
  */
 public class UpdateCommand extends Command {
+    static final FlagTable<CommandAction<UpdateCommand>> ACTIONS_BY_FLAG =
+        new FlagTable<CommandAction<UpdateCommand>>()
+        .put(FLAG_OF_EXPENSES, UpdateCommand::updateExpenditure)
+        .put(FLAG_OF_CREDIT_CARD, UpdateCommand::updateCreditCard)
+        .put(FLAG_OF_INCOME, UpdateCommand::updateIncome);
+
     private final String updateInput;
+    private final CommandAction<UpdateCommand> action;
     public ExpenditureList expenditureList;
     public CreditCardList creditCardList;
     public IncomeList incomeList;
-
-    public UpdateCommand(String updateInput, User user) {
-        this.updateInput = updateInput;
-        this.expenditureList = user.getExpenditureListArray();
-        this.creditCardList = user.getCreditCardListArray();
-        this.incomeList = user.getIncomeListArray();
-    }
+    public BudgetList budgetList;
 
     /**
-     * Indicates whether the program should exit.
+     * Creates an update command that updates an expenditure, credit card or income, depending on the flag at the
+     * start of the input. Executing it fails with a message about the missing flag if there is no such flag.
      *
-     * @return true if the program should exit, false otherwise.
+     * @param updateInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
      */
-    @Override
-    public boolean isExit() {
-        return false;
+    public UpdateCommand(String updateInput, User user) {
+        this(updateInput, user,
+            ACTIONS_BY_FLAG.findOrDefault(updateInput, UpdateCommand::rejectMissingFlag));
     }
 
     /**
-     * Indicates whether the help command is for expenses by looking for the /e flag.
+     * Creates an update command for an input without a flag to say what to update. Executing it fails with a message
+     * about the missing flag.
      *
-     * @return true if the /e flag is present, false otherwise.
+     * @param updateInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @return The update command.
      */
-    private boolean hasExpensesFlag() {
-        return updateInput.startsWith(FLAG_OF_EXPENSES);
+    public static UpdateCommand missingFlag(String updateInput, User user) {
+        return new UpdateCommand(updateInput, user, UpdateCommand::rejectMissingFlag);
     }
 
     /**
-     * Indicates whether the update command is to update a credit card by looking for the /cc flag.
+     * Creates an update command that runs the given action when executed.
      *
-     * @return true if the /cc flag is present, false otherwise.
+     * @param updateInput The input after the instruction.
+     * @param user The user object, which contains income, expenditure and credit card list.
+     * @param action The action, for eg. UpdateCommand::updateExpenditure.
      */
-    private boolean hasCreditCardFlag() {
-        return updateInput.startsWith(FLAG_OF_CREDIT_CARD);
+    public UpdateCommand(String updateInput, User user, CommandAction<UpdateCommand> action) {
+        this.updateInput = updateInput;
+        this.action = action;
+        this.expenditureList = user.getExpenditureListArray();
+        this.creditCardList = user.getCreditCardListArray();
+        this.incomeList = user.getIncomeListArray();
+        this.budgetList = user.getBudgetListArray();
     }
 
     /**
-     * Indicates whether the update command is to update an income by looking for the /i flag.
+     * Indicates whether the program should exit.
      *
-     * @return true if the /i flag is present, false otherwise.
+     * @return true if the program should exit, false otherwise.
      */
-    private boolean hasIncomeFlag() {
-        return updateInput.startsWith(FLAG_OF_INCOME);
+    @Override
+    public boolean isExit() {
+        return false;
     }
 
     /**
@@ -100,16 +135,17 @@ public class UpdateCommand extends Command {
      *
      * @param newPaymentMethod Name of payment method to be updated.
      * @param newExpenditureAmount Amount of new expenditure.
-     * @param expenditureIndex Index of expenditure to be updated
+     * @param newTime Date of new expenditure.
+     * @param expenditureId Record id of expenditure to be updated
      * @throws MindMyMoneyException when the payment method is not cash and is not found in user's credit card list.
      */
-    private void updatePaymentMethod(String newPaymentMethod, float newExpenditureAmount, int expenditureIndex)
-        throws MindMyMoneyException {
-        Expenditure oldExpenditure = expenditureList.get(expenditureIndex);
+    private void updatePaymentMethod(String newPaymentMethod, float newExpenditureAmount, String newTime,
+                                     long expenditureId) throws MindMyMoneyException {
+        Expenditure oldExpenditure = expenditureList.getById(expenditureId);
         String oldPaymentMethod = oldExpenditure.getPaymentMethod();
         if (!oldPaymentMethod.equals("Cash")) {
             CreditCard oldCreditCard = creditCardList.get(oldPaymentMethod);
-            oldCreditCard.deductExpenditure(oldExpenditure.getAmount());
+            oldCreditCard.deductExpenditure(oldExpenditure.getAmount(), oldExpenditure.getTime());
         }
 
         if (!newPaymentMethod.equalsIgnoreCase("cash")) {
@@ -117,7 +153,7 @@ public class UpdateCommand extends Command {
             if (newCreditCard == null) {
                 throw new MindMyMoneyException("Please double-check your input! New payment method is not found!");
             }
-            newCreditCard.addExpenditure(newExpenditureAmount);
+            newCreditCard.addExpenditure(newExpenditureAmount, newTime);
         }
     }
 
@@ -128,19 +164,24 @@ public class UpdateCommand extends Command {
      */
     public void updateExpenditure() throws MindMyMoneyException {
         try {
-            String[] parseUpdateInput = updateInput.split(" ");
-            String indexAsString = parseUpdateInput[INDEX_OF_SECOND_ITEM];
+            String[] parseUpdateInput = updateInput.split(" ", INDEX_OF_THIRD_ITEM + 1);
+            if (parseUpdateInput[INDEX_OF_SECOND_ITEM].equals(WHERE_KEYWORD)) {
+                updateMatchingExpenditures();
+                return;
+            }
+            CommandFlags flags = EXPENDITURE_FLAGS.tokenizeInOrder(updateInput);
+            String indexAsString = flags.getPositionalText().split(" ")[INDEX_OF_SECOND_ITEM];
             final int indexToUpdate = Integer.parseInt(indexAsString) + LIST_INDEX_CORRECTION;
 
-            String newPaymentMethod =
-                parseInputWithCommandFlag(updateInput, FLAG_OF_PAYMENT_METHOD, FLAG_OF_CATEGORY).trim();
-            String inputCategory = parseInputWithCommandFlag(updateInput, FLAG_OF_CATEGORY, FLAG_OF_DESCRIPTION).trim();
-            String newDescription = parseInputWithCommandFlag(updateInput, FLAG_OF_DESCRIPTION, FLAG_OF_AMOUNT).trim();
-            String newAmountAsString = parseInputWithCommandFlag(updateInput, FLAG_OF_AMOUNT, FLAG_OF_TIME).trim();
-            String inputTime = parseInputWithCommandFlag(updateInput, FLAG_OF_TIME, FLAG_END_VALUE).trim();
+            String newPaymentMethod = flags.getRequired(FLAG_OF_PAYMENT_METHOD);
+            String inputCategory = flags.getRequired(FLAG_OF_CATEGORY);
+            String newDescription = flags.getRequired(FLAG_OF_DESCRIPTION);
+            String newAmountAsString = flags.getRequired(FLAG_OF_AMOUNT);
+            String inputTime = flags.getRequired(FLAG_OF_TIME);
 
             testUpdateExpenditureParameters(indexToUpdate, newPaymentMethod, inputCategory, newDescription,
                 newAmountAsString, inputTime, creditCardList, expenditureList);
+            final long idToUpdate = expenditureList.getIdAt(indexToUpdate);
 
             if (capitalise(newPaymentMethod).equals("Cash")) {
                 newPaymentMethod = capitalise(newPaymentMethod);
@@ -154,17 +195,20 @@ public class UpdateCommand extends Command {
                     + "Please make sure the field descriptions you want to change are different.");
             }
 
-            updatePaymentMethod(newPaymentMethod, newAmountAsFloat, indexToUpdate);
+            updatePaymentMethod(newPaymentMethod, newAmountAsFloat, inputTime, idToUpdate);
 
             // Create new expenditure object to substitute in
             Expenditure newExpenditure = new Expenditure(newPaymentMethod, newCategory, newDescription,
                 newAmountAsFloat, inputTime);
-            expenditureList.set(indexToUpdate, newExpenditure);
+            expenditureList.setById(idToUpdate, newExpenditure);
             System.out.println("Successfully set expenditure " + indexAsString + " to:\n"
                 + "$" + String.format("%.2f", newExpenditure.getAmount()) + " was spent on "
                 + newExpenditure.getDescription()
                 + "(" + newExpenditure.getCategory() + ") " + "using " + newExpenditure.getPaymentMethod()
                 + " [" + newExpenditure.getTime() + "]");
+            for (String alert : budgetList.checkExpenditure(newExpenditure, expenditureList)) {
+                System.out.println(alert);
+            }
         } catch (ArrayIndexOutOfBoundsException e) {
             throw new MindMyMoneyException("Did you forget to input INDEX, DESCRIPTION or AMOUNT?");
         } catch (NumberFormatException e) {
@@ -174,6 +218,121 @@ public class UpdateCommand extends Command {
         }
     }
 
+    /**
+     * Updates the fields given after "set" in all expenditures matching the conditions after "where". The
+     * expenditures are found and updated in a single pass over the user's list. The totals of the affected credit
+     * cards are checked against their limits before any expenditure is changed, and are updated once.
+     *
+     * @throws MindMyMoneyException when the conditions or new fields are invalid, or a card limit is exceeded.
+     */
+    private void updateMatchingExpenditures() throws MindMyMoneyException {
+        int setIndex = findSetKeyword();
+        if (setIndex < 0) {
+            throw new MindMyMoneyException("Please add the fields to update after \"set\"\n"
+                + "For eg. 'update /e where category=Food set /c Transport'");
+        }
+        int conditionsIndex = updateInput.indexOf(WHERE_KEYWORD) + WHERE_KEYWORD.length();
+        Predicate<Expenditure> filter = parseConditions(updateInput.substring(conditionsIndex, setIndex));
+        HashMap<String, String> newFields = parseNewFields(updateInput.substring(setIndex + SET_KEYWORD.length()));
+
+        CreditCardAdjustments adjustments = new CreditCardAdjustments();
+        List<Expenditure> newExpenditures = expenditureList.updateIf(filter,
+            expenditure -> withNewFields(expenditure, newFields), (oldExpenditures, updatedExpenditures) -> {
+                for (int i = 0; i < oldExpenditures.size(); i++) {
+                    adjustments.remove(oldExpenditures.get(i));
+                    adjustments.add(updatedExpenditures.get(i));
+                }
+                adjustments.checkLimits(creditCardList);
+            });
+        if (newExpenditures.isEmpty()) {
+            System.out.println("No expenditures match the given conditions.");
+            return;
+        }
+        adjustments.applyTo(creditCardList);
+        System.out.println("Successfully updated " + newExpenditures.size() + " expenditure(s).");
+        LinkedHashSet<String> alerts = new LinkedHashSet<>();
+        for (Expenditure newExpenditure : newExpenditures) {
+            alerts.addAll(budgetList.checkExpenditure(newExpenditure, expenditureList));
+        }
+        for (String alert : alerts) {
+            System.out.println(alert);
+        }
+    }
+
+    /**
+     * Finds the "set" keyword that separates the conditions of a bulk update from its new fields. This is the last
+     * " set " that is followed by an expenditure flag, so that a condition value may itself contain " set ".
+     *
+     * @return The index of the keyword in the input, or -1 if there is none.
+     */
+    private int findSetKeyword() {
+        int setIndex = updateInput.lastIndexOf(SET_KEYWORD);
+        while (setIndex >= 0 && !EXPENDITURE_FLAGS.startsWithFlag(updateInput, setIndex + SET_KEYWORD.length())) {
+            setIndex = updateInput.lastIndexOf(SET_KEYWORD, setIndex - 1);
+        }
+        return setIndex;
+    }
+
+    /**
+     * Reads and validates the new fields given after "set" in a bulk update.
+     *
+     * @param input The input after "set", for eg. "/c Transport /d Bus".
+     * @return The new value of each flag given.
+     * @throws MindMyMoneyException when no fields are given or a field is invalid.
+     */
+    private HashMap<String, String> parseNewFields(String input) throws MindMyMoneyException {
+        CommandFlags flags = EXPENDITURE_FLAGS.tokenize(input);
+        HashMap<String, String> newFields = new HashMap<>();
+        for (String flag : List.of(FLAG_OF_PAYMENT_METHOD, FLAG_OF_CATEGORY, FLAG_OF_DESCRIPTION, FLAG_OF_AMOUNT,
+            FLAG_OF_TIME)) {
+            if (flags.has(flag)) {
+                newFields.put(flag, flags.get(flag));
+            }
+        }
+        if (newFields.isEmpty()) {
+            throw new MindMyMoneyException("Please add the fields to update after \"set\", "
+                + "using /pm, /c, /d, /a or /t");
+        }
+
+        if (newFields.containsKey(FLAG_OF_PAYMENT_METHOD)) {
+            String newPaymentMethod = newFields.get(FLAG_OF_PAYMENT_METHOD);
+            testPaymentMethod(newPaymentMethod, creditCardList);
+            if (capitalise(newPaymentMethod).equals("Cash")) {
+                newFields.put(FLAG_OF_PAYMENT_METHOD, capitalise(newPaymentMethod));
+            }
+        }
+        if (newFields.containsKey(FLAG_OF_CATEGORY)) {
+            testExpenditureCategory(newFields.get(FLAG_OF_CATEGORY));
+            newFields.put(FLAG_OF_CATEGORY, capitalise(newFields.get(FLAG_OF_CATEGORY)));
+        }
+        if (newFields.containsKey(FLAG_OF_DESCRIPTION)) {
+            testDescription(newFields.get(FLAG_OF_DESCRIPTION));
+        }
+        if (newFields.containsKey(FLAG_OF_AMOUNT)) {
+            testExpenditureAmountRange(newFields.get(FLAG_OF_AMOUNT));
+        }
+        if (newFields.containsKey(FLAG_OF_TIME)) {
+            testExpenditureDate(newFields.get(FLAG_OF_TIME));
+        }
+        return newFields;
+    }
+
+    /**
+     * Creates a copy of an expenditure with the new fields of a bulk update.
+     *
+     * @param expenditure The expenditure to be updated.
+     * @param newFields The new value of each flag given after "set".
+     * @return The updated expenditure.
+     */
+    private static Expenditure withNewFields(Expenditure expenditure, HashMap<String, String> newFields) {
+        String newAmount = newFields.get(FLAG_OF_AMOUNT);
+        return new Expenditure(newFields.getOrDefault(FLAG_OF_PAYMENT_METHOD, expenditure.getPaymentMethod()),
+            newFields.getOrDefault(FLAG_OF_CATEGORY, expenditure.getCategory()),
+            newFields.getOrDefault(FLAG_OF_DESCRIPTION, expenditure.getDescription()),
+            (newAmount == null) ? expenditure.getAmount() : formatFloat(Float.parseFloat(newAmount)),
+            newFields.getOrDefault(FLAG_OF_TIME, expenditure.getTime()));
+    }
+
     /**
      * Checks if the fields in the update command is similar to the fields in the expenditure in the list.
      *
@@ -204,26 +363,22 @@ public class UpdateCommand extends Command {
      */
     public void updateCreditCard() throws MindMyMoneyException {
         try {
-            String[] parseUpdateInput = updateInput.split(" ");
+            CommandFlags flags = CREDIT_CARD_FLAGS.tokenizeInOrder(updateInput);
 
             // Get index to update
-            String indexAsString = parseUpdateInput[INDEX_OF_SECOND_ITEM];
+            String indexAsString = flags.getPositionalText().split(" ")[INDEX_OF_SECOND_ITEM];
 
             // Parse data from input
-            String newCardName = parseInputWithCommandFlag(updateInput, FLAG_OF_CARD_NAME,
-                FLAG_OF_CASHBACK).trim();
-            String newCashBack = parseInputWithCommandFlag(updateInput, FLAG_OF_CASHBACK,
-                FLAG_OF_CARD_LIMIT).trim();
-            String newCardLimit = parseInputWithCommandFlag(updateInput, FLAG_OF_CARD_LIMIT,
-
-                    FLAG_END_VALUE).trim();
+            String newCardName = flags.getRequired(FLAG_OF_CARD_NAME);
+            String newCashBack = flags.getRequired(FLAG_OF_CASHBACK);
+            String newCardLimit = flags.getRequired(FLAG_OF_CARD_LIMIT);
             testCreditCardParameters(newCardName, newCashBack, newCardLimit, creditCardList);
 
             int indexToUpdate = Integer.parseInt(indexAsString) + LIST_INDEX_CORRECTION;
             float newCashBackAsDouble = formatFloat(Float.parseFloat(newCashBack));
             float newCardLimitAsFloat = formatFloat(Float.parseFloat(newCardLimit));
             CreditCard oldCreditCard = creditCardList.get(indexToUpdate);
-            if (oldCreditCard.getTotalExpenditure() > newCardLimitAsFloat) {
+            if (oldCreditCard.getTotalExpenditure(YearMonth.now()) > newCardLimitAsFloat) {
                 throw new MindMyMoneyException("Current spending has already exceeded the new limit!");
             }
             if (isSimilarCreditCard(indexToUpdate, newCardName, newCashBackAsDouble, newCardLimitAsFloat)) {
@@ -232,6 +387,7 @@ public class UpdateCommand extends Command {
             }
             CreditCard newCreditCard = new CreditCard(newCardName, newCashBackAsDouble,
                 newCardLimitAsFloat);
+            newCreditCard.copyExpendituresFrom(oldCreditCard);
 
             creditCardList.set(indexToUpdate, newCreditCard);
             System.out.println("Successfully set credit card " + indexAsString + " to:\n"
@@ -270,30 +426,36 @@ public class UpdateCommand extends Command {
      */
     public void updateIncome() throws MindMyMoneyException {
         try {
-            String[] parseUpdateInput = updateInput.split(" ");
+            CommandFlags flags = INCOME_FLAGS.tokenizeInOrder(updateInput);
 
-            String indexAsString = parseUpdateInput[INDEX_OF_SECOND_ITEM];
+            String indexAsString = flags.getPositionalText().split(" ")[INDEX_OF_SECOND_ITEM];
             int indexToUpdate = Integer.parseInt(indexAsString) + LIST_INDEX_CORRECTION;
 
-            String newAmountAsString = parseInputWithCommandFlag(updateInput, FLAG_OF_AMOUNT,
-                FLAG_OF_CATEGORY).trim();
+            String newAmountAsString = flags.getRequired(FLAG_OF_AMOUNT);
             int newAmountAsInt = Integer.parseInt(newAmountAsString);
 
-            String inputCategory = parseInputWithCommandFlag(updateInput, FLAG_OF_CATEGORY,
-                FLAG_END_VALUE).trim();
+            boolean hasNewTime = flags.has(FLAG_OF_TIME);
+            String inputCategory = flags.getRequired(FLAG_OF_CATEGORY);
 
             testUpdateIncomeParameters(newAmountAsInt, inputCategory);
+            String oldTime = incomeList.get(indexToUpdate).getTime();
+            String newTime = oldTime;
+            if (hasNewTime) {
+                newTime = flags.get(FLAG_OF_TIME);
+                testExpenditureDate(newTime);
+            }
             String newCategory = capitalise(inputCategory);
-            if (isSimilarIncome(indexToUpdate, newAmountAsInt, newCategory)) {
+            if (isSimilarIncome(indexToUpdate, newAmountAsInt, newCategory) && Objects.equals(oldTime, newTime)) {
                 throw new MindMyMoneyException("Income fields to be updated is similar to the income in the list.\n"
                     + "Please make sure the field descriptions you want to change are different.");
             }
-            Income newIncome = new Income(newAmountAsInt, newCategory);
+            Income newIncome = new Income(newAmountAsInt, newCategory, newTime);
             incomeList.set(indexToUpdate, newIncome);
 
             System.out.print("Successfully set income " + indexAsString + " to:\n"
                 + "Amount: $" + newAmountAsString + "\n"
                 + "Category: " + newCategory + "\n"
+                + ((newTime == null) ? "" : "Date: " + newTime + "\n")
                 + System.lineSeparator());
 
         } catch (ArrayIndexOutOfBoundsException e) {
@@ -322,23 +484,24 @@ public class UpdateCommand extends Command {
     }
 
     /**
-     * Updates either an Expenditure, Credit Card or Income entry based on the user's input.
+     * Fails because the input has no flag to say what to update.
      *
-     * @throws MindMyMoneyException when an invalid command is received, along with its corresponding error message.
+     * @throws MindMyMoneyException always, with a message pointing to the help pages.
      */
-    @Override
-    public void executeCommand() throws MindMyMoneyException {
-        if (hasExpensesFlag()) {
-            updateExpenditure();
-        } else if (hasCreditCardFlag()) {
-            updateCreditCard();
-        } else if (hasIncomeFlag()) {
-            updateIncome();
-        } else {
-            throw new MindMyMoneyException("You are missing a flag in your command\n"
+    private void rejectMissingFlag() throws MindMyMoneyException {
+        throw new MindMyMoneyException("You are missing a flag in your command\n"
                 + "Type \"help /e\" to view the list of supported expenditure commands\n"
                 + "Type \"help /cc\" to view the list of supported Credit Card commands\n"
                 + "Type \"help /i\" to view the list of supported income commands");
-        }
+    }
+
+    /**
+     * Updates an Expenditure, Credit Card or Income entry, depending on the action the command was created with.
+     *
+     * @throws MindMyMoneyException when an invalid command is received, along with its corresponding error message.
+     */
+    @Override
+    public void executeCommand() throws MindMyMoneyException {
+        action.run(this);
     }
 }
@@ -0,0 +1,9 @@
+package seedu.mindmymoney.constants;
+
+/**
+ * Container for the kinds of expenditures that a budget can cover.
+ */
+public enum BudgetTypes {
+    CATEGORY,
+    PAYMENT_METHOD
+}
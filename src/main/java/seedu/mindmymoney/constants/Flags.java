@@ -11,11 +11,25 @@ public class Flags {
     public static final String FLAG_OF_TIME = "/t";
     public static final String FLAG_END_VALUE = "";
     public static final String FLAG_OF_EXPENDITURE_PER_MONTH = "/epm";
+    public static final String FLAG_OF_GROUP_BY = "/by";
+    public static final String FLAG_OF_ROLLING = "/rolling";
+    public static final String FLAG_OF_YEAR_OVER_YEAR = "/yoy";
+    public static final String FLAG_OF_MONTH_OVER_MONTH = "/mom";
+    public static final String FLAG_OF_NET_CASH_FLOW = "/net";
+    public static final String FLAG_OF_CHART = "/chart";
     public static final String FLAG_OF_CARD_NAME = "/n";
     public static final String FLAG_OF_CASHBACK = "/cb";
     public static final String FLAG_OF_CARD_LIMIT = "/cl";
     public static final String FLAG_OF_CREDIT_CARD = "/cc";
     public static final String FLAG_OF_EXPENSES = "/e";
     public static final String FLAG_OF_INCOME = "/i";
+    public static final String FLAG_OF_PAGE = "/page";
+    public static final String FLAG_OF_PAGE_SIZE = "/size";
+    public static final String FLAG_OF_LIMIT = "/limit";
+    public static final String FLAG_OF_SORT = "/sort";
+    public static final String FLAG_OF_DESCENDING = "/desc";
+    public static final String FLAG_OF_TOP = "/top";
+    public static final String FLAG_OF_SEARCH = "/search";
+    public static final String FLAG_OF_WARNING = "/w";
     public static final String EMPTY_PARAMETER = "";
 }
@@ -0,0 +1,12 @@
+package seedu.mindmymoney.constants;
+
+/**
+ * Container for the fields that expenditures can be grouped by when calculating totals.
+ */
+public enum GroupFields {
+    CATEGORY,
+    PM,
+    DAY,
+    MONTH,
+    YEAR
+}
@@ -0,0 +1,10 @@
+package seedu.mindmymoney.constants;
+
+/**
+ * Container for the fields that expenditures can be sorted by.
+ */
+public enum SortFields {
+    AMOUNT,
+    DATE,
+    CATEGORY
+}
@@ -0,0 +1,191 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.BudgetTypes;
+import seedu.mindmymoney.userfinancial.Budget;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Scanner;
+
+import static seedu.mindmymoney.helper.GeneralFunctions.fromCents;
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_BUDGET_END_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_BUDGET_START_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.addListToStringBuilder;
+import static seedu.mindmymoney.helper.SerializerFunctions.convertInputToList;
+import static seedu.mindmymoney.helper.TimeFunctions.getYearMonth;
+
+/**
+ * Container for monthly budgets of categories and payment methods. Budgets are looked up by name, and spending is
+ * read from the monthly totals that the ExpenditureList keeps up to date, so checking an expenditure against its
+ * budgets takes O(1) time.
+ */
+public class BudgetList {
+    private static final int PERCENTAGE = 100;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM/yyyy");
+
+    private final ArrayList<Budget> budgetListArray = new ArrayList<>();
+    private final HashMap<String, Budget> budgetsByCategory = new HashMap<>();
+    private final HashMap<String, Budget> budgetsByPaymentMethod = new HashMap<>();
+    private long epoch = 0;
+
+    public BudgetList() {
+    }
+
+    public BudgetList(List<Budget> budgets) {
+        for (Budget budget : budgets) {
+            set(budget);
+        }
+    }
+
+    /**
+     * Adds a budget, replacing the budget of the same category or payment method if there is one.
+     *
+     * @param budget The budget.
+     */
+    public void set(Budget budget) {
+        Budget oldBudget = getBudgetsByName(budget.getType()).put(budget.getName().toLowerCase(), budget);
+        if (oldBudget == null) {
+            budgetListArray.add(budget);
+        } else {
+            budgetListArray.set(budgetListArray.indexOf(oldBudget), budget);
+        }
+        epoch++;
+    }
+
+    /**
+     * Removes the budget of a category or payment method.
+     *
+     * @param type Whether the budget is for a category or a payment method.
+     * @param name The category or payment method, compared ignoring case.
+     * @return The removed budget, or null if there was none.
+     */
+    public Budget remove(BudgetTypes type, String name) {
+        Budget removedBudget = getBudgetsByName(type).remove(name.toLowerCase());
+        if (removedBudget != null) {
+            budgetListArray.remove(removedBudget);
+            epoch++;
+        }
+        return removedBudget;
+    }
+
+    /**
+     * Represents the number of changes made to the list so far. Every change moves the list to a new epoch.
+     *
+     * @return The epoch of the list.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Retrieves the budget of a category or payment method.
+     *
+     * @param type Whether the budget is for a category or a payment method.
+     * @param name The category or payment method, compared ignoring case.
+     * @return The budget, or null if there is none.
+     */
+    public Budget get(BudgetTypes type, String name) {
+        return getBudgetsByName(type).get(name.toLowerCase());
+    }
+
+    public boolean isEmpty() {
+        return budgetListArray.isEmpty();
+    }
+
+    /**
+     * Retrieves the budgets in the order they were added.
+     *
+     * @return The budgets.
+     */
+    public List<Budget> getBudgets() {
+        return Collections.unmodifiableList(budgetListArray);
+    }
+
+    private HashMap<String, Budget> getBudgetsByName(BudgetTypes type) {
+        return (type == BudgetTypes.CATEGORY) ? budgetsByCategory : budgetsByPaymentMethod;
+    }
+
+    /**
+     * Checks the budgets of the category and payment method of an expenditure, for the month of the expenditure.
+     * The expenditure should already be in the list.
+     *
+     * @param expenditure The expenditure that was added or updated.
+     * @param expenditureList The list holding the expenditure.
+     * @return A message for each budget that has reached its warning percentage or has been exceeded.
+     */
+    public List<String> checkExpenditure(Expenditure expenditure, ExpenditureList expenditureList) {
+        ArrayList<String> alerts = new ArrayList<>();
+        if (budgetListArray.isEmpty()) {
+            return alerts;
+        }
+        YearMonth month = getYearMonth(expenditure.getTime());
+        Budget categoryBudget = get(BudgetTypes.CATEGORY, expenditure.getCategory());
+        if (categoryBudget != null) {
+            addAlert(alerts, categoryBudget, month,
+                    expenditureList.getMonthlyTotalOfCategory(categoryBudget.getName(), month));
+        }
+        Budget paymentMethodBudget = get(BudgetTypes.PAYMENT_METHOD, expenditure.getPaymentMethod());
+        if (paymentMethodBudget != null) {
+            addAlert(alerts, paymentMethodBudget, month,
+                    expenditureList.getMonthlyTotalOfPaymentMethod(paymentMethodBudget.getName(), month));
+        }
+        return alerts;
+    }
+
+    private static void addAlert(List<String> alerts, Budget budget, YearMonth month, long spentInCents) {
+        long limitInCents = toCents(budget.getMonthlyLimit());
+        String budgetLabel = "$" + String.format("%.2f", budget.getMonthlyLimit()) + " budget for "
+                + budget.getName() + " in " + month.format(MONTH_FORMAT);
+        if (spentInCents > limitInCents) {
+            alerts.add("Alert: You have exceeded your " + budgetLabel + " by $"
+                    + String.format("%.2f", fromCents(spentInCents - limitInCents)) + "!");
+        } else if (spentInCents * PERCENTAGE >= limitInCents * budget.getWarningPercentage()) {
+            alerts.add("Warning: You have spent $" + String.format("%.2f", fromCents(spentInCents)) + " of your "
+                    + budgetLabel + ".");
+        }
+    }
+
+    /**
+     * Takes a read-only, point-in-time copy of the list. Budgets are never changed once created, so the copy
+     * shares them with the list.
+     *
+     * @return The budgets in the list.
+     */
+    public List<Budget> snapshot() {
+        return Collections.unmodifiableList(new ArrayList<>(budgetListArray));
+    }
+
+    /**
+     * Converts this BudgetList into a machine-readable format.
+     * @return The serialized BudgetList
+     */
+    public String serialize() {
+        StringBuilder sb = new StringBuilder();
+        addListToStringBuilder(SERIALIZATION_BUDGET_START_MARKER,
+                SERIALIZATION_BUDGET_END_MARKER,
+                budgetListArray,
+                sb);
+        return sb.toString();
+    }
+
+    /**
+     * Reads a serialized BudgetList from the scanner. Save files from older versions have no budgets, and give an
+     * empty list.
+     * @param scanner A scanner
+     * @return A BudgetList
+     * @throws MindMyMoneyException if the format is invalid.
+     */
+    public static BudgetList deserializeFrom(Scanner scanner) throws MindMyMoneyException {
+        return new BudgetList(convertInputToList(
+                SERIALIZATION_BUDGET_START_MARKER,
+                SERIALIZATION_BUDGET_END_MARKER,
+                scanner, Budget::deserialize));
+    }
+}
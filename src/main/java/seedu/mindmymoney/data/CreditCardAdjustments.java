@@ -0,0 +1,87 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.userfinancial.CreditCard;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
+import static seedu.mindmymoney.helper.TimeFunctions.getYearMonth;
+
+/**
+ * Collects the changes that many expenditures make to the monthly totals of credit cards, so that each card and
+ * month is only updated once.
+ */
+public class CreditCardAdjustments {
+    private final HashMap<String, HashMap<YearMonth, Long>> changesInCentsByCard = new HashMap<>();
+
+    /**
+     * Records an expenditure that is being added to the user's list.
+     *
+     * @param expenditure The added expenditure.
+     */
+    public void add(Expenditure expenditure) {
+        record(expenditure, toCents(expenditure.getAmount()));
+    }
+
+    /**
+     * Records an expenditure that is being removed from the user's list.
+     *
+     * @param expenditure The removed expenditure.
+     */
+    public void remove(Expenditure expenditure) {
+        record(expenditure, -toCents(expenditure.getAmount()));
+    }
+
+    private void record(Expenditure expenditure, long amountInCents) {
+        String paymentMethod = expenditure.getPaymentMethod();
+        if (paymentMethod.equalsIgnoreCase("cash")) {
+            return;
+        }
+        changesInCentsByCard.computeIfAbsent(paymentMethod.toLowerCase(), key -> new HashMap<>())
+                .merge(getYearMonth(expenditure.getTime()), amountInCents, Long::sum);
+    }
+
+    /**
+     * Checks that no card goes over its monthly limit after the changes are applied.
+     *
+     * @param creditCardList User's current list of credit cards.
+     * @throws MindMyMoneyException when a card is not in the list or would go over its limit.
+     */
+    public void checkLimits(CreditCardList creditCardList) throws MindMyMoneyException {
+        for (Map.Entry<String, HashMap<YearMonth, Long>> cardChanges : changesInCentsByCard.entrySet()) {
+            CreditCard creditCard = creditCardList.get(cardChanges.getKey());
+            if (creditCard == null) {
+                throw new MindMyMoneyException("Please double-check your input! New payment method is not found!");
+            }
+            for (Map.Entry<YearMonth, Long> monthChange : cardChanges.getValue().entrySet()) {
+                long newTotal = toCents(creditCard.getTotalExpenditure(monthChange.getKey())) + monthChange.getValue();
+                if (monthChange.getValue() > 0 && newTotal > toCents(creditCard.getMonthlyCardLimit())) {
+                    throw new MindMyMoneyException("You have exceeded your credit card limit for "
+                            + creditCard.getNameOfCard() + "!");
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the recorded changes to the cards in the list. Changes for cards that are no longer in the list are
+     * ignored.
+     *
+     * @param creditCardList User's current list of credit cards.
+     */
+    public void applyTo(CreditCardList creditCardList) {
+        for (Map.Entry<String, HashMap<YearMonth, Long>> cardChanges : changesInCentsByCard.entrySet()) {
+            CreditCard creditCard = creditCardList.get(cardChanges.getKey());
+            if (creditCard == null) {
+                continue;
+            }
+            for (Map.Entry<YearMonth, Long> monthChange : cardChanges.getValue().entrySet()) {
+                creditCard.updateExpenditure(monthChange.getValue(), monthChange.getKey());
+            }
+        }
+    }
+}
@@ -4,6 +4,9 @@ import seedu.mindmymoney.MindMyMoneyException;
 import seedu.mindmymoney.userfinancial.CreditCard;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Scanner;
 
 import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_CREDIT_CARD_END_MARKER;
@@ -17,6 +20,10 @@ import static seedu.mindmymoney.helper.SerializerFunctions.convertInputToList;
  */
 public class CreditCardList {
     public ArrayList<CreditCard> creditCardListArray;
+    private final HashMap<String, CreditCard> creditCardsByName = new HashMap<>();
+    private final HashMap<Long, CreditCard> creditCardsById = new HashMap<>();
+    private final RecordIdGenerator ids = new RecordIdGenerator();
+    private long epoch = 0;
 
     public CreditCardList() {
         this(new ArrayList<>());
@@ -24,6 +31,35 @@ public class CreditCardList {
 
     public CreditCardList(ArrayList<CreditCard> listArray) {
         this.creditCardListArray = listArray;
+        for (CreditCard creditCard : listArray) {
+            creditCardsByName.putIfAbsent(toNameKey(creditCard.getNameOfCard()), creditCard);
+            addToIdIndex(creditCard);
+        }
+    }
+
+    /**
+     * Converts a card name into the key used by the name index. Card names are matched case-insensitively.
+     *
+     * @param name Name of the credit card.
+     * @return The key of the card name in the name index.
+     */
+    private static String toNameKey(String name) {
+        return name.toLowerCase();
+    }
+
+    /**
+     * Records a credit card in the id index. Cards without a record id, or whose id is already used in the list, are
+     * given a new id.
+     *
+     * @param creditCard The credit card to record.
+     */
+    private void addToIdIndex(CreditCard creditCard) {
+        if (creditCard.getId() == 0 || creditCardsById.containsKey(creditCard.getId())) {
+            creditCard.setId(ids.next());
+        } else {
+            ids.reserve(creditCard.getId());
+        }
+        creditCardsById.put(creditCard.getId(), creditCard);
     }
 
     /**
@@ -62,12 +98,27 @@ public class CreditCardList {
      * @return CreditCard object with matching name as parameter.
      */
     public CreditCard get(String name) {
-        for (CreditCard creditCard : creditCardListArray) {
-            if (creditCard.getNameOfCard().equalsIgnoreCase(name.toLowerCase())) {
-                return creditCard;
-            }
-        }
-        return null;
+        return creditCardsByName.get(toNameKey(name));
+    }
+
+    /**
+     * Retrieves the CreditCard with the given record id.
+     *
+     * @param id Record id of the credit card.
+     * @return The CreditCard object, or null if no card in the list has the id.
+     */
+    public CreditCard getById(long id) {
+        return creditCardsById.get(id);
+    }
+
+    /**
+     * Checks if a credit card with the given name, ignoring case, is in the list.
+     *
+     * @param name name of credit card to be searched.
+     * @return true if a credit card with a matching name is found, false otherwise.
+     */
+    public boolean contains(String name) {
+        return creditCardsByName.containsKey(toNameKey(name));
     }
 
     /**
@@ -76,7 +127,10 @@ public class CreditCardList {
      * @param index Index of the CreditCard entry to delete.
      */
     public void delete(int index) {
-        creditCardListArray.remove(index);
+        CreditCard removedCreditCard = creditCardListArray.remove(index);
+        creditCardsByName.remove(toNameKey(removedCreditCard.getNameOfCard()));
+        creditCardsById.remove(removedCreditCard.getId());
+        epoch++;
     }
 
     /**
@@ -86,16 +140,51 @@ public class CreditCardList {
      */
     public void add(CreditCard item) {
         creditCardListArray.add(item);
+        creditCardsByName.put(toNameKey(item.getNameOfCard()), item);
+        addToIdIndex(item);
+        epoch++;
     }
 
     /**
-     * Updates the credit card entry at the given index.
+     * Updates the credit card entry at the given index. The new entry takes over the record id of the old entry.
      *
      * @param index Index of the entry to be updated.
      * @param creditCard The new CreditCard entry.
      */
     public void set(int index, CreditCard creditCard) {
-        creditCardListArray.set(index, creditCard);
+        CreditCard oldCreditCard = creditCardListArray.set(index, creditCard);
+        creditCardsByName.remove(toNameKey(oldCreditCard.getNameOfCard()));
+        creditCardsByName.put(toNameKey(creditCard.getNameOfCard()), creditCard);
+        creditCard.setId(oldCreditCard.getId());
+        creditCardsById.put(creditCard.getId(), creditCard);
+        epoch++;
+    }
+
+    /**
+     * Represents the number of changes made to the list so far. Every change moves the list to a new epoch.
+     *
+     * @return The epoch of the list.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Retrieves the record id that the next new credit card will get.
+     *
+     * @return The next record id.
+     */
+    public long getNextId() {
+        return ids.peek();
+    }
+
+    /**
+     * Marks every record id before the given one as used. Used when loading a save file.
+     *
+     * @param nextId The next record id that was saved.
+     */
+    public void reserveIdsBefore(long nextId) {
+        ids.reserve(nextId - 1);
     }
 
     /**
@@ -134,6 +223,20 @@ public class CreditCardList {
         return creditCardList.get(index).getMonthlyCardLimit() == cardLimit;
     }
 
+    /**
+     * Takes a read-only, point-in-time copy of the list. Cards keep their expenditure totals themselves, so each card
+     * is copied. Users only have a few cards, so this is cheap.
+     *
+     * @return Copies of the cards in the list.
+     */
+    public List<CreditCard> snapshot() {
+        ArrayList<CreditCard> creditCards = new ArrayList<>(creditCardListArray.size());
+        for (CreditCard creditCard : creditCardListArray) {
+            creditCards.add(creditCard.copy());
+        }
+        return Collections.unmodifiableList(creditCards);
+    }
+
     /**
      * Converts this CreditCardList into a machine-readable format.
      * @return The serialized CreditCardList
@@ -154,11 +257,9 @@ public class CreditCardList {
      * @throws MindMyMoneyException if the format is invalid.
      */
     public static CreditCardList deserializeFrom(Scanner scanner) throws MindMyMoneyException {
-        CreditCardList creditCardList = new CreditCardList();
-        creditCardList.creditCardListArray = convertInputToList(
+        return new CreditCardList(convertInputToList(
                 SERIALIZATION_CREDIT_CARD_START_MARKER,
                 SERIALIZATION_CREDIT_CARD_END_MARKER,
-                scanner, CreditCard::deserialize);
-        return creditCardList;
+                scanner, CreditCard::deserialize));
     }
 }
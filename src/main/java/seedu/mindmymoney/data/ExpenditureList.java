@@ -1,28 +1,526 @@
 package seedu.mindmymoney.data;
 
 import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.SortFields;
+import seedu.mindmymoney.helper.QuantileSketch;
 import seedu.mindmymoney.userfinancial.Expenditure;
 
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_EXPENDITURE_END_MARKER;
 import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_EXPENDITURE_START_MARKER;
-import static seedu.mindmymoney.helper.SerializerFunctions.addListToStringBuilder;
 import static seedu.mindmymoney.helper.SerializerFunctions.convertInputToList;
+import static seedu.mindmymoney.helper.TimeFunctions.getYearMonth;
 
 /**
- * Container for expenditure lists.
+ * Container for expenditure lists. Entries are kept in an ExpenditureStore, which holds them on the Java heap by
+ * default. Setting the system property "mindmymoney.store" to "offheap" keeps them in direct memory instead, and
+ * setting it to "offheap:DIRECTORY" keeps them in a file created in that directory.
+ *
+ * <p>Every entry gets a record id that does not change while it is in the list. Deleting an entry only marks its
+ * slot in the store as deleted. Once enough slots are deleted, the store is compacted on a background thread, which
+ * moves the remaining entries forward without changing their positions or ids. All methods are synchronized so
+ * that they do not run during a compaction. Threads other than the command loop should read from a snapshot instead,
+ * which needs no locking.
  */
 public class ExpenditureList {
-    public ArrayList<Expenditure> expenditureListArray;
+    public static final String STORE_PROPERTY = "mindmymoney.store";
+    public static final String DUPLICATE_DAYS_PROPERTY = "mindmymoney.duplicateDays";
+    private static final String OFF_HEAP_STORE = "offheap";
+    private static final String FILE_BACKED_STORE_PREFIX = "offheap:";
+    private static final int MINIMUM_DELETED_SLOTS_TO_COMPACT = 1024;
+    private static final ExecutorService COMPACTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "expenditure-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExpenditureStore store;
+    private final LiveSlotIndex liveSlots = new LiveSlotIndex();
+    private final IdSlotMap slotsById = new IdSlotMap();
+    private final SlotIndex<String> slotsByPaymentMethod = new SlotIndex<>();
+    private final SlotIndex<YearMonth> slotsByMonth = new SlotIndex<>();
+    private final SlotIndex<String> slotsByDescription = new SlotIndex<>();
+    private final TrigramIndex descriptionTrigrams = new TrigramIndex();
+    private final EnumMap<SortFields, SortedSlotView> sortedViews = new EnumMap<>(SortFields.class);
+    private final ExpenditureSummaries summaries = new ExpenditureSummaries();
+    private final TreeMap<YearMonth, Long> epochsByMonth = new TreeMap<>();
+    private long epoch = 0;
+    private ExpenditureSnapshot latestSnapshot;
+    private long latestSnapshotEpoch = 0;
+    private final RecordIdGenerator ids = new RecordIdGenerator();
+    private boolean isCompactionScheduled = false;
+    private final List<Expenditure> expenditures = new AbstractList<Expenditure>() {
+        @Override
+        public Expenditure get(int index) {
+            return ExpenditureList.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return ExpenditureList.this.size();
+        }
+    };
 
     public ExpenditureList() {
-        this(new ArrayList<>());
+        this(createStore());
+    }
+
+    /**
+     * Creates an ExpenditureList that keeps its entries in the given store.
+     *
+     * @param store An empty ExpenditureStore.
+     */
+    public ExpenditureList(ExpenditureStore store) {
+        assert store.size() == 0 : "Store should be empty";
+        this.store = store;
+    }
+
+    /**
+     * Creates the store selected by the "mindmymoney.store" system property.
+     *
+     * @return An empty ExpenditureStore.
+     */
+    private static ExpenditureStore createStore() {
+        String storeType = System.getProperty(STORE_PROPERTY, "");
+        if (storeType.startsWith(FILE_BACKED_STORE_PREFIX)) {
+            File directory = new File(storeType.substring(FILE_BACKED_STORE_PREFIX.length()));
+            try {
+                File file = File.createTempFile("expenditures", ".dat", directory);
+                file.deleteOnExit();
+                return new OffHeapExpenditureStore(file);
+            } catch (IOException e) {
+                System.out.println("WARNING: Failed to create a file for expenditures in " + directory + ". "
+                        + "Expenditures will be kept in memory instead.");
+                return new OffHeapExpenditureStore();
+            }
+        } else if (storeType.equals(OFF_HEAP_STORE)) {
+            return new OffHeapExpenditureStore();
+        }
+        return new HeapExpenditureStore();
+    }
+
+    /**
+     * Records the slot of an expenditure in the payment method, month and description indexes. A description that
+     * is new to the list is also added to the trigram index.
+     *
+     * @param expenditure The expenditure.
+     * @param slot Slot of the expenditure in the store.
+     */
+    private void addToIndexes(Expenditure expenditure, int slot) {
+        slotsByPaymentMethod.add(expenditure.getPaymentMethod(), slot);
+        slotsByMonth.add(getYearMonth(expenditure.getTime()), slot);
+        if (slotsByDescription.get(expenditure.getDescription()) == null) {
+            descriptionTrigrams.add(expenditure.getDescription());
+        }
+        slotsByDescription.add(expenditure.getDescription(), slot);
+    }
+
+    /**
+     * Removes the slot of an expenditure from the payment method, month and description indexes. A description
+     * that no longer appears in the list is also removed from the trigram index.
+     *
+     * @param expenditure The expenditure.
+     * @param slot Slot of the expenditure in the store.
+     */
+    private void removeFromIndexes(Expenditure expenditure, int slot) {
+        slotsByPaymentMethod.remove(expenditure.getPaymentMethod(), slot);
+        slotsByMonth.remove(getYearMonth(expenditure.getTime()), slot);
+        slotsByDescription.remove(expenditure.getDescription(), slot);
+        if (slotsByDescription.get(expenditure.getDescription()) == null) {
+            descriptionTrigrams.remove(expenditure.getDescription());
+        }
+    }
+
+    /**
+     * Finds the expenditures whose descriptions are similar to a search term, tolerating typos and differences in
+     * case and punctuation. Only the descriptions that share trigrams with the term are visited.
+     *
+     * @param term The search term.
+     * @return The matching expenditures, grouped by description from the most similar description, and in list
+     *         order within a description.
+     */
+    public synchronized List<Expenditure> searchDescriptions(String term) {
+        ArrayList<Expenditure> foundItems = new ArrayList<>();
+        for (String description : descriptionTrigrams.search(term)) {
+            IntList slots = slotsByDescription.get(description);
+            for (int i = 0; i < slots.size(); i++) {
+                foundItems.add(store.get(slots.get(i)));
+            }
+        }
+        return foundItems;
+    }
+
+    /**
+     * Adds an expenditure to the summaries, and moves the list to a new epoch.
+     *
+     * @param expenditure The expenditure.
+     */
+    private void addToSummaries(Expenditure expenditure) {
+        recordChange(getYearMonth(expenditure.getTime()));
+        summaries.add(expenditure);
+    }
+
+    /**
+     * Removes an expenditure from the summaries, and moves the list to a new epoch.
+     *
+     * @param expenditure The expenditure.
+     */
+    private void removeFromSummaries(Expenditure expenditure) {
+        recordChange(getYearMonth(expenditure.getTime()));
+        summaries.remove(expenditure);
+    }
+
+    /**
+     * Moves the list to a new epoch, and records it as the latest change to the given month.
+     *
+     * @param month The month of the expenditure that was added or removed.
+     */
+    private void recordChange(YearMonth month) {
+        epoch++;
+        epochsByMonth.put(month, epoch);
+    }
+
+    /**
+     * Represents the number of times an expenditure has been added to or removed from the list, which changes
+     * whenever the contents of the list change.
+     *
+     * @return The epoch of the list.
+     */
+    public synchronized long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Finds the epoch at which the expenditures in a range of months last changed.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The epoch of the latest change in the range, or 0 if no expenditure in the range has changed.
+     */
+    public synchronized long getEpochOfMonths(YearMonth firstMonth, YearMonth lastMonth) {
+        long latestEpoch = 0;
+        for (long monthEpoch : epochsByMonth.subMap(firstMonth, true, lastMonth, true).values()) {
+            latestEpoch = Math.max(latestEpoch, monthEpoch);
+        }
+        return latestEpoch;
+    }
+
+    /**
+     * Retrieves the total spent on a category in a month, in O(1) time.
+     *
+     * @param category The category, compared ignoring case.
+     * @param month The month.
+     * @return The total in cents.
+     */
+    public synchronized long getMonthlyTotalOfCategory(String category, YearMonth month) {
+        return summaries.getMonthlyTotalOfCategory(category, month);
+    }
+
+    /**
+     * Retrieves the total spent with a payment method in a month, in O(1) time.
+     *
+     * @param paymentMethod The payment method, compared ignoring case.
+     * @param month The month.
+     * @return The total in cents.
+     */
+    public synchronized long getMonthlyTotalOfPaymentMethod(String paymentMethod, YearMonth month) {
+        return summaries.getMonthlyTotalOfPaymentMethod(paymentMethod, month);
+    }
+
+    /**
+     * Checks if the list already has an expenditure that looks the same as the given one, within the number of days
+     * set by the "mindmymoney.duplicateDays" system property, which is 0 by default.
+     *
+     * @param expenditure The expenditure, which need not be in the list.
+     * @return true if a duplicate is found, false otherwise.
+     */
+    public synchronized boolean hasDuplicate(Expenditure expenditure) {
+        return hasDuplicate(expenditure, Math.max(Integer.getInteger(DUPLICATE_DAYS_PROPERTY, 0), 0));
+    }
+
+    /**
+     * Checks if the list already has an expenditure with the same payment method, amount and description as the
+     * given one, made within the given number of days of it. Descriptions are compared ignoring case, spaces and
+     * punctuation. Each day in the range takes one O(1) lookup of a fingerprint, so checking many expenditures takes
+     * time linear in their number.
+     *
+     * @param expenditure The expenditure, which need not be in the list.
+     * @param dayTolerance The number of days before and after the expenditure to check.
+     * @return true if a duplicate is found, false otherwise.
+     */
+    public synchronized boolean hasDuplicate(Expenditure expenditure, int dayTolerance) {
+        return summaries.hasDuplicate(expenditure, dayTolerance);
+    }
+
+    /**
+     * Retrieves the total spent in each month of a range, read from the monthly rollups that are kept up to date as
+     * expenditures change.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The total of each month that has expenditures in the range, in cents, ordered by month.
+     */
+    public synchronized TreeMap<YearMonth, Long> getTotalsByMonth(YearMonth firstMonth, YearMonth lastMonth) {
+        return summaries.getTotalsByMonth(firstMonth, lastMonth);
+    }
+
+    /**
+     * Adds up the amounts of each category over a range of months. Totals are read from monthly rollups that are
+     * kept up to date as expenditures change, so the list is not scanned.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The total of each category that has expenditures in the range, in cents, ordered by category.
+     */
+    public synchronized TreeMap<String, Long> getTotalsByCategory(YearMonth firstMonth, YearMonth lastMonth) {
+        return summaries.getTotalsByCategory(firstMonth, lastMonth);
+    }
+
+    /**
+     * Retrieves the total of each category in each month of a range, read from the monthly rollups.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The totals of each category that has expenditures in the range, in cents with one slot per month of
+     *         the range, ordered by category.
+     */
+    public synchronized TreeMap<String, long[]> getMonthTotalsByCategory(YearMonth firstMonth, YearMonth lastMonth) {
+        return summaries.getMonthTotalsByCategory(firstMonth, lastMonth);
+    }
+
+    /**
+     * Adds up the amounts of each payment method over a range of months.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The total of each payment method that has expenditures in the range, in cents, ordered by payment
+     *         method.
+     */
+    public synchronized TreeMap<String, Long> getTotalsByPaymentMethod(YearMonth firstMonth, YearMonth lastMonth) {
+        return summaries.getTotalsByPaymentMethod(firstMonth, lastMonth);
+    }
+
+    /**
+     * Merges the amount sketches of each category over a range of months. Only the sketches of the months in the
+     * range are visited, so the cost does not depend on the number of expenditures.
+     *
+     * @param firstMonth The first month of the range, or null to start from the earliest month.
+     * @param lastMonth The last month of the range, or null to end at the latest month.
+     * @return The sketch of each category, ordered by category.
+     */
+    public synchronized TreeMap<String, QuantileSketch> getAmountSketchesByCategory(YearMonth firstMonth,
+                                                                                 YearMonth lastMonth) {
+        return summaries.getAmountSketchesByCategory(firstMonth, lastMonth);
+    }
+
+    /**
+     * Merges the amount sketches of each month over a range of months, across all categories.
+     *
+     * @param firstMonth The first month of the range, or null to start from the earliest month.
+     * @param lastMonth The last month of the range, or null to end at the latest month.
+     * @return The sketch of each month that has expenditures, in chronological order.
+     */
+    public synchronized TreeMap<YearMonth, QuantileSketch> getAmountSketchesByMonth(YearMonth firstMonth,
+                                                                                 YearMonth lastMonth) {
+        return summaries.getAmountSketchesByMonth(firstMonth, lastMonth);
+    }
+
+    /**
+     * Adds up the amounts of each category over the given number of days, ending today. Totals are read from
+     * daily buckets that are kept up to date as expenditures change, so the list is not scanned.
+     *
+     * @param days Number of days, from 1 to 90.
+     * @return The total of each category that has expenditures, in cents, ordered by category.
+     */
+    public synchronized TreeMap<String, Long> getRollingTotalsByCategory(int days) {
+        return summaries.getRollingTotalsByCategory(LocalDate.now(), days);
+    }
+
+    /**
+     * Adds up the amounts of each category over the given number of days, ending on the given day.
+     *
+     * @param lastDay The last day of the window, which should not be before the latest expenditure.
+     * @param days Number of days, from 1 to 90.
+     * @return The total of each category that has expenditures, in cents, ordered by category.
+     */
+    public synchronized TreeMap<String, Long> getRollingTotalsByCategory(LocalDate lastDay, int days) {
+        return summaries.getRollingTotalsByCategory(lastDay, days);
+    }
+
+    /**
+     * Adds up the amounts of each payment method over the given number of days, ending today.
+     *
+     * @param days Number of days, from 1 to 90.
+     * @return The total of each payment method that has expenditures, in cents, ordered by payment method.
+     */
+    public synchronized TreeMap<String, Long> getRollingTotalsByPaymentMethod(int days) {
+        return summaries.getRollingTotalsByPaymentMethod(LocalDate.now(), days);
+    }
+
+    /**
+     * Adds up the amounts of each payment method over the given number of days, ending on the given day.
+     *
+     * @param lastDay The last day of the window, which should not be before the latest expenditure.
+     * @param days Number of days, from 1 to 90.
+     * @return The total of each payment method that has expenditures, in cents, ordered by payment method.
+     */
+    public synchronized TreeMap<String, Long> getRollingTotalsByPaymentMethod(LocalDate lastDay, int days) {
+        return summaries.getRollingTotalsByPaymentMethod(lastDay, days);
+    }
+
+    /**
+     * Retrieves all expenditures paid with the given payment method.
+     *
+     * @param paymentMethod The payment method, either Cash or the name of a credit card.
+     * @return The expenditures paid with the payment method, in the order they appear in the list.
+     */
+    public synchronized List<Expenditure> getByPaymentMethod(String paymentMethod) {
+        IntList slots = slotsByPaymentMethod.get(paymentMethod);
+        if (slots == null) {
+            return Collections.emptyList();
+        }
+        ArrayList<Expenditure> foundItems = new ArrayList<>(slots.size());
+        for (int i = 0; i < slots.size(); i++) {
+            foundItems.add(store.get(slots.get(i)));
+        }
+        return foundItems;
     }
 
-    public ExpenditureList(ArrayList<Expenditure> listArray) {
-        this.expenditureListArray = listArray;
+    /**
+     * Retrieves the distinct payment methods used by the expenditures in the list.
+     *
+     * @return The set of payment methods.
+     */
+    public synchronized Set<String> getPaymentMethods() {
+        return Collections.unmodifiableSet(new HashSet<>(slotsByPaymentMethod.keySet()));
+    }
+
+    /**
+     * Counts the expenditures paid with the given payment method, using the payment method index.
+     *
+     * @param paymentMethod The payment method, compared ignoring case.
+     * @return The number of expenditures.
+     */
+    public synchronized int countWithPaymentMethod(String paymentMethod) {
+        return slotsByPaymentMethod.count(paymentMethod::equalsIgnoreCase);
+    }
+
+    /**
+     * Retrieves the expenditures paid with the given payment method that also match the given condition. Only the
+     * expenditures found through the payment method index are visited.
+     *
+     * @param paymentMethod The payment method, compared ignoring case.
+     * @param condition Condition of the expenditures to retrieve.
+     * @return The matching expenditures, in the order they appear in the list.
+     */
+    public synchronized List<Expenditure> findAllWithPaymentMethod(String paymentMethod,
+                                                                   Predicate<Expenditure> condition) {
+        return findAllInSlots(slotsByPaymentMethod.findSlots(paymentMethod::equalsIgnoreCase), condition);
+    }
+
+    /**
+     * Counts the expenditures made from the first to the last month, using the month index.
+     *
+     * @param firstMonth The first month, inclusive.
+     * @param lastMonth The last month, inclusive.
+     * @return The number of expenditures.
+     */
+    public synchronized int countInMonths(YearMonth firstMonth, YearMonth lastMonth) {
+        return slotsByMonth.count(month -> !month.isBefore(firstMonth) && !month.isAfter(lastMonth));
+    }
+
+    /**
+     * Retrieves the expenditures made from the first to the last month that also match the given condition. Only
+     * the expenditures found through the month index are visited.
+     *
+     * @param firstMonth The first month, inclusive.
+     * @param lastMonth The last month, inclusive.
+     * @param condition Condition of the expenditures to retrieve.
+     * @return The matching expenditures, in the order they appear in the list.
+     */
+    public synchronized List<Expenditure> findAllInMonths(YearMonth firstMonth, YearMonth lastMonth,
+                                                          Predicate<Expenditure> condition) {
+        return findAllInSlots(slotsByMonth.findSlots(month -> !month.isBefore(firstMonth)
+                && !month.isAfter(lastMonth)), condition);
+    }
+
+    /**
+     * Returns a read-only view of the expenditures in the list, sorted by the given field. The sort order is kept
+     * between calls and patched as the list changes, so only the first call sorts the list.
+     *
+     * @param field The field to sort by.
+     * @param isDescending Whether the largest values come first.
+     * @return Sorted list of expenditures. Expenditures with equal values are in list order, or in reverse list
+     *         order if the list is descending.
+     */
+    public List<Expenditure> getSortedExpenditures(SortFields field, boolean isDescending) {
+        return new AbstractList<Expenditure>() {
+            @Override
+            public Expenditure get(int index) {
+                return getSorted(field, isDescending, index);
+            }
+
+            @Override
+            public int size() {
+                return ExpenditureList.this.size();
+            }
+        };
+    }
+
+    /**
+     * Retrieves the expenditure at the given index of the list sorted by a field.
+     *
+     * @param field The field to sort by.
+     * @param isDescending Whether the largest values come first.
+     * @param index Index in the sorted list.
+     * @return The expenditure.
+     */
+    public synchronized Expenditure getSorted(SortFields field, boolean isDescending, int index) {
+        SortedSlotView view = sortedViews.get(field);
+        if (view == null) {
+            view = SortedSlotView.build(field, store, liveSlots);
+            sortedViews.put(field, view);
+        }
+        int rank = isDescending ? view.size() - 1 - index : index;
+        return store.get(view.getSlot(rank));
+    }
+
+    private List<Expenditure> findAllInSlots(int[] slots, Predicate<Expenditure> condition) {
+        ArrayList<Expenditure> foundItems = new ArrayList<>();
+        for (int slot : slots) {
+            Expenditure expenditure = store.get(slot);
+            if (condition.test(expenditure)) {
+                foundItems.add(expenditure);
+            }
+        }
+        return foundItems;
+    }
+
+    /**
+     * Returns a read-only view of the expenditures in the list.
+     *
+     * @return List of expenditures.
+     */
+    public List<Expenditure> getExpenditures() {
+        return expenditures;
     }
 
     /**
@@ -30,8 +528,8 @@ public class ExpenditureList {
      *
      * @return true if list is empty, false otherwise
      */
-    public boolean isEmpty() {
-        return expenditureListArray.isEmpty();
+    public synchronized boolean isEmpty() {
+        return liveSlots.liveCount() == 0;
     }
 
     /**
@@ -39,8 +537,8 @@ public class ExpenditureList {
      *
      * @return size of the task list.
      */
-    public int size() {
-        return expenditureListArray.size();
+    public synchronized int size() {
+        return liveSlots.liveCount();
     }
 
     /**
@@ -49,8 +547,55 @@ public class ExpenditureList {
      * @param index Index of the Expenditure entry.
      * @return The Expenditure object.
      */
-    public Expenditure get(int index) {
-        return expenditureListArray.get(index);
+    public synchronized Expenditure get(int index) {
+        return store.get(liveSlots.getSlot(index));
+    }
+
+    /**
+     * Retrieves the record id of the Expenditure entry at the given index.
+     *
+     * @param index Index of the Expenditure entry.
+     * @return The record id.
+     */
+    public synchronized long getIdAt(int index) {
+        return get(index).getId();
+    }
+
+    /**
+     * Retrieves the Expenditure entry with the given record id.
+     *
+     * @param id Record id of the Expenditure entry.
+     * @return The Expenditure object, or null if no entry in the list has the id.
+     */
+    public synchronized Expenditure getById(long id) {
+        int slot = slotsById.get(id);
+        return (slot == IdSlotMap.NO_SLOT) ? null : store.get(slot);
+    }
+
+    /**
+     * Retrieves the index of the Expenditure entry with the given record id.
+     *
+     * @param id Record id of the Expenditure entry.
+     * @return The index of the entry, or -1 if no entry in the list has the id.
+     */
+    public synchronized int indexOf(long id) {
+        int slot = slotsById.get(id);
+        return (slot == IdSlotMap.NO_SLOT) ? -1 : liveSlots.getPosition(slot);
+    }
+
+    /**
+     * Looks up the slot holding the Expenditure entry with the given record id.
+     *
+     * @param id Record id of the Expenditure entry.
+     * @return The slot of the entry.
+     * @throws IndexOutOfBoundsException if no entry in the list has the id.
+     */
+    private int getSlotById(long id) {
+        int slot = slotsById.get(id);
+        if (slot == IdSlotMap.NO_SLOT) {
+            throw new IndexOutOfBoundsException("No expenditure with id " + id);
+        }
+        return slot;
     }
 
     /**
@@ -58,17 +603,54 @@ public class ExpenditureList {
      *
      * @param index Index of the Expenditure entry to delete.
      */
-    public void delete(int index) {
-        expenditureListArray.remove(index);
+    public synchronized void delete(int index) {
+        deleteById(getIdAt(index));
     }
 
     /**
-     * Adds an Expenditure entry to the list.
+     * Deletes the Expenditure entry with the given record id. The slot of the entry is only marked as deleted, and
+     * is reclaimed by a later compaction.
+     *
+     * @param id Record id of the Expenditure entry to delete.
+     */
+    public synchronized void deleteById(long id) {
+        int slot = getSlotById(id);
+        Expenditure expenditure = store.get(slot);
+        removeFromIndexes(expenditure, slot);
+        removeFromSummaries(expenditure);
+        for (SortedSlotView view : sortedViews.values()) {
+            view.remove(slot, expenditure, store);
+        }
+        slotsById.remove(id);
+        liveSlots.markDeleted(slot);
+        scheduleCompactionIfNeeded();
+    }
+
+    /**
+     * Adds an Expenditure entry to the list. An entry without a record id is given a new id. An entry whose id is
+     * already used in the list, such as an entry that is added twice, is copied and the copy is given a new id, so
+     * that the entry already in the list keeps its id.
      *
      * @param item The Expenditure entry to be added.
      */
-    public void add(Expenditure item) {
-        expenditureListArray.add(item);
+    public synchronized void add(Expenditure item) {
+        if (item.getId() == 0) {
+            item.setId(ids.next());
+        } else if (slotsById.containsKey(item.getId())) {
+            item = item.copy();
+            item.setId(ids.next());
+        } else {
+            ids.reserve(item.getId());
+        }
+        int slot = store.size();
+        store.add(item);
+        liveSlots.addSlot();
+        slotsById.put(item.getId(), slot);
+        addToIndexes(item, slot);
+        addToSummaries(item);
+        for (SortedSlotView view : sortedViews.values()) {
+            view.insert(slot, item, store);
+        }
     }
 
     /**
@@ -77,8 +659,257 @@ public class ExpenditureList {
      * @param index Index of the entry to be updated.
      * @param item The new Expenditure entry.
      */
-    public void set(int index, Expenditure item) {
-        expenditureListArray.set(index, item);
+    public synchronized void set(int index, Expenditure item) {
+        setById(getIdAt(index), item);
+    }
+
+    /**
+     * Updates the Expenditure entry with the given record id. The new entry takes over the record id. A new entry
+     * that already has a different id is copied first, so that it keeps its own id.
+     *
+     * @param id Record id of the entry to be updated.
+     * @param item The new Expenditure entry.
+     */
+    public synchronized void setById(long id, Expenditure item) {
+        int slot = getSlotById(id);
+        if (item.getId() != 0 && item.getId() != id) {
+            item = item.copy();
+        }
+        item.setId(id);
+        Expenditure oldExpenditure = store.set(slot, item);
+        removeFromIndexes(oldExpenditure, slot);
+        addToIndexes(item, slot);
+        removeFromSummaries(oldExpenditure);
+        addToSummaries(item);
+        for (SortedSlotView view : sortedViews.values()) {
+            view.remove(slot, oldExpenditure, store);
+            view.insert(slot, item, store);
+        }
+    }
+
+    /**
+     * Retrieves all expenditures that match the given condition, in a single pass over the list.
+     *
+     * @param condition Condition of the expenditures to retrieve.
+     * @return The matching expenditures, in the order they appear in the list.
+     */
+    public synchronized List<Expenditure> findAll(Predicate<Expenditure> condition) {
+        ArrayList<Expenditure> foundItems = new ArrayList<>();
+        for (int slot = 0; slot < liveSlots.slotCount(); slot++) {
+            if (!liveSlots.isLive(slot)) {
+                continue;
+            }
+            Expenditure expenditure = store.get(slot);
+            if (condition.test(expenditure)) {
+                foundItems.add(expenditure);
+            }
+        }
+        return foundItems;
+    }
+
+    /**
+     * Deletes all expenditures that match the given condition in a single pass over the list, then compacts the
+     * remaining expenditures in place.
+     *
+     * @param condition Condition of the expenditures to delete.
+     * @return The deleted expenditures, in the order they appeared in the list.
+     */
+    public synchronized List<Expenditure> deleteIf(Predicate<Expenditure> condition) {
+        ArrayList<Expenditure> removedItems = new ArrayList<>();
+        for (int slot = 0; slot < liveSlots.slotCount(); slot++) {
+            if (!liveSlots.isLive(slot)) {
+                continue;
+            }
+            Expenditure expenditure = store.get(slot);
+            if (condition.test(expenditure)) {
+                slotsById.remove(expenditure.getId());
+                liveSlots.markDeleted(slot);
+                removeFromSummaries(expenditure);
+                removedItems.add(expenditure);
+            }
+        }
+        if (removedItems.isEmpty()) {
+            return removedItems;
+        }
+        slotsByPaymentMethod.removeSlotsIf(slot -> !liveSlots.isLive(slot));
+        slotsByMonth.removeSlotsIf(slot -> !liveSlots.isLive(slot));
+        slotsByDescription.removeSlotsIf(slot -> !liveSlots.isLive(slot));
+        for (Expenditure expenditure : removedItems) {
+            if (slotsByDescription.get(expenditure.getDescription()) == null) {
+                descriptionTrigrams.remove(expenditure.getDescription());
+            }
+        }
+        for (SortedSlotView view : sortedViews.values()) {
+            view.removeIf(slot -> !liveSlots.isLive(slot));
+        }
+        compact();
+        return removedItems;
+    }
+
+    /**
+     * Replaces all expenditures that match the given condition. The list is scanned once, creating the new entry of
+     * each matching expenditure, and the old and new entries are passed to the check before any entry is replaced.
+     * Each new entry takes over the record id of the entry it replaces, and the sorted views are patched rather
+     * than sorted again.
+     *
+     * @param condition Condition of the expenditures to update.
+     * @param update Function that returns the new entry for a matching expenditure.
+     * @param check Check of the old and new entries, which throws to cancel the update.
+     * @return The new entries, in the order they appear in the list.
+     * @throws MindMyMoneyException if the check fails, in which case no entry is replaced.
+     */
+    public synchronized List<Expenditure> updateIf(Predicate<Expenditure> condition, UnaryOperator<Expenditure> update,
+                                                   UpdateCheck check) throws MindMyMoneyException {
+        int[] updatedSlots = new int[16];
+        ArrayList<Expenditure> oldExpenditures = new ArrayList<>();
+        ArrayList<Expenditure> newExpenditures = new ArrayList<>();
+        for (int slot = 0; slot < liveSlots.slotCount(); slot++) {
+            if (!liveSlots.isLive(slot)) {
+                continue;
+            }
+            Expenditure oldExpenditure = store.get(slot);
+            if (!condition.test(oldExpenditure)) {
+                continue;
+            }
+            Expenditure newExpenditure = update.apply(oldExpenditure);
+            if (newExpenditure.getId() != 0 && newExpenditure.getId() != oldExpenditure.getId()) {
+                newExpenditure = newExpenditure.copy();
+            }
+            newExpenditure.setId(oldExpenditure.getId());
+            if (oldExpenditures.size() == updatedSlots.length) {
+                updatedSlots = Arrays.copyOf(updatedSlots, updatedSlots.length * 2);
+            }
+            updatedSlots[oldExpenditures.size()] = slot;
+            oldExpenditures.add(oldExpenditure);
+            newExpenditures.add(newExpenditure);
+        }
+        if (newExpenditures.isEmpty()) {
+            return newExpenditures;
+        }
+        check.check(oldExpenditures, newExpenditures);
+
+        boolean isIndexedFieldChanged = false;
+        for (int i = 0; i < newExpenditures.size(); i++) {
+            Expenditure oldExpenditure = oldExpenditures.get(i);
+            Expenditure newExpenditure = newExpenditures.get(i);
+            store.set(updatedSlots[i], newExpenditure);
+            isIndexedFieldChanged |= !newExpenditure.getPaymentMethod().equals(oldExpenditure.getPaymentMethod())
+                    || !newExpenditure.getTime().equals(oldExpenditure.getTime())
+                    || !newExpenditure.getDescription().equals(oldExpenditure.getDescription());
+            removeFromSummaries(oldExpenditure);
+            addToSummaries(newExpenditure);
+        }
+        if (isIndexedFieldChanged) {
+            rebuildIndexes();
+        }
+        int[] sortedUpdatedSlots = Arrays.copyOf(updatedSlots, newExpenditures.size());
+        for (SortedSlotView view : sortedViews.values()) {
+            view.update(sortedUpdatedSlots, store);
+        }
+        return newExpenditures;
+    }
+
+    /**
+     * Represents a check of the changes of a bulk update, made before any entry is replaced.
+     */
+    public interface UpdateCheck {
+
+        /**
+         * Checks the changes of a bulk update.
+         *
+         * @param oldExpenditures The matching expenditures, in the order they appear in the list.
+         * @param newExpenditures The new entry of each matching expenditure, in the same order.
+         * @throws MindMyMoneyException to cancel the update.
+         */
+        void check(List<Expenditure> oldExpenditures, List<Expenditure> newExpenditures) throws MindMyMoneyException;
+    }
+
+    /**
+     * Rebuilds the payment method, month and description indexes from the entries in the store.
+     */
+    private void rebuildIndexes() {
+        slotsByPaymentMethod.clear();
+        slotsByMonth.clear();
+        slotsByDescription.clear();
+        descriptionTrigrams.clear();
+        for (int slot = 0; slot < liveSlots.slotCount(); slot++) {
+            if (liveSlots.isLive(slot)) {
+                addToIndexes(store.get(slot), slot);
+            }
+        }
+    }
+
+    /**
+     * Schedules a background compaction once at least half of the slots in the store, and at least
+     * MINIMUM_DELETED_SLOTS_TO_COMPACT slots, belong to deleted entries.
+     */
+    private void scheduleCompactionIfNeeded() {
+        int deletedCount = liveSlots.deletedCount();
+        if (isCompactionScheduled || deletedCount < MINIMUM_DELETED_SLOTS_TO_COMPACT
+                || deletedCount * 2 < liveSlots.slotCount()) {
+            return;
+        }
+        isCompactionScheduled = true;
+        COMPACTOR.execute(this::compact);
+    }
+
+    /**
+     * Reclaims the slots of deleted entries by moving the remaining entries forward in the store. The positions and
+     * record ids of the remaining entries do not change.
+     */
+    public synchronized void compact() {
+        isCompactionScheduled = false;
+        if (liveSlots.deletedCount() == 0) {
+            return;
+        }
+        slotsByPaymentMethod.replaceSlots(liveSlots::getPosition);
+        slotsByMonth.replaceSlots(liveSlots::getPosition);
+        slotsByDescription.replaceSlots(liveSlots::getPosition);
+        for (SortedSlotView view : sortedViews.values()) {
+            view.replaceAll(liveSlots::getPosition);
+        }
+        slotsById.replaceSlots(liveSlots::getPosition);
+        int newSlot = 0;
+        for (int slot = 0; slot < liveSlots.slotCount(); slot++) {
+            if (!liveSlots.isLive(slot)) {
+                continue;
+            }
+            if (slot != newSlot) {
+                store.move(slot, newSlot);
+            }
+            newSlot++;
+        }
+        store.truncate(newSlot);
+        liveSlots.reset(newSlot);
+        latestSnapshot = null;
+    }
+
+    /**
+     * Represents the number of slots in the store that belong to deleted entries and have not been reclaimed.
+     *
+     * @return number of deleted slots.
+     */
+    public synchronized int getDeletedSlotCount() {
+        return liveSlots.deletedCount();
+    }
+
+    /**
+     * Retrieves the record id that the next new entry will get. Saved so that the ids of deleted entries are not
+     * handed out again after the list is loaded.
+     *
+     * @return The next record id.
+     */
+    public synchronized long getNextId() {
+        return ids.peek();
+    }
+
+    /**
+     * Marks every record id before the given one as used. Used when loading a save file.
+     *
+     * @param nextId The next record id that was saved.
+     */
+    public synchronized void reserveIdsBefore(long nextId) {
+        ids.reserve(nextId - 1);
     }
 
     /**
@@ -137,16 +968,28 @@ public class ExpenditureList {
     }
 
     /**
-     * Converts this ExpenditureList into a machine-readable format.
+     * Takes a read-only, point-in-time view of the list. The view shares its data with the list, and chunks of the
+     * store are only copied when the list later changes them. If the list has not changed since the last snapshot,
+     * that snapshot is returned again.
+     *
+     * @return A snapshot of the list.
+     */
+    public synchronized ExpenditureSnapshot snapshot() {
+        if (latestSnapshot == null || latestSnapshotEpoch != epoch) {
+            latestSnapshot = new ExpenditureSnapshot(store.snapshot(), liveSlots.copyDeletedSlots(),
+                    liveSlots.liveCount());
+            latestSnapshotEpoch = epoch;
+        }
+        return latestSnapshot;
+    }
+
+    /**
+     * Converts this ExpenditureList into a machine-readable format, reusing the latest snapshot if the list has not
+     * changed since it was taken.
      * @return The serialized ExpenditureList
      */
     public String serialize() {
-        StringBuilder sb = new StringBuilder();
-        addListToStringBuilder(SERIALIZATION_EXPENDITURE_START_MARKER,
-                SERIALIZATION_EXPENDITURE_END_MARKER,
-                expenditureListArray,
-                sb);
-        return sb.toString();
+        return snapshot().serialize();
     }
 
     /**
@@ -157,10 +1000,12 @@ public class ExpenditureList {
      */
     public static ExpenditureList deserializeFrom(Scanner scanner) throws MindMyMoneyException {
         ExpenditureList savedExpenditureList = new ExpenditureList();
-        savedExpenditureList.expenditureListArray = convertInputToList(
+        for (Expenditure expenditure : convertInputToList(
                 SERIALIZATION_EXPENDITURE_START_MARKER,
                 SERIALIZATION_EXPENDITURE_END_MARKER,
-                scanner, Expenditure::deserialize);
+                scanner, Expenditure::deserialize)) {
+            savedExpenditureList.add(expenditure);
+        }
         return savedExpenditureList;
     }
 }
@@ -0,0 +1,139 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.AbstractList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_EXPENDITURE_END_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_EXPENDITURE_START_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.addListToStringBuilder;
+
+/**
+ * Represents a read-only, point-in-time view of an ExpenditureList. A snapshot shares its data with the list it was
+ * taken from, so taking one does not copy the expenditures. Snapshots never change and need no locking, so they can
+ * be read from other threads while the list keeps being changed.
+ */
+public final class ExpenditureSnapshot {
+    private final ExpenditureStore.Snapshot store;
+    private final BitSet deletedSlots;
+    private final int size;
+    private volatile int[] slotsByPosition;
+    private final List<Expenditure> expenditures = new AbstractList<Expenditure>() {
+        @Override
+        public Expenditure get(int index) {
+            return ExpenditureSnapshot.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    };
+
+    /**
+     * Creates a snapshot of an ExpenditureList.
+     *
+     * @param store Snapshot of the store of the list.
+     * @param deletedSlots Slots of the store that belong to deleted entries, or null if there are none.
+     * @param size Number of live entries.
+     */
+    ExpenditureSnapshot(ExpenditureStore.Snapshot store, BitSet deletedSlots, int size) {
+        this.store = store;
+        this.deletedSlots = deletedSlots;
+        this.size = size;
+    }
+
+    /**
+     * Represents the number of expenditures in the snapshot.
+     *
+     * @return size of the snapshot.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the snapshot is empty.
+     *
+     * @return true if the snapshot is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the Expenditure entry at the given index.
+     *
+     * @param index Index of the Expenditure entry.
+     * @return The Expenditure object.
+     */
+    public Expenditure get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (deletedSlots == null) {
+            return store.get(index);
+        }
+        return store.get(getSlotsByPosition()[index]);
+    }
+
+    /**
+     * Returns a read-only view of the expenditures in the snapshot.
+     *
+     * @return List of expenditures.
+     */
+    public List<Expenditure> getExpenditures() {
+        return expenditures;
+    }
+
+    /**
+     * Returns a stream over the expenditures in the snapshot, in list order. A parallel stream splits the
+     * expenditures into ranges of positions that are read by different threads.
+     *
+     * @param isParallel Whether the stream should be parallel.
+     * @return Stream of expenditures.
+     */
+    public Stream<Expenditure> stream(boolean isParallel) {
+        if (deletedSlots != null) {
+            getSlotsByPosition();
+        }
+        return StreamSupport.stream(new ExpenditureSpliterator(this, 0, size), isParallel);
+    }
+
+    /**
+     * Converts the expenditures in this snapshot into a machine-readable format.
+     * @return The serialized ExpenditureList
+     */
+    public String serialize() {
+        StringBuilder sb = new StringBuilder();
+        addListToStringBuilder(SERIALIZATION_EXPENDITURE_START_MARKER,
+                SERIALIZATION_EXPENDITURE_END_MARKER,
+                expenditures,
+                sb);
+        return sb.toString();
+    }
+
+    /**
+     * Maps every position to the slot holding its entry. The mapping is built on first use by the reading thread,
+     * so that taking a snapshot after deletions stays cheap for the list.
+     *
+     * @return The slot of each position.
+     */
+    private int[] getSlotsByPosition() {
+        int[] slots = slotsByPosition;
+        if (slots == null) {
+            slots = new int[size];
+            int slot = deletedSlots.nextClearBit(0);
+            for (int position = 0; position < size; position++) {
+                slots[position] = slot;
+                slot = deletedSlots.nextClearBit(slot + 1);
+            }
+            slotsByPosition = slots;
+        }
+        return slots;
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits the expenditures of a snapshot into ranges of positions, so that a parallel stream can hand each range to
+ * a different thread. Snapshots never change, so the ranges can be read without locking.
+ */
+public class ExpenditureSpliterator implements Spliterator<Expenditure> {
+    private static final int MINIMUM_SPLIT_SIZE = 1 << 12;
+
+    private final ExpenditureSnapshot snapshot;
+    private int position;
+    private final int end;
+
+    /**
+     * Creates a spliterator over the positions from start, inclusive, to end, exclusive.
+     *
+     * @param snapshot The snapshot to read.
+     * @param start The first position.
+     * @param end The position after the last one.
+     */
+    ExpenditureSpliterator(ExpenditureSnapshot snapshot, int start, int end) {
+        this.snapshot = snapshot;
+        this.position = start;
+        this.end = end;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Expenditure> action) {
+        if (position >= end) {
+            return false;
+        }
+        action.accept(snapshot.get(position));
+        position++;
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super Expenditure> action) {
+        for (; position < end; position++) {
+            action.accept(snapshot.get(position));
+        }
+    }
+
+    /**
+     * Splits off the first half of the remaining positions, unless too few positions are left for the split to be
+     * worth handing to another thread.
+     *
+     * @return A spliterator over the first half, or null if the positions are not split.
+     */
+    @Override
+    public Spliterator<Expenditure> trySplit() {
+        int remaining = end - position;
+        if (remaining < 2 * MINIMUM_SPLIT_SIZE) {
+            return null;
+        }
+        int middle = position + remaining / 2;
+        Spliterator<Expenditure> firstHalf = new ExpenditureSpliterator(snapshot, position, middle);
+        position = middle;
+        return firstHalf;
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+/**
+ * Represents the storage behind an ExpenditureList. Entries are addressed by slot. Slots of deleted entries are left
+ * in place by the ExpenditureList until it compacts the store.
+ */
+public interface ExpenditureStore {
+
+    /**
+     * Represents the number of slots in the store.
+     *
+     * @return size of the store.
+     */
+    int size();
+
+    /**
+     * Retrieves the Expenditure entry in the given slot.
+     *
+     * @param slot Slot of the Expenditure entry.
+     * @return The Expenditure object.
+     */
+    Expenditure get(int slot);
+
+    /**
+     * Adds an Expenditure entry in a new slot at the end of the store.
+     *
+     * @param expenditure The Expenditure entry to be added.
+     */
+    void add(Expenditure expenditure);
+
+    /**
+     * Replaces the Expenditure entry in the given slot.
+     *
+     * @param slot Slot of the entry to be replaced.
+     * @param expenditure The new Expenditure entry.
+     * @return The Expenditure entry that was replaced.
+     */
+    Expenditure set(int slot, Expenditure expenditure);
+
+    /**
+     * Copies the entry in one slot into another slot. Used when compacting the store.
+     *
+     * @param fromSlot Slot to copy from.
+     * @param toSlot Slot to copy to.
+     */
+    void move(int fromSlot, int toSlot);
+
+    /**
+     * Removes all slots from the given size onwards.
+     *
+     * @param newSize Number of slots to keep.
+     */
+    void truncate(int newSize);
+
+    /**
+     * Returns a read-only copy of the store as it is now. The copy shares its data with the store, and later changes
+     * to the store are not visible in it. The copy may be read from any thread, while the store keeps being changed
+     * by the thread that owns it.
+     *
+     * @return A snapshot of the store.
+     */
+    Snapshot snapshot();
+
+    /**
+     * Represents a read-only, point-in-time copy of an ExpenditureStore.
+     */
+    interface Snapshot {
+
+        /**
+         * Represents the number of slots in the snapshot.
+         *
+         * @return size of the snapshot.
+         */
+        int size();
+
+        /**
+         * Retrieves the Expenditure entry in the given slot.
+         *
+         * @param slot Slot of the Expenditure entry.
+         * @return The Expenditure object.
+         */
+        Expenditure get(int slot);
+    }
+}
@@ -0,0 +1,298 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.helper.MonthlyRollups;
+import seedu.mindmymoney.helper.QuantileSketch;
+import seedu.mindmymoney.helper.RollingTotals;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
+import static seedu.mindmymoney.helper.TimeFunctions.getYearMonth;
+import static seedu.mindmymoney.helper.TimeFunctions.toEpochDay;
+
+/**
+ * Summaries of the expenditures in an ExpenditureList, kept up to date as expenditures are added and removed, so
+ * that totals, sketches and duplicate checks do not scan the list.
+ *
+ * <p>The monthly totals of each category and payment method are kept once, in MonthlyRollups. Budgets, year-on-year
+ * comparisons and the totals of each month are all read from them. Summaries are not thread-safe, and are guarded by
+ * the lock of the ExpenditureList that owns them.
+ */
+public class ExpenditureSummaries {
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final FingerprintSet fingerprints = new FingerprintSet();
+    private final MonthlyRollups monthlyRollupsByCategory = new MonthlyRollups();
+    private final MonthlyRollups monthlyRollupsByPaymentMethod = new MonthlyRollups();
+    private final HashMap<String, RollingTotals> rollingTotalsByCategory = new HashMap<>();
+    private final HashMap<String, RollingTotals> rollingTotalsByPaymentMethod = new HashMap<>();
+    private final TreeMap<YearMonth, HashMap<String, QuantileSketch>> amountSketchesByMonth = new TreeMap<>();
+
+    /**
+     * Adds the fingerprint of an expenditure to the duplicate index, and its amount to the sketch of its month and
+     * category, and to the monthly rollups and rolling totals of its category and payment method.
+     *
+     * @param expenditure The expenditure.
+     */
+    public void add(Expenditure expenditure) {
+        long amountInCents = toCents(expenditure.getAmount());
+        long epochDay = toEpochDay(expenditure.getTime());
+        YearMonth month = getYearMonth(expenditure.getTime());
+        fingerprints.add(fingerprintOf(expenditure.getPaymentMethod(), amountInCents, expenditure.getDescription(),
+                epochDay));
+        monthlyRollupsByCategory.add(expenditure.getCategory(), month, amountInCents);
+        monthlyRollupsByPaymentMethod.add(expenditure.getPaymentMethod(), month, amountInCents);
+        rollingTotalsByCategory.computeIfAbsent(expenditure.getCategory(), unused -> new RollingTotals())
+                .add(epochDay, amountInCents);
+        rollingTotalsByPaymentMethod.computeIfAbsent(expenditure.getPaymentMethod(), unused -> new RollingTotals())
+                .add(epochDay, amountInCents);
+        amountSketchesByMonth.computeIfAbsent(month, unused -> new HashMap<>())
+                .computeIfAbsent(expenditure.getCategory(), unused -> new QuantileSketch())
+                .add(amountInCents);
+    }
+
+    /**
+     * Removes the fingerprint of an expenditure from the duplicate index, and its amount from the sketch of its month
+     * and category, dropping sketches that become empty, and from the monthly rollups and rolling totals of its
+     * category and payment method.
+     *
+     * @param expenditure The expenditure, which must have been added before.
+     */
+    public void remove(Expenditure expenditure) {
+        long amountInCents = toCents(expenditure.getAmount());
+        long epochDay = toEpochDay(expenditure.getTime());
+        YearMonth month = getYearMonth(expenditure.getTime());
+        fingerprints.remove(fingerprintOf(expenditure.getPaymentMethod(), amountInCents, expenditure.getDescription(),
+                epochDay));
+        monthlyRollupsByCategory.remove(expenditure.getCategory(), month, amountInCents);
+        monthlyRollupsByPaymentMethod.remove(expenditure.getPaymentMethod(), month, amountInCents);
+        rollingTotalsByCategory.get(expenditure.getCategory()).remove(epochDay, amountInCents);
+        rollingTotalsByPaymentMethod.get(expenditure.getPaymentMethod()).remove(epochDay, amountInCents);
+        HashMap<String, QuantileSketch> sketchesByCategory = amountSketchesByMonth.get(month);
+        QuantileSketch sketch = sketchesByCategory.get(expenditure.getCategory());
+        sketch.remove(amountInCents);
+        if (sketch.isEmpty()) {
+            sketchesByCategory.remove(expenditure.getCategory());
+            if (sketchesByCategory.isEmpty()) {
+                amountSketchesByMonth.remove(month);
+            }
+        }
+    }
+
+    /**
+     * Checks if an expenditure with the same payment method, amount and description as the given one was added
+     * within the given number of days of it. Each day in the range takes one O(1) lookup of a fingerprint.
+     *
+     * @param expenditure The expenditure, which need not have been added.
+     * @param dayTolerance The number of days before and after the expenditure to check.
+     * @return true if a duplicate is found, false otherwise.
+     */
+    public boolean hasDuplicate(Expenditure expenditure, int dayTolerance) {
+        long amountInCents = toCents(expenditure.getAmount());
+        long epochDay = toEpochDay(expenditure.getTime());
+        for (long day = epochDay - dayTolerance; day <= epochDay + dayTolerance; day++) {
+            if (fingerprints.contains(fingerprintOf(expenditure.getPaymentMethod(), amountInCents,
+                    expenditure.getDescription(), day))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Works out a 64-bit fingerprint of the fields that identify a repeated expenditure. The payment method and the
+     * letters and digits of the description are hashed ignoring case, then mixed with the amount and day.
+     *
+     * @param paymentMethod The payment method.
+     * @param amountInCents The amount in cents.
+     * @param description The description.
+     * @param epochDay The day of the expenditure, counted from 1 January 1970.
+     * @return The fingerprint, which is never 0.
+     */
+    private static long fingerprintOf(String paymentMethod, long amountInCents, String description, long epochDay) {
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < paymentMethod.length(); i++) {
+            hash = (hash ^ Character.toLowerCase(paymentMethod.charAt(i))) * FNV_PRIME;
+        }
+        hash = (hash ^ '|') * FNV_PRIME;
+        for (int i = 0; i < description.length(); i++) {
+            char c = description.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                hash = (hash ^ Character.toLowerCase(c)) * FNV_PRIME;
+            }
+        }
+        hash = mix(hash ^ mix(amountInCents));
+        hash = mix(hash ^ mix(epochDay + FNV_PRIME));
+        return (hash == 0) ? 1 : hash;
+    }
+
+    /**
+     * Scrambles the bits of a number, so that numbers that differ slightly get unrelated fingerprints.
+     */
+    private static long mix(long value) {
+        long mixed = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        mixed = (mixed ^ (mixed >>> 27)) * 0x94d049bb133111ebL;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    /**
+     * Retrieves the total spent on a category in a month, in O(1) time.
+     *
+     * @param category The category, compared ignoring case.
+     * @param month The month.
+     * @return The total in cents.
+     */
+    public long getMonthlyTotalOfCategory(String category, YearMonth month) {
+        return monthlyRollupsByCategory.getTotal(category, month);
+    }
+
+    /**
+     * Retrieves the total spent with a payment method in a month, in O(1) time.
+     *
+     * @param paymentMethod The payment method, compared ignoring case.
+     * @param month The month.
+     * @return The total in cents.
+     */
+    public long getMonthlyTotalOfPaymentMethod(String paymentMethod, YearMonth month) {
+        return monthlyRollupsByPaymentMethod.getTotal(paymentMethod, month);
+    }
+
+    /**
+     * Retrieves the total spent in each month of a range, adding up the monthly rollups of the categories.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The total of each month that has expenditures in the range, in cents, ordered by month.
+     */
+    public TreeMap<YearMonth, Long> getTotalsByMonth(YearMonth firstMonth, YearMonth lastMonth) {
+        return monthlyRollupsByCategory.getTotalsByMonth(firstMonth, lastMonth);
+    }
+
+    /**
+     * Adds up the amounts of each category over a range of months.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The total of each category that has expenditures in the range, in cents, ordered by category.
+     */
+    public TreeMap<String, Long> getTotalsByCategory(YearMonth firstMonth, YearMonth lastMonth) {
+        return monthlyRollupsByCategory.getTotals(firstMonth, lastMonth);
+    }
+
+    /**
+     * Retrieves the total of each category in each month of a range.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The totals of each category that has expenditures in the range, in cents with one slot per month of
+     *         the range, ordered by category.
+     */
+    public TreeMap<String, long[]> getMonthTotalsByCategory(YearMonth firstMonth, YearMonth lastMonth) {
+        return monthlyRollupsByCategory.getMonthTotals(firstMonth, lastMonth);
+    }
+
+    /**
+     * Adds up the amounts of each payment method over a range of months.
+     *
+     * @param firstMonth The first month of the range.
+     * @param lastMonth The last month of the range.
+     * @return The total of each payment method that has expenditures in the range, in cents, ordered by payment
+     *         method.
+     */
+    public TreeMap<String, Long> getTotalsByPaymentMethod(YearMonth firstMonth, YearMonth lastMonth) {
+        return monthlyRollupsByPaymentMethod.getTotals(firstMonth, lastMonth);
+    }
+
+    /**
+     * Merges the amount sketches of each category over a range of months. Only the sketches of the months in the
+     * range are visited, so the cost does not depend on the number of expenditures.
+     *
+     * @param firstMonth The first month of the range, or null to start from the earliest month.
+     * @param lastMonth The last month of the range, or null to end at the latest month.
+     * @return The sketch of each category, ordered by category.
+     */
+    public TreeMap<String, QuantileSketch> getAmountSketchesByCategory(YearMonth firstMonth, YearMonth lastMonth) {
+        TreeMap<String, QuantileSketch> sketches = new TreeMap<>();
+        for (HashMap<String, QuantileSketch> sketchesByCategory : getMonths(firstMonth, lastMonth).values()) {
+            for (Map.Entry<String, QuantileSketch> entry : sketchesByCategory.entrySet()) {
+                sketches.computeIfAbsent(entry.getKey(), unused -> new QuantileSketch()).merge(entry.getValue());
+            }
+        }
+        return sketches;
+    }
+
+    /**
+     * Merges the amount sketches of each month over a range of months, across all categories.
+     *
+     * @param firstMonth The first month of the range, or null to start from the earliest month.
+     * @param lastMonth The last month of the range, or null to end at the latest month.
+     * @return The sketch of each month that has expenditures, in chronological order.
+     */
+    public TreeMap<YearMonth, QuantileSketch> getAmountSketchesByMonth(YearMonth firstMonth, YearMonth lastMonth) {
+        TreeMap<YearMonth, QuantileSketch> sketches = new TreeMap<>();
+        for (Map.Entry<YearMonth, HashMap<String, QuantileSketch>> entry
+                : getMonths(firstMonth, lastMonth).entrySet()) {
+            QuantileSketch monthSketch = new QuantileSketch();
+            for (QuantileSketch sketch : entry.getValue().values()) {
+                monthSketch.merge(sketch);
+            }
+            sketches.put(entry.getKey(), monthSketch);
+        }
+        return sketches;
+    }
+
+    private NavigableMap<YearMonth, HashMap<String, QuantileSketch>> getMonths(YearMonth firstMonth,
+                                                                              YearMonth lastMonth) {
+        NavigableMap<YearMonth, HashMap<String, QuantileSketch>> months = amountSketchesByMonth;
+        if (firstMonth != null) {
+            months = months.tailMap(firstMonth, true);
+        }
+        if (lastMonth != null) {
+            months = months.headMap(lastMonth, true);
+        }
+        return months;
+    }
+
+    /**
+     * Adds up the amounts of each category over the given number of days, ending on the given day. Totals are read
+     * from daily buckets, so the list is not scanned.
+     *
+     * @param lastDay The last day of the window, which should not be before the latest expenditure.
+     * @param days Number of days, from 1 to 90.
+     * @return The total of each category that has expenditures, in cents, ordered by category.
+     */
+    public TreeMap<String, Long> getRollingTotalsByCategory(LocalDate lastDay, int days) {
+        return getRollingTotals(rollingTotalsByCategory, lastDay, days);
+    }
+
+    /**
+     * Adds up the amounts of each payment method over the given number of days, ending on the given day.
+     *
+     * @param lastDay The last day of the window, which should not be before the latest expenditure.
+     * @param days Number of days, from 1 to 90.
+     * @return The total of each payment method that has expenditures, in cents, ordered by payment method.
+     */
+    public TreeMap<String, Long> getRollingTotalsByPaymentMethod(LocalDate lastDay, int days) {
+        return getRollingTotals(rollingTotalsByPaymentMethod, lastDay, days);
+    }
+
+    private static TreeMap<String, Long> getRollingTotals(HashMap<String, RollingTotals> rollingTotalsByKey,
+                                                          LocalDate lastDay, int days) {
+        long lastEpochDay = lastDay.toEpochDay();
+        TreeMap<String, Long> totals = new TreeMap<>();
+        for (Map.Entry<String, RollingTotals> entry : rollingTotalsByKey.entrySet()) {
+            long totalInCents = entry.getValue().getTotal(lastEpochDay, days);
+            if (totalInCents != 0) {
+                totals.put(entry.getKey(), totalInCents);
+            }
+        }
+        return totals;
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.mindmymoney.data;
+
+/**
+ * Multiset of 64-bit fingerprints, kept in primitive arrays with open addressing, so that a lookup takes O(1) time
+ * without boxing. Each fingerprint has a count, so a fingerprint that was added twice is only gone once it has been
+ * removed twice.
+ *
+ * <p>Fingerprints are placed by linear probing, and removals shift the following fingerprints back into the gap, so
+ * the table never fills up with deleted markers. The fingerprint 0 marks an empty slot and cannot be added.
+ */
+public class FingerprintSet {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY = 0;
+
+    private long[] fingerprints = new long[INITIAL_CAPACITY];
+    private int[] counts = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Adds a fingerprint, or increases its count if it is already in the set.
+     *
+     * @param fingerprint The fingerprint, which must not be 0.
+     */
+    public void add(long fingerprint) {
+        assert fingerprint != EMPTY : "Fingerprint 0 marks an empty slot";
+        int slot = findSlot(fingerprints, fingerprint);
+        if (fingerprints[slot] == fingerprint) {
+            counts[slot]++;
+            return;
+        }
+        fingerprints[slot] = fingerprint;
+        counts[slot] = 1;
+        size++;
+        if (size * 2 > fingerprints.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Decreases the count of a fingerprint, removing it once the count reaches 0.
+     *
+     * @param fingerprint The fingerprint.
+     */
+    public void remove(long fingerprint) {
+        int slot = findSlot(fingerprints, fingerprint);
+        if (fingerprints[slot] != fingerprint || fingerprint == EMPTY) {
+            return;
+        }
+        if (--counts[slot] > 0) {
+            return;
+        }
+        size--;
+        int mask = fingerprints.length - 1;
+        int gap = slot;
+        for (int next = (gap + 1) & mask; fingerprints[next] != EMPTY; next = (next + 1) & mask) {
+            int home = homeSlot(fingerprints[next], mask);
+            boolean isHomeBetweenGapAndNext = (gap <= next) ? (gap < home && home <= next)
+                    : (gap < home || home <= next);
+            if (!isHomeBetweenGapAndNext) {
+                fingerprints[gap] = fingerprints[next];
+                counts[gap] = counts[next];
+                gap = next;
+            }
+        }
+        fingerprints[gap] = EMPTY;
+        counts[gap] = 0;
+    }
+
+    /**
+     * Checks if a fingerprint is in the set.
+     *
+     * @param fingerprint The fingerprint.
+     * @return true if the fingerprint has been added more times than it has been removed, false otherwise.
+     */
+    public boolean contains(long fingerprint) {
+        return fingerprint != EMPTY && fingerprints[findSlot(fingerprints, fingerprint)] == fingerprint;
+    }
+
+    /**
+     * Represents the number of distinct fingerprints in the set.
+     *
+     * @return number of fingerprints.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes every fingerprint from the set.
+     */
+    public void clear() {
+        fingerprints = new long[INITIAL_CAPACITY];
+        counts = new int[INITIAL_CAPACITY];
+        size = 0;
+    }
+
+    private void grow() {
+        long[] oldFingerprints = fingerprints;
+        int[] oldCounts = counts;
+        fingerprints = new long[oldFingerprints.length * 2];
+        counts = new int[oldCounts.length * 2];
+        for (int i = 0; i < oldFingerprints.length; i++) {
+            if (oldFingerprints[i] != EMPTY) {
+                int slot = findSlot(fingerprints, oldFingerprints[i]);
+                fingerprints[slot] = oldFingerprints[i];
+                counts[slot] = oldCounts[i];
+            }
+        }
+    }
+
+    /**
+     * Finds the slot that holds a fingerprint, or the empty slot where it would be placed.
+     *
+     * @param table The table of fingerprints, whose length is a power of 2.
+     * @param fingerprint The fingerprint.
+     * @return The slot.
+     */
+    private static int findSlot(long[] table, long fingerprint) {
+        int mask = table.length - 1;
+        int slot = homeSlot(fingerprint, mask);
+        while (table[slot] != EMPTY && table[slot] != fingerprint) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int homeSlot(long fingerprint, int mask) {
+        return (int) (fingerprint ^ (fingerprint >>> 32)) & mask;
+    }
+}
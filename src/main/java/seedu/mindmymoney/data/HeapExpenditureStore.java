@@ -0,0 +1,116 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Stores expenditures as objects on the Java heap. This is the default store.
+ *
+ * <p>Entries are kept in fixed-size chunks, so that snapshots can share chunks with the store. Each chunk records the
+ * generation in which it was last copied, and taking a snapshot starts a new generation. A chunk from an older
+ * generation may be shared with a snapshot, so it is copied before it is changed.
+ */
+public class HeapExpenditureStore implements ExpenditureStore {
+    private static final int CHUNK_SIZE = 256;
+
+    private final ArrayList<Expenditure[]> chunks = new ArrayList<>();
+    private int[] chunkGenerations = new int[8];
+    private int generation = 0;
+    private int size = 0;
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Expenditure get(int slot) {
+        checkSlot(slot);
+        return chunks.get(slot / CHUNK_SIZE)[slot % CHUNK_SIZE];
+    }
+
+    @Override
+    public void add(Expenditure expenditure) {
+        if (size == chunks.size() * CHUNK_SIZE) {
+            if (chunks.size() == chunkGenerations.length) {
+                chunkGenerations = Arrays.copyOf(chunkGenerations, chunkGenerations.length * 2);
+            }
+            chunkGenerations[chunks.size()] = generation;
+            chunks.add(new Expenditure[CHUNK_SIZE]);
+        }
+        size++;
+        getWritableChunk(size - 1)[(size - 1) % CHUNK_SIZE] = expenditure;
+    }
+
+    @Override
+    public Expenditure set(int slot, Expenditure expenditure) {
+        Expenditure oldExpenditure = get(slot);
+        getWritableChunk(slot)[slot % CHUNK_SIZE] = expenditure;
+        return oldExpenditure;
+    }
+
+    @Override
+    public void move(int fromSlot, int toSlot) {
+        set(toSlot, get(fromSlot));
+    }
+
+    @Override
+    public void truncate(int newSize) {
+        int oldSize = size;
+        size = Math.min(size, newSize);
+        int chunksNeeded = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        while (chunks.size() > chunksNeeded) {
+            chunks.remove(chunks.size() - 1);
+        }
+        int endOfLastChunk = Math.min(oldSize, chunksNeeded * CHUNK_SIZE);
+        if (size < endOfLastChunk) {
+            Arrays.fill(getWritableChunk(size), size % CHUNK_SIZE, (endOfLastChunk - 1) % CHUNK_SIZE + 1, null);
+        }
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        generation++;
+        Expenditure[][] sharedChunks = chunks.toArray(new Expenditure[0][]);
+        int snapshotSize = size;
+        return new Snapshot() {
+            @Override
+            public int size() {
+                return snapshotSize;
+            }
+
+            @Override
+            public Expenditure get(int slot) {
+                if (slot < 0 || slot >= snapshotSize) {
+                    throw new IndexOutOfBoundsException("Slot: " + slot + ", Size: " + snapshotSize);
+                }
+                return sharedChunks[slot / CHUNK_SIZE][slot % CHUNK_SIZE];
+            }
+        };
+    }
+
+    /**
+     * Retrieves the chunk holding the given slot, copying it first if it may be shared with a snapshot.
+     *
+     * @param slot The slot to be written.
+     * @return A chunk that only this store uses.
+     */
+    private Expenditure[] getWritableChunk(int slot) {
+        int chunkIndex = slot / CHUNK_SIZE;
+        Expenditure[] chunk = chunks.get(chunkIndex);
+        if (chunkGenerations[chunkIndex] != generation) {
+            chunk = chunk.clone();
+            chunks.set(chunkIndex, chunk);
+            chunkGenerations[chunkIndex] = generation;
+        }
+        return chunk;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot: " + slot + ", Size: " + size);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.mindmymoney.data;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Map from the record ids of entries to their slots in a store, kept in primitive arrays with open addressing, so
+ * that very large lists do not need a boxed Long, a boxed Integer and a map entry per entry.
+ *
+ * <p>Ids are placed by linear probing, and removals shift the following ids back into the gap, in the same way as
+ * in FingerprintSet. The id 0 marks an empty slot of the table, and is never given to an entry.
+ */
+public class IdSlotMap {
+    public static final int NO_SLOT = -1;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long EMPTY = 0;
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private int[] slots = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Retrieves the slot of an entry.
+     *
+     * @param id Record id of the entry.
+     * @return The slot, or NO_SLOT if no entry has the id.
+     */
+    public int get(long id) {
+        int index = findIndex(ids, id);
+        return (id == EMPTY || ids[index] != id) ? NO_SLOT : slots[index];
+    }
+
+    /**
+     * Checks if an entry has the given id.
+     *
+     * @param id The record id.
+     * @return true if the id is in the map, false otherwise.
+     */
+    public boolean containsKey(long id) {
+        return get(id) != NO_SLOT;
+    }
+
+    /**
+     * Records the slot of an entry, replacing any slot recorded for its id before.
+     *
+     * @param id Record id of the entry, which must not be 0.
+     * @param slot Slot of the entry.
+     */
+    public void put(long id, int slot) {
+        assert id != EMPTY : "Id 0 marks an empty slot";
+        int index = findIndex(ids, id);
+        if (ids[index] != id) {
+            ids[index] = id;
+            size++;
+        }
+        slots[index] = slot;
+        if (size * 2 > ids.length) {
+            grow();
+        }
+    }
+
+    /**
+     * Removes the slot recorded for an id.
+     *
+     * @param id The record id.
+     */
+    public void remove(long id) {
+        int index = findIndex(ids, id);
+        if (id == EMPTY || ids[index] != id) {
+            return;
+        }
+        size--;
+        int mask = ids.length - 1;
+        int gap = index;
+        for (int next = (gap + 1) & mask; ids[next] != EMPTY; next = (next + 1) & mask) {
+            int home = homeIndex(ids[next], mask);
+            boolean isHomeBetweenGapAndNext = (gap <= next) ? (gap < home && home <= next)
+                    : (gap < home || home <= next);
+            if (!isHomeBetweenGapAndNext) {
+                ids[gap] = ids[next];
+                slots[gap] = slots[next];
+                gap = next;
+            }
+        }
+        ids[gap] = EMPTY;
+        slots[gap] = 0;
+    }
+
+    /**
+     * Replaces every slot with the result of the given function.
+     *
+     * @param function Function to apply.
+     */
+    public void replaceSlots(IntUnaryOperator function) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i] != EMPTY) {
+                slots[i] = function.applyAsInt(slots[i]);
+            }
+        }
+    }
+
+    /**
+     * Represents the number of ids in the map.
+     *
+     * @return number of ids.
+     */
+    public int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] oldIds = ids;
+        int[] oldSlots = slots;
+        ids = new long[oldIds.length * 2];
+        slots = new int[oldSlots.length * 2];
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] != EMPTY) {
+                int index = findIndex(ids, oldIds[i]);
+                ids[index] = oldIds[i];
+                slots[index] = oldSlots[i];
+            }
+        }
+    }
+
+    /**
+     * Finds the index of the table that holds an id, or the empty index where it would be placed.
+     *
+     * @param table The table of ids, whose length is a power of 2.
+     * @param id The record id.
+     * @return The index.
+     */
+    private static int findIndex(long[] table, long id) {
+        int mask = table.length - 1;
+        int index = homeIndex(id, mask);
+        while (table[index] != EMPTY && table[index] != id) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static int homeIndex(long id, int mask) {
+        return (int) (id ^ (id >>> 32)) & mask;
+    }
+}
@@ -3,19 +3,33 @@ package seedu.mindmymoney.data;
 import seedu.mindmymoney.MindMyMoneyException;
 import seedu.mindmymoney.userfinancial.Income;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Scanner;
+import java.util.TreeMap;
 
 import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_INCOME_END_MARKER;
 import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_INCOME_START_MARKER;
 import static seedu.mindmymoney.helper.SerializerFunctions.addListToStringBuilder;
 import static seedu.mindmymoney.helper.SerializerFunctions.convertInputToList;
+import static seedu.mindmymoney.helper.TimeFunctions.getYearMonth;
 
 /**
- * Container for income lists.
+ * Container for income lists. The total of the recurring incomes, and the total of the dated incomes in each month,
+ * are kept up to date as incomes change, so the income of a month is read without scanning the list.
  */
 public class IncomeList {
+    private static final int CENTS_IN_DOLLAR = 100;
+
     public ArrayList<Income> incomeListArray;
+    private final HashMap<Long, Income> incomesById = new HashMap<>();
+    private final TreeMap<YearMonth, Long> datedTotalsByMonth = new TreeMap<>();
+    private long recurringTotalInCents = 0;
+    private final RecordIdGenerator ids = new RecordIdGenerator();
+    private long epoch = 0;
 
     public IncomeList() {
         this(new ArrayList<>());
@@ -23,6 +37,75 @@ public class IncomeList {
 
     public IncomeList(ArrayList<Income> incomeListArray) {
         this.incomeListArray = incomeListArray;
+        for (int i = 0; i < incomeListArray.size(); i++) {
+            Income income = addToIdIndex(incomeListArray.get(i));
+            incomeListArray.set(i, income);
+            addToTotals(income);
+        }
+    }
+
+    /**
+     * Adds the amount of an income to the recurring total, or to the total of the month it was received in.
+     *
+     * @param income The income.
+     */
+    private void addToTotals(Income income) {
+        updateTotals(income, (long) income.getAmount() * CENTS_IN_DOLLAR);
+    }
+
+    /**
+     * Removes the amount of an income from the recurring total, or from the total of the month it was received in.
+     *
+     * @param income The income.
+     */
+    private void removeFromTotals(Income income) {
+        updateTotals(income, -(long) income.getAmount() * CENTS_IN_DOLLAR);
+    }
+
+    private void updateTotals(Income income, long amountInCents) {
+        if (income.isRecurring()) {
+            recurringTotalInCents += amountInCents;
+            return;
+        }
+        YearMonth month = getYearMonth(income.getTime());
+        long total = datedTotalsByMonth.getOrDefault(month, 0L) + amountInCents;
+        if (total == 0) {
+            datedTotalsByMonth.remove(month);
+        } else {
+            datedTotalsByMonth.put(month, total);
+        }
+    }
+
+    /**
+     * Retrieves the income of a month, which is the total of the recurring incomes and of the incomes dated in the
+     * month, in O(log months) time.
+     *
+     * @param month The month.
+     * @return The income in cents.
+     */
+    public long getMonthlyTotal(YearMonth month) {
+        return recurringTotalInCents + datedTotalsByMonth.getOrDefault(month, 0L);
+    }
+
+    /**
+     * Records an income in the id index. An income without a record id is given a new id. An income whose id is
+     * already used in the list is copied and the copy is given a new id, so that the income already in the list
+     * keeps its id.
+     *
+     * @param income The income to record.
+     * @return The income that was recorded, which is a copy if its id was already used.
+     */
+    private Income addToIdIndex(Income income) {
+        if (income.getId() == 0) {
+            income.setId(ids.next());
+        } else if (incomesById.containsKey(income.getId())) {
+            income = income.copy();
+            income.setId(ids.next());
+        } else {
+            ids.reserve(income.getId());
+        }
+        incomesById.put(income.getId(), income);
+        return income;
     }
 
     /**
@@ -31,7 +114,10 @@ public class IncomeList {
      * @param income The Income entry to be added.
      */
     public void add(Income income) {
+        income = addToIdIndex(income);
         incomeListArray.add(income);
+        addToTotals(income);
+        epoch++;
     }
 
     /**
@@ -54,13 +140,33 @@ public class IncomeList {
     }
 
     /**
-     * Updates the Income entry at the given index.
+     * Retrieves the Income entry with the given record id.
+     *
+     * @param id Record id of the income entry.
+     * @return The Income object, or null if no income in the list has the id.
+     */
+    public Income getById(long id) {
+        return incomesById.get(id);
+    }
+
+    /**
+     * Updates the Income entry at the given index. The new entry takes over the record id of the old entry. A new
+     * entry that already has a different id is copied first, so that it keeps its own id.
      *
      * @param index Index of the entry to be updated.
      * @param income The new Income entry.
      */
     public void set(int index, Income income) {
+        Income oldIncome = incomeListArray.get(index);
+        if (income.getId() != 0 && income.getId() != oldIncome.getId()) {
+            income = income.copy();
+        }
         incomeListArray.set(index, income);
+        removeFromTotals(oldIncome);
+        income.setId(oldIncome.getId());
+        incomesById.put(income.getId(), income);
+        addToTotals(income);
+        epoch++;
     }
 
     /**
@@ -69,7 +175,37 @@ public class IncomeList {
      * @param index Index of the Income entry to delete.
      */
     public void delete(int index) {
-        incomeListArray.remove(index);
+        Income removedIncome = incomeListArray.remove(index);
+        incomesById.remove(removedIncome.getId());
+        removeFromTotals(removedIncome);
+        epoch++;
+    }
+
+    /**
+     * Represents the number of changes made to the list so far. Every change moves the list to a new epoch.
+     *
+     * @return The epoch of the list.
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Retrieves the record id that the next new income will get.
+     *
+     * @return The next record id.
+     */
+    public long getNextId() {
+        return ids.peek();
+    }
+
+    /**
+     * Marks every record id before the given one as used. Used when loading a save file.
+     *
+     * @param nextId The next record id that was saved.
+     */
+    public void reserveIdsBefore(long nextId) {
+        ids.reserve(nextId - 1);
     }
 
     /**
@@ -94,6 +230,16 @@ public class IncomeList {
         return incomeList.get(index).getCategory().equals(category);
     }
     
+    /**
+     * Takes a read-only, point-in-time copy of the list. Income entries are never changed once created, so the
+     * copy shares them with the list.
+     *
+     * @return The incomes in the list.
+     */
+    public List<Income> snapshot() {
+        return Collections.unmodifiableList(new ArrayList<>(incomeListArray));
+    }
+
     /**
      * Converts this IncomeList into a machine-readable format.
      * @return The serialized IncomeList
@@ -114,11 +260,9 @@ public class IncomeList {
      * @throws MindMyMoneyException if the format is invalid.
      */
     public static IncomeList deserializeFrom(Scanner scanner) throws MindMyMoneyException {
-        IncomeList incomeList = new IncomeList();
-        incomeList.incomeListArray = convertInputToList(
+        return new IncomeList(convertInputToList(
                 SERIALIZATION_INCOME_START_MARKER,
                 SERIALIZATION_INCOME_END_MARKER,
-                scanner, Income::deserialize);
-        return incomeList;
+                scanner, Income::deserialize));
     }
 }
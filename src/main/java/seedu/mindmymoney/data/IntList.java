@@ -0,0 +1,109 @@
+package seedu.mindmymoney.data;
+
+import java.util.Arrays;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Growable list of primitive ints, kept in ascending order. Used by indexes that store slots of entries, so that
+ * large lists do not need a boxed Integer per entry.
+ */
+public class IntList {
+    private static final int INITIAL_CAPACITY = 8;
+
+    private int[] values = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Represents the number of values in the list.
+     *
+     * @return size of the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the list is empty.
+     *
+     * @return true if list is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Retrieves the value at the given index.
+     *
+     * @param index Index of the value.
+     * @return The value.
+     */
+    public int get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return values[index];
+    }
+
+    /**
+     * Inserts a value into the list, keeping the list in ascending order.
+     *
+     * @param value The value to be inserted.
+     */
+    public void insert(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size * 2);
+        }
+        System.arraycopy(values, index, values, index + 1, size - index);
+        values[index] = value;
+        size++;
+    }
+
+    /**
+     * Removes a value from the list, if it is present.
+     *
+     * @param value The value to be removed.
+     * @return true if the value was found and removed, false otherwise.
+     */
+    public boolean remove(int value) {
+        int index = Arrays.binarySearch(values, 0, size, value);
+        if (index < 0) {
+            return false;
+        }
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * Replaces every value with the result of the given function. The function must preserve the order of the
+     * values, so that the list stays in ascending order.
+     *
+     * @param function Order-preserving function to apply.
+     */
+    public void replaceAll(IntUnaryOperator function) {
+        for (int i = 0; i < size; i++) {
+            values[i] = function.applyAsInt(values[i]);
+        }
+    }
+
+    /**
+     * Removes every value that matches the given condition, in a single pass over the list.
+     *
+     * @param condition Condition of the values to remove.
+     */
+    public void removeIf(IntPredicate condition) {
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (!condition.test(values[i])) {
+                values[newSize] = values[i];
+                newSize++;
+            }
+        }
+        size = newSize;
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.mindmymoney.data;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Tracks which slots of a store still hold live entries, so that deleted entries can be left in place as tombstones.
+ * Positions shown to the user count only live slots. Live slot counts are kept in a Fenwick tree, so converting
+ * between positions and slots takes O(log n) time.
+ */
+public class LiveSlotIndex {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int[] tree = new int[INITIAL_CAPACITY + 1];
+    private final BitSet deletedSlots = new BitSet();
+    private int slotCount = 0;
+    private int deletedCount = 0;
+
+    /**
+     * Represents the number of slots, including deleted ones.
+     *
+     * @return number of slots.
+     */
+    public int slotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Represents the number of live slots.
+     *
+     * @return number of live slots.
+     */
+    public int liveCount() {
+        return slotCount - deletedCount;
+    }
+
+    /**
+     * Represents the number of deleted slots that have not been reclaimed.
+     *
+     * @return number of deleted slots.
+     */
+    public int deletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * Checks if the slot holds a live entry.
+     *
+     * @param slot The slot.
+     * @return true if the slot is live, false if it was deleted or does not exist.
+     */
+    public boolean isLive(int slot) {
+        return slot >= 0 && slot < slotCount && !deletedSlots.get(slot);
+    }
+
+    /**
+     * Copies the set of deleted slots.
+     *
+     * @return The deleted slots, or null if no slot is deleted.
+     */
+    public BitSet copyDeletedSlots() {
+        return (deletedCount == 0) ? null : (BitSet) deletedSlots.clone();
+    }
+
+    /**
+     * Appends a live slot.
+     */
+    public void addSlot() {
+        if (slotCount == tree.length - 1) {
+            tree = new int[tree.length * 2 - 1];
+            rebuildTree();
+        }
+        slotCount++;
+        update(slotCount, 1);
+    }
+
+    /**
+     * Marks the slot as deleted.
+     *
+     * @param slot The slot to delete.
+     */
+    public void markDeleted(int slot) {
+        assert isLive(slot) : "Only live slots can be deleted";
+        deletedSlots.set(slot);
+        deletedCount++;
+        update(slot + 1, -1);
+    }
+
+    /**
+     * Finds the slot holding the entry at the given position.
+     *
+     * @param position 0-based position among live slots.
+     * @return The slot.
+     * @throws IndexOutOfBoundsException if there is no live slot at that position.
+     */
+    public int getSlot(int position) {
+        if (position < 0 || position >= liveCount()) {
+            throw new IndexOutOfBoundsException("Index: " + position + ", Size: " + liveCount());
+        }
+        if (deletedCount == 0) {
+            return position;
+        }
+        int slot = 0;
+        int remaining = position + 1;
+        for (int step = Integer.highestOneBit(tree.length - 1); step > 0; step >>= 1) {
+            int next = slot + step;
+            if (next < tree.length && tree[next] < remaining) {
+                slot = next;
+                remaining -= tree[next];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Finds the position of the entry held in the given live slot.
+     *
+     * @param slot The slot.
+     * @return 0-based position among live slots.
+     */
+    public int getPosition(int slot) {
+        if (deletedCount == 0) {
+            return slot;
+        }
+        int position = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            position += tree[i];
+        }
+        return position;
+    }
+
+    /**
+     * Marks all slots as live after the store has been compacted.
+     *
+     * @param newSlotCount Number of slots left in the store.
+     */
+    public void reset(int newSlotCount) {
+        slotCount = newSlotCount;
+        deletedCount = 0;
+        deletedSlots.clear();
+        int capacity = INITIAL_CAPACITY;
+        while (capacity < newSlotCount) {
+            capacity *= 2;
+        }
+        tree = new int[capacity + 1];
+        rebuildTree();
+    }
+
+    private void update(int treeIndex, int delta) {
+        for (int i = treeIndex; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * Fills the Fenwick tree from the deleted slots in linear time. Every node is visited, including those past the
+     * last slot, so that the counts below them reach the nodes above.
+     */
+    private void rebuildTree() {
+        Arrays.fill(tree, 0);
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += (i > slotCount || deletedSlots.get(i - 1)) ? 0 : 1;
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
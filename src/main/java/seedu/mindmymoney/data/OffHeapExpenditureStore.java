@@ -0,0 +1,318 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+
+/**
+ * Stores expenditures outside the Java heap as fixed-width records. Each record holds the record id, the amount and
+ * the ids of the expenditure's strings in an OffHeapStringDictionary. Records are kept in chunks of direct buffers,
+ * or of buffers mapped from a file when a backing file is given, so that very large lists only use a small amount
+ * of heap.
+ * Expenditure objects are created when entries are read, and are not kept by the store.
+ *
+ * <p>Snapshots share chunks with the store in the same way as in HeapExpenditureStore: a chunk from an older
+ * generation is copied into a new buffer before it is changed, so that the buffer seen by a snapshot is never written
+ * again.
+ *
+ * <p>In a file-backed store, the file is split into regions of one chunk each. A region counts its users: the store,
+ * if the region holds one of its chunks, and every snapshot that has not been garbage collected and shares it. A
+ * region with no users is put on a free list and reused for the next chunk, so the file only grows to the number of
+ * chunks that are in use at the same time.
+ */
+public class OffHeapExpenditureStore implements ExpenditureStore {
+    private static final int AMOUNT_OFFSET = 0;
+    private static final int PAYMENT_METHOD_OFFSET = 4;
+    private static final int CATEGORY_OFFSET = 8;
+    private static final int DESCRIPTION_OFFSET = 12;
+    private static final int TIME_OFFSET = 16;
+    private static final int ID_OFFSET = 20;
+    private static final int RECORD_SIZE = 28;
+    private static final int RECORDS_PER_CHUNK = 1 << 12;
+    private static final int CHUNK_SIZE = RECORD_SIZE * RECORDS_PER_CHUNK;
+
+    private final ArrayList<ByteBuffer> chunks = new ArrayList<>();
+    private final OffHeapStringDictionary strings = new OffHeapStringDictionary();
+    private final FileChannel fileChannel;
+    private final ArrayList<ByteBuffer> regions = new ArrayList<>();
+    private final IntList freeRegions = new IntList();
+    private final ReferenceQueue<Snapshot> releasedSnapshots = new ReferenceQueue<>();
+    private final HashSet<SnapshotReference> snapshotReferences = new HashSet<>();
+    private int[] regionUsers = new int[8];
+    private int[] chunkRegions = new int[8];
+    private int[] chunkGenerations = new int[8];
+    private int generation = 0;
+    private int size = 0;
+
+    /**
+     * Creates a store that keeps its records in direct memory.
+     */
+    public OffHeapExpenditureStore() {
+        fileChannel = null;
+    }
+
+    /**
+     * Creates a store that keeps its records in memory mapped from the given file. Any existing content of the
+     * file is discarded.
+     *
+     * @param file The file to map the records from.
+     * @throws IOException if the file cannot be opened.
+     */
+    public OffHeapExpenditureStore(File file) throws IOException {
+        fileChannel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public Expenditure get(int slot) {
+        checkSlot(slot);
+        return readRecord(getChunk(slot), getOffset(slot), strings);
+    }
+
+    @Override
+    public void add(Expenditure expenditure) {
+        if (size == chunks.size() * RECORDS_PER_CHUNK) {
+            if (chunks.size() == chunkGenerations.length) {
+                chunkGenerations = Arrays.copyOf(chunkGenerations, chunkGenerations.length * 2);
+                chunkRegions = Arrays.copyOf(chunkRegions, chunkRegions.length * 2);
+            }
+            chunkGenerations[chunks.size()] = generation;
+            chunks.add(allocateChunk(chunks.size()));
+        }
+        write(size, expenditure);
+        size++;
+    }
+
+    @Override
+    public Expenditure set(int slot, Expenditure expenditure) {
+        Expenditure oldExpenditure = get(slot);
+        write(slot, expenditure);
+        return oldExpenditure;
+    }
+
+    @Override
+    public void move(int fromSlot, int toSlot) {
+        checkSlot(fromSlot);
+        checkSlot(toSlot);
+        ByteBuffer fromChunk = getChunk(fromSlot);
+        ByteBuffer toChunk = getWritableChunk(toSlot);
+        int fromOffset = getOffset(fromSlot);
+        int toOffset = getOffset(toSlot);
+        for (int i = 0; i < RECORD_SIZE; i += Integer.BYTES) {
+            toChunk.putInt(toOffset + i, fromChunk.getInt(fromOffset + i));
+        }
+    }
+
+    @Override
+    public void truncate(int newSize) {
+        size = Math.min(size, newSize);
+        int chunksNeeded = (size + RECORDS_PER_CHUNK - 1) / RECORDS_PER_CHUNK;
+        while (chunks.size() > chunksNeeded) {
+            chunks.remove(chunks.size() - 1);
+            releaseRegion(chunkRegions[chunks.size()]);
+        }
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        generation++;
+        ByteBuffer[] sharedChunks = chunks.toArray(new ByteBuffer[0]);
+        OffHeapStringDictionary sharedStrings = strings.snapshot();
+        int snapshotSize = size;
+        Snapshot snapshot = new Snapshot() {
+            @Override
+            public int size() {
+                return snapshotSize;
+            }
+
+            @Override
+            public Expenditure get(int slot) {
+                if (slot < 0 || slot >= snapshotSize) {
+                    throw new IndexOutOfBoundsException("Slot: " + slot + ", Size: " + snapshotSize);
+                }
+                return readRecord(sharedChunks[slot / RECORDS_PER_CHUNK], getOffset(slot), sharedStrings);
+            }
+        };
+        if (fileChannel != null) {
+            int[] sharedRegions = Arrays.copyOf(chunkRegions, chunks.size());
+            for (int region : sharedRegions) {
+                if (region >= 0) {
+                    regionUsers[region]++;
+                }
+            }
+            snapshotReferences.add(new SnapshotReference(snapshot, sharedRegions, releasedSnapshots));
+        }
+        return snapshot;
+    }
+
+    /**
+     * Creates an expenditure from the record at the given offset of a chunk.
+     *
+     * @param chunk The chunk holding the record.
+     * @param offset Offset of the record in the chunk.
+     * @param strings The dictionary holding the strings of the record.
+     * @return The Expenditure object.
+     */
+    private static Expenditure readRecord(ByteBuffer chunk, int offset, OffHeapStringDictionary strings) {
+        Expenditure expenditure = new Expenditure(strings.get(chunk.getInt(offset + PAYMENT_METHOD_OFFSET)),
+            strings.get(chunk.getInt(offset + CATEGORY_OFFSET)),
+            strings.get(chunk.getInt(offset + DESCRIPTION_OFFSET)),
+            chunk.getFloat(offset + AMOUNT_OFFSET),
+            strings.get(chunk.getInt(offset + TIME_OFFSET)));
+        expenditure.setId(chunk.getLong(offset + ID_OFFSET));
+        return expenditure;
+    }
+
+    /**
+     * Writes the fields of an expenditure into the record in the given slot.
+     *
+     * @param slot Slot of the record.
+     * @param expenditure The Expenditure entry to write.
+     */
+    private void write(int slot, Expenditure expenditure) {
+        ByteBuffer chunk = getWritableChunk(slot);
+        int offset = getOffset(slot);
+        chunk.putFloat(offset + AMOUNT_OFFSET, expenditure.getAmount());
+        chunk.putInt(offset + PAYMENT_METHOD_OFFSET, strings.intern(expenditure.getPaymentMethod()));
+        chunk.putInt(offset + CATEGORY_OFFSET, strings.intern(expenditure.getCategory()));
+        chunk.putInt(offset + DESCRIPTION_OFFSET, strings.intern(expenditure.getDescription()));
+        chunk.putInt(offset + TIME_OFFSET, strings.intern(expenditure.getTime()));
+        chunk.putLong(offset + ID_OFFSET, expenditure.getId());
+    }
+
+    private ByteBuffer getChunk(int slot) {
+        return chunks.get(slot / RECORDS_PER_CHUNK);
+    }
+
+    /**
+     * Retrieves the chunk holding the given slot, copying it first if it may be shared with a snapshot.
+     *
+     * @param slot The slot to be written.
+     * @return A chunk that only this store uses.
+     */
+    private ByteBuffer getWritableChunk(int slot) {
+        int chunkIndex = slot / RECORDS_PER_CHUNK;
+        ByteBuffer chunk = chunks.get(chunkIndex);
+        if (chunkGenerations[chunkIndex] != generation) {
+            int oldRegion = chunkRegions[chunkIndex];
+            ByteBuffer copy = allocateChunk(chunkIndex);
+            ByteBuffer source = chunk.duplicate();
+            source.clear();
+            copy.put(source);
+            copy.clear();
+            chunk = copy;
+            chunks.set(chunkIndex, chunk);
+            chunkGenerations[chunkIndex] = generation;
+            releaseRegion(oldRegion);
+        }
+        return chunk;
+    }
+
+    private static int getOffset(int slot) {
+        return (slot % RECORDS_PER_CHUNK) * RECORD_SIZE;
+    }
+
+    private void checkSlot(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot: " + slot + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Allocates the buffer for a chunk of records, and records the region of the backing file it is mapped from.
+     * If there is no backing file, or the file cannot be extended, the chunk is kept in direct memory instead.
+     *
+     * @param chunkIndex Index of the chunk the buffer is for.
+     * @return The buffer of the chunk.
+     */
+    private ByteBuffer allocateChunk(int chunkIndex) {
+        int region = allocateRegion();
+        chunkRegions[chunkIndex] = region;
+        return (region < 0) ? ByteBuffer.allocateDirect(CHUNK_SIZE) : regions.get(region);
+    }
+
+    /**
+     * Finds a region of the backing file for a new chunk. Regions released by snapshots that have been garbage
+     * collected are reused first, and the file is only extended when no region is free.
+     *
+     * @return The region, or -1 if there is no backing file or it cannot be extended.
+     */
+    private int allocateRegion() {
+        if (fileChannel == null) {
+            return -1;
+        }
+        reclaimRegions();
+        int region;
+        if (!freeRegions.isEmpty()) {
+            region = freeRegions.get(0);
+            freeRegions.remove(region);
+        } else {
+            try {
+                region = regions.size();
+                regions.add(fileChannel.map(FileChannel.MapMode.READ_WRITE, (long) region * CHUNK_SIZE, CHUNK_SIZE));
+            } catch (IOException e) {
+                return -1;
+            }
+            if (region == regionUsers.length) {
+                regionUsers = Arrays.copyOf(regionUsers, regionUsers.length * 2);
+            }
+        }
+        regionUsers[region] = 1;
+        return region;
+    }
+
+    /**
+     * Releases the regions shared by snapshots that have been garbage collected since the last call.
+     */
+    private void reclaimRegions() {
+        SnapshotReference reference;
+        while ((reference = (SnapshotReference) releasedSnapshots.poll()) != null) {
+            snapshotReferences.remove(reference);
+            for (int region : reference.regions) {
+                releaseRegion(region);
+            }
+        }
+    }
+
+    /**
+     * Removes one user of a region, and puts the region on the free list once it has no users left.
+     *
+     * @param region The region, or -1 for a chunk kept in direct memory.
+     */
+    private void releaseRegion(int region) {
+        if (region < 0) {
+            return;
+        }
+        regionUsers[region]--;
+        if (regionUsers[region] == 0) {
+            freeRegions.insert(region);
+        }
+    }
+
+    /**
+     * Tracks a snapshot of a file-backed store, together with the regions it shares, so that the regions can be
+     * released once the snapshot is garbage collected.
+     */
+    private static class SnapshotReference extends WeakReference<Snapshot> {
+        private final int[] regions;
+
+        SnapshotReference(Snapshot snapshot, int[] regions, ReferenceQueue<Snapshot> queue) {
+            super(snapshot, queue);
+            this.regions = regions;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.mindmymoney.data;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+/**
+ * Stores strings outside the Java heap and gives each distinct string an int id. Strings are kept as UTF-8 bytes in
+ * direct buffers, and are looked up through an open addressing hash table that is also kept off the heap, so
+ * storing millions of strings needs almost no heap space. Strings are never removed once added, and the bytes of
+ * a stored string are never changed, so snapshots of the dictionary can share its buffers.
+ */
+public class OffHeapStringDictionary {
+    private static final int BYTES_PER_CHUNK = 1 << 20;
+    private static final int INITIAL_TABLE_CAPACITY = 1 << 10;
+    private static final int EMPTY_SLOT = 0;
+    private static final int CHUNK_INDEX_SHIFT = 32;
+    private static final long POSITION_MASK = 0xFFFFFFFFL;
+
+    private final ArrayList<ByteBuffer> chunks;
+    private ByteBuffer offsets;
+    private ByteBuffer table;
+    private int tableCapacity = INITIAL_TABLE_CAPACITY;
+    private int size;
+
+    public OffHeapStringDictionary() {
+        chunks = new ArrayList<>();
+        offsets = ByteBuffer.allocateDirect(INITIAL_TABLE_CAPACITY * Long.BYTES);
+        table = ByteBuffer.allocateDirect(INITIAL_TABLE_CAPACITY * Integer.BYTES);
+        size = 0;
+    }
+
+    /**
+     * Creates a read-only dictionary that shares the stored strings of another dictionary.
+     *
+     * @param chunks Chunks holding the bytes of the strings.
+     * @param offsets Buffer holding the location of each string.
+     * @param size Number of strings that can be read.
+     */
+    private OffHeapStringDictionary(ArrayList<ByteBuffer> chunks, ByteBuffer offsets, int size) {
+        this.chunks = chunks;
+        this.offsets = offsets;
+        this.table = null;
+        this.size = size;
+    }
+
+    /**
+     * Returns a read-only copy of the dictionary that can look up the strings stored so far. The copy shares its
+     * buffers with this dictionary, and may be read from any thread while strings are added to this dictionary.
+     *
+     * @return A snapshot of the dictionary.
+     */
+    public OffHeapStringDictionary snapshot() {
+        return new OffHeapStringDictionary(new ArrayList<>(chunks), offsets, size);
+    }
+
+    /**
+     * Represents the number of distinct strings in the dictionary.
+     *
+     * @return size of the dictionary.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the id of the given string, adding the string to the dictionary if it is not already in it.
+     *
+     * @param string The string to look up.
+     * @return The id of the string.
+     */
+    public int intern(String string) {
+        if (table == null) {
+            throw new UnsupportedOperationException("Strings cannot be added to a snapshot of a dictionary");
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        int hash = hashBytes(bytes);
+        int mask = tableCapacity - 1;
+        int slot = hash & mask;
+        int entry = table.getInt(slot * Integer.BYTES);
+        while (entry != EMPTY_SLOT) {
+            if (hasBytes(entry - 1, bytes)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+            entry = table.getInt(slot * Integer.BYTES);
+        }
+
+        int id = append(bytes);
+        table.putInt(slot * Integer.BYTES, id + 1);
+        if (size * 2 > tableCapacity) {
+            growTable();
+        }
+        return id;
+    }
+
+    /**
+     * Retrieves the string with the given id.
+     *
+     * @param id The id of the string.
+     * @return The string.
+     */
+    public String get(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Invalid string id: " + id);
+        }
+        long offset = offsets.getLong(id * Long.BYTES);
+        ByteBuffer chunk = chunks.get((int) (offset >>> CHUNK_INDEX_SHIFT));
+        int position = (int) (offset & POSITION_MASK);
+        byte[] bytes = new byte[chunk.getInt(position)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = chunk.get(position + Integer.BYTES + i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Copies the bytes of a new string into the chunks and records where they were placed.
+     *
+     * @param bytes UTF-8 bytes of the string.
+     * @return The id given to the string.
+     */
+    private int append(byte[] bytes) {
+        int recordSize = Integer.BYTES + bytes.length;
+        ByteBuffer chunk = chunks.isEmpty() ? null : chunks.get(chunks.size() - 1);
+        if (chunk == null || chunk.remaining() < recordSize) {
+            chunk = ByteBuffer.allocateDirect(Math.max(BYTES_PER_CHUNK, recordSize));
+            chunks.add(chunk);
+        }
+        long offset = ((long) (chunks.size() - 1) << CHUNK_INDEX_SHIFT) | chunk.position();
+        chunk.putInt(bytes.length);
+        chunk.put(bytes);
+
+        if ((size + 1) * Long.BYTES > offsets.capacity()) {
+            offsets = copyIntoLargerBuffer(offsets, offsets.capacity() * 2);
+        }
+        offsets.putLong(size * Long.BYTES, offset);
+        return size++;
+    }
+
+    /**
+     * Checks if the string with the given id consists of exactly the given bytes.
+     *
+     * @param id The id of the stored string.
+     * @param bytes UTF-8 bytes to compare with.
+     * @return true if the bytes are equal, false otherwise.
+     */
+    private boolean hasBytes(int id, byte[] bytes) {
+        long offset = offsets.getLong(id * Long.BYTES);
+        ByteBuffer chunk = chunks.get((int) (offset >>> CHUNK_INDEX_SHIFT));
+        int position = (int) (offset & POSITION_MASK);
+        if (chunk.getInt(position) != bytes.length) {
+            return false;
+        }
+        position += Integer.BYTES;
+        for (int i = 0; i < bytes.length; i++) {
+            if (chunk.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Doubles the capacity of the hash table and reinserts every stored string.
+     */
+    private void growTable() {
+        tableCapacity *= 2;
+        table = ByteBuffer.allocateDirect(tableCapacity * Integer.BYTES);
+        int mask = tableCapacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = hashStoredBytes(id) & mask;
+            while (table.getInt(slot * Integer.BYTES) != EMPTY_SLOT) {
+                slot = (slot + 1) & mask;
+            }
+            table.putInt(slot * Integer.BYTES, id + 1);
+        }
+    }
+
+    /**
+     * Computes the hash of a stored string without copying it onto the heap.
+     *
+     * @param id The id of the stored string.
+     * @return The hash of the string's bytes.
+     */
+    private int hashStoredBytes(int id) {
+        long offset = offsets.getLong(id * Long.BYTES);
+        ByteBuffer chunk = chunks.get((int) (offset >>> CHUNK_INDEX_SHIFT));
+        int position = (int) (offset & POSITION_MASK);
+        int length = chunk.getInt(position);
+        int hash = 1;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + chunk.get(position + Integer.BYTES + i);
+        }
+        return spreadHash(hash);
+    }
+
+    private static int hashBytes(byte[] bytes) {
+        int hash = 1;
+        for (byte b : bytes) {
+            hash = 31 * hash + b;
+        }
+        return spreadHash(hash);
+    }
+
+    /**
+     * Mixes the high bits of a hash into the low bits, which are the ones used to pick a slot in the table.
+     *
+     * @param hash The hash to mix.
+     * @return The mixed hash.
+     */
+    private static int spreadHash(int hash) {
+        hash ^= (hash >>> 16);
+        hash *= 0x85ebca6b;
+        return hash ^ (hash >>> 13);
+    }
+
+    private static ByteBuffer copyIntoLargerBuffer(ByteBuffer buffer, int capacity) {
+        ByteBuffer largerBuffer = ByteBuffer.allocateDirect(capacity);
+        ByteBuffer source = buffer.duplicate();
+        source.clear();
+        largerBuffer.put(source);
+        largerBuffer.clear();
+        return largerBuffer;
+    }
+}
@@ -1,12 +1,13 @@
 package seedu.mindmymoney.data;
 
 import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.userfinancial.MindMyMoneySerializable;
 
 import java.util.HashMap;
 
 /** Class for storing a list of key-value pairs. This list can be serialized
  *  to a string. */
-public class PropertyList {
+public class PropertyList implements MindMyMoneySerializable {
     private final HashMap<String, String> properties;
 
     public PropertyList() {
@@ -56,6 +57,17 @@ public class PropertyList {
         return value;
     }
 
+    /**
+     * Retrieves the value associated with the given property. If the property does not exist,
+     * returns the given default value. Used for properties that older save files do not have.
+     * @param property The property whose value to retrieve.
+     * @param defaultValue The value to return if the property is not in the PropertyList.
+     * @return The value.
+     */
+    public String getValue(String property, String defaultValue) {
+        return properties.getOrDefault(property, defaultValue);
+    }
+
     /**
      * Replaces all double quotes and backslashes in a string with versions safe to use in
      * a quoted string.
@@ -0,0 +1,37 @@
+package seedu.mindmymoney.data;
+
+/**
+ * Hands out the 64-bit record ids of the entries in one list. Ids are never reused, so an id keeps referring to the
+ * same entry while other entries are added, updated or deleted. The next id is saved with the list, so that the ids
+ * of deleted entries are not handed out again after the list is loaded.
+ */
+public class RecordIdGenerator {
+    private long nextId = 1;
+
+    /**
+     * Returns an id that has not been handed out or reserved before.
+     *
+     * @return The new id.
+     */
+    public long next() {
+        return nextId++;
+    }
+
+    /**
+     * Retrieves the id that will be handed out next, without handing it out.
+     *
+     * @return The next id.
+     */
+    public long peek() {
+        return nextId;
+    }
+
+    /**
+     * Marks an id loaded from a save file as used, so that it will not be handed out again.
+     *
+     * @param id The id in use.
+     */
+    public void reserve(long id) {
+        nextId = Math.max(nextId, id + 1);
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.helper.ExpenditureQuery;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.YearMonth;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the output of reports and listings, such as "calculate /epm 03/2022" or "list /e 2022", so that
+ * a query that is repeated while nothing has changed is answered without searching the ExpenditureList again.
+ *
+ * <p>Each entry records the epoch of the ExpenditureList it was worked out at, and the months its query covers. An
+ * entry is only served if no expenditure in those months has changed since, so adding an expenditure in 04/2022
+ * keeps the entries for 03/2022. Entries whose query covers every month are dropped by any change. Once the cache is
+ * full, the least recently used entry is evicted.
+ */
+public class ResultCache {
+    public static final int DEFAULT_CAPACITY = 64;
+    public static final int MAX_CACHED_LENGTH = 1 << 16;
+    private static final float LOAD_FACTOR = 0.75f;
+
+    private final LinkedHashMap<String, Entry> entries;
+
+    public ResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a cache that holds at most the given number of entries.
+     *
+     * @param capacity The maximum number of entries.
+     */
+    public ResultCache(int capacity) {
+        assert capacity > 0 : "Capacity should be positive";
+        entries = new LinkedHashMap<>(capacity, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Retrieves the cached output of a query, if none of the months it covers have changed since it was cached.
+     *
+     * @param query The command and its input, for eg. "calculate /epm 03/2022".
+     * @param expenditureList The list the output was worked out from.
+     * @return The cached output, or null if there is none or it is out of date.
+     */
+    public synchronized String get(String query, ExpenditureList expenditureList) {
+        Entry entry = entries.get(query.trim());
+        if (entry == null) {
+            return null;
+        }
+        long latestEpoch = (entry.firstMonth == null)
+                ? expenditureList.getEpoch()
+                : expenditureList.getEpochOfMonths(entry.firstMonth, entry.lastMonth);
+        if (latestEpoch > entry.epoch) {
+            entries.remove(query.trim());
+            return null;
+        }
+        return entry.output;
+    }
+
+    /**
+     * Caches the output of a query. Outputs longer than MAX_CACHED_LENGTH characters are not cached.
+     *
+     * @param query The command and its input, for eg. "calculate /epm 03/2022".
+     * @param scope The expenditures the output was worked out from. Only the months of its date range are tracked.
+     * @param epoch The epoch of the ExpenditureList before the output was worked out.
+     * @param output The output.
+     */
+    public synchronized void put(String query, ExpenditureQuery scope, long epoch, String output) {
+        put(query, scope.getFirstMonth(), scope.getLastMonth(), epoch, output);
+    }
+
+    /**
+     * Caches the output of a query that was worked out from the expenditures in a range of months.
+     *
+     * @param query The command and its input, for eg. "calculate /mom 03/2022".
+     * @param firstMonth The first month of the range, or null if the output depends on every month.
+     * @param lastMonth The last month of the range, or null if the output depends on every month.
+     * @param epoch The epoch of the ExpenditureList before the output was worked out.
+     * @param output The output.
+     */
+    public synchronized void put(String query, YearMonth firstMonth, YearMonth lastMonth, long epoch,
+                                 String output) {
+        if (output.length() > MAX_CACHED_LENGTH) {
+            return;
+        }
+        boolean isWholeList = firstMonth == null || lastMonth == null || firstMonth.isAfter(lastMonth);
+        entries.put(query.trim(), new Entry(output, epoch, isWholeList ? null : firstMonth,
+                isWholeList ? null : lastMonth));
+    }
+
+    /**
+     * Removes every entry, for eg. when the ExpenditureList is replaced.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * Represents the number of entries in the cache.
+     *
+     * @return number of entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Output of a query, with the epoch and months it was worked out for. The months are null if the query covers
+     * every month.
+     */
+    private static class Entry {
+        private final String output;
+        private final long epoch;
+        private final YearMonth firstMonth;
+        private final YearMonth lastMonth;
+
+        private Entry(String output, long epoch, YearMonth firstMonth, YearMonth lastMonth) {
+            this.output = output;
+            this.epoch = epoch;
+            this.firstMonth = firstMonth;
+            this.lastMonth = lastMonth;
+        }
+    }
+
+    /**
+     * Writer that passes everything written to it on to another writer, and keeps a copy to be cached as long as
+     * the copy is no longer than MAX_CACHED_LENGTH characters.
+     */
+    public static class RecordingWriter extends Writer {
+        private final Writer output;
+        private final StringBuilder recording = new StringBuilder();
+        private boolean isTooLong = false;
+
+        public RecordingWriter(Writer output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(char[] buffer, int offset, int length) throws IOException {
+            output.write(buffer, offset, length);
+            if (isTooLong) {
+                return;
+            }
+            if (recording.length() + length > MAX_CACHED_LENGTH) {
+                isTooLong = true;
+                recording.setLength(0);
+                return;
+            }
+            recording.append(buffer, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            output.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            output.close();
+        }
+
+        /**
+         * Retrieves the copy of everything written so far.
+         *
+         * @return The copy, or null if too much was written to keep it.
+         */
+        public String getRecording() {
+            return isTooLong ? null : recording.toString();
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package seedu.mindmymoney.data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+
+/**
+ * Index from a key, such as the payment method or month of an expenditure, to the slots of the entries with that
+ * key. Slots of each key are kept in ascending order, so entries found through the index are in list order.
+ *
+ * @param <K> Type of the key.
+ */
+public class SlotIndex<K> {
+    private final HashMap<K, IntList> slotsByKey = new HashMap<>();
+
+    /**
+     * Records the slot of an entry under its key.
+     *
+     * @param key Key of the entry.
+     * @param slot Slot of the entry in the store.
+     */
+    public void add(K key, int slot) {
+        slotsByKey.computeIfAbsent(key, unused -> new IntList()).insert(slot);
+    }
+
+    /**
+     * Removes the slot of an entry from its key, dropping the key once it has no slots left.
+     *
+     * @param key Key of the entry.
+     * @param slot Slot of the entry in the store.
+     */
+    public void remove(K key, int slot) {
+        IntList slots = slotsByKey.get(key);
+        if (slots == null) {
+            return;
+        }
+        slots.remove(slot);
+        if (slots.isEmpty()) {
+            slotsByKey.remove(key);
+        }
+    }
+
+    /**
+     * Retrieves the slots of the entries with the given key.
+     *
+     * @param key The key.
+     * @return The slots in ascending order, or null if no entry has the key.
+     */
+    public IntList get(K key) {
+        return slotsByKey.get(key);
+    }
+
+    /**
+     * Retrieves the keys that have at least one entry.
+     *
+     * @return The set of keys, backed by the index.
+     */
+    public Set<K> keySet() {
+        return Collections.unmodifiableSet(slotsByKey.keySet());
+    }
+
+    /**
+     * Counts the entries whose key matches the given condition, without visiting the entries.
+     *
+     * @param condition Condition of the keys.
+     * @return The number of entries.
+     */
+    public int count(Predicate<K> condition) {
+        int count = 0;
+        for (Map.Entry<K, IntList> entry : slotsByKey.entrySet()) {
+            if (condition.test(entry.getKey())) {
+                count += entry.getValue().size();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Collects the slots of the entries whose key matches the given condition.
+     *
+     * @param condition Condition of the keys.
+     * @return The slots in ascending order.
+     */
+    public int[] findSlots(Predicate<K> condition) {
+        List<IntList> matchingSlots = new ArrayList<>();
+        int count = 0;
+        for (Map.Entry<K, IntList> entry : slotsByKey.entrySet()) {
+            if (condition.test(entry.getKey())) {
+                matchingSlots.add(entry.getValue());
+                count += entry.getValue().size();
+            }
+        }
+        int[] slots = new int[count];
+        int nextIndex = 0;
+        for (IntList keySlots : matchingSlots) {
+            for (int i = 0; i < keySlots.size(); i++) {
+                slots[nextIndex++] = keySlots.get(i);
+            }
+        }
+        if (matchingSlots.size() > 1) {
+            Arrays.sort(slots);
+        }
+        return slots;
+    }
+
+    /**
+     * Removes every slot that matches the given condition, in a single pass over the index.
+     *
+     * @param condition Condition of the slots to remove.
+     */
+    public void removeSlotsIf(IntPredicate condition) {
+        for (IntList slots : slotsByKey.values()) {
+            slots.removeIf(condition);
+        }
+        slotsByKey.values().removeIf(IntList::isEmpty);
+    }
+
+    /**
+     * Replaces every slot with the result of the given function, which must preserve the order of slots.
+     *
+     * @param function Order-preserving function to apply.
+     */
+    public void replaceSlots(IntUnaryOperator function) {
+        for (IntList slots : slotsByKey.values()) {
+            slots.replaceAll(function);
+        }
+    }
+
+    /**
+     * Removes every key and slot from the index.
+     */
+    public void clear() {
+        slotsByKey.clear();
+    }
+}
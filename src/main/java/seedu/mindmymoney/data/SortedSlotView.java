@@ -0,0 +1,256 @@
+package seedu.mindmymoney.data;
+
+import seedu.mindmymoney.constants.SortFields;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.TreeSet;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
+import static seedu.mindmymoney.helper.TimeFunctions.toDateNumber;
+
+/**
+ * Slots of the live entries of a store, kept sorted by one field of their expenditures. Entries with equal values
+ * are kept in list order. The view is built once with a primitive sort, and is then patched as entries are added,
+ * updated and deleted, so that repeated sorted listings do not sort the list again.
+ */
+public class SortedSlotView {
+    private static final int SLOT_BITS = 32;
+    private static final long SLOT_MASK = 0xFFFFFFFFL;
+
+    private final SortFields field;
+    private final Comparator<Expenditure> order;
+    private int[] slots;
+    private int size;
+
+    private SortedSlotView(SortFields field, int[] slots, int size) {
+        this.field = field;
+        this.order = getOrder(field);
+        this.slots = slots;
+        this.size = size;
+    }
+
+    /**
+     * Orders expenditures by a field. Amounts are compared in cents, dates by day, and categories ignoring case.
+     *
+     * @param field The field to sort by.
+     * @return Comparator of expenditures in ascending order of the field.
+     */
+    public static Comparator<Expenditure> getOrder(SortFields field) {
+        switch (field) {
+        case AMOUNT:
+            return Comparator.comparingLong(expenditure -> toCents(expenditure.getAmount()));
+        case DATE:
+            return Comparator.comparingInt(expenditure -> toDateNumber(expenditure.getTime()));
+        default:
+            return Comparator.comparing(expenditure -> expenditure.getCategory().toLowerCase());
+        }
+    }
+
+    /**
+     * Sorts the live slots of a store. Each slot is packed with a non-negative sort key into a long, so the slots
+     * are sorted as primitives without comparing expenditures.
+     *
+     * @param field The field to sort by.
+     * @param store The store holding the entries.
+     * @param liveSlots The live slots of the store.
+     * @return The sorted view.
+     */
+    public static SortedSlotView build(SortFields field, ExpenditureStore store, LiveSlotIndex liveSlots) {
+        long[] keys = new long[liveSlots.liveCount()];
+        TreeSet<String> categories = new TreeSet<>();
+        int count = 0;
+        for (int slot = 0; slot < liveSlots.slotCount(); slot++) {
+            if (!liveSlots.isLive(slot)) {
+                continue;
+            }
+            Expenditure expenditure = store.get(slot);
+            switch (field) {
+            case AMOUNT:
+                keys[count] = (toCents(expenditure.getAmount()) << SLOT_BITS) | slot;
+                break;
+            case DATE:
+                keys[count] = ((long) toDateNumber(expenditure.getTime()) << SLOT_BITS) | slot;
+                break;
+            default:
+                categories.add(expenditure.getCategory().toLowerCase());
+                keys[count] = slot;
+                break;
+            }
+            count++;
+        }
+        if (field == SortFields.CATEGORY) {
+            String[] categoryOrder = categories.toArray(new String[0]);
+            for (int i = 0; i < count; i++) {
+                int slot = (int) keys[i];
+                long rank = Arrays.binarySearch(categoryOrder, store.get(slot).getCategory().toLowerCase());
+                keys[i] = (rank << SLOT_BITS) | slot;
+            }
+        }
+        Arrays.sort(keys, 0, count);
+        int[] sortedSlots = new int[Math.max(count, 1)];
+        for (int i = 0; i < count; i++) {
+            sortedSlots[i] = (int) (keys[i] & SLOT_MASK);
+        }
+        return new SortedSlotView(field, sortedSlots, count);
+    }
+
+    public SortFields getField() {
+        return field;
+    }
+
+    /**
+     * Represents the number of slots in the view.
+     *
+     * @return size of the view.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves the slot at the given rank.
+     *
+     * @param rank 0-based rank in ascending order.
+     * @return The slot.
+     */
+    public int getSlot(int rank) {
+        if (rank < 0 || rank >= size) {
+            throw new IndexOutOfBoundsException("Rank: " + rank + ", Size: " + size);
+        }
+        return slots[rank];
+    }
+
+    /**
+     * Inserts the slot of a new entry at its sorted place.
+     *
+     * @param slot Slot of the entry.
+     * @param expenditure The expenditure in the slot.
+     * @param store The store holding the other entries.
+     */
+    public void insert(int slot, Expenditure expenditure, ExpenditureStore store) {
+        int rank = findRank(slot, expenditure, store);
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        if (size == slots.length) {
+            slots = Arrays.copyOf(slots, size * 2);
+        }
+        System.arraycopy(slots, rank, slots, rank + 1, size - rank);
+        slots[rank] = slot;
+        size++;
+    }
+
+    /**
+     * Removes the slot of an entry from the view.
+     *
+     * @param slot Slot of the entry.
+     * @param expenditure The expenditure that was in the slot when it was inserted.
+     * @param store The store holding the other entries.
+     */
+    public void remove(int slot, Expenditure expenditure, ExpenditureStore store) {
+        int rank = findRank(slot, expenditure, store);
+        assert rank >= 0 : "Removed slot should be in the view";
+        System.arraycopy(slots, rank + 1, slots, rank, size - rank - 1);
+        size--;
+    }
+
+    /**
+     * Removes every slot that matches the given condition, in a single pass over the view.
+     *
+     * @param condition Condition of the slots to remove.
+     */
+    public void removeIf(IntPredicate condition) {
+        int newSize = 0;
+        for (int i = 0; i < size; i++) {
+            if (!condition.test(slots[i])) {
+                slots[newSize] = slots[i];
+                newSize++;
+            }
+        }
+        size = newSize;
+    }
+
+    /**
+     * Moves the slots of updated entries to their new sorted places. The updated slots are taken out in one pass,
+     * sorted among themselves, and merged back into the view in a second pass.
+     *
+     * @param updatedSlots Slots of the updated entries, in ascending order.
+     * @param store The store, which already holds the new entries.
+     */
+    public void update(int[] updatedSlots, ExpenditureStore store) {
+        removeIf(slot -> Arrays.binarySearch(updatedSlots, slot) >= 0);
+        Comparator<Integer> slotOrder = (first, second) -> {
+            int comparison = order.compare(store.get(first), store.get(second));
+            return (comparison != 0) ? comparison : Integer.compare(first, second);
+        };
+        Integer[] movedSlots = new Integer[updatedSlots.length];
+        for (int i = 0; i < updatedSlots.length; i++) {
+            movedSlots[i] = updatedSlots[i];
+        }
+        Arrays.sort(movedSlots, slotOrder);
+
+        int[] mergedSlots = new int[Math.max(size + movedSlots.length, 1)];
+        int viewRank = 0;
+        int movedRank = 0;
+        int mergedSize = 0;
+        while (viewRank < size || movedRank < movedSlots.length) {
+            boolean isViewNext = movedRank == movedSlots.length || (viewRank < size
+                    && slotOrder.compare(slots[viewRank], movedSlots[movedRank]) < 0);
+            if (isViewNext) {
+                mergedSlots[mergedSize] = slots[viewRank];
+                viewRank++;
+            } else {
+                mergedSlots[mergedSize] = movedSlots[movedRank];
+                movedRank++;
+            }
+            mergedSize++;
+        }
+        slots = mergedSlots;
+        size = mergedSize;
+    }
+
+    /**
+     * Replaces every slot with the result of the given function, which must preserve the order of slots so that
+     * entries with equal values stay in list order.
+     *
+     * @param function Order-preserving function to apply.
+     */
+    public void replaceAll(IntUnaryOperator function) {
+        for (int i = 0; i < size; i++) {
+            slots[i] = function.applyAsInt(slots[i]);
+        }
+    }
+
+    /**
+     * Binary searches for the rank of an entry, comparing its value first and its slot second.
+     *
+     * @param slot Slot of the entry.
+     * @param expenditure The expenditure of the entry.
+     * @param store The store holding the other entries.
+     * @return The rank of the slot if it is in the view, otherwise (-(insertion rank) - 1).
+     */
+    private int findRank(int slot, Expenditure expenditure, ExpenditureStore store) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int middleSlot = slots[middle];
+            int comparison = (middleSlot == slot) ? 0 : order.compare(store.get(middleSlot), expenditure);
+            if (comparison == 0) {
+                comparison = Integer.compare(middleSlot, slot);
+            }
+            if (comparison < 0) {
+                low = middle + 1;
+            } else if (comparison > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
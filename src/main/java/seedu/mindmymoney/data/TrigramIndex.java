@@ -0,0 +1,199 @@
+package seedu.mindmymoney.data;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Index from the trigrams (runs of three characters) of descriptions to the descriptions that contain them, for
+ * typo-tolerant search. Descriptions are compared ignoring case and punctuation, so "McDonald's", "mcdonalds" and
+ * "Mcdonlds" share most of their trigrams.
+ *
+ * <p>Each distinct description is stored once and given a small id, and each trigram keeps the ids of the
+ * descriptions that contain it. A search only visits the ids under the trigrams of the search term, and ranks the
+ * descriptions by the Jaccard similarity of their trigrams with those of the term.
+ */
+public class TrigramIndex {
+    public static final double MIN_SHARED_TRIGRAMS = 0.5;
+    private static final int CHAR_BITS = 16;
+
+    private final HashMap<String, Integer> idsByDescription = new HashMap<>();
+    private final ArrayList<String> descriptions = new ArrayList<>();
+    private final ArrayList<long[]> trigramsById = new ArrayList<>();
+    private final HashMap<Long, IntList> idsByTrigram = new HashMap<>();
+    private final ArrayDeque<Integer> freeIds = new ArrayDeque<>();
+
+    /**
+     * Adds a description to the index, if it is not already in it.
+     *
+     * @param description The description.
+     */
+    public void add(String description) {
+        if (idsByDescription.containsKey(description)) {
+            return;
+        }
+        long[] trigrams = toTrigrams(description);
+        int id;
+        if (freeIds.isEmpty()) {
+            id = descriptions.size();
+            descriptions.add(description);
+            trigramsById.add(trigrams);
+        } else {
+            id = freeIds.pop();
+            descriptions.set(id, description);
+            trigramsById.set(id, trigrams);
+        }
+        idsByDescription.put(description, id);
+        for (long trigram : trigrams) {
+            idsByTrigram.computeIfAbsent(trigram, unused -> new IntList()).insert(id);
+        }
+    }
+
+    /**
+     * Removes a description from the index, if it is in it.
+     *
+     * @param description The description.
+     */
+    public void remove(String description) {
+        Integer id = idsByDescription.remove(description);
+        if (id == null) {
+            return;
+        }
+        for (long trigram : trigramsById.get(id)) {
+            IntList ids = idsByTrigram.get(trigram);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                idsByTrigram.remove(trigram);
+            }
+        }
+        descriptions.set(id, null);
+        trigramsById.set(id, null);
+        freeIds.push(id);
+    }
+
+    /**
+     * Represents the number of distinct descriptions in the index.
+     *
+     * @return number of descriptions.
+     */
+    public int size() {
+        return idsByDescription.size();
+    }
+
+    /**
+     * Removes every description from the index.
+     */
+    public void clear() {
+        idsByDescription.clear();
+        descriptions.clear();
+        trigramsById.clear();
+        idsByTrigram.clear();
+        freeIds.clear();
+    }
+
+    /**
+     * Finds the descriptions that share at least half of the trigrams of the search term, most similar first.
+     * Descriptions with the same similarity are ordered alphabetically.
+     *
+     * @param term The search term.
+     * @return The matching descriptions.
+     */
+    public List<String> search(String term) {
+        long[] termTrigrams = toTrigrams(term);
+        if (termTrigrams.length == 0) {
+            return new ArrayList<>();
+        }
+        int[] sharedCounts = new int[descriptions.size()];
+        int[] touchedIds = new int[descriptions.size()];
+        int touchedCount = 0;
+        for (long trigram : termTrigrams) {
+            IntList ids = idsByTrigram.get(trigram);
+            if (ids == null) {
+                continue;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                int id = ids.get(i);
+                if (sharedCounts[id]++ == 0) {
+                    touchedIds[touchedCount++] = id;
+                }
+            }
+        }
+
+        int minSharedCount = (int) Math.ceil(termTrigrams.length * MIN_SHARED_TRIGRAMS);
+        ArrayList<Match> matches = new ArrayList<>();
+        for (int i = 0; i < touchedCount; i++) {
+            int id = touchedIds[i];
+            int sharedCount = sharedCounts[id];
+            if (sharedCount < minSharedCount) {
+                continue;
+            }
+            int unionCount = termTrigrams.length + trigramsById.get(id).length - sharedCount;
+            matches.add(new Match(descriptions.get(id), (double) sharedCount / unionCount));
+        }
+        matches.sort((first, second) -> (first.similarity != second.similarity)
+                ? Double.compare(second.similarity, first.similarity)
+                : first.description.compareTo(second.description));
+        List<String> foundDescriptions = new ArrayList<>(matches.size());
+        for (Match match : matches) {
+            foundDescriptions.add(match.description);
+        }
+        return foundDescriptions;
+    }
+
+    /**
+     * Works out the distinct trigrams of a description, after lowercasing it, dropping punctuation and padding it
+     * so that its first and last letters form trigrams of their own.
+     *
+     * @param description The description.
+     * @return The trigrams, each packed into a long, in ascending order.
+     */
+    static long[] toTrigrams(String description) {
+        String normalized = normalize(description);
+        if (normalized.isEmpty()) {
+            return new long[0];
+        }
+        String padded = "  " + normalized + " ";
+        long[] trigrams = new long[padded.length() - 2];
+        for (int i = 0; i < trigrams.length; i++) {
+            trigrams[i] = ((long) padded.charAt(i) << (2 * CHAR_BITS)) | ((long) padded.charAt(i + 1) << CHAR_BITS)
+                    | padded.charAt(i + 2);
+        }
+        Arrays.sort(trigrams);
+        int distinctCount = 0;
+        for (int i = 0; i < trigrams.length; i++) {
+            if (i == 0 || trigrams[i] != trigrams[i - 1]) {
+                trigrams[distinctCount++] = trigrams[i];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinctCount);
+    }
+
+    private static String normalize(String description) {
+        StringBuilder normalized = new StringBuilder(description.length());
+        for (int i = 0; i < description.length(); i++) {
+            char c = Character.toLowerCase(description.charAt(i));
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(c);
+            } else if (Character.isWhitespace(c) && normalized.length() > 0
+                    && normalized.charAt(normalized.length() - 1) != ' ') {
+                normalized.append(' ');
+            }
+        }
+        return normalized.toString().trim();
+    }
+
+    /**
+     * Description found by a search, with the similarity of its trigrams to those of the search term.
+     */
+    private static class Match {
+        private final String description;
+        private final double similarity;
+
+        private Match(String description, double similarity) {
+            this.description = description;
+            this.similarity = similarity;
+        }
+    }
+}
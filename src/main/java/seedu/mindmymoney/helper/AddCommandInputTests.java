@@ -6,8 +6,10 @@ import seedu.mindmymoney.constants.IncomeCategoryTypes;
 import seedu.mindmymoney.data.CreditCardList;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.userfinancial.CreditCard;
+import seedu.mindmymoney.userfinancial.Expenditure;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 
 import static seedu.mindmymoney.constants.Indexes.MAX_CASHBACK_AMOUNT;
@@ -20,6 +22,7 @@ import static seedu.mindmymoney.constants.Indexes.MIN_STUDENT_INCOME;
 import static seedu.mindmymoney.constants.PaymentMethod.CASH;
 import static seedu.mindmymoney.helper.TimeFunctions.checkAfterCurrentDate;
 import static seedu.mindmymoney.helper.TimeFunctions.checkValidDate;
+import static seedu.mindmymoney.helper.TimeFunctions.getYearMonth;
 
 /**
  * Input validation for Add Command.
@@ -36,12 +39,8 @@ public class AddCommandInputTests {
         if (input.equalsIgnoreCase(CASH.toString())) {
             return true;
         }
-        for (CreditCard str : creditCardList.creditCardListArray) {
-            if (str.getNameOfCard().equals(input)) {
-                return true;
-            }
-        }
-        return false;
+        CreditCard creditCard = creditCardList.get(input);
+        return creditCard != null && creditCard.getNameOfCard().equals(input);
     }
 
     /**
@@ -120,20 +119,22 @@ public class AddCommandInputTests {
     }
 
     /**
-     * Checks if the expenditure amount is above the credit card limit or balance.
+     * Checks if the expenditure amount is above the credit card limit or balance for the month of the expenditure.
      *
      * @param inputAmountAsFloat The expenditure amount.
      * @param paymentMethod Either as cash or as a credit card.
+     * @param inputTime Date of the expenditure.
      * @param creditCardList User's current list of credit cards.
      * @return true if expenditure amount is over the card limit or balance, false otherwise.
      */
-    public static boolean isOverLimit(Float inputAmountAsFloat, String paymentMethod, CreditCardList creditCardList) {
+    public static boolean isOverLimit(Float inputAmountAsFloat, String paymentMethod, String inputTime,
+                                      CreditCardList creditCardList) {
         if (paymentMethod.equalsIgnoreCase("cash")) {
             return false;
         }
 
         CreditCard creditcard = creditCardList.get(paymentMethod);
-        float balanceLeft = creditcard.getBalanceLeft();
+        float balanceLeft = creditcard.getBalanceLeft(getYearMonth(inputTime));
 
         if (inputAmountAsFloat > balanceLeft) {
             return true;
@@ -146,10 +147,11 @@ public class AddCommandInputTests {
      *
      * @param inputAmount User input of Amount.
      * @param paymentMethod User's payment method.
+     * @param inputTime User input of Date.
      * @param creditCardList User's current list of credit cards
      * @throws MindMyMoneyException when input is less than or equal to 0 or null.
      */
-    public static void testExpenditureAmount(String inputAmount, String paymentMethod,
+    public static void testExpenditureAmount(String inputAmount, String paymentMethod, String inputTime,
                                              CreditCardList creditCardList) throws MindMyMoneyException {
         float inputAmountAsFloat;
 
@@ -163,7 +165,7 @@ public class AddCommandInputTests {
             throw new MindMyMoneyException("Amount must be a number");
         }
 
-        if (isOverLimit(inputAmountAsFloat, paymentMethod, creditCardList)) {
+        if (isOverLimit(inputAmountAsFloat, paymentMethod, inputTime, creditCardList)) {
             throw new MindMyMoneyException("You have exceeded your credit card limit!");
         }
 
@@ -215,11 +217,9 @@ public class AddCommandInputTests {
         if (inputCreditCardName.equalsIgnoreCase("cash")) {
             throw new MindMyMoneyException("Credit card name cannot be abbreviated as `Cash`.");
         }
-        for (CreditCard creditCard : creditCardList.creditCardListArray) {
-            if (creditCard.getNameOfCard().toLowerCase().equalsIgnoreCase(inputCreditCardName)) {
-                throw new MindMyMoneyException("You already have this card in the list! "
-                    + "Please abbreviate the card as a different name.");
-            }
+        if (creditCardList.contains(inputCreditCardName)) {
+            throw new MindMyMoneyException("You already have this card in the list! "
+                + "Please abbreviate the card as a different name.");
         }
 
     }
@@ -282,6 +282,40 @@ public class AddCommandInputTests {
 
     }
 
+    /**
+     * Checks if user input of date is a valid date that is not after the current date.
+     *
+     * @param inputTime User input of Date.
+     * @throws MindMyMoneyException when the date is invalid or after the current date.
+     */
+    public static void testExpenditureDate(String inputTime) throws MindMyMoneyException {
+        checkValidDate(inputTime);
+        LocalDate date = LocalDate.parse(inputTime, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        checkAfterCurrentDate(date);
+    }
+
+    /**
+     * Checks if user input of amount is a number more than 0 and at most $1 million, without checking any credit
+     * card limit. Used when the limits of many expenditures are checked together.
+     *
+     * @param inputAmount User input of Amount.
+     * @throws MindMyMoneyException when input is not a number or out of range.
+     */
+    public static void testExpenditureAmountRange(String inputAmount) throws MindMyMoneyException {
+        float inputAmountAsFloat;
+        try {
+            inputAmountAsFloat = Float.parseFloat(inputAmount);
+        } catch (NumberFormatException e) {
+            throw new MindMyMoneyException("Amount must be a number");
+        }
+        if (inputAmountAsFloat <= MIN_EXPENDITURE_AMOUNT) {
+            throw new MindMyMoneyException("Amount must be more than 0");
+        }
+        if (inputAmountAsFloat > MAX_EXPENDITURE_AMOUNT) {
+            throw new MindMyMoneyException("Expenditure cannot be more than $1 million!");
+        }
+    }
+
     /**
      * Tests if the input parameters of expenditure from the user are valid.
      *
@@ -298,10 +332,10 @@ public class AddCommandInputTests {
         testPaymentMethod(paymentMethod, creditCardList);
         testExpenditureCategory(inputCategory);
         testDescription(description);
-        testExpenditureAmount(amountAsString, paymentMethod, creditCardList);
         checkValidDate(inputTime);
         LocalDate date = LocalDate.parse(inputTime, DateTimeFormatter.ofPattern("dd/MM/yyyy"));
         checkAfterCurrentDate(date);
+        testExpenditureAmount(amountAsString, paymentMethod, inputTime, creditCardList);
     }
 
     /**
@@ -329,10 +363,10 @@ public class AddCommandInputTests {
         String oldPaymentMethod = getOldPaymentMethod(indexToUpdate, expenditureList);
         if (isSamePaymentMethod(oldPaymentMethod, newPaymentMethod)
             && !newPaymentMethod.equalsIgnoreCase("cash")) {
-            testSameCreditCardExpenditure(indexToUpdate, amountAsString, expenditureList, creditCardList,
+            testSameCreditCardExpenditure(indexToUpdate, amountAsString, inputTime, expenditureList, creditCardList,
                 newPaymentMethod);
         } else {
-            testExpenditureAmount(amountAsString, newPaymentMethod, creditCardList);
+            testExpenditureAmount(amountAsString, newPaymentMethod, inputTime, creditCardList);
         }
     }
 
@@ -344,7 +378,7 @@ public class AddCommandInputTests {
         return oldPaymentMethod.equalsIgnoreCase(newPaymentMethod);
     }
 
-    private static void testSameCreditCardExpenditure(int indexToUpdate, String inputAmount,
+    private static void testSameCreditCardExpenditure(int indexToUpdate, String inputAmount, String inputTime,
                                                       ExpenditureList expenditureList, CreditCardList creditCardList,
                                                       String paymentMethod)
         throws MindMyMoneyException {
@@ -360,9 +394,12 @@ public class AddCommandInputTests {
         }
 
         CreditCard creditCard = creditCardList.get(paymentMethod);
-        float oldExpenditureAmount = expenditureList.get(indexToUpdate).getAmount();
-        float newTotalExpenditure = creditCard.getTotalExpenditure() - oldExpenditureAmount
-            + inputAmountAsFloat;
+        Expenditure oldExpenditure = expenditureList.get(indexToUpdate);
+        YearMonth month = getYearMonth(inputTime);
+        float newTotalExpenditure = creditCard.getTotalExpenditure(month) + inputAmountAsFloat;
+        if (getYearMonth(oldExpenditure.getTime()).equals(month)) {
+            newTotalExpenditure -= oldExpenditure.getAmount();
+        }
         boolean isOverLimit = creditCard.getMonthlyCardLimit() < newTotalExpenditure;
 
         if (isOverLimit) {
@@ -387,6 +424,20 @@ public class AddCommandInputTests {
         testIncomeCategory(inputCategory);
     }
 
+    /**
+     * Tests if the input parameters of a dated income from the user are valid.
+     *
+     * @param amountAsInt The amount of the income.
+     * @param inputCategory The category of the income.
+     * @param inputTime The date the income was received.
+     * @throws MindMyMoneyException when the parameters are invalid, or the date is after today.
+     */
+    public static void testIncomeParameters(int amountAsInt, String inputCategory, String inputTime)
+            throws MindMyMoneyException {
+        testIncomeParameters(amountAsInt, inputCategory);
+        testExpenditureDate(inputTime);
+    }
+
     /**
      * Tests if the input parameters of credit card from the user are valid.
      *
@@ -0,0 +1,107 @@
+package seedu.mindmymoney.helper;
+
+import java.util.Arrays;
+
+/**
+ * Running count, sum, minimum and maximum of a group of expenditure amounts, kept in cents. Stats of two groups
+ * can be merged, so a group can be built from partial results computed separately.
+ *
+ * <p>Added amounts are collected in a primitive array and reduced in batches by AmountFunctions, rather than
+ * being folded into the totals one at a time.
+ */
+public class AggregateStats {
+    private static final int INITIAL_BATCH_CAPACITY = 8;
+    private static final int BATCH_SIZE = 256;
+
+    private long count = 0;
+    private long sumInCents = 0;
+    private long minInCents = Long.MAX_VALUE;
+    private long maxInCents = Long.MIN_VALUE;
+    private long[] pendingAmountsInCents = new long[INITIAL_BATCH_CAPACITY];
+    private int pendingCount = 0;
+
+    /**
+     * Adds an amount to the group.
+     *
+     * @param amountInCents The amount in cents.
+     */
+    public void add(long amountInCents) {
+        if (pendingCount == pendingAmountsInCents.length) {
+            if (pendingCount < BATCH_SIZE) {
+                pendingAmountsInCents = Arrays.copyOf(pendingAmountsInCents, pendingCount * 2);
+            } else {
+                flush();
+            }
+        }
+        pendingAmountsInCents[pendingCount] = amountInCents;
+        pendingCount++;
+    }
+
+    /**
+     * Adds all the amounts of another group to this group.
+     *
+     * @param other The other group.
+     */
+    public void merge(AggregateStats other) {
+        flush();
+        other.flush();
+        count += other.count;
+        sumInCents += other.sumInCents;
+        minInCents = Math.min(minInCents, other.minInCents);
+        maxInCents = Math.max(maxInCents, other.maxInCents);
+    }
+
+    /**
+     * Folds the pending amounts into the totals.
+     */
+    private void flush() {
+        if (pendingCount == 0) {
+            return;
+        }
+        count += pendingCount;
+        sumInCents += AmountFunctions.sum(pendingAmountsInCents, pendingCount);
+        minInCents = Math.min(minInCents, AmountFunctions.min(pendingAmountsInCents, pendingCount));
+        maxInCents = Math.max(maxInCents, AmountFunctions.max(pendingAmountsInCents, pendingCount));
+        pendingCount = 0;
+    }
+
+    public long getCount() {
+        flush();
+        return count;
+    }
+
+    public long getSumInCents() {
+        flush();
+        return sumInCents;
+    }
+
+    /**
+     * Represents the smallest amount in the group.
+     *
+     * @return smallest amount in cents, or 0 if the group is empty.
+     */
+    public long getMinInCents() {
+        flush();
+        return (count == 0) ? 0 : minInCents;
+    }
+
+    /**
+     * Represents the largest amount in the group.
+     *
+     * @return largest amount in cents, or 0 if the group is empty.
+     */
+    public long getMaxInCents() {
+        flush();
+        return (count == 0) ? 0 : maxInCents;
+    }
+
+    /**
+     * Represents the average amount in the group, rounded to the nearest cent.
+     *
+     * @return average amount in cents, or 0 if the group is empty.
+     */
+    public long getAverageInCents() {
+        flush();
+        return (count == 0) ? 0 : Math.round((double) sumInCents / count);
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.mindmymoney.helper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Renders text charts, such as bars, histograms, sparklines and calendar heatmaps, into a single char buffer. The
+ * buffer is sized up front by the caller and only grows if a chart needs more room, so a chart of many years is
+ * built without concatenating strings, and is printed in one write.
+ */
+public class AsciiChart {
+    public static final char[] SPARKLINE_LEVELS = {'.', ':', '-', '=', '+', '*', '#', '%', '@'};
+    public static final char[] HEATMAP_LEVELS = {'.', ':', '*', '#'};
+    public static final int DAYS_IN_WEEK = 7;
+    private static final String[] DAY_LABELS = {"Mon ", "Tue ", "Wed ", "Thu ", "Fri ", "Sat ", "Sun "};
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private char[] buffer;
+    private int length = 0;
+
+    /**
+     * Creates a chart whose buffer holds the given number of chars before it has to grow.
+     *
+     * @param capacity The number of chars to allocate.
+     */
+    public AsciiChart(int capacity) {
+        buffer = new char[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Works out the number of chars taken by a histogram.
+     *
+     * @param columnCount The number of columns.
+     * @param height The number of rows of bars.
+     * @return The number of chars.
+     */
+    public static int histogramLength(int columnCount, int height) {
+        return (height + 1) * (columnCount + 1 + LINE_SEPARATOR.length());
+    }
+
+    /**
+     * Works out the number of chars taken by a calendar heatmap.
+     *
+     * @param dayCount The number of days.
+     * @return The number of chars.
+     */
+    public static int heatmapLength(int dayCount) {
+        int weekCount = dayCount / DAYS_IN_WEEK + 2;
+        return DAYS_IN_WEEK * (DAY_LABELS[0].length() + weekCount + LINE_SEPARATOR.length());
+    }
+
+    /**
+     * Appends text to the chart.
+     *
+     * @param text The text.
+     * @return This chart.
+     */
+    public AsciiChart append(String text) {
+        ensureCapacity(text.length());
+        text.getChars(0, text.length(), buffer, length);
+        length += text.length();
+        return this;
+    }
+
+    /**
+     * Appends a char a number of times.
+     *
+     * @param symbol The char.
+     * @param count The number of times to append it.
+     * @return This chart.
+     */
+    public AsciiChart append(char symbol, int count) {
+        ensureCapacity(count);
+        Arrays.fill(buffer, length, length + count, symbol);
+        length += count;
+        return this;
+    }
+
+    /**
+     * Ends the current row of the chart.
+     *
+     * @return This chart.
+     */
+    public AsciiChart endRow() {
+        return append(LINE_SEPARATOR);
+    }
+
+    /**
+     * Appends a horizontal bar as a row of its own, for eg. "FOOD:          $$$$ [20.0%]".
+     *
+     * @param label The label in front of the bar.
+     * @param labelWidth The width the label is padded to.
+     * @param barLength The number of symbols in the bar.
+     * @param symbol The symbol the bar is drawn with.
+     * @param suffix The text after the bar.
+     * @return This chart.
+     */
+    public AsciiChart appendBar(String label, int labelWidth, int barLength, char symbol, String suffix) {
+        append(label).append(' ', Math.max(labelWidth - label.length(), 0));
+        return append(symbol, barLength).append(suffix).endRow();
+    }
+
+    /**
+     * Appends a histogram with one column per value, each as tall as its value relative to the largest value, and
+     * a baseline under the columns. Any value above 0 gets a column at least one row tall.
+     *
+     * @param values The values, none of which are negative.
+     * @param height The number of rows taken by the tallest column.
+     * @param symbol The symbol the columns are drawn with.
+     * @return This chart.
+     */
+    public AsciiChart appendHistogram(long[] values, int height, char symbol) {
+        ensureCapacity(histogramLength(values.length, height));
+        long max = max(values);
+        int[] levels = new int[values.length];
+        for (int i = 0; i < values.length; i++) {
+            levels[i] = scale(values[i], max, height);
+        }
+        for (int row = height; row >= 1; row--) {
+            append('|', 1);
+            int rowStart = length;
+            int rowEnd = length;
+            for (int level : levels) {
+                buffer[length++] = (level >= row) ? symbol : ' ';
+                if (level >= row) {
+                    rowEnd = length;
+                }
+            }
+            length = Math.max(rowEnd, rowStart);
+            endRow();
+        }
+        return append('+', 1).append('-', values.length).endRow();
+    }
+
+    /**
+     * Appends a sparkline, which shows each value as one char whose level follows the value relative to the
+     * largest value. Values of 0 are left blank.
+     *
+     * @param values The values, none of which are negative.
+     * @return This chart.
+     */
+    public AsciiChart appendSparkline(long[] values) {
+        ensureCapacity(values.length);
+        long max = max(values);
+        for (long value : values) {
+            int level = scale(value, max, SPARKLINE_LEVELS.length);
+            buffer[length++] = (level == 0) ? ' ' : SPARKLINE_LEVELS[level - 1];
+        }
+        return this;
+    }
+
+    /**
+     * Appends a calendar heatmap with one row per day of the week and one column per week. Each day is shaded by
+     * its value relative to the largest value, and days with a value of 0 are left blank.
+     *
+     * @param firstDay The day of the first value.
+     * @param dailyValues The value of each day, none of which are negative.
+     * @return This chart.
+     */
+    public AsciiChart appendHeatmap(LocalDate firstDay, long[] dailyValues) {
+        ensureCapacity(heatmapLength(dailyValues.length));
+        long max = max(dailyValues);
+        int offset = firstDay.getDayOfWeek().getValue() - 1;
+        int weekCount = (offset + dailyValues.length + DAYS_IN_WEEK - 1) / DAYS_IN_WEEK;
+        for (int dayOfWeek = 0; dayOfWeek < DAYS_IN_WEEK; dayOfWeek++) {
+            append(DAY_LABELS[dayOfWeek]);
+            int rowEnd = length;
+            for (int week = 0; week < weekCount; week++) {
+                int day = week * DAYS_IN_WEEK + dayOfWeek - offset;
+                int level = (day < 0 || day >= dailyValues.length) ? 0
+                        : scale(dailyValues[day], max, HEATMAP_LEVELS.length);
+                buffer[length++] = (level == 0) ? ' ' : HEATMAP_LEVELS[level - 1];
+                if (level > 0) {
+                    rowEnd = length;
+                }
+            }
+            length = rowEnd;
+            endRow();
+        }
+        return this;
+    }
+
+    /**
+     * Writes the chart in a single write.
+     *
+     * @param output Writer that the chart is written to.
+     * @throws IOException when the output cannot be written to.
+     */
+    public void writeTo(Writer output) throws IOException {
+        output.write(buffer, 0, length);
+    }
+
+    /**
+     * Represents the number of chars in the chart.
+     *
+     * @return number of chars.
+     */
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, length);
+    }
+
+    private void ensureCapacity(int extraLength) {
+        if (length + extraLength > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extraLength));
+        }
+    }
+
+    private static long max(long[] values) {
+        long max = 0;
+        for (long value : values) {
+            max = Math.max(max, value);
+        }
+        return max;
+    }
+
+    /**
+     * Scales a value to a level from 0 to the given number of levels, rounding up so that any value above 0 is at
+     * least level 1.
+     *
+     * @param value The value.
+     * @param max The largest value, which is at the top level.
+     * @param levelCount The number of levels above 0.
+     * @return The level.
+     */
+    private static int scale(long value, long max, int levelCount) {
+        if (value <= 0 || max <= 0) {
+            return 0;
+        }
+        return (int) Math.min(Math.ceil((double) value * levelCount / max), levelCount);
+    }
+}
@@ -2,22 +2,23 @@ package seedu.mindmymoney.helper;
 
 import seedu.mindmymoney.MindMyMoneyException;
 import seedu.mindmymoney.constants.ExpenditureCategoryTypes;
+import seedu.mindmymoney.constants.GroupFields;
 import seedu.mindmymoney.constants.PrintStrings;
 import seedu.mindmymoney.data.ExpenditureList;
-import seedu.mindmymoney.userfinancial.Expenditure;
+import seedu.mindmymoney.data.IncomeList;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
 
-import static seedu.mindmymoney.constants.ExpenditureCategoryTypes.FOOD;
-import static seedu.mindmymoney.constants.ExpenditureCategoryTypes.UTILITIES;
-import static seedu.mindmymoney.constants.ExpenditureCategoryTypes.TRANSPORT;
-import static seedu.mindmymoney.constants.ExpenditureCategoryTypes.PERSONAL;
-import static seedu.mindmymoney.constants.ExpenditureCategoryTypes.ENTERTAINMENT;
-import static seedu.mindmymoney.constants.ExpenditureCategoryTypes.OTHERS;
-import static seedu.mindmymoney.constants.ExpenditureFields.TIME;
-import static seedu.mindmymoney.helper.GeneralFunctions.findItemsInList;
 import static seedu.mindmymoney.helper.GeneralFunctions.formatFloat;
-import static seedu.mindmymoney.helper.GeneralFunctions.findMatchingCategoryInArraylist;
+import static seedu.mindmymoney.helper.GeneralFunctions.fromCents;
 import static seedu.mindmymoney.helper.TimeFunctions.isValidInputCalculateCommand;
 
 /**
@@ -25,97 +26,400 @@ import static seedu.mindmymoney.helper.TimeFunctions.isValidInputCalculateComman
  */
 public class Calculations {
     public static final double INTERVAL_OF_INCREMENT = 5;
+    public static final int CHART_HEIGHT = 8;
+    private static final int BREAKDOWN_LABEL_WIDTH = 15;
+    private static final int BREAKDOWN_CAPACITY = 512;
+    private static final int CHART_LABEL_WIDTH = 15;
+    private static final int CHART_HEADER_CAPACITY = 256;
+    private static final int CHART_TOTAL_WIDTH = 32;
+    private static final String MONTH_INITIALS = "JFMAMJJASOND";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int[] ROLLING_WINDOW_DAYS = {7, 30, 90};
+    private static final int MONTHS_IN_YEAR = 12;
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MM/yyyy");
 
     /**
      * Calculates the total expenditure in a given month.
      *
      * @param input The month to calculate expenditure for.
      * @param expenditureList The list containing all expenditures to search for.
-     * @throws MindMyMoneyException When findItemsInList throws MindMyMoneyException.
+     * @return The total expenditure and its breakdown by category, formatted for printing.
+     * @throws MindMyMoneyException When the date is invalid or no expenditure falls on the date.
      */
-    public static void calculateExpenditure(String input, ExpenditureList expenditureList)
+    public static String calculateExpenditure(String input, ExpenditureList expenditureList)
         throws MindMyMoneyException {
         if (!isValidInputCalculateCommand(input)) {
             throw new MindMyMoneyException("Date has to be in \"dd/mm/yyyy\", \"mm/yyyy\" or \"yyyy\" format!");
         }
-        ArrayList<Expenditure> foundItems = findItemsInList(input, TIME.toString(), expenditureList);
-        float sumOfExpenditure = 0;
-        for (Expenditure item : foundItems) {
-            sumOfExpenditure += item.getAmount();
-        }
-        sumOfExpenditure = formatFloat(sumOfExpenditure);
+        ExpenditureAggregation breakdown = ExpenditureQuery.inPeriod(input)
+                .aggregate(expenditureList, List.of(GroupFields.CATEGORY));
+        float sumOfExpenditure = fromCents(breakdown.getTotal().getSumInCents());
         if (sumOfExpenditure == 0.0) {
             throw new MindMyMoneyException("Date not found in the list! Do check your input");
         }
-        System.out.println("Total expenditure in " + input + " is $" + String.format("%.2f", sumOfExpenditure) + ".");
-        displayExpenditureBreakdown(foundItems, sumOfExpenditure);
+        return "Total expenditure in " + input + " is $" + String.format("%.2f", sumOfExpenditure) + "."
+                + System.lineSeparator() + formatExpenditureBreakdown(breakdown);
+    }
+
+    /**
+     * Calculates the count, total, minimum, maximum and average expenditure of each group, in a single pass over
+     * the matching expenditures.
+     *
+     * @param groupFieldsInput The fields to group by, separated by commas.
+     * @param filter The day, month or year to calculate for, a query such as "amount>50 and category=Food", or
+     *               null to include every expenditure.
+     * @param expenditureList The list containing all expenditures.
+     * @return The stats of each group, formatted for printing.
+     * @throws MindMyMoneyException When a field, the date or the query is invalid, or no expenditure is found.
+     */
+    public static String calculateGroupedExpenditure(String groupFieldsInput, String filter,
+                                                     ExpenditureList expenditureList) throws MindMyMoneyException {
+        List<GroupFields> groupFields = ExpenditureAggregation.parseGroupFields(groupFieldsInput);
+        ExpenditureAggregation aggregation = parseFilter(filter).aggregate(expenditureList, groupFields);
+        if (aggregation.getTotal().getCount() == 0) {
+            throw new MindMyMoneyException("No expenditures found! Do check your input");
+        }
+        StringBuilder output = new StringBuilder("Expenditure by " + groupFieldsInput.replace(",", ", "));
+        if (filter == null) {
+            output.append(":");
+        } else {
+            output.append(ExpenditureQuery.isQuery(filter) ? " where " : " in ").append(filter).append(":");
+        }
+        output.append(System.lineSeparator());
+        output.append(PrintStrings.LINE);
+        for (ExpenditureAggregation.Group group : aggregation.getGroups()) {
+            output.append(String.join(" | ", group.getValues())).append(": ")
+                    .append(formatStats(group.getStats())).append(System.lineSeparator());
+        }
+        output.append(PrintStrings.LINE);
+        output.append("Overall: ").append(formatStats(aggregation.getTotal()));
+        return output.toString();
+    }
+
+    /**
+     * Parses the filter of a grouped calculation into a query.
+     *
+     * @param filter The day, month or year to calculate for, a query such as "amount>50 and category=Food", or
+     *               null to include every expenditure.
+     * @return The query.
+     * @throws MindMyMoneyException When the date or the query is invalid.
+     */
+    public static ExpenditureQuery parseFilter(String filter) throws MindMyMoneyException {
+        if (filter == null) {
+            return ExpenditureQuery.all();
+        } else if (ExpenditureQuery.isQuery(filter)) {
+            return ExpenditureQuery.parse(filter);
+        } else if (isValidInputCalculateCommand(filter)) {
+            return ExpenditureQuery.inPeriod(filter);
+        }
+        throw new MindMyMoneyException("Date has to be in \"dd/mm/yyyy\", \"mm/yyyy\" or \"yyyy\" format!");
+    }
+
+    /**
+     * Calculates the total expenditure of each category and payment method over the last 7, 30 and 90 days. The
+     * totals are kept up to date by the ExpenditureList as expenditures change, so no expenditure is visited.
+     *
+     * @param expenditureList The list containing all expenditures.
+     * @return The rolling totals, formatted for printing.
+     * @throws MindMyMoneyException When no expenditure falls in the last 90 days.
+     */
+    public static String calculateRollingExpenditure(ExpenditureList expenditureList) throws MindMyMoneyException {
+        List<TreeMap<String, Long>> totalsByCategory = new ArrayList<>();
+        List<TreeMap<String, Long>> totalsByPaymentMethod = new ArrayList<>();
+        for (int days : ROLLING_WINDOW_DAYS) {
+            totalsByCategory.add(expenditureList.getRollingTotalsByCategory(days));
+            totalsByPaymentMethod.add(expenditureList.getRollingTotalsByPaymentMethod(days));
+        }
+        TreeMap<String, Long> longestWindowTotals = totalsByCategory.get(ROLLING_WINDOW_DAYS.length - 1);
+        if (longestWindowTotals.isEmpty()) {
+            throw new MindMyMoneyException("No expenditures found in the last "
+                    + ROLLING_WINDOW_DAYS[ROLLING_WINDOW_DAYS.length - 1] + " days!");
+        }
+        StringBuilder output = new StringBuilder("Expenditure in the last 7, 30 and 90 days, ending today:");
+        output.append(System.lineSeparator()).append(PrintStrings.LINE);
+        appendRollingTotals(output, totalsByCategory);
+        output.append(PrintStrings.LINE);
+        appendRollingTotals(output, totalsByPaymentMethod);
+        output.append(PrintStrings.LINE);
+        long[] overallTotalsInCents = new long[ROLLING_WINDOW_DAYS.length];
+        for (int i = 0; i < ROLLING_WINDOW_DAYS.length; i++) {
+            for (long totalInCents : totalsByCategory.get(i).values()) {
+                overallTotalsInCents[i] += totalInCents;
+            }
+        }
+        output.append("Overall: ").append(formatRollingTotals(overallTotalsInCents));
+        return output.toString();
+    }
+
+    private static void appendRollingTotals(StringBuilder output, List<TreeMap<String, Long>> totalsByWindow) {
+        TreeMap<String, Long> longestWindowTotals = totalsByWindow.get(totalsByWindow.size() - 1);
+        for (String key : longestWindowTotals.keySet()) {
+            long[] totalsInCents = new long[totalsByWindow.size()];
+            for (int i = 0; i < totalsByWindow.size(); i++) {
+                totalsInCents[i] = totalsByWindow.get(i).getOrDefault(key, 0L);
+            }
+            output.append(key).append(": ").append(formatRollingTotals(totalsInCents))
+                    .append(System.lineSeparator());
+        }
+    }
+
+    private static String formatRollingTotals(long[] totalsInCents) {
+        StringBuilder formattedTotals = new StringBuilder();
+        for (int i = 0; i < totalsInCents.length; i++) {
+            if (i > 0) {
+                formattedTotals.append(", ");
+            }
+            formattedTotals.append(ROLLING_WINDOW_DAYS[i]).append(" days $")
+                    .append(String.format("%.2f", fromCents(totalsInCents[i])));
+        }
+        return formattedTotals.toString();
+    }
+
+    /**
+     * Compares the total expenditure of each category and payment method in a period with the period just before
+     * it, such as 2022 with 2021, or 03/2022 with 02/2022. The totals are read from monthly rollups that the
+     * ExpenditureList keeps up to date as expenditures change, so no expenditure is visited.
+     *
+     * @param firstMonth The first month of the period.
+     * @param monthCount The number of months in the period, either 1 or 12.
+     * @param expenditureList The list containing all expenditures.
+     * @return The comparison, formatted for printing.
+     * @throws MindMyMoneyException When neither period has expenditures.
+     */
+    public static String calculateComparison(YearMonth firstMonth, int monthCount, ExpenditureList expenditureList)
+            throws MindMyMoneyException {
+        YearMonth lastMonth = firstMonth.plusMonths(monthCount - 1);
+        YearMonth previousFirstMonth = firstMonth.minusMonths(monthCount);
+        YearMonth previousLastMonth = firstMonth.minusMonths(1);
+        String period = formatPeriod(firstMonth, monthCount);
+        String previousPeriod = formatPeriod(previousFirstMonth, monthCount);
+        TreeMap<String, Long> totalsByCategory = expenditureList.getTotalsByCategory(firstMonth, lastMonth);
+        TreeMap<String, Long> previousTotalsByCategory =
+                expenditureList.getTotalsByCategory(previousFirstMonth, previousLastMonth);
+        if (totalsByCategory.isEmpty() && previousTotalsByCategory.isEmpty()) {
+            throw new MindMyMoneyException("No expenditures found in " + period + " or " + previousPeriod + "!");
+        }
+        StringBuilder output = new StringBuilder("Expenditure in " + period + " compared with " + previousPeriod
+                + ":");
+        output.append(System.lineSeparator()).append(PrintStrings.LINE);
+        appendComparisons(output, totalsByCategory, previousTotalsByCategory);
+        output.append(PrintStrings.LINE);
+        appendComparisons(output, expenditureList.getTotalsByPaymentMethod(firstMonth, lastMonth),
+                expenditureList.getTotalsByPaymentMethod(previousFirstMonth, previousLastMonth));
+        output.append(PrintStrings.LINE);
+        output.append("Overall: ").append(formatComparison(sumTotals(totalsByCategory),
+                sumTotals(previousTotalsByCategory)));
+        return output.toString();
+    }
+
+    /**
+     * Calculates the income, expenses and net cash flow of each month in a period, such as 2022 or 03/2022. The
+     * monthly income totals of the IncomeList are joined with the monthly expenditure totals of the ExpenditureList
+     * by month, so the cost depends on the number of months rather than the number of records.
+     *
+     * @param firstMonth The first month of the period.
+     * @param monthCount The number of months in the period, either 1 or 12.
+     * @param expenditureList The list containing all expenditures.
+     * @param incomeList The list containing all incomes.
+     * @return The cash flow of each month and of the whole period, formatted for printing.
+     * @throws MindMyMoneyException When the period has no income and no expenditures.
+     */
+    public static String calculateNetCashFlow(YearMonth firstMonth, int monthCount, ExpenditureList expenditureList,
+                                              IncomeList incomeList) throws MindMyMoneyException {
+        YearMonth lastMonth = firstMonth.plusMonths(monthCount - 1);
+        TreeMap<YearMonth, Long> expensesByMonth = expenditureList.getTotalsByMonth(firstMonth, lastMonth);
+        StringBuilder rows = new StringBuilder();
+        long totalIncomeInCents = 0;
+        long totalExpensesInCents = 0;
+        for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+            long incomeInCents = incomeList.getMonthlyTotal(month);
+            long expensesInCents = expensesByMonth.getOrDefault(month, 0L);
+            if (incomeInCents == 0 && expensesInCents == 0) {
+                continue;
+            }
+            rows.append(month.format(MONTH_FORMAT)).append(": ")
+                    .append(formatCashFlow(incomeInCents, expensesInCents)).append(System.lineSeparator());
+            totalIncomeInCents += incomeInCents;
+            totalExpensesInCents += expensesInCents;
+        }
+        String period = formatPeriod(firstMonth, monthCount);
+        if (rows.length() == 0) {
+            throw new MindMyMoneyException("No income or expenditures found in " + period + "!");
+        }
+        return "Net cash flow in " + period + ":" + System.lineSeparator() + PrintStrings.LINE + rows
+                + PrintStrings.LINE + "Overall: " + formatCashFlow(totalIncomeInCents, totalExpensesInCents);
+    }
+
+    /**
+     * Charts the expenditure of a range of years: a histogram of the total of each month, a sparkline of the
+     * monthly totals of each category, and a calendar heatmap of the daily totals of the last year. The monthly
+     * totals are read from the rollups that the ExpenditureList keeps up to date, and the daily totals from an
+     * aggregation of the last year by day. All the charts are rendered into one buffer that is sized up front, so
+     * they are printed in a single write however many years they cover.
+     *
+     * @param firstYear The first year of the range.
+     * @param lastYear The last year of the range.
+     * @param expenditureList The list containing all expenditures.
+     * @return The charts, formatted for printing.
+     * @throws MindMyMoneyException When the range has no expenditures.
+     */
+    public static String calculateChart(int firstYear, int lastYear, ExpenditureList expenditureList)
+            throws MindMyMoneyException {
+        YearMonth firstMonth = YearMonth.of(firstYear, 1);
+        YearMonth lastMonth = YearMonth.of(lastYear, MONTHS_IN_YEAR);
+        String period = (firstYear == lastYear) ? String.valueOf(firstYear) : firstYear + " to " + lastYear;
+        TreeMap<YearMonth, Long> totalsByMonth = expenditureList.getTotalsByMonth(firstMonth, lastMonth);
+        if (totalsByMonth.isEmpty()) {
+            throw new MindMyMoneyException("No expenditures found in " + period + "!");
+        }
+        int monthCount = (int) firstMonth.until(lastMonth, ChronoUnit.MONTHS) + 1;
+        long[] monthTotals = new long[monthCount];
+        long maxMonthTotal = 0;
+        for (Map.Entry<YearMonth, Long> entry : totalsByMonth.entrySet()) {
+            monthTotals[(int) firstMonth.until(entry.getKey(), ChronoUnit.MONTHS)] = entry.getValue();
+            maxMonthTotal = Math.max(maxMonthTotal, entry.getValue());
+        }
+        TreeMap<String, long[]> monthTotalsByCategory = expenditureList.getMonthTotalsByCategory(firstMonth,
+                lastMonth);
+        LocalDate firstDay = LocalDate.of(lastYear, 1, 1);
+        long[] dayTotals = new long[firstDay.lengthOfYear()];
+        long maxDayTotal = 0;
+        ExpenditureAggregation totalsByDay = ExpenditureQuery.inPeriod(String.valueOf(lastYear))
+                .aggregate(expenditureList, List.of(GroupFields.DAY));
+        for (ExpenditureAggregation.Group group : totalsByDay.getGroups()) {
+            LocalDate day = LocalDate.parse(group.getValues().get(0), DAY_FORMAT);
+            dayTotals[day.getDayOfYear() - 1] = group.getStats().getSumInCents();
+            maxDayTotal = Math.max(maxDayTotal, group.getStats().getSumInCents());
+        }
+
+        int rowLength = monthCount + CHART_LABEL_WIDTH + CHART_TOTAL_WIDTH;
+        AsciiChart chart = new AsciiChart(CHART_HEADER_CAPACITY + AsciiChart.histogramLength(monthCount, CHART_HEIGHT)
+                + (monthTotalsByCategory.size() + 2) * rowLength + AsciiChart.heatmapLength(dayTotals.length));
+        chart.append("Monthly expenditure in " + period + ", up to $" + String.format("%.2f", fromCents(maxMonthTotal))
+                + " a month:").endRow().append(PrintStrings.LINE);
+        chart.appendHistogram(monthTotals, CHART_HEIGHT, '#').append(' ', 1);
+        for (int year = firstYear; year <= lastYear; year++) {
+            chart.append(MONTH_INITIALS);
+        }
+        chart.endRow().append(' ', 1);
+        for (int year = firstYear; year <= lastYear; year++) {
+            String yearLabel = String.valueOf(year);
+            chart.append(yearLabel).append(' ', (year < lastYear) ? MONTHS_IN_YEAR - yearLabel.length() : 0);
+        }
+        chart.endRow().append(PrintStrings.LINE).append("Monthly expenditure of each category:").endRow();
+        for (Map.Entry<String, long[]> entry : monthTotalsByCategory.entrySet()) {
+            long totalInCents = 0;
+            for (long monthTotal : entry.getValue()) {
+                totalInCents += monthTotal;
+            }
+            chart.append(entry.getKey() + ":").append(' ', Math.max(CHART_LABEL_WIDTH - entry.getKey().length() - 1, 1))
+                    .appendSparkline(entry.getValue())
+                    .append(" $" + String.format("%.2f", fromCents(totalInCents))).endRow();
+        }
+        chart.append(PrintStrings.LINE).append("Daily expenditure in " + lastYear + ":").endRow();
+        return chart.appendHeatmap(firstDay, dayTotals)
+                .append("Shades . : * # are up to 25%, 50%, 75% and 100% of the busiest day, $"
+                        + String.format("%.2f", fromCents(maxDayTotal)) + ".")
+                .toString();
+    }
+
+    /**
+     * Formats the income and expenses of a month or period, with the difference between them.
+     *
+     * @param incomeInCents The income, in cents.
+     * @param expensesInCents The expenses, in cents.
+     * @return The formatted cash flow, for eg. "income $3000.00, expenses $120.00, net +$2880.00".
+     */
+    private static String formatCashFlow(long incomeInCents, long expensesInCents) {
+        long netInCents = incomeInCents - expensesInCents;
+        return "income $" + String.format("%.2f", fromCents(incomeInCents))
+                + ", expenses $" + String.format("%.2f", fromCents(expensesInCents))
+                + ", net " + ((netInCents < 0) ? "-$" : "+$") + String.format("%.2f", fromCents(Math.abs(netInCents)));
+    }
+
+    private static String formatPeriod(YearMonth firstMonth, int monthCount) {
+        return (monthCount == MONTHS_IN_YEAR) ? String.valueOf(firstMonth.getYear()) : firstMonth.format(MONTH_FORMAT);
+    }
+
+    private static void appendComparisons(StringBuilder output, TreeMap<String, Long> totals,
+                                          TreeMap<String, Long> previousTotals) {
+        TreeSet<String> keys = new TreeSet<>(totals.keySet());
+        keys.addAll(previousTotals.keySet());
+        for (String key : keys) {
+            output.append(key).append(": ")
+                    .append(formatComparison(totals.getOrDefault(key, 0L), previousTotals.getOrDefault(key, 0L)))
+                    .append(System.lineSeparator());
+        }
+    }
+
+    private static long sumTotals(TreeMap<String, Long> totals) {
+        long sumInCents = 0;
+        for (long totalInCents : totals.values()) {
+            sumInCents += totalInCents;
+        }
+        return sumInCents;
     }
 
     /**
-     * Displays the expenditure breakdown for the given month.
+     * Formats a total next to the total of the previous period, with the change between them.
      *
-     * @param foundItems The list containing all the expenses in the month.
-     * @param sumOfExpenditure Total sum of expenses in the month.
+     * @param totalInCents The total of the period, in cents.
+     * @param previousTotalInCents The total of the previous period, in cents.
+     * @return The formatted comparison, for eg. "$120.00 vs $100.00 (+$20.00, +20.0%)".
      */
-    public static void displayExpenditureBreakdown(ArrayList<Expenditure> foundItems, float sumOfExpenditure) {
-        float foodPercentage = calculatePercentage(FOOD, foundItems, sumOfExpenditure);
-        float transportPercentage = calculatePercentage(TRANSPORT, foundItems, sumOfExpenditure);
-        float utilitiesPercentage = calculatePercentage(UTILITIES, foundItems, sumOfExpenditure);
-        float personalPercentage = calculatePercentage(PERSONAL, foundItems, sumOfExpenditure);
-        float entertainmentPercentage = calculatePercentage(ENTERTAINMENT, foundItems, sumOfExpenditure);
-        float othersPercentage = calculatePercentage(OTHERS, foundItems, sumOfExpenditure);
-        System.out.println(System.lineSeparator() + "BREAKDOWN OF EXPENSES:");
-        System.out.print(PrintStrings.LINE);
-        System.out.println("FOOD:          " + printOutput(foodPercentage));
-        System.out.println("TRANSPORT:     " + printOutput(transportPercentage));
-        System.out.println("UTILITIES:     " + printOutput(utilitiesPercentage));
-        System.out.println("PERSONAL:      " + printOutput(personalPercentage));
-        System.out.println("ENTERTAINMENT: " + printOutput(entertainmentPercentage));
-        System.out.println("OTHERS:        " + printOutput(othersPercentage));
-        System.out.println(PrintStrings.LINE);
+    private static String formatComparison(long totalInCents, long previousTotalInCents) {
+        long changeInCents = totalInCents - previousTotalInCents;
+        String change = ((changeInCents < 0) ? "-$" : "+$")
+                + String.format("%.2f", fromCents(Math.abs(changeInCents)));
+        String percentageChange = (previousTotalInCents == 0) ? "new"
+                : String.format("%+.1f%%", changeInCents * 100.0 / previousTotalInCents);
+        return "$" + String.format("%.2f", fromCents(totalInCents))
+                + " vs $" + String.format("%.2f", fromCents(previousTotalInCents))
+                + " (" + change + ", " + percentageChange + ")";
     }
 
     /**
-     * Prints the bar chart.
+     * Formats the stats of a group of expenditures for printing.
      *
-     * @param percentage Percentage of each category type that is part of the expenses.
-     * @return The remaining part of string to be printed.
+     * @param stats The stats of the group.
+     * @return The formatted stats.
      */
-    public static String printOutput(float percentage) {
-        return printBar(percentage) + " [" + percentage + "%]";
+    public static String formatStats(AggregateStats stats) {
+        return "total $" + String.format("%.2f", fromCents(stats.getSumInCents()))
+                + ", count " + stats.getCount()
+                + ", min $" + String.format("%.2f", fromCents(stats.getMinInCents()))
+                + ", max $" + String.format("%.2f", fromCents(stats.getMaxInCents()))
+                + ", average $" + String.format("%.2f", fromCents(stats.getAverageInCents()));
     }
 
     /**
-     * Fills the chart for each category type.
+     * Formats the expenditure breakdown for the given month.
      *
-     * @param percentage Percentage of each category type that is part of the expenses.
-     * @return The 'bar' chart to be output for the category type.
+     * @param breakdown The expenses in the month, grouped by category.
+     * @return The breakdown, formatted for printing.
      */
-    public static String printBar(float percentage) {
-        String output = "";
-        for (float i = 0; i < percentage; i += INTERVAL_OF_INCREMENT) {
-            output += "$$";
+    public static String formatExpenditureBreakdown(ExpenditureAggregation breakdown) {
+        AsciiChart chart = new AsciiChart(BREAKDOWN_CAPACITY);
+        chart.endRow().append("BREAKDOWN OF EXPENSES:").endRow().append(PrintStrings.LINE);
+        for (ExpenditureCategoryTypes categoryType : ExpenditureCategoryTypes.values()) {
+            float percentage = calculatePercentage(categoryType, breakdown);
+            int barLength = (percentage > 0) ? 2 * (int) Math.ceil(percentage / INTERVAL_OF_INCREMENT) : 0;
+            chart.appendBar(categoryType.name() + ":", BREAKDOWN_LABEL_WIDTH, barLength, '$',
+                    " [" + percentage + "%]");
         }
-        return output;
+        return chart.append(PrintStrings.LINE).toString();
     }
 
     /**
      * Calculates the percentage of expenses for a particular category type.
      *
      * @param categoryType Category type to calculate for.
-     * @param foundItems The list containing all the expenses in the month.
-     * @param sumOfExpenditure Total sum of expenses in the month.
+     * @param breakdown The expenses in the month, grouped by category.
      * @return Percentage of expenses for that particular category type.
      */
-    public static float calculatePercentage(ExpenditureCategoryTypes categoryType, ArrayList<Expenditure> foundItems,
-                                            float sumOfExpenditure) {
-        ArrayList<Expenditure> foundCategoryTypeItems = new ArrayList<>();
-        foundCategoryTypeItems = findMatchingCategoryInArraylist(categoryType, foundItems, foundCategoryTypeItems);
-        float sumOfCategoryType = 0;
-        for (Expenditure item : foundCategoryTypeItems) {
-            sumOfCategoryType += item.getAmount();
-        }
-        sumOfCategoryType = formatFloat(sumOfCategoryType);
+    public static float calculatePercentage(ExpenditureCategoryTypes categoryType, ExpenditureAggregation breakdown) {
+        float sumOfCategoryType = fromCents(breakdown.getStats(categoryType.toString()).getSumInCents());
+        float sumOfExpenditure = fromCents(breakdown.getTotal().getSumInCents());
         float percentage = (sumOfCategoryType / sumOfExpenditure) * 100;
         percentage = formatFloat(percentage);
         return percentage;
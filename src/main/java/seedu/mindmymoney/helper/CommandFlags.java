@@ -0,0 +1,129 @@
+package seedu.mindmymoney.helper;
+
+import seedu.mindmymoney.MindMyMoneyException;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Flags of a command and their values, as read by a FlagTokenizer in a single pass over the input. Flags are kept
+ * in the order they were given, and the text that does not belong to any flag, such as the "/e 2" in
+ * "update /e 2 /pm cash ...", is kept as positional text.
+ */
+public class CommandFlags {
+    private final LinkedHashMap<String, String> valuesByFlag;
+    private final String positionalText;
+
+    public CommandFlags(LinkedHashMap<String, String> valuesByFlag, String positionalText) {
+        this.valuesByFlag = valuesByFlag;
+        this.positionalText = positionalText;
+    }
+
+    /**
+     * Checks if a flag was given.
+     *
+     * @param flag The flag.
+     * @return true if the flag was given, false otherwise.
+     */
+    public boolean has(String flag) {
+        return valuesByFlag.containsKey(flag);
+    }
+
+    /**
+     * Retrieves the value of a flag.
+     *
+     * @param flag The flag.
+     * @return The value, which is empty if the flag was given without one, or null if the flag was not given.
+     */
+    public String get(String flag) {
+        return valuesByFlag.get(flag);
+    }
+
+    /**
+     * Retrieves the value of a flag that the command cannot do without.
+     *
+     * @param flag The flag.
+     * @return The value, which is empty if the flag was given without one.
+     * @throws MindMyMoneyException when the flag was not given.
+     */
+    public String getRequired(String flag) throws MindMyMoneyException {
+        String value = valuesByFlag.get(flag);
+        if (value == null) {
+            throw new MindMyMoneyException("You are missing the " + flag + " flag or lack the spacing between the "
+                + "flags!");
+        }
+        return value;
+    }
+
+    /**
+     * Retrieves the flag that was given first.
+     *
+     * @return The first flag, or null if no flags were given.
+     */
+    public String getFirstFlag() {
+        return valuesByFlag.isEmpty() ? null : valuesByFlag.keySet().iterator().next();
+    }
+
+    /**
+     * Retrieves the text that does not belong to any flag, with a single space between its parts.
+     *
+     * @return The positional text, which is empty if there is none.
+     */
+    public String getPositionalText() {
+        return positionalText;
+    }
+
+    /**
+     * Represents the number of flags given.
+     *
+     * @return number of flags.
+     */
+    public int size() {
+        return valuesByFlag.size();
+    }
+
+    /**
+     * Writes the flags and their values in a fixed form, so that inputs which only differ in the case of their flags,
+     * the spaces around flags and values, or the order of the flags give the same text. Used as the key of cached
+     * results, for eg. "/EPM  03/2022" and "/epm 03/2022" have the same key.
+     *
+     * @return The positional text, followed by a line for each flag and its value, in the order of the flag names.
+     */
+    public String toNormalizedString() {
+        StringBuilder normalized = new StringBuilder(positionalText);
+        for (Map.Entry<String, String> entry : new TreeMap<>(valuesByFlag).entrySet()) {
+            normalized.append('\n').append(entry.getKey().toLowerCase(Locale.ROOT)).append(' ')
+                .append(entry.getValue().trim());
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Checks that the given flags appear in the same order as in a format, so that "/pm cash /d Nike Shoes /c
+     * Personal" is rejected in favour of the documented order.
+     *
+     * @param format The flags in the order of the format.
+     * @throws MindMyMoneyException when a flag is given before one that comes earlier in the format.
+     */
+    void checkOrder(String... format) throws MindMyMoneyException {
+        int previousPosition = -1;
+        for (String flag : valuesByFlag.keySet()) {
+            int position = indexOf(format, flag);
+            if (position < previousPosition) {
+                throw new MindMyMoneyException("Please give the flags in this order: " + String.join(" ", format));
+            }
+            previousPosition = Math.max(position, previousPosition);
+        }
+    }
+
+    private static int indexOf(String[] flags, String flag) {
+        for (int i = 0; i < flags.length; i++) {
+            if (flags[i].equals(flag)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.mindmymoney.helper;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.GroupFields;
+import seedu.mindmymoney.data.ExpenditureSnapshot;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
+
+/**
+ * Groups expenditures by any combination of fields and keeps the count, sum, minimum, maximum and average of each
+ * group. Every expenditure is looked at once, no matter how many groups or fields are requested.
+ *
+ * <p>Lists with at least as many expenditures as the "mindmymoney.parallelThreshold" system property are grouped
+ * in parallel. Each thread groups a range of the list, and the partial results are merged in list order, so the
+ * result is the same as grouping the list on one thread.
+ */
+public class ExpenditureAggregation {
+    public static final String PARALLEL_THRESHOLD_PROPERTY = "mindmymoney.parallelThreshold";
+    private static final int DEFAULT_PARALLEL_THRESHOLD = 100000;
+    private static final String GROUP_FIELD_SEPARATOR = ",";
+    private static final String KEY_SEPARATOR = "\u0000";
+    private static final String DATE_SEPARATOR = "/";
+    private static final int MONTH_START_INDEX = 3;
+    private static final int YEAR_START_INDEX = 6;
+
+    private final List<GroupFields> groupFields;
+    private final HashMap<String, Group> groupsByKey = new HashMap<>();
+    private final AggregateStats total = new AggregateStats();
+
+    /**
+     * Represents the expenditures that share the same values in all the grouped fields.
+     */
+    public static class Group {
+        private final List<String> values;
+        private final AggregateStats stats = new AggregateStats();
+
+        private Group(List<String> values) {
+            this.values = values;
+        }
+
+        /**
+         * Represents the values of the grouped fields, in the order that the fields were requested.
+         *
+         * @return values of the group.
+         */
+        public List<String> getValues() {
+            return values;
+        }
+
+        public AggregateStats getStats() {
+            return stats;
+        }
+    }
+
+    public ExpenditureAggregation(List<GroupFields> groupFields) {
+        this.groupFields = List.copyOf(groupFields);
+    }
+
+    /**
+     * Groups the expenditures that pass the filter in a single pass.
+     *
+     * @param expenditures The expenditures to group.
+     * @param filter Filter of the expenditures to include.
+     * @param groupFields Fields to group by. If empty, all expenditures fall into one group.
+     * @return The groups and their stats.
+     */
+    public static ExpenditureAggregation aggregate(Iterable<Expenditure> expenditures, Predicate<Expenditure> filter,
+                                                   List<GroupFields> groupFields) {
+        ExpenditureAggregation aggregation = new ExpenditureAggregation(groupFields);
+        for (Expenditure expenditure : expenditures) {
+            if (filter.test(expenditure)) {
+                aggregation.add(expenditure);
+            }
+        }
+        return aggregation;
+    }
+
+    /**
+     * Groups the expenditures of a snapshot that pass the filter, using every available core if the snapshot has
+     * at least as many expenditures as the parallel threshold.
+     *
+     * @param snapshot The expenditures to group.
+     * @param filter Filter of the expenditures to include.
+     * @param groupFields Fields to group by. If empty, all expenditures fall into one group.
+     * @return The groups and their stats.
+     */
+    public static ExpenditureAggregation aggregate(ExpenditureSnapshot snapshot, Predicate<Expenditure> filter,
+                                                   List<GroupFields> groupFields) {
+        boolean isParallel = snapshot.size() >= getParallelThreshold();
+        return snapshot.stream(isParallel)
+                .filter(filter)
+                .collect(Collector.of(() -> new ExpenditureAggregation(groupFields),
+                        ExpenditureAggregation::add, ExpenditureAggregation::merge));
+    }
+
+    /**
+     * Represents the number of expenditures from which grouping is done in parallel.
+     *
+     * @return The value of the "mindmymoney.parallelThreshold" system property, or 100000 if it is not set.
+     */
+    public static int getParallelThreshold() {
+        return Integer.getInteger(PARALLEL_THRESHOLD_PROPERTY, DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Parses a comma separated list of fields to group by, such as "category,month".
+     *
+     * @param input The fields, separated by commas.
+     * @return The fields, in the order given.
+     * @throws MindMyMoneyException when no field is given or a field is not supported.
+     */
+    public static List<GroupFields> parseGroupFields(String input) throws MindMyMoneyException {
+        ArrayList<GroupFields> fields = new ArrayList<>();
+        for (String field : input.split(GROUP_FIELD_SEPARATOR)) {
+            String trimmedField = field.trim();
+            if (trimmedField.isEmpty()) {
+                continue;
+            }
+            try {
+                fields.add(GroupFields.valueOf(trimmedField.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new MindMyMoneyException(trimmedField + " is not a valid group. "
+                        + "Use category, pm, day, month or year.");
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new MindMyMoneyException("Please give at least one field to group by, for eg. /by category,month");
+        }
+        return fields;
+    }
+
+    /**
+     * Adds an expenditure to its group.
+     *
+     * @param expenditure The expenditure to add.
+     */
+    public void add(Expenditure expenditure) {
+        ArrayList<String> values = new ArrayList<>(groupFields.size());
+        StringBuilder key = new StringBuilder();
+        for (GroupFields field : groupFields) {
+            String value = getValue(field, expenditure);
+            values.add(value);
+            key.append(toSortKey(field, value)).append(KEY_SEPARATOR);
+        }
+        long amountInCents = toCents(expenditure.getAmount());
+        groupsByKey.computeIfAbsent(key.toString(), unused -> new Group(values)).stats.add(amountInCents);
+        total.add(amountInCents);
+    }
+
+    /**
+     * Adds the groups of another aggregation, which must group the expenditures that come after the ones in this
+     * aggregation. Groups keep the values of the expenditure seen first, as they would when grouping in one pass.
+     *
+     * @param other The aggregation of the later expenditures.
+     * @return This aggregation.
+     */
+    public ExpenditureAggregation merge(ExpenditureAggregation other) {
+        assert groupFields.equals(other.groupFields) : "Only aggregations of the same fields can be merged";
+        for (Map.Entry<String, Group> entry : other.groupsByKey.entrySet()) {
+            Group group = groupsByKey.get(entry.getKey());
+            if (group == null) {
+                groupsByKey.put(entry.getKey(), entry.getValue());
+            } else {
+                group.stats.merge(entry.getValue().stats);
+            }
+        }
+        total.merge(other.total);
+        return this;
+    }
+
+    public List<GroupFields> getGroupFields() {
+        return groupFields;
+    }
+
+    /**
+     * Represents the stats of all the expenditures that were added, across every group.
+     *
+     * @return stats of all expenditures.
+     */
+    public AggregateStats getTotal() {
+        return total;
+    }
+
+    /**
+     * Finds the stats of the group with the given values. Text values are compared ignoring case.
+     *
+     * @param values Values of the grouped fields, in the order that the fields were requested.
+     * @return stats of the group, or empty stats if no expenditure is in the group.
+     */
+    public AggregateStats getStats(String... values) {
+        assert values.length == groupFields.size() : "One value is needed for each grouped field";
+        StringBuilder key = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            key.append(toSortKey(groupFields.get(i), values[i])).append(KEY_SEPARATOR);
+        }
+        Group group = groupsByKey.get(key.toString());
+        return (group == null) ? new AggregateStats() : group.stats;
+    }
+
+    /**
+     * Lists the groups in order of their values, with dates in chronological order.
+     *
+     * @return The groups.
+     */
+    public List<Group> getGroups() {
+        TreeMap<String, Group> sortedGroups = new TreeMap<>(groupsByKey);
+        ArrayList<Group> groups = new ArrayList<>(sortedGroups.size());
+        for (Map.Entry<String, Group> entry : sortedGroups.entrySet()) {
+            groups.add(entry.getValue());
+        }
+        return Collections.unmodifiableList(groups);
+    }
+
+    private static String getValue(GroupFields field, Expenditure expenditure) {
+        switch (field) {
+        case CATEGORY:
+            return expenditure.getCategory();
+        case PM:
+            return expenditure.getPaymentMethod();
+        case DAY:
+            return expenditure.getTime();
+        case MONTH:
+            return expenditure.getTime().substring(MONTH_START_INDEX);
+        case YEAR:
+            return expenditure.getTime().substring(YEAR_START_INDEX);
+        default:
+            throw new AssertionError("Unknown group field: " + field);
+        }
+    }
+
+    /**
+     * Converts the value of a field into a key that groups equal values together and sorts in a sensible order.
+     * Text is compared ignoring case, and dates are written with the year first so that they sort in order.
+     *
+     * @param field The field.
+     * @param value The value of the field.
+     * @return The key of the value.
+     */
+    private static String toSortKey(GroupFields field, String value) {
+        switch (field) {
+        case CATEGORY:
+        case PM:
+            return value.toLowerCase();
+        default:
+            String[] dateParts = value.split(DATE_SEPARATOR);
+            StringBuilder key = new StringBuilder();
+            for (int i = dateParts.length - 1; i >= 0; i--) {
+                key.append(dateParts[i]);
+                if (i > 0) {
+                    key.append(DATE_SEPARATOR);
+                }
+            }
+            return key.toString();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.mindmymoney.helper;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.function.Predicate;
+
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_M;
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_Y;
+
+/**
+ * Container for functions that turn the conditions of a "where" clause into a filter on expenditures.
+ * A clause is a list of KEY=VALUE conditions separated by spaces, such as "category=Food month=03/2022", and an
+ * expenditure must match all of them. Values may contain spaces.
+ */
+public class ExpenditureFilter {
+    public static final String WHERE_KEYWORD = "where";
+    public static final String SET_KEYWORD = " set ";
+    private static final String KEY_VALUE_SEPARATOR = "=";
+
+    /**
+     * Parses the conditions of a "where" clause.
+     *
+     * @param conditions The conditions, without the "where" keyword.
+     * @return A filter that accepts the expenditures matching all the conditions.
+     * @throws MindMyMoneyException when there are no conditions, or a condition is invalid.
+     */
+    public static Predicate<Expenditure> parseConditions(String conditions) throws MindMyMoneyException {
+        Predicate<Expenditure> filter = null;
+        String key = null;
+        StringBuilder value = new StringBuilder();
+        for (String token : conditions.trim().split(" +")) {
+            if (isNewCondition(token)) {
+                if (key != null) {
+                    filter = and(filter, parseCondition(key, value.toString()));
+                }
+                int separatorIndex = token.indexOf(KEY_VALUE_SEPARATOR);
+                key = token.substring(0, separatorIndex).toLowerCase();
+                value.setLength(0);
+                value.append(token.substring(separatorIndex + 1));
+            } else if (key != null) {
+                value.append(" ").append(token);
+            } else if (!token.isEmpty()) {
+                throw new MindMyMoneyException("Conditions must be written as KEY=VALUE, for eg. category=Food");
+            }
+        }
+        if (key == null) {
+            throw new MindMyMoneyException("Please add at least one condition after \"where\", "
+                    + "for eg. where category=Food month=03/2022");
+        }
+        return and(filter, parseCondition(key, value.toString()));
+    }
+
+    /**
+     * Checks if a token starts a new condition, by containing an equals sign after a key.
+     *
+     * @param token A word of the "where" clause.
+     * @return true if the token starts a new condition, false otherwise.
+     */
+    private static boolean isNewCondition(String token) {
+        int separatorIndex = token.indexOf(KEY_VALUE_SEPARATOR);
+        return separatorIndex > 0 && token.substring(0, separatorIndex).matches("[A-Za-z]+");
+    }
+
+    private static Predicate<Expenditure> and(Predicate<Expenditure> first, Predicate<Expenditure> second) {
+        return (first == null) ? second : first.and(second);
+    }
+
+    /**
+     * Converts a single KEY=VALUE condition into a filter.
+     *
+     * @param key The key of the condition.
+     * @param value The value of the condition.
+     * @return A filter that accepts the expenditures matching the condition.
+     * @throws MindMyMoneyException when the key is not supported or the value is invalid.
+     */
+    private static Predicate<Expenditure> parseCondition(String key, String value) throws MindMyMoneyException {
+        String trimmedValue = value.trim();
+        if (trimmedValue.isEmpty()) {
+            throw new MindMyMoneyException("Please give a value for " + key);
+        }
+        switch (key) {
+        case "category":
+            return expenditure -> expenditure.getCategory().equalsIgnoreCase(trimmedValue);
+        case "pm":
+            return expenditure -> expenditure.getPaymentMethod().equalsIgnoreCase(trimmedValue);
+        case "description":
+            return expenditure -> expenditure.getDescription().equalsIgnoreCase(trimmedValue);
+        case "date":
+            TimeFunctions.checkValidDate(trimmedValue);
+            return expenditure -> expenditure.getTime().equals(trimmedValue);
+        case "month":
+            if (!trimmedValue.matches(VALIDATION_REGEX_M)) {
+                throw new MindMyMoneyException("Month must be in MM/YYYY format, for eg. month=03/2022");
+            }
+            return expenditure -> expenditure.getTime().endsWith("/" + trimmedValue);
+        case "year":
+            if (!trimmedValue.matches(VALIDATION_REGEX_Y)) {
+                throw new MindMyMoneyException("Year must be in YYYY format, for eg. year=2022");
+            }
+            return expenditure -> expenditure.getTime().endsWith("/" + trimmedValue);
+        default:
+            throw new MindMyMoneyException(key + " is not a valid condition. "
+                    + "Use category, pm, description, date, month or year.");
+        }
+    }
+}
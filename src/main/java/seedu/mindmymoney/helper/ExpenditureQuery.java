@@ -0,0 +1,445 @@
+package seedu.mindmymoney.helper;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.GroupFields;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_D;
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_M;
+import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_Y;
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
+import static seedu.mindmymoney.helper.TimeFunctions.toDateNumber;
+
+/**
+ * Query over expenditures, written as conditions joined by "and", such as
+ * "amount>50 and category=Food and date in 2022". A query is parsed once into a plan. Conditions on the amount
+ * and on the date are each folded into a single range, and every condition is checked in one pass over the
+ * expenditures. When the query fixes the payment method or the months to look at, the plan visits only the
+ * expenditures found through the matching index of the ExpenditureList.
+ *
+ * <p>Supported conditions are amount and date compared with =, !=, &gt;, &gt;=, &lt; or &lt;=, "date in PERIOD",
+ * and category, pm and description compared with = or !=, or ~ for descriptions that contain a value. Dates and
+ * periods can be a day, month or year. Values that contain the word "and" can be written in double quotes.
+ */
+public class ExpenditureQuery {
+    private static final String AND_KEYWORD = "and";
+    private static final char QUOTE = '"';
+    private static final Pattern COMPARISON_PATTERN = Pattern.compile("^([A-Za-z]+)\\s*(>=|<=|!=|=|>|<|~)\\s*(.*)$");
+    private static final Pattern IN_PATTERN = Pattern.compile("^([A-Za-z]+)\\s+(?i:in)\\s+(.*)$");
+    private static final int NO_LOWER_DATE = 0;
+    private static final int NO_UPPER_DATE = 99991231;
+    private static final int LAST_DAY_OF_ANY_MONTH = 31;
+
+    /**
+     * Represents the ways a query can find its expenditures.
+     */
+    public enum Plan {
+        PAYMENT_METHOD_INDEX,
+        MONTH_INDEX,
+        FULL_SCAN
+    }
+
+    private long minAmountInCents = Long.MIN_VALUE;
+    private long maxAmountInCents = Long.MAX_VALUE;
+    private boolean hasAmountRange = false;
+    private int firstDate = NO_LOWER_DATE;
+    private int lastDate = NO_UPPER_DATE;
+    private boolean hasDateRange = false;
+    private String paymentMethod = null;
+    private final List<Predicate<Expenditure>> numericConditions = new ArrayList<>();
+    private final List<Predicate<Expenditure>> textConditions = new ArrayList<>();
+
+    private ExpenditureQuery() {
+    }
+
+    /**
+     * Parses a query into a plan.
+     *
+     * @param query The conditions of the query, joined by "and".
+     * @return The parsed query.
+     * @throws MindMyMoneyException when the query is empty or a condition is invalid.
+     */
+    public static ExpenditureQuery parse(String query) throws MindMyMoneyException {
+        if (query.trim().isEmpty()) {
+            throw new MindMyMoneyException("Please add at least one condition, for eg. amount>50 and category=Food");
+        }
+        ExpenditureQuery parsedQuery = new ExpenditureQuery();
+        for (String condition : splitConditions(query)) {
+            parsedQuery.addCondition(condition.trim());
+        }
+        return parsedQuery;
+    }
+
+    /**
+     * Checks if the input starts like a query condition, such as "amount>" or "date in", rather than being a plain
+     * date.
+     *
+     * @param input The input to check.
+     * @return true if the input looks like a query, false otherwise.
+     */
+    public static boolean isQuery(String input) {
+        String trimmedInput = input.trim();
+        return COMPARISON_PATTERN.matcher(trimmedInput).matches() || IN_PATTERN.matcher(trimmedInput).matches();
+    }
+
+    /**
+     * Creates a query that matches every expenditure.
+     *
+     * @return The query.
+     */
+    public static ExpenditureQuery all() {
+        return new ExpenditureQuery();
+    }
+
+    /**
+     * Creates a query that matches the expenditures in a day, month or year.
+     *
+     * @param period The period in "dd/mm/yyyy", "mm/yyyy" or "yyyy" format.
+     * @return The query.
+     * @throws MindMyMoneyException when the period is invalid.
+     */
+    public static ExpenditureQuery inPeriod(String period) throws MindMyMoneyException {
+        ExpenditureQuery query = new ExpenditureQuery();
+        int[] range = parsePeriod(period);
+        query.restrictDates(range[0], range[1]);
+        return query;
+    }
+
+    /**
+     * Checks if an expenditure matches every condition of the query.
+     *
+     * @param expenditure The expenditure to check.
+     * @return true if the expenditure matches, false otherwise.
+     */
+    public boolean test(Expenditure expenditure) {
+        if (hasAmountRange) {
+            long amountInCents = toCents(expenditure.getAmount());
+            if (amountInCents < minAmountInCents || amountInCents > maxAmountInCents) {
+                return false;
+            }
+        }
+        if (hasDateRange) {
+            int date = toDateNumber(expenditure.getTime());
+            if (date < firstDate || date > lastDate) {
+                return false;
+            }
+        }
+        for (Predicate<Expenditure> condition : numericConditions) {
+            if (!condition.test(expenditure)) {
+                return false;
+            }
+        }
+        for (Predicate<Expenditure> condition : textConditions) {
+            if (!condition.test(expenditure)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Picks the cheapest way to find the matching expenditures in the list, by comparing the number of
+     * expenditures each index would visit with the size of the list.
+     *
+     * @param expenditureList The list to search.
+     * @return The chosen plan.
+     */
+    public Plan choosePlan(ExpenditureList expenditureList) {
+        if (isEmptyRange()) {
+            return Plan.FULL_SCAN;
+        }
+        Plan plan = Plan.FULL_SCAN;
+        int expenditureCountToVisit = expenditureList.size();
+        if (paymentMethod != null) {
+            int count = expenditureList.countWithPaymentMethod(paymentMethod);
+            if (count < expenditureCountToVisit) {
+                plan = Plan.PAYMENT_METHOD_INDEX;
+                expenditureCountToVisit = count;
+            }
+        }
+        if (hasDateRange && expenditureList.countInMonths(getFirstMonth(), getLastMonth()) < expenditureCountToVisit) {
+            plan = Plan.MONTH_INDEX;
+        }
+        return plan;
+    }
+
+    /**
+     * Finds the expenditures in the list that match the query.
+     *
+     * @param expenditureList The list to search.
+     * @return The matching expenditures, in the order they appear in the list.
+     */
+    public List<Expenditure> findAll(ExpenditureList expenditureList) {
+        if (isEmptyRange()) {
+            return new ArrayList<>();
+        }
+        switch (choosePlan(expenditureList)) {
+        case PAYMENT_METHOD_INDEX:
+            return expenditureList.findAllWithPaymentMethod(paymentMethod, this::test);
+        case MONTH_INDEX:
+            return expenditureList.findAllInMonths(getFirstMonth(), getLastMonth(), this::test);
+        default:
+            return expenditureList.findAll(this::test);
+        }
+    }
+
+    /**
+     * Groups the expenditures in the list that match the query. When the query has to scan the whole list, the
+     * scan reads a snapshot of the list, and is done in parallel for lists above the parallel threshold.
+     *
+     * @param expenditureList The list to search.
+     * @param groupFields Fields to group by.
+     * @return The groups and their stats.
+     */
+    public ExpenditureAggregation aggregate(ExpenditureList expenditureList, List<GroupFields> groupFields) {
+        if (choosePlan(expenditureList) == Plan.FULL_SCAN && !isEmptyRange()
+                && expenditureList.size() >= ExpenditureAggregation.getParallelThreshold()) {
+            return ExpenditureAggregation.aggregate(expenditureList.snapshot(), this::test, groupFields);
+        }
+        return ExpenditureAggregation.aggregate(findAll(expenditureList), expenditure -> true, groupFields);
+    }
+
+    private boolean isEmptyRange() {
+        return minAmountInCents > maxAmountInCents || firstDate > lastDate;
+    }
+
+    /**
+     * Retrieves the first month that the dates of the query can fall in.
+     *
+     * @return The first month, or null if the query does not restrict dates.
+     */
+    public YearMonth getFirstMonth() {
+        if (!hasDateRange) {
+            return null;
+        }
+        return YearMonth.of(firstDate / 10000, Math.max(firstDate / 100 % 100, 1));
+    }
+
+    /**
+     * Retrieves the last month that the dates of the query can fall in.
+     *
+     * @return The last month, or null if the query does not restrict dates.
+     */
+    public YearMonth getLastMonth() {
+        if (!hasDateRange) {
+            return null;
+        }
+        return YearMonth.of(lastDate / 10000, Math.min(Math.max(lastDate / 100 % 100, 1), 12));
+    }
+
+    /**
+     * Splits a query into its conditions at every "and" that is not inside double quotes.
+     *
+     * @param query The query.
+     * @return The conditions.
+     * @throws MindMyMoneyException when a quote is not closed.
+     */
+    private static List<String> splitConditions(String query) throws MindMyMoneyException {
+        ArrayList<String> conditions = new ArrayList<>();
+        boolean isInQuotes = false;
+        int conditionStart = 0;
+        for (int i = 0; i < query.length(); i++) {
+            char character = query.charAt(i);
+            if (character == QUOTE) {
+                isInQuotes = !isInQuotes;
+            } else if (!isInQuotes && Character.isWhitespace(character) && isAndKeywordAt(query, i + 1)) {
+                conditions.add(query.substring(conditionStart, i));
+                i += AND_KEYWORD.length();
+                conditionStart = i + 1;
+            }
+        }
+        if (isInQuotes) {
+            throw new MindMyMoneyException("Please close the quotes in your query");
+        }
+        conditions.add(query.substring(conditionStart));
+        return conditions;
+    }
+
+    private static boolean isAndKeywordAt(String query, int index) {
+        int end = index + AND_KEYWORD.length();
+        return end < query.length() && query.regionMatches(true, index, AND_KEYWORD, 0, AND_KEYWORD.length())
+                && Character.isWhitespace(query.charAt(end));
+    }
+
+    /**
+     * Adds a single condition to the plan.
+     *
+     * @param condition The condition, such as "amount>50" or "date in 03/2022".
+     * @throws MindMyMoneyException when the condition is invalid.
+     */
+    private void addCondition(String condition) throws MindMyMoneyException {
+        Matcher comparison = COMPARISON_PATTERN.matcher(condition);
+        Matcher in = IN_PATTERN.matcher(condition);
+        String field;
+        String operator;
+        String value;
+        if (comparison.matches()) {
+            field = comparison.group(1).toLowerCase();
+            operator = comparison.group(2);
+            value = unquote(comparison.group(3).trim());
+        } else if (in.matches()) {
+            field = in.group(1).toLowerCase();
+            operator = "in";
+            value = unquote(in.group(2).trim());
+        } else {
+            throw new MindMyMoneyException("\"" + condition + "\" is not a valid condition. "
+                    + "Write conditions as FIELD OPERATOR VALUE, for eg. amount>50");
+        }
+        if (value.isEmpty()) {
+            throw new MindMyMoneyException("Please give a value for " + field);
+        }
+        switch (field) {
+        case "amount":
+            addAmountCondition(operator, value);
+            break;
+        case "date":
+            addDateCondition(operator, value);
+            break;
+        case "category":
+            addTextCondition(field, operator, value, Expenditure::getCategory);
+            break;
+        case "pm":
+            if (operator.equals("=") && paymentMethod == null) {
+                paymentMethod = value;
+            }
+            addTextCondition(field, operator, value, Expenditure::getPaymentMethod);
+            break;
+        case "description":
+            addTextCondition(field, operator, value, Expenditure::getDescription);
+            break;
+        default:
+            throw new MindMyMoneyException(field + " is not a valid field. "
+                    + "Use amount, date, category, pm or description.");
+        }
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.charAt(0) == QUOTE && value.charAt(value.length() - 1) == QUOTE) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private void addAmountCondition(String operator, String value) throws MindMyMoneyException {
+        long amountInCents;
+        try {
+            amountInCents = toCents(Float.parseFloat(value));
+        } catch (NumberFormatException e) {
+            throw new MindMyMoneyException("Amount in a query must be a number, for eg. amount>50");
+        }
+        switch (operator) {
+        case "=":
+            restrictAmounts(amountInCents, amountInCents);
+            break;
+        case "!=":
+            numericConditions.add(expenditure -> toCents(expenditure.getAmount()) != amountInCents);
+            break;
+        case ">":
+            restrictAmounts(amountInCents + 1, Long.MAX_VALUE);
+            break;
+        case ">=":
+            restrictAmounts(amountInCents, Long.MAX_VALUE);
+            break;
+        case "<":
+            restrictAmounts(Long.MIN_VALUE, amountInCents - 1);
+            break;
+        case "<=":
+            restrictAmounts(Long.MIN_VALUE, amountInCents);
+            break;
+        default:
+            throw new MindMyMoneyException("Amounts can only be compared with =, !=, >, >=, < or <=");
+        }
+    }
+
+    private void restrictAmounts(long minInCents, long maxInCents) {
+        hasAmountRange = true;
+        minAmountInCents = Math.max(minAmountInCents, minInCents);
+        maxAmountInCents = Math.min(maxAmountInCents, maxInCents);
+    }
+
+    private void addDateCondition(String operator, String value) throws MindMyMoneyException {
+        int[] period = parsePeriod(value);
+        switch (operator) {
+        case "=":
+        case "in":
+            restrictDates(period[0], period[1]);
+            break;
+        case "!=":
+            numericConditions.add(expenditure -> {
+                int date = toDateNumber(expenditure.getTime());
+                return date < period[0] || date > period[1];
+            });
+            break;
+        case ">":
+            restrictDates(period[1] + 1, NO_UPPER_DATE);
+            break;
+        case ">=":
+            restrictDates(period[0], NO_UPPER_DATE);
+            break;
+        case "<":
+            restrictDates(NO_LOWER_DATE, period[0] - 1);
+            break;
+        case "<=":
+            restrictDates(NO_LOWER_DATE, period[1]);
+            break;
+        default:
+            throw new MindMyMoneyException("Dates can only be compared with in, =, !=, >, >=, < or <=");
+        }
+    }
+
+    private void restrictDates(int first, int last) {
+        hasDateRange = true;
+        firstDate = Math.max(firstDate, first);
+        lastDate = Math.min(lastDate, last);
+    }
+
+    /**
+     * Converts a day, month or year into the first and last date it covers.
+     *
+     * @param period The period in "dd/mm/yyyy", "mm/yyyy" or "yyyy" format.
+     * @return The first and last date, as numbers of the form yyyymmdd.
+     * @throws MindMyMoneyException when the period is invalid.
+     */
+    private static int[] parsePeriod(String period) throws MindMyMoneyException {
+        if (period.matches(VALIDATION_REGEX_D)) {
+            TimeFunctions.checkValidDate(period);
+            int date = toDateNumber(period);
+            return new int[] {date, date};
+        } else if (period.matches(VALIDATION_REGEX_M)) {
+            int firstDate = toDateNumber("01/" + period);
+            return new int[] {firstDate, firstDate - 1 + LAST_DAY_OF_ANY_MONTH};
+        } else if (period.matches(VALIDATION_REGEX_Y)) {
+            int firstDate = toDateNumber("01/01/" + period);
+            return new int[] {firstDate, toDateNumber(LAST_DAY_OF_ANY_MONTH + "/12/" + period)};
+        }
+        throw new MindMyMoneyException("Date has to be valid and in \"dd/mm/yyyy\", \"mm/yyyy\" or \"yyyy\" format!");
+    }
+
+    private void addTextCondition(String field, String operator, String value,
+                                  Function<Expenditure, String> getter)
+            throws MindMyMoneyException {
+        switch (operator) {
+        case "=":
+            textConditions.add(expenditure -> getter.apply(expenditure).equalsIgnoreCase(value));
+            break;
+        case "!=":
+            textConditions.add(expenditure -> !getter.apply(expenditure).equalsIgnoreCase(value));
+            break;
+        case "~":
+            String lowerCaseValue = value.toLowerCase();
+            textConditions.add(expenditure -> getter.apply(expenditure).toLowerCase().contains(lowerCaseValue));
+            break;
+        default:
+            throw new MindMyMoneyException(field + " can only be compared with =, != or ~");
+        }
+    }
+}
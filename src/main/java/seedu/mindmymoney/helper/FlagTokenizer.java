@@ -0,0 +1,233 @@
+package seedu.mindmymoney.helper;
+
+import seedu.mindmymoney.MindMyMoneyException;
+
+import java.util.LinkedHashMap;
+
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_AMOUNT;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CARD_LIMIT;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CARD_NAME;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CASHBACK;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_CATEGORY;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_DESCRIPTION;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_PAYMENT_METHOD;
+import static seedu.mindmymoney.constants.Flags.FLAG_OF_TIME;
+
+/**
+ * Reads the flags of a command and their values in a single pass over the input, instead of searching the input
+ * again for every field. A word is only treated as a flag if it is one of the flags the tokenizer was made with, so
+ * a date such as "30/03/2022" is never mistaken for one, and flags are matched ignoring case.
+ *
+ * <p>There are three kinds of flags. The value of a text flag, such as /d, runs up to the next flag, and may be put
+ * in double quotes to hold words that would otherwise be read as flags, for eg. /d "Coke /a deal". The value of a
+ * word flag, such as /page, is the single word after it. A switch, such as /desc, has no value. Words that do not
+ * belong to any flag are kept as positional text.
+ *
+ * <p>Tokenizers do not change, so each command keeps its tokenizers in constants.
+ */
+public class FlagTokenizer {
+    private static final char QUOTE = '"';
+    private static final char SPACE = ' ';
+    private static final String[] NO_FLAGS = {};
+    public static final FlagTokenizer EXPENDITURE_FLAGS = new FlagTokenizer(FLAG_OF_PAYMENT_METHOD, FLAG_OF_CATEGORY,
+        FLAG_OF_DESCRIPTION, FLAG_OF_AMOUNT, FLAG_OF_TIME);
+    public static final FlagTokenizer CREDIT_CARD_FLAGS = new FlagTokenizer(FLAG_OF_CARD_NAME, FLAG_OF_CASHBACK,
+        FLAG_OF_CARD_LIMIT);
+    public static final FlagTokenizer INCOME_FLAGS = new FlagTokenizer(FLAG_OF_AMOUNT, FLAG_OF_CATEGORY, FLAG_OF_TIME);
+
+    private final String[] textFlags;
+    private final String[] wordFlags;
+    private final String[] switches;
+
+    /**
+     * Creates a tokenizer of text flags only, whose documented order is the order they are given in.
+     *
+     * @param textFlags The flags whose values run up to the next flag.
+     */
+    public FlagTokenizer(String... textFlags) {
+        this(textFlags, NO_FLAGS, NO_FLAGS);
+    }
+
+    /**
+     * Creates a tokenizer of text flags, word flags and switches.
+     *
+     * @param textFlags The flags whose values run up to the next flag.
+     * @param wordFlags The flags whose values are the single word after them.
+     * @param switches The flags without values.
+     */
+    public FlagTokenizer(String[] textFlags, String[] wordFlags, String[] switches) {
+        this.textFlags = textFlags.clone();
+        this.wordFlags = wordFlags.clone();
+        this.switches = switches.clone();
+    }
+
+    /**
+     * Reads the flags in the input and their values. Each value is trimmed, and quotes around a text value are
+     * removed.
+     *
+     * @param input The input of the command.
+     * @return The flags and their values.
+     * @throws MindMyMoneyException when a flag is given more than once.
+     */
+    public CommandFlags tokenize(String input) throws MindMyMoneyException {
+        LinkedHashMap<String, String> valuesByFlag = new LinkedHashMap<>();
+        StringBuilder positionalText = new StringBuilder();
+        String textFlag = null;
+        int textStart = -1;
+        int textEnd = -1;
+        int position = skipSpaces(input, 0);
+        while (position < input.length()) {
+            int wordEnd = findWordEnd(input, position);
+            String flag = findFlag(input, position, wordEnd);
+            if (flag == null && textFlag == null) {
+                appendPositional(positionalText, input.substring(position, wordEnd));
+                position = skipSpaces(input, wordEnd);
+                continue;
+            }
+            if (flag == null) {
+                textStart = (textStart < 0) ? position : textStart;
+                textEnd = wordEnd;
+                position = skipSpaces(input, wordEnd);
+                continue;
+            }
+            if (textStart >= 0) {
+                valuesByFlag.put(textFlag, input.substring(textStart, textEnd));
+                textStart = -1;
+            }
+            if (valuesByFlag.containsKey(flag)) {
+                throw new MindMyMoneyException("Please give " + flag + " only once in your command");
+            }
+            position = skipSpaces(input, wordEnd);
+            textFlag = null;
+            if (contains(wordFlags, flag)) {
+                int valueEnd = findWordEnd(input, position);
+                boolean hasValue = position < input.length() && findFlag(input, position, valueEnd) == null;
+                valuesByFlag.put(flag, hasValue ? input.substring(position, valueEnd) : "");
+                position = hasValue ? skipSpaces(input, valueEnd) : position;
+            } else if (contains(switches, flag)) {
+                valuesByFlag.put(flag, "");
+            } else {
+                int closingQuote = findClosingQuote(input, position);
+                if (closingQuote >= 0) {
+                    valuesByFlag.put(flag, input.substring(position + 1, closingQuote));
+                    position = skipSpaces(input, closingQuote + 1);
+                } else {
+                    valuesByFlag.put(flag, "");
+                    textFlag = flag;
+                }
+            }
+        }
+        if (textStart >= 0) {
+            valuesByFlag.put(textFlag, input.substring(textStart, textEnd));
+        }
+        return new CommandFlags(valuesByFlag, positionalText.toString());
+    }
+
+    /**
+     * Reads the flags in the input and their values, and checks that the text flags are in the order this
+     * tokenizer was made with.
+     *
+     * @param input The input of the command.
+     * @return The flags and their values.
+     * @throws MindMyMoneyException when a flag is given more than once, or the flags are out of order.
+     */
+    public CommandFlags tokenizeInOrder(String input) throws MindMyMoneyException {
+        CommandFlags flags = tokenize(input);
+        flags.checkOrder(textFlags);
+        return flags;
+    }
+
+    private static void appendPositional(StringBuilder positionalText, String word) {
+        if (positionalText.length() > 0) {
+            positionalText.append(SPACE);
+        }
+        positionalText.append(word);
+    }
+
+    /**
+     * Finds the quote that closes a quoted value, which is the first quote followed by the end of the input or by
+     * a flag. A value that does not start with a quote, or whose quote is never closed this way, is not quoted.
+     *
+     * @param input The input of the command.
+     * @param valueStart The index where the value starts.
+     * @return The index of the closing quote, or -1 if the value is not quoted.
+     */
+    private int findClosingQuote(String input, int valueStart) {
+        if (valueStart >= input.length() || input.charAt(valueStart) != QUOTE) {
+            return -1;
+        }
+        for (int quote = input.indexOf(QUOTE, valueStart + 1); quote >= 0; quote = input.indexOf(QUOTE, quote + 1)) {
+            if (quote + 1 == input.length()) {
+                return quote;
+            }
+            if (input.charAt(quote + 1) != SPACE) {
+                continue;
+            }
+            int next = skipSpaces(input, quote + 1);
+            if (next == input.length() || findFlag(input, next, findWordEnd(input, next)) != null) {
+                return quote;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Finds the flag that a word of the input is, ignoring case.
+     *
+     * @param input The input of the command.
+     * @param start The index where the word starts.
+     * @param end The index after the word ends.
+     * @return The flag, or null if the word is not a flag of this tokenizer.
+     */
+    private String findFlag(String input, int start, int end) {
+        if (start >= end || input.charAt(start) != '/') {
+            return null;
+        }
+        String flag = findFlag(textFlags, input, start, end);
+        flag = (flag != null) ? flag : findFlag(wordFlags, input, start, end);
+        return (flag != null) ? flag : findFlag(switches, input, start, end);
+    }
+
+    /**
+     * Checks if the first word of the input from the given position, after any spaces, is a flag of this tokenizer.
+     *
+     * @param input The input of the command.
+     * @param start Position in the input to start from.
+     * @return true if the word is a flag, false otherwise.
+     */
+    public boolean startsWithFlag(String input, int start) {
+        int wordStart = skipSpaces(input, start);
+        return findFlag(input, wordStart, findWordEnd(input, wordStart)) != null;
+    }
+
+    private static String findFlag(String[] flags, String input, int start, int end) {
+        for (String flag : flags) {
+            if (flag.length() == end - start && input.regionMatches(true, start, flag, 0, flag.length())) {
+                return flag;
+            }
+        }
+        return null;
+    }
+
+    private static boolean contains(String[] flags, String flag) {
+        for (String candidate : flags) {
+            if (candidate.equals(flag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int findWordEnd(String input, int start) {
+        int end = input.indexOf(SPACE, start);
+        return (end < 0) ? input.length() : end;
+    }
+
+    private static int skipSpaces(String input, int start) {
+        int position = start;
+        while (position < input.length() && input.charAt(position) == SPACE) {
+            position++;
+        }
+        return position;
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.mindmymoney.helper;
+
+import java.time.LocalDate;
+
+/**
+ * Container for functions that project the total spent by the end of a month from what has been spent so far.
+ */
+public class ForecastFunctions {
+    public static final int TRAILING_DAYS = 30;
+
+    /**
+     * Projects the month-end total by assuming the rest of the month is spent at the same daily rate as the month
+     * so far.
+     *
+     * @param totalSoFarInCents The total spent from the first day of the month to today, in cents.
+     * @param today The current day.
+     * @return The projected month-end total, in cents.
+     */
+    public static long forecastRunRate(long totalSoFarInCents, LocalDate today) {
+        return Math.round((double) totalSoFarInCents * today.lengthOfMonth() / today.getDayOfMonth());
+    }
+
+    /**
+     * Projects the month-end total by assuming the rest of the month is spent at the average daily rate of the last
+     * 30 days.
+     *
+     * @param totalSoFarInCents The total spent from the first day of the month to today, in cents.
+     * @param trailingTotalInCents The total spent in the 30 days ending today, in cents.
+     * @param today The current day.
+     * @return The projected month-end total, in cents.
+     */
+    public static long forecastTrailingAverage(long totalSoFarInCents, long trailingTotalInCents, LocalDate today) {
+        int daysLeft = today.lengthOfMonth() - today.getDayOfMonth();
+        return totalSoFarInCents + Math.round((double) trailingTotalInCents * daysLeft / TRAILING_DAYS);
+    }
+}
@@ -3,7 +3,6 @@ package seedu.mindmymoney.helper;
 import seedu.mindmymoney.MindMyMoneyException;
 import seedu.mindmymoney.constants.ExpenditureCategoryTypes;
 import seedu.mindmymoney.constants.ExpenditureFields;
-import seedu.mindmymoney.constants.Indexes;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.userfinancial.Expenditure;
 
@@ -19,63 +18,6 @@ import static seedu.mindmymoney.constants.Indexes.INDEX_OF_SECOND_ITEM;
 public class GeneralFunctions {
     private static final DecimalFormat df = new DecimalFormat("0.00");
 
-    /**
-     * Separates the user input into the command and description for easy reference.
-     *
-     * @return String array of user input.
-     */
-    public static String[] parseInput(String inputCommand) {
-        String[] inputAsArray = inputCommand.split(" ", Indexes.SPLIT_LIMIT);
-        return inputAsArray;
-    }
-
-    /**
-     * Checks if user's input contains the correct flag formats.
-     *
-     * @param input        user's input.
-     * @param startingFlag the flag before the interested parameter.
-     * @param endingFlag   the flag after the interested parameter.
-     * @return true if the input contains the correct flag formats, false otherwise.
-     */
-    public static boolean hasCorrectFlagFormat(String input, String startingFlag, String endingFlag) {
-        if (input.contains(startingFlag + " ") && input.contains(" " + endingFlag)) {
-            return true;
-        }
-        return false;
-    }
-
-    /**
-     * Extracts out the interested parameter from the user's input based on the given flags.
-     * For example, if user's input was: "add /i /a 3000 /c salary", this method extracts out "3000" or "salary"
-     * based on the flags given.
-     *
-     * @param input        user's input.
-     * @param startingFlag the flag before the interested parameter.
-     * @param endingFlag   the flag after the interested parameter.
-     * @return the interested parameter.
-     * @throws MindMyMoneyException when an invalid command is received, along with the corresponding error message.
-     */
-    public static String parseInputWithCommandFlag(String input, String startingFlag, String endingFlag)
-        throws MindMyMoneyException {
-        try {
-            if (!hasCorrectFlagFormat(input, startingFlag, endingFlag)) {
-                throw new MindMyMoneyException("You are missing a flag or lack the spacing between the flags!\n"
-                    + "For eg. \"add /e /pm cash /c Food /d Porridge /a 4.50 /t 30/03/2022\"");
-            }
-
-            startingFlag = startingFlag + " ";
-            input = input.substring(input.indexOf(startingFlag) + startingFlag.length());
-            if (!endingFlag.equals("")) {
-                endingFlag = " " + endingFlag;
-                input = input.substring(0, input.indexOf(endingFlag));
-            }
-        } catch (StringIndexOutOfBoundsException e) {
-            throw new MindMyMoneyException("You are missing one or more of the parameters! Please check your command "
-                + "again.\n");
-        }
-        return input;
-    }
-
     /**
      * Finds an item in a given list provided the search term and the field to search in.
      *
@@ -131,7 +73,7 @@ public class GeneralFunctions {
      */
     public static ArrayList<Expenditure> findMatchingExpenditure(String searchTerm, ArrayList<Expenditure> foundItems,
                                                                  ExpenditureList itemList) {
-        for (Expenditure item : itemList.expenditureListArray) {
+        for (Expenditure item : itemList.getExpenditures()) {
             if (item.getPaymentMethod().contains(searchTerm)) {
                 foundItems.add(item);
             }
@@ -149,7 +91,7 @@ public class GeneralFunctions {
      */
     public static ArrayList<Expenditure> findMatchingCategory(String searchTerm, ArrayList<Expenditure> foundItems,
                                                               ExpenditureList itemList) {
-        for (Expenditure item : itemList.expenditureListArray) {
+        for (Expenditure item : itemList.getExpenditures()) {
             if (item.getCategory().contains(searchTerm)) {
                 foundItems.add(item);
             }
@@ -186,7 +128,7 @@ public class GeneralFunctions {
      */
     public static ArrayList<Expenditure> findMatchingDescription(String searchTerm, ArrayList<Expenditure> foundItems,
                                                                  ExpenditureList itemList) {
-        for (Expenditure item : itemList.expenditureListArray) {
+        for (Expenditure item : itemList.getExpenditures()) {
             if (item.getDescription().contains(searchTerm)) {
                 foundItems.add(item);
             }
@@ -205,7 +147,7 @@ public class GeneralFunctions {
     public static ArrayList<Expenditure> findMatchingAmount(String searchTerm, ArrayList<Expenditure> foundItems,
                                                             ExpenditureList itemList) throws MindMyMoneyException {
         try {
-            for (Expenditure item : itemList.expenditureListArray) {
+            for (Expenditure item : itemList.getExpenditures()) {
                 if (item.getAmount() == Float.parseFloat(searchTerm)) {
                     foundItems.add(item);
                 }
@@ -226,7 +168,7 @@ public class GeneralFunctions {
      */
     public static ArrayList<Expenditure> findMatchingTime(String searchTerm, ArrayList<Expenditure> foundItems,
                                                           ExpenditureList itemList) {
-        for (Expenditure item : itemList.expenditureListArray) {
+        for (Expenditure item : itemList.getExpenditures()) {
             if (item.getTime().contains(searchTerm)) {
                 foundItems.add(item);
             }
@@ -255,4 +197,25 @@ public class GeneralFunctions {
     public static float formatFloat(Float number) {
         return Float.parseFloat(df.format(number));
     }
+
+    /**
+     * Converts a dollar amount into a whole number of cents, so that running totals can be kept without
+     * accumulating floating point errors.
+     *
+     * @param amount dollar amount to be converted.
+     * @return amount in cents.
+     */
+    public static long toCents(float amount) {
+        return Math.round(amount * 100.0);
+    }
+
+    /**
+     * Converts a whole number of cents back into a dollar amount.
+     *
+     * @param cents amount in cents.
+     * @return dollar amount.
+     */
+    public static float fromCents(long cents) {
+        return (float) (cents / 100.0);
+    }
 }
@@ -0,0 +1,209 @@
+package seedu.mindmymoney.helper;
+
+import java.util.Arrays;
+
+/**
+ * Mergeable sketch of a distribution of expenditure amounts, kept in cents, that answers quantile queries such as
+ * the median or 90th percentile.
+ *
+ * <p>Small groups keep their amounts exactly. Once a group grows past 64 amounts, the amounts are counted in
+ * buckets whose bounds grow by 2% each, so quantiles are within 1% of an amount in the group and memory no longer
+ * grows with the number of amounts. Since only counts are kept, amounts can be removed as well as added, and two
+ * sketches can be merged by adding their counts.
+ */
+public class QuantileSketch {
+    private static final int EXACT_CAPACITY = 64;
+    private static final double RELATIVE_ACCURACY = 0.01;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private long count = 0;
+    private long[] exactAmountsInCents = new long[0];
+    private long[] bucketCounts = null;
+    private int firstBucket = 0;
+    private long zeroCount = 0;
+
+    /**
+     * Represents the number of amounts in the sketch.
+     *
+     * @return number of amounts.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Adds an amount to the sketch.
+     *
+     * @param amountInCents The amount in cents, which must not be negative.
+     */
+    public void add(long amountInCents) {
+        assert amountInCents >= 0 : "Amounts should not be negative";
+        count++;
+        if (bucketCounts == null) {
+            if (count <= EXACT_CAPACITY) {
+                insertExact(amountInCents);
+                return;
+            }
+            switchToBuckets();
+        }
+        addToBucket(amountInCents, 1);
+    }
+
+    /**
+     * Removes an amount that was added to the sketch.
+     *
+     * @param amountInCents The amount in cents.
+     */
+    public void remove(long amountInCents) {
+        assert count > 0 : "Only added amounts can be removed";
+        count--;
+        if (bucketCounts == null) {
+            int index = Arrays.binarySearch(exactAmountsInCents, 0, (int) count + 1, amountInCents);
+            assert index >= 0 : "Only added amounts can be removed";
+            System.arraycopy(exactAmountsInCents, index + 1, exactAmountsInCents, index, (int) count - index);
+            return;
+        }
+        addToBucket(amountInCents, -1);
+    }
+
+    /**
+     * Adds all the amounts of another sketch to this sketch.
+     *
+     * @param other The other sketch.
+     */
+    public void merge(QuantileSketch other) {
+        if (other.bucketCounts == null && (bucketCounts != null || count + other.count <= EXACT_CAPACITY)) {
+            for (int i = 0; i < other.count; i++) {
+                add(other.exactAmountsInCents[i]);
+            }
+            return;
+        }
+        if (bucketCounts == null) {
+            switchToBuckets();
+        }
+        count += other.count;
+        if (other.bucketCounts == null) {
+            for (int i = 0; i < other.count; i++) {
+                addToBucket(other.exactAmountsInCents[i], 1);
+            }
+            return;
+        }
+        zeroCount += other.zeroCount;
+        for (int i = 0; i < other.bucketCounts.length; i++) {
+            if (other.bucketCounts[i] != 0) {
+                int bucket = other.firstBucket + i;
+                ensureBucket(bucket);
+                bucketCounts[bucket - firstBucket] += other.bucketCounts[i];
+            }
+        }
+    }
+
+    /**
+     * Finds the amount at the given quantile, which is the smallest amount that is at least as large as the given
+     * fraction of the amounts in the sketch.
+     *
+     * @param quantile The quantile, between 0 and 1. For eg. 0.5 for the median.
+     * @return The amount in cents, or 0 if the sketch is empty.
+     */
+    public long getQuantile(double quantile) {
+        assert quantile >= 0 && quantile <= 1 : "Quantile should be between 0 and 1";
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max((long) Math.ceil(quantile * count), 1);
+        if (bucketCounts == null) {
+            return exactAmountsInCents[(int) rank - 1];
+        }
+        long seenCount = zeroCount;
+        if (seenCount >= rank) {
+            return 0;
+        }
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seenCount += bucketCounts[i];
+            if (seenCount >= rank) {
+                return estimateAmount(firstBucket + i);
+            }
+        }
+        return estimateAmount(firstBucket + bucketCounts.length - 1);
+    }
+
+    private void insertExact(long amountInCents) {
+        int exactCount = (int) count - 1;
+        if (exactCount == exactAmountsInCents.length) {
+            exactAmountsInCents = Arrays.copyOf(exactAmountsInCents, Math.max(exactCount * 2, 4));
+        }
+        int index = Arrays.binarySearch(exactAmountsInCents, 0, exactCount, amountInCents);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        System.arraycopy(exactAmountsInCents, index, exactAmountsInCents, index + 1, exactCount - index);
+        exactAmountsInCents[index] = amountInCents;
+    }
+
+    /**
+     * Moves the exact amounts into buckets.
+     */
+    private void switchToBuckets() {
+        long[] amountsInCents = exactAmountsInCents;
+        int exactCount = (int) Math.min(count, EXACT_CAPACITY);
+        exactAmountsInCents = null;
+        bucketCounts = new long[0];
+        for (int i = 0; i < exactCount; i++) {
+            addToBucket(amountsInCents[i], 1);
+        }
+    }
+
+    private void addToBucket(long amountInCents, long delta) {
+        if (amountInCents == 0) {
+            zeroCount += delta;
+            return;
+        }
+        int bucket = getBucket(amountInCents);
+        ensureBucket(bucket);
+        bucketCounts[bucket - firstBucket] += delta;
+    }
+
+    /**
+     * Grows the bucket counts so that they include the given bucket.
+     *
+     * @param bucket The bucket.
+     */
+    private void ensureBucket(int bucket) {
+        if (bucketCounts.length == 0) {
+            bucketCounts = new long[1];
+            firstBucket = bucket;
+        } else if (bucket < firstBucket) {
+            long[] grownCounts = new long[bucketCounts.length + firstBucket - bucket];
+            System.arraycopy(bucketCounts, 0, grownCounts, firstBucket - bucket, bucketCounts.length);
+            bucketCounts = grownCounts;
+            firstBucket = bucket;
+        } else if (bucket >= firstBucket + bucketCounts.length) {
+            bucketCounts = Arrays.copyOf(bucketCounts, bucket - firstBucket + 1);
+        }
+    }
+
+    /**
+     * Finds the bucket of an amount. Bucket i holds the amounts above GAMMA^(i-1) cents and up to GAMMA^i cents.
+     *
+     * @param amountInCents The amount in cents, which must be positive.
+     * @return The bucket.
+     */
+    private static int getBucket(long amountInCents) {
+        return (int) Math.ceil(Math.log(amountInCents) / LOG_GAMMA);
+    }
+
+    /**
+     * Estimates the amounts in a bucket with the value that is within 1% of both of its bounds.
+     *
+     * @param bucket The bucket.
+     * @return The estimated amount in cents.
+     */
+    private static long estimateAmount(int bucket) {
+        return Math.round(2 * Math.pow(GAMMA, bucket) / (GAMMA + 1));
+    }
+}
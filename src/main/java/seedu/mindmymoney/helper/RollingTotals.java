@@ -0,0 +1,74 @@
+package seedu.mindmymoney.helper;
+
+import java.util.Arrays;
+
+/**
+ * Daily totals of expenditure amounts over the most recent 90 days, kept in cents, from which the total of any
+ * window of up to 90 days can be read.
+ *
+ * <p>Each day is counted in one bucket of a ring buffer, chosen by the day number modulo 90. A bucket is reused
+ * once an expenditure 90 or more days newer than its day is added, so adding or removing an amount takes O(1) time
+ * and the memory used does not grow with the number of expenditures. Amounts of days older than the newest day
+ * kept in their bucket are not counted, since they can no longer fall in a window that ends on or after that day.
+ */
+public class RollingTotals {
+    public static final int MAX_WINDOW_DAYS = 90;
+    private static final long NO_DAY = Long.MIN_VALUE;
+
+    private final long[] dayTotalsInCents = new long[MAX_WINDOW_DAYS];
+    private final long[] bucketDays = new long[MAX_WINDOW_DAYS];
+
+    public RollingTotals() {
+        Arrays.fill(bucketDays, NO_DAY);
+    }
+
+    /**
+     * Adds an amount to the total of its day.
+     *
+     * @param epochDay The day of the amount, counted from 1 January 1970.
+     * @param amountInCents The amount in cents.
+     */
+    public void add(long epochDay, long amountInCents) {
+        int bucket = Math.floorMod(epochDay, MAX_WINDOW_DAYS);
+        if (bucketDays[bucket] > epochDay) {
+            return;
+        }
+        if (bucketDays[bucket] < epochDay) {
+            bucketDays[bucket] = epochDay;
+            dayTotalsInCents[bucket] = 0;
+        }
+        dayTotalsInCents[bucket] += amountInCents;
+    }
+
+    /**
+     * Removes an amount that was added to the total of its day.
+     *
+     * @param epochDay The day of the amount, counted from 1 January 1970.
+     * @param amountInCents The amount in cents.
+     */
+    public void remove(long epochDay, long amountInCents) {
+        int bucket = Math.floorMod(epochDay, MAX_WINDOW_DAYS);
+        if (bucketDays[bucket] == epochDay) {
+            dayTotalsInCents[bucket] -= amountInCents;
+        }
+    }
+
+    /**
+     * Adds up the amounts of a window of days.
+     *
+     * @param lastEpochDay The last day of the window, which should not be before the newest day added.
+     * @param days Number of days in the window, from 1 to 90.
+     * @return The total in cents.
+     */
+    public long getTotal(long lastEpochDay, int days) {
+        assert days > 0 && days <= MAX_WINDOW_DAYS : "Window should be from 1 to 90 days";
+        long totalInCents = 0;
+        for (long epochDay = lastEpochDay - days + 1; epochDay <= lastEpochDay; epochDay++) {
+            int bucket = Math.floorMod(epochDay, MAX_WINDOW_DAYS);
+            if (bucketDays[bucket] == epochDay) {
+                totalInCents += dayTotalsInCents[bucket];
+            }
+        }
+        return totalInCents;
+    }
+}
@@ -11,9 +11,13 @@ public class SerializerFunctions {
     public static final String SERIALIZATION_EXPENDITURE_START_MARKER = "# BEGIN EXPENDITURES";
     public static final String SERIALIZATION_CREDIT_CARD_START_MARKER = "# BEGIN CREDIT CARDS";
     public static final String SERIALIZATION_INCOME_START_MARKER = "# BEGIN INCOME SOURCES";
+    public static final String SERIALIZATION_BUDGET_START_MARKER = "# BEGIN BUDGETS";
+    public static final String SERIALIZATION_RECORD_IDS_START_MARKER = "# BEGIN RECORD IDS";
     public static final String SERIALIZATION_EXPENDITURE_END_MARKER = "# END EXPENDITURES";
     public static final String SERIALIZATION_CREDIT_CARD_END_MARKER = "# END CREDIT CARDS";
     public static final String SERIALIZATION_INCOME_END_MARKER = "# END INCOME SOURCES";
+    public static final String SERIALIZATION_BUDGET_END_MARKER = "# END BUDGETS";
+    public static final String SERIALIZATION_RECORD_IDS_END_MARKER = "# END RECORD IDS";
 
     public interface DeserializerFunction<T> {
         T apply(String s) throws MindMyMoneyException;
@@ -31,7 +35,7 @@ public class SerializerFunctions {
      */
     public static <T extends MindMyMoneySerializable>
         void addListToStringBuilder(String startMarker, String endMarker,
-                                    ArrayList<T> list, StringBuilder stringBuilder) {
+                                    Iterable<T> list, StringBuilder stringBuilder) {
         stringBuilder.append(startMarker).append("\n");
         for (T serializable : list) {
             stringBuilder.append(serializable.serialize()).append("\n");
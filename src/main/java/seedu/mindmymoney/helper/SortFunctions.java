@@ -0,0 +1,71 @@
+package seedu.mindmymoney.helper;
+
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Container for functions that order a list of found expenditures. Expenditures with equal values stay in list
+ * order when sorting in ascending order, and a descending order is the exact reverse of the ascending one.
+ */
+public class SortFunctions {
+
+    /**
+     * Sorts the expenditures.
+     *
+     * @param items The expenditures to sort.
+     * @param order Ascending order of the expenditures.
+     * @param isDescending Whether the largest values come first.
+     * @return A new sorted list.
+     */
+    public static List<Expenditure> sort(List<Expenditure> items, Comparator<Expenditure> order,
+                                         boolean isDescending) {
+        ArrayList<Expenditure> sortedItems = new ArrayList<>(items);
+        sortedItems.sort(order);
+        if (isDescending) {
+            Collections.reverse(sortedItems);
+        }
+        return sortedItems;
+    }
+
+    /**
+     * Finds the first expenditures in sorted order without sorting the whole list. A heap holds the best count
+     * expenditures seen so far, so this takes O(n log count) time and O(count) extra space.
+     *
+     * @param items The expenditures to look through.
+     * @param order Ascending order of the expenditures.
+     * @param isDescending Whether the largest values come first.
+     * @param count Number of expenditures to find.
+     * @return The first count expenditures in sorted order, or all of them if there are fewer.
+     */
+    public static List<Expenditure> top(List<Expenditure> items, Comparator<Expenditure> order, boolean isDescending,
+                                        int count) {
+        Comparator<Integer> rankOrder = (first, second) -> {
+            int comparison = order.compare(items.get(first), items.get(second));
+            return (comparison != 0) ? comparison : Integer.compare(first, second);
+        };
+        if (isDescending) {
+            rankOrder = rankOrder.reversed();
+        }
+        PriorityQueue<Integer> worstFirst = new PriorityQueue<>(Math.max(count, 1), rankOrder.reversed());
+        for (int i = 0; i < items.size(); i++) {
+            if (worstFirst.size() < count) {
+                worstFirst.add(i);
+            } else if (count > 0 && rankOrder.compare(i, worstFirst.peek()) < 0) {
+                worstFirst.poll();
+                worstFirst.add(i);
+            }
+        }
+        ArrayList<Integer> indexes = new ArrayList<>(worstFirst);
+        indexes.sort(rankOrder);
+        ArrayList<Expenditure> topItems = new ArrayList<>(indexes.size());
+        for (int index : indexes) {
+            topItems.add(items.get(index));
+        }
+        return topItems;
+    }
+}
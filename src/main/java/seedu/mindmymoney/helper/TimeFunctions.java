@@ -3,6 +3,7 @@ package seedu.mindmymoney.helper;
 import seedu.mindmymoney.MindMyMoneyException;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 import static seedu.mindmymoney.constants.Indexes.INDEX_OF_FIRST_ITEM;
 import static seedu.mindmymoney.constants.Indexes.INDEX_OF_SECOND_ITEM;
@@ -16,6 +17,8 @@ import static seedu.mindmymoney.constants.ValidationRegexTypes.VALIDATION_REGEX_
  */
 public class TimeFunctions {
     private static final int LEAP_YEAR_NUMBER = 4;
+    private static final int MONTH_START_INDEX = 3;
+    private static final int YEAR_START_INDEX = 6;
 
     /**
      * Checks if date input format is valid.
@@ -84,4 +87,42 @@ public class TimeFunctions {
             throw new MindMyMoneyException("Please enter a valid date that is before today or today's date itself.");
         }
     }
+
+    /**
+     * Gets the month that a date falls in.
+     *
+     * @param date date in "dd/mm/yyyy" format.
+     * @return The month and year of the date.
+     */
+    public static YearMonth getYearMonth(String date) {
+        int month = Integer.parseInt(date.substring(MONTH_START_INDEX, YEAR_START_INDEX - 1));
+        int year = Integer.parseInt(date.substring(YEAR_START_INDEX));
+        return YearMonth.of(year, month);
+    }
+
+    /**
+     * Converts a date into a number of the form yyyymmdd, so that dates can be compared as numbers.
+     *
+     * @param date date in "dd/mm/yyyy" format.
+     * @return The date as a number.
+     */
+    public static int toDateNumber(String date) {
+        int day = Integer.parseInt(date.substring(0, MONTH_START_INDEX - 1));
+        int month = Integer.parseInt(date.substring(MONTH_START_INDEX, YEAR_START_INDEX - 1));
+        int year = Integer.parseInt(date.substring(YEAR_START_INDEX));
+        return year * 10000 + month * 100 + day;
+    }
+
+    /**
+     * Converts a date into the number of days since 1 January 1970, so that days can be counted between dates.
+     *
+     * @param date date in "dd/mm/yyyy" format.
+     * @return The day number of the date.
+     */
+    public static long toEpochDay(String date) {
+        int day = Integer.parseInt(date.substring(0, MONTH_START_INDEX - 1));
+        int month = Integer.parseInt(date.substring(MONTH_START_INDEX, YEAR_START_INDEX - 1));
+        int year = Integer.parseInt(date.substring(YEAR_START_INDEX));
+        return LocalDate.of(year, month, day).toEpochDay();
+    }
 }
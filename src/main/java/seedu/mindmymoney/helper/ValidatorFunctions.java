@@ -4,7 +4,6 @@ import seedu.mindmymoney.MindMyMoneyException;
 import seedu.mindmymoney.data.CreditCardList;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.userfinancial.CreditCard;
-import seedu.mindmymoney.userfinancial.Expenditure;
 import seedu.mindmymoney.userfinancial.ValidationException;
 
 import java.util.HashSet;
@@ -105,13 +104,12 @@ public class ValidatorFunctions {
         for (CreditCard creditCard : creditCards.creditCardListArray) {
             creditCardNames.add(creditCard.getNameOfCard());
         }
-        for (Expenditure expenditure : expenditures.expenditureListArray) {
-            if (expenditure.getPaymentMethod().equals("Cash")) {
+        for (String paymentMethod : expenditures.getPaymentMethods()) {
+            if (paymentMethod.equals("Cash")) {
                 continue;
             }
-            if (!creditCardNames.contains(expenditure.getPaymentMethod())) {
-                throw new ValidationException(expenditure.getPaymentMethod()
-                    + " does not appear as a credit card");
+            if (!creditCardNames.contains(paymentMethod)) {
+                throw new ValidationException(paymentMethod + " does not appear as a credit card");
             }
         }
     }
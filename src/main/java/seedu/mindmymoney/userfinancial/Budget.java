@@ -0,0 +1,113 @@
+package seedu.mindmymoney.userfinancial;
+
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.BudgetTypes;
+import seedu.mindmymoney.data.PropertyList;
+import seedu.mindmymoney.helper.ValidatorFunctions;
+
+import java.util.Objects;
+
+/**
+ * Represents a monthly budget for the expenditures of one category or one payment method. A warning is given once
+ * the spending in a month reaches the warning percentage of the budget.
+ */
+public class Budget implements MindMyMoneySerializable {
+    public static final int DEFAULT_WARNING_PERCENTAGE = 80;
+    private static final int MAX_WARNING_PERCENTAGE = 100;
+    private static final double MAX_MONTHLY_LIMIT = 1000000;
+
+    private final BudgetTypes type;
+    private final String name;
+    private final float monthlyLimit;
+    private final int warningPercentage;
+
+    public Budget(BudgetTypes type, String name, float monthlyLimit, int warningPercentage) {
+        this.type = type;
+        this.name = name;
+        this.monthlyLimit = monthlyLimit;
+        this.warningPercentage = warningPercentage;
+    }
+
+    public BudgetTypes getType() {
+        return type;
+    }
+
+    /**
+     * Retrieves the category or payment method that the budget covers.
+     *
+     * @return The name of the category or payment method.
+     */
+    public String getName() {
+        return name;
+    }
+
+    public float getMonthlyLimit() {
+        return monthlyLimit;
+    }
+
+    public int getWarningPercentage() {
+        return warningPercentage;
+    }
+
+    @Override
+    public String toString() {
+        String typeLabel = (type == BudgetTypes.CATEGORY) ? "category" : "payment method";
+        return name + " (" + typeLabel + "): $" + String.format("%.2f", monthlyLimit) + " per month, warn at "
+                + warningPercentage + "%";
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (!(object instanceof Budget)) {
+            return false;
+        }
+        Budget budget = (Budget) object;
+        return type == budget.type && name.equals(budget.name) && monthlyLimit == budget.monthlyLimit
+                && warningPercentage == budget.warningPercentage;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, name, monthlyLimit, warningPercentage);
+    }
+
+    /**
+     * Returns a String representation of this budget, in a machine-readable format.
+     * @return The serialized Budget.
+     */
+    public String serialize() {
+        PropertyList plist = new PropertyList();
+        plist.addProperty("type", type.name());
+        plist.addProperty("name", name);
+        plist.addProperty("monthlyLimit", Float.toString(monthlyLimit));
+        plist.addProperty("warningPercentage", Integer.toString(warningPercentage));
+        return plist.serialize();
+    }
+
+    /**
+     * Converts the output of Budget#serialize back into a Budget.
+     * @param serialized The serialized Budget.
+     * @return A Budget.
+     * @throws MindMyMoneyException if the format is invalid.
+     */
+    public static Budget deserialize(String serialized) throws MindMyMoneyException {
+        PropertyList plist = PropertyList.deserialize(serialized);
+        try {
+            BudgetTypes type = BudgetTypes.valueOf(plist.getValue("type"));
+            float monthlyLimit = Float.parseFloat(plist.getValue("monthlyLimit"));
+            int warningPercentage = Integer.parseInt(plist.getValue("warningPercentage",
+                    Integer.toString(DEFAULT_WARNING_PERCENTAGE)));
+            ValidatorFunctions.validateInRange(monthlyLimit, 0, MAX_MONTHLY_LIMIT, "monthly budget");
+            ValidatorFunctions.validateInRange(warningPercentage, 1, MAX_WARNING_PERCENTAGE, "warning percentage");
+            return new Budget(type, plist.getValue("name"), monthlyLimit, warningPercentage);
+        } catch (IllegalArgumentException e) {
+            throw new MindMyMoneyException("Invalid type or number during deserialization of " + serialized);
+        } catch (ValidationException e) {
+            throw e;
+        } catch (MindMyMoneyException e) { // catches errors that are NOT ValidationExceptions
+            String missingProperty = e.getMessage();
+            throw new MindMyMoneyException("Line [" + serialized + "] does not contain required value "
+                    + missingProperty);
+        }
+    }
+}
@@ -5,8 +5,14 @@ import seedu.mindmymoney.MindMyMoneyException;
 import seedu.mindmymoney.data.PropertyList;
 import seedu.mindmymoney.helper.ValidatorFunctions;
 
+import java.time.YearMonth;
+import java.util.HashMap;
+
 import static seedu.mindmymoney.constants.CalculationConversion.FLOAT_TO_PERCENTAGE;
 import static seedu.mindmymoney.helper.GeneralFunctions.formatFloat;
+import static seedu.mindmymoney.helper.GeneralFunctions.fromCents;
+import static seedu.mindmymoney.helper.GeneralFunctions.toCents;
+import static seedu.mindmymoney.helper.TimeFunctions.getYearMonth;
 
 
 /**
@@ -16,7 +22,9 @@ public class CreditCard implements MindMyMoneySerializable {
     private float monthlyCardLimit;
     private double cashback;
     private String nameOfCard;
-    private float totalExpenditure = 0;
+    private long id = 0;
+    private long totalExpenditureInCents = 0;
+    private final HashMap<YearMonth, Long> monthlyExpenditureInCents = new HashMap<>();
 
     public CreditCard(String nameOfCard, double cashback, float monthlyCardLimit) {
         setNameOfCard(nameOfCard);
@@ -48,24 +56,137 @@ public class CreditCard implements MindMyMoneySerializable {
         return monthlyCardLimit;
     }
 
+    /**
+     * Retrieves the record id of this credit card. The id stays the same when the credit card is updated or other
+     * entries are deleted, and is 0 until the credit card is added to a list.
+     *
+     * @return The record id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Returns the total amount spent on this card across all months.
+     *
+     * @return The total expenditure.
+     */
     public float getTotalExpenditure() {
-        return totalExpenditure;
+        return fromCents(totalExpenditureInCents);
     }
 
+    /**
+     * Returns the amount spent on this card in the given month.
+     *
+     * @param month The billing month.
+     * @return The total expenditure in the month.
+     */
+    public float getTotalExpenditure(YearMonth month) {
+        return fromCents(monthlyExpenditureInCents.getOrDefault(month, 0L));
+    }
+
+    /**
+     * Returns the balance left on this card for the current month.
+     *
+     * @return The balance left.
+     */
     public float getBalanceLeft() {
-        return monthlyCardLimit - totalExpenditure;
+        return getBalanceLeft(YearMonth.now());
+    }
+
+    /**
+     * Returns the balance left on this card for the given month.
+     *
+     * @param month The billing month.
+     * @return The balance left in the month.
+     */
+    public float getBalanceLeft(YearMonth month) {
+        return monthlyCardLimit - getTotalExpenditure(month);
+    }
+
+    /**
+     * Records an expenditure paid with this card under the month of its date.
+     *
+     * @param amount Amount of the expenditure.
+     * @param date Date of the expenditure, in "dd/mm/yyyy" format.
+     */
+    public void addExpenditure(float amount, String date) {
+        updateExpenditure(toCents(amount), getYearMonth(date));
     }
 
-    public void addExpenditure(float amount) {
-        this.totalExpenditure += amount;
+    /**
+     * Removes an expenditure paid with this card from the month of its date.
+     *
+     * @param amount Amount of the expenditure.
+     * @param date Date of the expenditure, in "dd/mm/yyyy" format.
+     */
+    public void deductExpenditure(float amount, String date) {
+        updateExpenditure(-toCents(amount), getYearMonth(date));
     }
 
-    public void deductExpenditure(float amount) {
-        this.totalExpenditure -= amount;
+    /**
+     * Adjusts the lifetime and monthly expenditure totals of this card. Used directly when the changes of many
+     * expenditures are applied together.
+     *
+     * @param amountInCents Amount to adjust the totals by, in cents.
+     * @param month The month of the expenditure.
+     */
+    public void updateExpenditure(long amountInCents, YearMonth month) {
+        totalExpenditureInCents += amountInCents;
+        long monthlyTotal = monthlyExpenditureInCents.getOrDefault(month, 0L) + amountInCents;
+        if (monthlyTotal == 0) {
+            monthlyExpenditureInCents.remove(month);
+        } else {
+            monthlyExpenditureInCents.put(month, monthlyTotal);
+        }
+    }
+
+    /**
+     * Copies the expenditure totals of another card into this card. Used when a card is replaced by an updated
+     * version of itself.
+     *
+     * @param creditCard The card to copy the totals from.
+     */
+    public void copyExpendituresFrom(CreditCard creditCard) {
+        totalExpenditureInCents = creditCard.totalExpenditureInCents;
+        monthlyExpenditureInCents.clear();
+        monthlyExpenditureInCents.putAll(creditCard.monthlyExpenditureInCents);
     }
 
+    /**
+     * Creates a copy of this card, including its record id and expenditure totals. Used for snapshots, which must
+     * not change when this card records new expenditures.
+     *
+     * @return The copy of this card.
+     */
+    public CreditCard copy() {
+        CreditCard creditCard = new CreditCard(nameOfCard, cashback, monthlyCardLimit);
+        creditCard.setId(id);
+        creditCard.copyExpendituresFrom(this);
+        return creditCard;
+    }
+
+    /**
+     * Returns the cashback gained on this card for the current month.
+     *
+     * @return The cashback gained.
+     */
     public float getTotalCashback() {
-        return formatFloat((float)(totalExpenditure * (cashback * FLOAT_TO_PERCENTAGE)));
+        return getTotalCashback(YearMonth.now());
+    }
+
+    /**
+     * Returns the cashback gained on this card for the given month.
+     *
+     * @param month The billing month.
+     * @return The cashback gained in the month.
+     */
+    public float getTotalCashback(YearMonth month) {
+        return formatFloat((float) (getTotalExpenditure(month) * (cashback * FLOAT_TO_PERCENTAGE)));
     }
 
     @Override
@@ -95,7 +216,10 @@ public class CreditCard implements MindMyMoneySerializable {
         plist.addProperty("monthlyCardLimit", Float.toString(monthlyCardLimit));
         plist.addProperty("cashback", Double.toString(cashback));
         plist.addProperty("nameOfCard", nameOfCard);
-        plist.addProperty("totalExpenditure", Float.toString(totalExpenditure));
+        plist.addProperty("id", Long.toString(id));
+        // Older versions require this property and check it against the monthly limit, so only the current month
+        // is written. Monthly totals are rebuilt from the expenditures when loading.
+        plist.addProperty("totalExpenditure", Float.toString(getTotalExpenditure(YearMonth.now())));
         return plist.serialize();
     }
 
@@ -110,15 +234,13 @@ public class CreditCard implements MindMyMoneySerializable {
         try {
             double cashback = Double.parseDouble(plist.getValue("cashback"));
             double monthlyCardLimit = Double.parseDouble(plist.getValue("monthlyCardLimit"));
-            double totalExpenditure = Double.parseDouble(plist.getValue("totalExpenditure"));
             ValidatorFunctions.validateInRange(cashback, 0, 100, "cashback");
             ValidatorFunctions.validateInRange(monthlyCardLimit, 0, 40000, "monthly limit");
-            ValidatorFunctions.validateInRange(totalExpenditure, 0, monthlyCardLimit, "total expenditures");
-            CreditCard cc = new CreditCard(plist.getValue("nameOfCard"),
+            CreditCard creditCard = new CreditCard(plist.getValue("nameOfCard"),
                     cashback,
                     (float) monthlyCardLimit);
-            cc.totalExpenditure = (float) totalExpenditure;
-            return cc;
+            creditCard.setId(Long.parseLong(plist.getValue("id", "0")));
+            return creditCard;
         } catch (NumberFormatException e) {
             throw new MindMyMoneyException("Invalid number during deserialization of " + serialized);
         } catch (ValidationException e) {
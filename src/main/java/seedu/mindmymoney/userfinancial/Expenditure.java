@@ -16,6 +16,7 @@ public class Expenditure implements MindMyMoneySerializable {
     private String category;
     private String paymentMethod;
     private String time;
+    private long id = 0;
 
     public Expenditure(String paymentMethod, String category, String description, float amount, String time) {
         setDescription(description);
@@ -65,6 +66,31 @@ public class Expenditure implements MindMyMoneySerializable {
         return time;
     }
 
+    /**
+     * Retrieves the record id of this expenditure. The id stays the same when the expenditure is updated or other
+     * entries are deleted, and is 0 until the expenditure is added to a list.
+     *
+     * @return The record id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Creates a copy of this expenditure, including its record id.
+     *
+     * @return The copy of this expenditure.
+     */
+    public Expenditure copy() {
+        Expenditure expenditure = new Expenditure(paymentMethod, category, description, amount, time);
+        expenditure.setId(id);
+        return expenditure;
+    }
+
     @Override
     public String toString() {
         return "$" + getAmount() + " on " + getDescription() + ". Paid using "
@@ -100,6 +126,7 @@ public class Expenditure implements MindMyMoneySerializable {
         plist.addProperty("paymentMethod", paymentMethod);
         plist.addProperty("time", time);
         plist.addProperty("amount", Float.toString(amount));
+        plist.addProperty("id", Long.toString(id));
         return plist.serialize();
     }
 
@@ -118,11 +145,13 @@ public class Expenditure implements MindMyMoneySerializable {
             ValidatorFunctions.validateInRange(amount, 0, Float.POSITIVE_INFINITY, "amount");
             String time = plist.getValue("time");
             ValidatorFunctions.validateDate(time);
-            return new Expenditure(plist.getValue("paymentMethod"),
+            Expenditure expenditure = new Expenditure(plist.getValue("paymentMethod"),
                     category,
                     plist.getValue("description"),
                     amount,
                     time);
+            expenditure.setId(Long.parseLong(plist.getValue("id", "0")));
+            return expenditure;
         } catch (NumberFormatException e) {
             throw new MindMyMoneyException("Invalid number for amount during deserialization of " + serialized);
         } catch (ValidationException e) {
@@ -4,16 +4,26 @@ import seedu.mindmymoney.MindMyMoneyException;
 import seedu.mindmymoney.data.PropertyList;
 import seedu.mindmymoney.helper.ValidatorFunctions;
 
+import java.util.Objects;
+
 /**
- * Represents the income entry.
+ * Represents the income entry. An income is either dated, for eg. a one-off payment received on a day, or recurring,
+ * which is the monthly sum received from a source and counts towards every month.
  */
 public class Income implements MindMyMoneySerializable {
     private int amount;
     private String category;
+    private String time;
+    private long id = 0;
 
     public Income(int amount, String category) {
+        this(amount, category, null);
+    }
+
+    public Income(int amount, String category, String time) {
         this.amount = amount;
         this.category = category;
+        this.time = time;
     }
 
     public int getAmount() {
@@ -24,6 +34,49 @@ public class Income implements MindMyMoneySerializable {
         return category;
     }
 
+    /**
+     * Retrieves the date the income was received.
+     *
+     * @return The date in "dd/mm/yyyy" format, or null if the income is recurring.
+     */
+    public String getTime() {
+        return time;
+    }
+
+    /**
+     * Indicates whether the income is received every month, rather than on a given date.
+     *
+     * @return true if the income has no date, false otherwise.
+     */
+    public boolean isRecurring() {
+        return time == null;
+    }
+
+    /**
+     * Retrieves the record id of this income. The id stays the same when the income is updated or other
+     * entries are deleted, and is 0 until the income is added to a list.
+     *
+     * @return The record id.
+     */
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * Creates a copy of this income, including its record id.
+     *
+     * @return The copy of this income.
+     */
+    public Income copy() {
+        Income income = new Income(amount, category, time);
+        income.setId(id);
+        return income;
+    }
+
     /**
      * Returns the income entry as a string format.
      *
@@ -33,6 +86,9 @@ public class Income implements MindMyMoneySerializable {
     public String toString() {
         String incomeInfo = "Amount: $" + amount + "\n"
                 + "   Category: " + category + "\n";
+        if (!isRecurring()) {
+            incomeInfo += "   Date: " + time + "\n";
+        }
         return incomeInfo;
     }
 
@@ -42,22 +98,28 @@ public class Income implements MindMyMoneySerializable {
             return false;
         }
         Income income = (Income) object;
-        return (amount == income.amount) && (category.equals(income.category));
+        return (amount == income.amount) && (category.equals(income.category))
+                && Objects.equals(time, income.time);
     }
 
     /**
-     * Returns a String representation of this income source, in a machine-readable format.
+     * Returns a String representation of this income source, in a machine-readable format. The date is only
+     * written for dated incomes, so recurring incomes are saved in the same format as before incomes had dates.
      * @return The serialized Income.
      */
     public String serialize() {
         PropertyList plist = new PropertyList();
         plist.addProperty("category", category);
         plist.addProperty("amount", Integer.toString(amount));
+        if (!isRecurring()) {
+            plist.addProperty("time", time);
+        }
+        plist.addProperty("id", Long.toString(id));
         return plist.serialize();
     }
 
     /**
-     * Converts the output of Income#serialize back into an Income.
+     * Converts the output of Income#serialize back into an Income. Incomes saved without a date are recurring.
      * @param serialized The serialized Income.
      * @return An Income.
      * @throws MindMyMoneyException if the format is invalid.
@@ -69,8 +131,13 @@ public class Income implements MindMyMoneySerializable {
             String category = plist.getValue("category");
             ValidatorFunctions.validateIncomeCategory(category);
             ValidatorFunctions.validateLowerBound(amount, 0, true, "amount");
-            return new Income(Integer.parseInt(plist.getValue("amount")),
-                    plist.getValue("category"));
+            String time = plist.getValue("time", "");
+            if (!time.isEmpty()) {
+                ValidatorFunctions.validateDate(time);
+            }
+            Income income = new Income(amount, category, time.isEmpty() ? null : time);
+            income.setId(Long.parseLong(plist.getValue("id", "0")));
+            return income;
         } catch (NumberFormatException e) {
             throw new MindMyMoneyException("Invalid number for amount during deserialization of " + serialized);
         } catch (ValidationException e) {
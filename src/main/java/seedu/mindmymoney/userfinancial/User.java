@@ -1,25 +1,43 @@
 package seedu.mindmymoney.userfinancial;
 
 import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.BudgetList;
 import seedu.mindmymoney.data.CreditCardList;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.data.PropertyList;
+import seedu.mindmymoney.data.ResultCache;
 import seedu.mindmymoney.helper.ValidatorFunctions;
 
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_RECORD_IDS_END_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_RECORD_IDS_START_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.convertInputToList;
 
 /**
  * Represents the user.
+ *
+ * <p>The lists of a user are changed by the command loop only. Other threads, such as savers and reports, read the
+ * latest published snapshot instead. The command loop publishes a new snapshot after each command that changed a
+ * list, and readers pick it up without locking.
  */
 public class User {
+    private static final String EXPENDITURES_NEXT_ID = "expenditures";
+    private static final String CREDIT_CARDS_NEXT_ID = "creditCards";
+    private static final String INCOMES_NEXT_ID = "incomes";
+
     private ExpenditureList expenditureListArray;
     private CreditCardList creditCardListArray;
     private IncomeList incomeListArray;
+    private BudgetList budgetListArray = new BudgetList();
+    private final ResultCache resultCache = new ResultCache();
+    private final AtomicReference<UserSnapshot> publishedSnapshot = new AtomicReference<>();
+    private long publishedEpoch = -1;
 
     public User() {
-        setExpenditureListArray(new ExpenditureList());
-        setCreditCardListArray(new CreditCardList());
-        setIncomeListArray(new IncomeList());
+        this(new ExpenditureList(), new CreditCardList(), new IncomeList());
     }
 
     public User(ExpenditureList expenditureListArray, CreditCardList creditCardListArray,
@@ -27,18 +45,28 @@ public class User {
         setExpenditureListArray(expenditureListArray);
         setCreditCardListArray(creditCardListArray);
         setIncomeListArray(incomeListArray);
+        publishSnapshot();
     }
 
     public void setExpenditureListArray(ExpenditureList expenditureListArray) {
         this.expenditureListArray = expenditureListArray;
+        resultCache.clear();
+        publishedEpoch = -1;
     }
 
     public void setCreditCardListArray(CreditCardList creditCardListArray) {
         this.creditCardListArray = creditCardListArray;
+        publishedEpoch = -1;
     }
 
     public void setIncomeListArray(IncomeList incomeListArray) {
         this.incomeListArray = incomeListArray;
+        publishedEpoch = -1;
+    }
+
+    public void setBudgetListArray(BudgetList budgetListArray) {
+        this.budgetListArray = budgetListArray;
+        publishedEpoch = -1;
     }
 
     public ExpenditureList getExpenditureListArray() {
@@ -53,16 +81,71 @@ public class User {
         return incomeListArray;
     }
 
+    public BudgetList getBudgetListArray() {
+        return budgetListArray;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * Takes a read-only, point-in-time view of the user's lists. Must be called from the thread that changes the
+     * lists.
+     *
+     * @return A snapshot of the user.
+     */
+    public UserSnapshot snapshot() {
+        PropertyList nextIds = new PropertyList();
+        nextIds.addProperty(EXPENDITURES_NEXT_ID, Long.toString(expenditureListArray.getNextId()));
+        nextIds.addProperty(CREDIT_CARDS_NEXT_ID, Long.toString(creditCardListArray.getNextId()));
+        nextIds.addProperty(INCOMES_NEXT_ID, Long.toString(incomeListArray.getNextId()));
+        return new UserSnapshot(expenditureListArray.snapshot(), creditCardListArray.snapshot(),
+                incomeListArray.snapshot(), budgetListArray.snapshot(), nextIds);
+    }
+
+    /**
+     * Takes a snapshot of the user's lists and makes it the latest published snapshot, if any list has changed since
+     * the last one was published. Must be called from the thread that changes the lists.
+     *
+     * @return The latest published snapshot.
+     */
+    public UserSnapshot publishSnapshot() {
+        long epoch = getEpoch();
+        if (epoch != publishedEpoch) {
+            publishedSnapshot.set(snapshot());
+            publishedEpoch = epoch;
+        }
+        return publishedSnapshot.get();
+    }
+
     /**
-     * Returns a String representation of this user in a machine-readable format.
+     * Adds up the epochs of the user's lists. Every change to a list moves it to a new epoch, so the sum changes
+     * whenever any list changes.
+     *
+     * @return The sum of the epochs of the lists.
+     */
+    private long getEpoch() {
+        return expenditureListArray.getEpoch() + creditCardListArray.getEpoch() + incomeListArray.getEpoch()
+                + budgetListArray.getEpoch();
+    }
+
+    /**
+     * Retrieves the latest published snapshot of the user's lists. This may be called from any thread.
+     *
+     * @return The latest published snapshot.
+     */
+    public UserSnapshot getPublishedSnapshot() {
+        return publishedSnapshot.get();
+    }
+
+    /**
+     * Returns a String representation of this user in a machine-readable format. The latest published snapshot is
+     * reused if no list has changed since it was published.
      * @return A serialized User.
      */
     public String serialize() {
-        StringBuilder sb = new StringBuilder();
-        sb.append(expenditureListArray.serialize());
-        sb.append(creditCardListArray.serialize());
-        sb.append(incomeListArray.serialize());
-        return sb.toString();
+        return publishSnapshot().serialize();
     }
 
 
@@ -79,11 +162,46 @@ public class User {
         savedUser.setExpenditureListArray(ExpenditureList.deserializeFrom(scanner));
         savedUser.setCreditCardListArray(CreditCardList.deserializeFrom(scanner));
         savedUser.setIncomeListArray(IncomeList.deserializeFrom(scanner));
+        savedUser.setBudgetListArray(BudgetList.deserializeFrom(scanner));
+        for (PropertyList nextIds : convertInputToList(SERIALIZATION_RECORD_IDS_START_MARKER,
+                SERIALIZATION_RECORD_IDS_END_MARKER, scanner, PropertyList::deserialize)) {
+            savedUser.reserveRecordIds(nextIds);
+        }
 
         ValidatorFunctions.validateCreditCardNames(savedUser.creditCardListArray);
         ValidatorFunctions.validatePaymentMethods(savedUser.expenditureListArray, savedUser.creditCardListArray);
+        savedUser.loadCreditCardExpenditures();
+        savedUser.publishSnapshot();
 
         return savedUser;
     }
 
+    /**
+     * Marks the record ids handed out before the save as used, so that the ids of deleted entries are not handed
+     * out again. Save files from older versions have no record ids section, and only reserve the ids they contain.
+     *
+     * @param nextIds The next record id of each list.
+     * @throws MindMyMoneyException if an id is not a number.
+     */
+    private void reserveRecordIds(PropertyList nextIds) throws MindMyMoneyException {
+        try {
+            expenditureListArray.reserveIdsBefore(Long.parseLong(nextIds.getValue(EXPENDITURES_NEXT_ID, "1")));
+            creditCardListArray.reserveIdsBefore(Long.parseLong(nextIds.getValue(CREDIT_CARDS_NEXT_ID, "1")));
+            incomeListArray.reserveIdsBefore(Long.parseLong(nextIds.getValue(INCOMES_NEXT_ID, "1")));
+        } catch (NumberFormatException e) {
+            throw new MindMyMoneyException("Invalid record id during deserialization of " + nextIds);
+        }
+    }
+
+    /**
+     * Records every saved expenditure in the monthly totals of the credit card it was paid with.
+     */
+    private void loadCreditCardExpenditures() {
+        for (CreditCard creditCard : creditCardListArray.creditCardListArray) {
+            for (Expenditure expenditure : expenditureListArray.getByPaymentMethod(creditCard.getNameOfCard())) {
+                creditCard.addExpenditure(expenditure.getAmount(), expenditure.getTime());
+            }
+        }
+    }
+
 }
@@ -0,0 +1,90 @@
+package seedu.mindmymoney.userfinancial;
+
+import seedu.mindmymoney.data.ExpenditureSnapshot;
+import seedu.mindmymoney.data.PropertyList;
+
+import java.util.Collections;
+import java.util.List;
+
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_BUDGET_END_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_BUDGET_START_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_CREDIT_CARD_END_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_CREDIT_CARD_START_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_INCOME_END_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_INCOME_START_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_RECORD_IDS_END_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.SERIALIZATION_RECORD_IDS_START_MARKER;
+import static seedu.mindmymoney.helper.SerializerFunctions.addListToStringBuilder;
+
+/**
+ * Represents a read-only, point-in-time view of a user's expenditures, credit cards, incomes and budgets. Snapshots never
+ * change, so savers and reports can read them from other threads without locking while commands keep changing the
+ * user's lists.
+ */
+public final class UserSnapshot {
+    private final ExpenditureSnapshot expenditures;
+    private final List<CreditCard> creditCards;
+    private final List<Income> incomes;
+    private final List<Budget> budgets;
+    private final PropertyList nextIds;
+
+    /**
+     * Creates a snapshot of a user.
+     *
+     * @param expenditures Snapshot of the user's expenditures.
+     * @param creditCards Copies of the user's credit cards.
+     * @param incomes The user's incomes.
+     * @param budgets The user's budgets.
+     * @param nextIds The next record id of each list, which is saved after the lists.
+     */
+    public UserSnapshot(ExpenditureSnapshot expenditures, List<CreditCard> creditCards, List<Income> incomes,
+                        List<Budget> budgets, PropertyList nextIds) {
+        this.expenditures = expenditures;
+        this.creditCards = creditCards;
+        this.incomes = incomes;
+        this.budgets = budgets;
+        this.nextIds = nextIds;
+    }
+
+    public ExpenditureSnapshot getExpenditures() {
+        return expenditures;
+    }
+
+    public List<CreditCard> getCreditCards() {
+        return creditCards;
+    }
+
+    public List<Income> getIncomes() {
+        return incomes;
+    }
+
+    public List<Budget> getBudgets() {
+        return budgets;
+    }
+
+    /**
+     * Returns a String representation of this snapshot in the same machine-readable format as User#serialize.
+     * @return A serialized User.
+     */
+    public String serialize() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(expenditures.serialize());
+        addListToStringBuilder(SERIALIZATION_CREDIT_CARD_START_MARKER,
+                SERIALIZATION_CREDIT_CARD_END_MARKER,
+                creditCards,
+                sb);
+        addListToStringBuilder(SERIALIZATION_INCOME_START_MARKER,
+                SERIALIZATION_INCOME_END_MARKER,
+                incomes,
+                sb);
+        addListToStringBuilder(SERIALIZATION_BUDGET_START_MARKER,
+                SERIALIZATION_BUDGET_END_MARKER,
+                budgets,
+                sb);
+        addListToStringBuilder(SERIALIZATION_RECORD_IDS_START_MARKER,
+                SERIALIZATION_RECORD_IDS_END_MARKER,
+                Collections.singletonList(nextIds),
+                sb);
+        return sb.toString();
+    }
+}
@@ -1,12 +1,21 @@
 package seedu.mindmymoney;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.mindmymoney.userfinancial.User;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
 import java.util.NoSuchElementException;
 
 class MindMyMoneyTest {
+    @TempDir
+    File storageDir;
 
     /**
      * Asserts if MMM is able to run and await for new line.
@@ -18,4 +27,41 @@ class MindMyMoneyTest {
             () -> new MindMyMoney().run());
 
     }
+
+    /**
+     * Asserts that a batch saves once at the end, or after every N commands, and that invalid commands and blank
+     * lines do not stop the batch.
+     */
+    @Test
+    void runBatch_saveInterval_expectFewSavesAndAllCommandsRun() throws IOException, MindMyMoneyException {
+        String commands = "add /e /pm cash /c Food /d Coke /a 1 /t 01/03/2022" + System.lineSeparator()
+            + System.lineSeparator()
+            + "add /e /pm nonexistent /c Food /d Coke /a 1 /t 01/03/2022" + System.lineSeparator()
+            + "add /e /pm cash /c Food /d Pizza /a 2 /t 02/03/2022" + System.lineSeparator()
+            + "add /e /pm cash /c Food /d Burger /a 3 /t 03/03/2022" + System.lineSeparator();
+        File storageFile = new File(storageDir, "data.txt");
+
+        assertEquals(1, new MindMyMoney(storageFile).runBatch(new BufferedReader(new StringReader(commands)), 0));
+        User savedUser = new Storage(storageFile).load();
+        assertEquals(3, savedUser.getExpenditureListArray().size());
+
+        File otherStorageFile = new File(storageDir, "other.txt");
+        assertEquals(2, new MindMyMoney(otherStorageFile).runBatch(new BufferedReader(new StringReader(commands)),
+            3));
+        assertEquals(3, new Storage(otherStorageFile).load().getExpenditureListArray().size());
+    }
+
+    /**
+     * Asserts that a batch stops at the bye command.
+     */
+    @Test
+    void runBatch_byeInMiddle_expectLaterCommandsSkipped() throws IOException, MindMyMoneyException {
+        String commands = "add /e /pm cash /c Food /d Coke /a 1 /t 01/03/2022" + System.lineSeparator()
+            + "bye" + System.lineSeparator()
+            + "add /e /pm cash /c Food /d Pizza /a 2 /t 02/03/2022" + System.lineSeparator();
+        File storageFile = new File(storageDir, "bye.txt");
+
+        new MindMyMoney(storageFile).runBatch(new BufferedReader(new StringReader(commands)), 0);
+        assertEquals(1, new Storage(storageFile).load().getExpenditureListArray().size());
+    }
 }
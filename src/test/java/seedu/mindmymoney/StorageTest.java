@@ -6,13 +6,16 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.mindmymoney.data.CreditCardList;
 import seedu.mindmymoney.data.ExpenditureList;
 import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.userfinancial.CreditCard;
 import seedu.mindmymoney.userfinancial.Expenditure;
 import seedu.mindmymoney.userfinancial.User;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.YearMonth;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class StorageTest {
@@ -53,8 +56,75 @@ public class StorageTest {
             Storage storage = new Storage(storageFile);
             storage.save(savedUser);
             User loadedUser = storage.load();
-            assertEquals(expenditureList.expenditureListArray,
-                    loadedUser.getExpenditureListArray().expenditureListArray);
+            assertEquals(expenditureList.getExpenditures(),
+                    loadedUser.getExpenditureListArray().getExpenditures());
+        } catch (MindMyMoneyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void normalUse_savedCreditCardExpenditures_monthlyTotalsRestored() {
+        File storageFile = new File(storageDir, "list.txt");
+        User savedUser = new User();
+        CreditCard creditCard = new CreditCard("DBS", 1.5, 500);
+        savedUser.getCreditCardListArray().add(creditCard);
+        savedUser.getExpenditureListArray().add(new Expenditure("DBS", "Food",
+                "test", 100, "05/03/2022"));
+        savedUser.getExpenditureListArray().add(new Expenditure("DBS", "Food",
+                "Make tests", 50, "05/04/2022"));
+
+        try {
+            Storage storage = new Storage(storageFile);
+            storage.save(savedUser);
+            CreditCard loadedCreditCard = storage.load().getCreditCardListArray().get("DBS");
+            assertEquals(400.0, loadedCreditCard.getBalanceLeft(YearMonth.of(2022, 3)));
+            assertEquals(450.0, loadedCreditCard.getBalanceLeft(YearMonth.of(2022, 4)));
+        } catch (MindMyMoneyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void normalUse_savedRecordIds_idsRestored() {
+        File storageFile = new File(storageDir, "list.txt");
+        User savedUser = new User();
+        savedUser.getCreditCardListArray().add(new CreditCard("DBS", 1, 500));
+        savedUser.getExpenditureListArray().add(new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022"));
+        savedUser.getExpenditureListArray().add(new Expenditure("Cash", "Food", "Pepsi", 2, "30/03/2022"));
+        savedUser.getExpenditureListArray().delete(0);
+        long pepsiId = savedUser.getExpenditureListArray().getIdAt(0);
+        long cardId = savedUser.getCreditCardListArray().get(0).getId();
+
+        try {
+            Storage storage = new Storage(storageFile);
+            storage.save(savedUser);
+            User loadedUser = storage.load();
+            assertEquals(pepsiId, loadedUser.getExpenditureListArray().getIdAt(0));
+            assertEquals(cardId, loadedUser.getCreditCardListArray().get(0).getId());
+
+            loadedUser.getExpenditureListArray().add(new Expenditure("Cash", "Food", "Tea", 2, "30/03/2022"));
+            assertTrue(loadedUser.getExpenditureListArray().getIdAt(1) > pepsiId);
+        } catch (MindMyMoneyException e) {
+            fail();
+        }
+    }
+
+    @Test
+    void normalUse_highestIdDeletedBeforeSave_idNotReused() {
+        File storageFile = new File(storageDir, "list.txt");
+        User savedUser = new User();
+        savedUser.getExpenditureListArray().add(new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022"));
+        savedUser.getExpenditureListArray().add(new Expenditure("Cash", "Food", "Pepsi", 2, "30/03/2022"));
+        long pepsiId = savedUser.getExpenditureListArray().getIdAt(1);
+        savedUser.getExpenditureListArray().delete(1);
+
+        try {
+            Storage storage = new Storage(storageFile);
+            storage.save(savedUser);
+            User loadedUser = storage.load();
+            loadedUser.getExpenditureListArray().add(new Expenditure("Cash", "Food", "Tea", 2, "30/03/2022"));
+            assertTrue(loadedUser.getExpenditureListArray().getIdAt(1) > pepsiId);
         } catch (MindMyMoneyException e) {
             fail();
         }
@@ -11,6 +11,7 @@ import seedu.mindmymoney.userfinancial.Income;
 import seedu.mindmymoney.userfinancial.User;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -34,7 +35,7 @@ class AddCommandTest {
         testList.add(new Expenditure("Cash", "Personal", "Nike Shoes",
             300, "30/03/2022"));
         String expectedOutput = getExpenditureOutput(testList);
-        String actualOutput = getExpenditureOutput(expenditureTestList.expenditureListArray);
+        String actualOutput = getExpenditureOutput(expenditureTestList.getExpenditures());
         assertEquals(expectedOutput, actualOutput);
         testList.clear();
     }
@@ -75,7 +76,7 @@ class AddCommandTest {
         testList.add(new Expenditure("Cash", "Personal", "Nike Shoes",
             300, "30/03/2022"));
         String expectedOutput = getExpenditureOutput(testList);
-        String actualOutput = getExpenditureOutput(expenditureTestList.expenditureListArray);
+        String actualOutput = getExpenditureOutput(expenditureTestList.getExpenditures());
         assertEquals(expectedOutput, actualOutput);
         testList.clear();
     }
@@ -96,7 +97,7 @@ class AddCommandTest {
         testList.add(new Expenditure("Cash", "Personal", "Nike Shoes",
             (float) 300.13, "30/03/2022"));
         String expectedOutput = getExpenditureOutput(testList);
-        String actualOutput = getExpenditureOutput(expenditureTestList.expenditureListArray);
+        String actualOutput = getExpenditureOutput(expenditureTestList.getExpenditures());
         assertEquals(expectedOutput, actualOutput);
         testList.clear();
     }
@@ -118,7 +119,7 @@ class AddCommandTest {
         testList.add(new Expenditure("posb", "Personal", "Nike Shoes",
             300, "30/03/2022"));
         String expectedOutput = getExpenditureOutput(testList);
-        String actualOutput = getExpenditureOutput(expenditureTestList.expenditureListArray);
+        String actualOutput = getExpenditureOutput(expenditureTestList.getExpenditures());
         assertEquals(expectedOutput, actualOutput);
         testList.clear();
     }
@@ -595,7 +596,7 @@ class AddCommandTest {
      * @param list is the expenditure list.
      * @return expenditure entry as a string if list is not empty, else it returns an empty string.
      */
-    public String getExpenditureOutput(ArrayList<Expenditure> list) {
+    public String getExpenditureOutput(List<Expenditure> list) {
         if (!list.isEmpty()) {
             return list.get(list.size() + LIST_INDEX_CORRECTION).getPaymentMethod()
                 + list.get(list.size() + LIST_INDEX_CORRECTION).getCategory()
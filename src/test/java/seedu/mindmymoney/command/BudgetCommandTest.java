@@ -0,0 +1,89 @@
+package seedu.mindmymoney.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.BudgetTypes;
+import seedu.mindmymoney.userfinancial.User;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.YearMonth;
+import java.util.Scanner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the budget command and the budget checks of the add and update commands.
+ */
+class BudgetCommandTest {
+    private final ByteArrayOutputStream capturedOut = new ByteArrayOutputStream();
+    private final PrintStream stdout = System.out;
+
+    private String runAndCapture(Command command) throws MindMyMoneyException {
+        capturedOut.reset();
+        System.setOut(new PrintStream(capturedOut));
+        try {
+            command.executeCommand();
+        } finally {
+            System.setOut(stdout);
+        }
+        return capturedOut.toString();
+    }
+
+    /**
+     * Asserts that adding and updating expenditures prints warnings and alerts for the budgets they reach.
+     */
+    @Test
+    void addAndUpdate_budgetsReached_expectAlertsPrinted() throws MindMyMoneyException {
+        User user = new User();
+        new BudgetCommand("/c food /a 100", user).executeCommand();
+        new BudgetCommand("/pm cash /a 50 /w 50", user).executeCommand();
+
+        String output = runAndCapture(new AddCommand("/e /pm cash /c Food /d Lunch /a 20 /t 02/03/2022", user));
+        assertTrue(output.startsWith("Successfully added"));
+        assertFalse(output.contains("budget"));
+
+        output = runAndCapture(new AddCommand("/e /pm cash /c Food /d Dinner /a 10 /t 05/03/2022", user));
+        assertTrue(output.contains("Warning: You have spent $30.00 of your $50.00 budget for Cash in 03/2022."));
+        assertFalse(output.contains("budget for Food"));
+
+        output = runAndCapture(new UpdateCommand("/e 2 /pm cash /c Food /d Dinner /a 90 /t 05/03/2022", user));
+        assertTrue(output.contains("Alert: You have exceeded your $100.00 budget for Food in 03/2022 by $10.00!"));
+        assertTrue(output.contains("Alert: You have exceeded your $50.00 budget for Cash in 03/2022 by $60.00!"));
+
+        output = runAndCapture(new AddCommand("/e /pm cash /c Transport /d Bus /a 1 /t 05/04/2022", user));
+        assertFalse(output.contains("budget"));
+    }
+
+    /**
+     * Asserts that budgets can be listed, replaced and removed, and are kept in the save file.
+     */
+    @Test
+    void budgetCommand_setListAndRemove_expectBudgetsUpdated() throws MindMyMoneyException {
+        User user = new User();
+        new AddCommand("/e /pm cash /c Food /d Lunch /a 20 /t 02/03/2022", user).executeCommand();
+        new BudgetCommand("/c Food /a 100", user).executeCommand();
+        new BudgetCommand("/c Food /a 150 /w 90", user).executeCommand();
+
+        assertEquals("-----------------------------------------------" + System.lineSeparator()
+                + "1. Food (category): $150.00 per month, warn at 90% [Spent in 03/2022: $20.00]"
+                + System.lineSeparator()
+                + "-----------------------------------------------",
+                new BudgetCommand("", user).budgetListToString(YearMonth.of(2022, 3)));
+
+        User savedUser = User.deserializeFrom(new Scanner(user.serialize()));
+        assertEquals(150, savedUser.getBudgetListArray().get(BudgetTypes.CATEGORY, "food").getMonthlyLimit());
+
+        new BudgetCommand("/c Food /a 0", user).executeCommand();
+        assertNull(user.getBudgetListArray().get(BudgetTypes.CATEGORY, "Food"));
+        assertThrows(MindMyMoneyException.class, () -> new BudgetCommand("/c Food /a 0", user).executeCommand());
+        assertThrows(MindMyMoneyException.class, () -> new BudgetCommand("/c Drinks /a 10", user).executeCommand());
+        assertThrows(MindMyMoneyException.class, () -> new BudgetCommand("/pm DBS /a 10", user).executeCommand());
+        assertThrows(MindMyMoneyException.class,
+            () -> new BudgetCommand("/c Food /a 10 /w 120", user).executeCommand());
+    }
+}
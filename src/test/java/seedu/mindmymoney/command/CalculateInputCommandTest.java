@@ -9,9 +9,12 @@ import seedu.mindmymoney.userfinancial.User;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 
 class CalculateInputCommandTest {
@@ -123,6 +126,88 @@ class CalculateInputCommandTest {
         assertEquals(expectedOutput, capturedOut.toString().trim());
     }
 
+    /**
+     * Asserts if user is able to calculate the stats of each category and month.
+     */
+    @Test
+    void calculateInputCommand_groupByCategoryAndMonth_expectCorrectOutput() throws MindMyMoneyException {
+        ExpenditureList expenditureTestList = new ExpenditureList();
+        CreditCardList creditCardTestList = new CreditCardList();
+        IncomeList incomeList = new IncomeList();
+        User user = new User(expenditureTestList, creditCardTestList, incomeList);
+        new AddCommand("/e /pm cash /c Food /d Coke /a 2 /t 01/04/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Pizza /a 15.5 /t 30/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Personal /d Shoes /a 300 /t 30/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Rice /a 4 /t 02/04/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Rice /a 4 /t 02/04/2021", user).executeCommand();
+
+        setUp();
+        new CalculateInputCommand("/by category,month /t 2022", user).executeCommand();
+        tearDown();
+        String expectedOutput = "Expenditure by category, month in 2022:" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Food | 03/2022: total $15.50, count 1, min $15.50, max $15.50, average $15.50"
+            + System.lineSeparator()
+            + "Food | 04/2022: total $6.00, count 2, min $2.00, max $4.00, average $3.00" + System.lineSeparator()
+            + "Personal | 03/2022: total $300.00, count 1, min $300.00, max $300.00, average $300.00"
+            + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Overall: total $321.50, count 4, min $2.00, max $300.00, average $80.38";
+        assertEquals(expectedOutput, capturedOut.toString().trim());
+    }
+
+    /**
+     * Asserts if user is able to calculate the totals of each category and payment method over recent days.
+     */
+    @Test
+    void calculateInputCommand_rolling_expectCorrectOutput() throws MindMyMoneyException {
+        ExpenditureList expenditureTestList = new ExpenditureList();
+        CreditCardList creditCardTestList = new CreditCardList();
+        IncomeList incomeList = new IncomeList();
+        User user = new User(expenditureTestList, creditCardTestList, incomeList);
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        LocalDate today = LocalDate.now();
+        new AddCommand("/e /pm cash /c Food /d Coke /a 2 /t " + today.format(dateFormat), user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Pizza /a 15.5 /t " + today.minusDays(10).format(dateFormat), user)
+            .executeCommand();
+        new AddCommand("/e /pm cash /c Transport /d Bus /a 3 /t " + today.minusDays(40).format(dateFormat), user)
+            .executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Rice /a 4 /t " + today.minusDays(100).format(dateFormat), user)
+            .executeCommand();
+
+        setUp();
+        new CalculateInputCommand("/rolling", user).executeCommand();
+        tearDown();
+        String expectedOutput = "Expenditure in the last 7, 30 and 90 days, ending today:" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Food: 7 days $2.00, 30 days $17.50, 90 days $17.50" + System.lineSeparator()
+            + "Transport: 7 days $0.00, 30 days $0.00, 90 days $3.00" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Cash: 7 days $2.00, 30 days $17.50, 90 days $20.50" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Overall: 7 days $2.00, 30 days $17.50, 90 days $20.50";
+        assertEquals(expectedOutput, capturedOut.toString().trim());
+    }
+
+    /**
+     * Asserts if user is able to group by an unsupported field.
+     */
+    @Test
+    void calculateInputCommand_groupByInvalidField_expectException() throws MindMyMoneyException {
+        ExpenditureList expenditureTestList = new ExpenditureList();
+        CreditCardList creditCardTestList = new CreditCardList();
+        IncomeList incomeList = new IncomeList();
+        User user = new User(expenditureTestList, creditCardTestList, incomeList);
+        new AddCommand("/e /pm cash /c Food /d Coke /a 2 /t 01/04/2022", user).executeCommand();
+
+        assertThrows(MindMyMoneyException.class,
+            () -> new CalculateInputCommand("/by amount", user).executeCommand());
+        assertThrows(MindMyMoneyException.class,
+            () -> new CalculateInputCommand("/by /t 2022", user).executeCommand());
+        assertThrows(MindMyMoneyException.class,
+            () -> new CalculateInputCommand("/by category /t 2021", user).executeCommand());
+    }
+
     /**
      * Asserts if user is able to use an incorrect flag.
      */
@@ -227,6 +312,139 @@ class CalculateInputCommandTest {
             () -> new CalculateInputCommand("/epm", user).executeCommand());
     }
 
+    /**
+     * Asserts that two spellings of the same calculation, which differ in the case of the flag and the spaces after
+     * it, share one entry in the cache.
+     */
+    @Test
+    void calculateInputCommand_differentSpellings_expectOneCacheEntry() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/e /pm cash /c Food /d Coke /a 20 /t 30/03/2022", user).executeCommand();
+        setUp();
+        new CalculateInputCommand("/EPM 03/2022", user).executeCommand();
+        new CalculateInputCommand("/epm   03/2022 ", user).executeCommand();
+        tearDown();
+
+        assertEquals(1, user.getResultCache().size());
+        String[] outputs = capturedOut.toString().split("Total expenditure in ");
+        assertEquals(3, outputs.length);
+        assertEquals(outputs[1], outputs[2]);
+    }
+
+    /**
+     * Asserts that a repeated calculation is served from the cache until an expenditure in its month changes.
+     */
+    @Test
+    void calculateInputCommand_repeatedCalculation_expectCachedUntilMonthChanges() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/e /pm cash /c Food /d Coke /a 20 /t 30/03/2022", user).executeCommand();
+        new CalculateInputCommand("/epm 03/2022", user).calculateToString();
+        assertEquals(1, user.getResultCache().size());
+
+        new AddCommand("/e /pm cash /c Food /d Pizza /a 10 /t 01/04/2022", user).executeCommand();
+        setUp();
+        new CalculateInputCommand("/epm 03/2022", user).executeCommand();
+        tearDown();
+        assertTrue(capturedOut.toString().startsWith("Total expenditure in 03/2022 is $20.00."));
+
+        new AddCommand("/e /pm cash /c Food /d Bread /a 5 /t 02/03/2022", user).executeCommand();
+        capturedOut.reset();
+        setUp();
+        new CalculateInputCommand("/epm 03/2022", user).executeCommand();
+        tearDown();
+        assertTrue(capturedOut.toString().startsWith("Total expenditure in 03/2022 is $25.00."));
+    }
+
+    /**
+     * Asserts that spending in a year is compared with the year before for each category and payment method.
+     */
+    @Test
+    void calculateInputCommand_yearOverYear_expectComparisonWithPreviousYear() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/e /pm cash /c Food /d Coke /a 120 /t 30/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Pizza /a 100 /t 01/12/2021", user).executeCommand();
+        new AddCommand("/e /pm cash /c Personal /d Shoes /a 50 /t 02/01/2021", user).executeCommand();
+
+        String expectedOutput = "Expenditure in 2022 compared with 2021:" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Food: $120.00 vs $100.00 (+$20.00, +20.0%)" + System.lineSeparator()
+            + "Personal: $0.00 vs $50.00 (-$50.00, -100.0%)" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Cash: $120.00 vs $150.00 (-$30.00, -20.0%)" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Overall: $120.00 vs $150.00 (-$30.00, -20.0%)";
+        assertEquals(expectedOutput, new CalculateInputCommand("/yoy 2022", user).calculateToString());
+
+        expectedOutput = "Expenditure in 01/2022 compared with 12/2021:" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Food: $0.00 vs $100.00 (-$100.00, -100.0%)" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Cash: $0.00 vs $100.00 (-$100.00, -100.0%)" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Overall: $0.00 vs $100.00 (-$100.00, -100.0%)";
+        assertEquals(expectedOutput, new CalculateInputCommand("/mom 01/2022", user).calculateToString());
+        assertThrows(MindMyMoneyException.class,
+            () -> new CalculateInputCommand("/mom 05/2022", user).calculateToString());
+        assertThrows(MindMyMoneyException.class,
+            () -> new CalculateInputCommand("/yoy 22", user).calculateToString());
+    }
+
+    /**
+     * Asserts that recurring incomes count towards every month, dated incomes only towards their own month, and that
+     * the net cash flow follows changes to incomes.
+     */
+    @Test
+    void calculateInputCommand_netCashFlow_expectIncomeAndExpensesJoinedByMonth() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/i /a 1000 /c Salary", user).executeCommand();
+        new AddCommand("/i /a 200 /c Investment /t 15/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Coke /a 120 /t 30/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Pizza /a 1500 /t 01/04/2022", user).executeCommand();
+
+        String expectedOutput = "Net cash flow in 03/2022:" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "03/2022: income $1200.00, expenses $120.00, net +$1080.00" + System.lineSeparator()
+            + "-----------------------------------------------" + System.lineSeparator()
+            + "Overall: income $1200.00, expenses $120.00, net +$1080.00";
+        assertEquals(expectedOutput, new CalculateInputCommand("/net 03/2022", user).calculateToString());
+        String yearOutput = new CalculateInputCommand("/net 2022", user).calculateToString();
+        assertTrue(yearOutput.contains("04/2022: income $1000.00, expenses $1500.00, net -$500.00"));
+        assertTrue(yearOutput.endsWith("Overall: income $12200.00, expenses $1620.00, net +$10580.00"));
+
+        new DeleteCommand("delete /i 2", user).executeCommand();
+        assertTrue(new CalculateInputCommand("/net 03/2022", user).calculateToString()
+            .endsWith("Overall: income $1000.00, expenses $120.00, net +$880.00"));
+        assertThrows(MindMyMoneyException.class,
+            () -> new CalculateInputCommand("/net 2022/03", user).calculateToString());
+    }
+
+    /**
+     * Asserts that a chart over two years has a column for each month, a sparkline for each category, and a
+     * heatmap of the last year.
+     */
+    @Test
+    void calculateInputCommand_chartTwoYears_expectMonthlyColumnsAndHeatmap() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/e /pm cash /c Food /d Coke /a 100 /t 15/01/2021", user).executeCommand();
+        new AddCommand("/e /pm cash /c Transport /d Bus /a 50 /t 03/01/2022", user).executeCommand();
+
+        String output = new CalculateInputCommand("/chart 2021 2022", user).calculateToString();
+        assertTrue(output.startsWith("Monthly expenditure in 2021 to 2022, up to $100.00 a month:"));
+        assertTrue(output.contains("|#" + System.lineSeparator() + "|#           #" + System.lineSeparator()
+            + "|#           #" + System.lineSeparator() + "|#           #" + System.lineSeparator()
+            + "|#           #" + System.lineSeparator() + "+------------------------" + System.lineSeparator()
+            + " JFMAMJJASONDJFMAMJJASOND" + System.lineSeparator()
+            + " 2021        2022" + System.lineSeparator()));
+        assertTrue(output.contains("Food:          @"));
+        assertTrue(output.contains("Transport:                 @            $50.00"));
+        assertTrue(output.contains("Mon  #" + System.lineSeparator()));
+        assertTrue(output.endsWith("of the busiest day, $50.00."));
+        assertThrows(MindMyMoneyException.class,
+            () -> new CalculateInputCommand("/chart 2023", user).calculateToString());
+        assertThrows(MindMyMoneyException.class,
+            () -> new CalculateInputCommand("/chart 2022 2021", user).calculateToString());
+    }
+
     /**
      * Asserts if command is able to exit.
      */
@@ -0,0 +1,82 @@
+package seedu.mindmymoney.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.CreditCardList;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.userfinancial.User;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the registry that maps instructions to command handlers.
+ */
+class CommandRegistryTest {
+    private final User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+
+    /**
+     * Asserts that a handler registered for an instruction and a flag is chosen over the handler of the instruction
+     * alone, that both are matched ignoring case, and that unknown instructions have no command.
+     */
+    @Test
+    void createCommand_handlerForFlag_expectFlagHandlerChosen() {
+        Command byeCommand = new ByeCommand();
+        Command helpCommand = new HelpCommand(true, "");
+        CommandRegistry registry = new CommandRegistry();
+        registry.register("list", (arguments, owner) -> helpCommand);
+        registry.register("list", "/big", (arguments, owner) -> byeCommand);
+
+        assertSame(byeCommand, registry.createCommand("list /big 5", user));
+        assertSame(byeCommand, registry.createCommand("LIST /BIG", user));
+        assertSame(helpCommand, registry.createCommand("list /e", user));
+        assertSame(helpCommand, registry.createCommand("list", user));
+        assertNull(registry.createCommand("lists /big", user));
+        assertNull(registry.createCommand("", user));
+    }
+
+    /**
+     * Asserts that the built-in commands are given the input after the instruction, and that instructions which need
+     * arguments are treated as invalid without them.
+     */
+    @Test
+    void load_builtInCommands_expectArgumentsPassedOn() {
+        CommandRegistry registry = CommandRegistry.load();
+        Command listCommand = registry.createCommand("List /cc", user);
+        assertTrue(listCommand instanceof ListCommand);
+        Command helpCommand = registry.createCommand("help /i", user);
+        assertEquals("/i", ((HelpCommand) helpCommand).helpInput);
+        assertTrue(registry.createCommand("add", user) instanceof HelpCommand);
+        assertTrue(registry.createCommand("delete", user) instanceof DeleteCommand);
+        assertTrue(registry.createCommand("bye", user).isExit());
+    }
+
+    /**
+     * Asserts that each flag of a built-in instruction creates a command that acts on its own list, and that the
+     * instruction without a known flag fails when executed.
+     *
+     * @throws MindMyMoneyException if a valid command fails.
+     */
+    @Test
+    void load_builtInFlags_expectActionOfFlagRun() throws MindMyMoneyException {
+        CommandRegistry registry = CommandRegistry.load();
+        registry.createCommand("add /cc /n DBS /cb 1.5 /cl 1000", user).executeCommand();
+        registry.createCommand("add /i /a 3000 /c salary", user).executeCommand();
+        registry.createCommand("add /e /pm DBS /c Food /d Lunch /a 5 /t 01/03/2022", user).executeCommand();
+        assertEquals(1, user.getCreditCardListArray().size());
+        assertFalse(user.getIncomeListArray().isEmpty());
+        assertEquals(1, user.getExpenditureListArray().size());
+
+        registry.createCommand("delete /i 1", user).executeCommand();
+        assertTrue(user.getIncomeListArray().isEmpty());
+        assertEquals(1, user.getExpenditureListArray().size());
+        assertThrows(MindMyMoneyException.class,
+            () -> registry.createCommand("add /x /a 10", user).executeCommand());
+        assertThrows(MindMyMoneyException.class, () -> registry.createCommand("list 1", user).executeCommand());
+    }
+}
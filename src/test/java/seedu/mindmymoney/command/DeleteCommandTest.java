@@ -10,6 +10,7 @@ import seedu.mindmymoney.userfinancial.Expenditure;
 import seedu.mindmymoney.userfinancial.Income;
 import seedu.mindmymoney.userfinancial.User;
 
+import java.time.YearMonth;
 import java.util.ArrayList;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -61,10 +62,47 @@ class DeleteCommandTest {
         new AddCommand(inputStringCC, user).executeCommand();
         String inputStringExpenditure = "/e /pm DBS /c Personal /d Nike Shoes /a 300 /t 30/03/2022";
         new AddCommand(inputStringExpenditure, user).executeCommand();
-        assertEquals(200.0, creditCardTestList.get(0).getBalanceLeft());
+        assertEquals(200.0, creditCardTestList.get(0).getBalanceLeft(YearMonth.of(2022, 3)));
         String deleteInputString = "delete /e 1";
         new DeleteCommand(deleteInputString, user).executeCommand();
-        assertEquals(500.0, creditCardTestList.get(0).getBalanceLeft());
+        assertEquals(500.0, creditCardTestList.get(0).getBalanceLeft(YearMonth.of(2022, 3)));
+    }
+
+    /**
+     * Asserts that all expenditures matching the conditions are deleted and card balances are restored.
+     *
+     * @throws MindMyMoneyException if the expenditures could not be added or deleted.
+     */
+    @Test
+    void deleteCommand_whereConditions_expectMatchingExpendituresDeleted() throws MindMyMoneyException {
+        ExpenditureList expenditureTestList = new ExpenditureList();
+        CreditCardList creditCardTestList = new CreditCardList();
+        User user = new User(expenditureTestList, creditCardTestList, new IncomeList());
+        new AddCommand("/cc /n DBS /cb 1.5 /cl 500", user).executeCommand();
+        new AddCommand("/e /pm DBS /c Food /d Chicken Rice /a 5 /t 01/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Porridge /a 4 /t 02/03/2022", user).executeCommand();
+        new AddCommand("/e /pm DBS /c Transport /d Grab /a 20 /t 03/03/2022", user).executeCommand();
+        new AddCommand("/e /pm DBS /c Food /d Chicken Rice /a 5 /t 01/04/2022", user).executeCommand();
+
+        new DeleteCommand("delete /e where category=food month=03/2022", user).executeCommand();
+
+        assertEquals(2, expenditureTestList.size());
+        assertEquals("Grab", expenditureTestList.get(0).getDescription());
+        assertEquals("01/04/2022", expenditureTestList.get(1).getTime());
+        assertEquals(480.0, creditCardTestList.get(0).getBalanceLeft(YearMonth.of(2022, 3)));
+        assertEquals(495.0, creditCardTestList.get(0).getBalanceLeft(YearMonth.of(2022, 4)));
+    }
+
+    /**
+     * Asserts that a bulk delete with an unsupported condition is rejected.
+     */
+    @Test
+    void deleteCommand_invalidWhereCondition_expectException() throws MindMyMoneyException {
+        User user = new User();
+        new AddCommand("/e /pm cash /c Food /d Porridge /a 4 /t 02/03/2022", user).executeCommand();
+        DeleteCommand deleteCommand = new DeleteCommand("delete /e where colour=red", user);
+        assertThrows(MindMyMoneyException.class, deleteCommand::executeCommand);
+        assertEquals(1, user.getExpenditureListArray().size());
     }
 
     /**
@@ -0,0 +1,86 @@
+package seedu.mindmymoney.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.CreditCardList;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.userfinancial.User;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the forecast command.
+ */
+class ForecastCommandTest {
+
+    /**
+     * Asserts that the forecast shows the run-rate, trailing average and same month last year of each category and
+     * payment method, and the limit left on each credit card.
+     */
+    @Test
+    void forecastToString_spendingThisMonth_expectProjections() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/cc /n DBS /cb 1.5 /cl 500", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Bread /a 30 /t 20/02/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Lunch /a 20 /t 01/03/2022", user).executeCommand();
+        new AddCommand("/e /pm DBS /c Personal /d Shoes /a 100 /t 05/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Snack /a 10 /t 10/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Buffet /a 100 /t 15/03/2021", user).executeCommand();
+
+        assertEquals("Forecast for 03/2022, on day 10 of 31:" + System.lineSeparator()
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Food: $30.00 so far, run-rate $93.00, trailing average $72.00, same month last year $100.00"
+                + System.lineSeparator()
+                + "Personal: $100.00 so far, run-rate $310.00, trailing average $170.00, same month last year none"
+                + System.lineSeparator()
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Cash: $30.00 so far, run-rate $93.00, trailing average $72.00, same month last year $100.00"
+                + System.lineSeparator()
+                + "DBS: $100.00 so far, run-rate $310.00, trailing average $170.00, same month last year none, "
+                + "limit left $190.00" + System.lineSeparator()
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Overall: $130.00 so far, run-rate $403.00, trailing average $242.00, "
+                + "same month last year $100.00",
+                new ForecastCommand("", user).forecastToString(LocalDate.of(2022, 3, 10)));
+    }
+
+    /**
+     * Asserts that an error is given when there is nothing to forecast from, or input is given.
+     */
+    @Test
+    void executeCommand_noSpendingOrInput_expectException() {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        assertThrows(MindMyMoneyException.class,
+            () -> new ForecastCommand("", user).forecastToString(LocalDate.of(2022, 3, 10)));
+        assertThrows(MindMyMoneyException.class, () -> new ForecastCommand("2022", user).executeCommand());
+    }
+
+    /**
+     * Asserts that adding an expenditure made this month prints the run-rate forecast of its category.
+     */
+    @Test
+    void addCommand_expenditureThisMonth_expectForecastPrinted() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        LocalDate today = LocalDate.now();
+        String date = today.format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
+        ByteArrayOutputStream capturedOut = new ByteArrayOutputStream();
+        PrintStream stdout = System.out;
+        System.setOut(new PrintStream(capturedOut));
+        try {
+            new AddCommand("/e /pm cash /c Food /d Lunch /a 10 /t " + date, user).executeCommand();
+        } finally {
+            System.setOut(stdout);
+        }
+        String expectedForecast = String.format("At this rate, you will spend $%.2f on Food by the end of the month",
+                10.0 * today.lengthOfMonth() / today.getDayOfMonth());
+        assertTrue(capturedOut.toString().contains(expectedForecast));
+    }
+}
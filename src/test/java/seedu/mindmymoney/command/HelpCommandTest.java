@@ -4,6 +4,8 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.Parser;
+import seedu.mindmymoney.userfinancial.User;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
@@ -30,7 +32,8 @@ public class HelpCommandTest {
     void helpCommand_fromUser_expectExpenditureHelpPage() throws MindMyMoneyException {
         String helpPage = "---------------------------------------Expenditure Help Page------------------------"
             + "---------------\n"
-            + "1. Listing all Expenditures: list /e {DATE}\n"
+            + "1. Listing Expenditures: list /e {DATE or QUERY} {/search [DESCRIPTION]} {/sort [FIELD]} "
+            + "{/desc} {/top [COUNT]} {/page [PAGE]} {/size [SIZE]} {/limit [COUNT]}\n"
             + "2. Adding an Expenditure entry: add /e /pm [PAYMENT_METHOD] /c [CATEGORY] "
             + "/d [DESCRIPTION] /a [AMOUNT] /t [DATE]\n"
             + "3. Calculating the total expenditure in a month: calculate /epm [DATE]\n"
@@ -67,8 +70,8 @@ public class HelpCommandTest {
         String helpPage = "--------------------------------Income Help Page------------------------------"
             + "---------\n"
             + "1. Listing all Incomes: list /i\n"
-            + "2. Adding an Income entry: add /i /a [AMOUNT] /c [CATEGORY]\n"
-            + "3. Updating an Income entry: update /i [INDEX] /a [NEW_AMOUNT] /c [NEW_CATEGORY]\n"
+            + "2. Adding an Income entry: add /i /a [AMOUNT] /c [CATEGORY] {/t [DATE]}\n"
+            + "3. Updating an Income entry: update /i [INDEX] /a [NEW_AMOUNT] /c [NEW_CATEGORY] {/t [NEW_DATE]}\n"
             + "4. Removing an Income entry: delete /i [INDEX]\n"
             + "---------------------------------------------------------------------------------------\n";
 
@@ -105,6 +108,17 @@ public class HelpCommandTest {
             () -> new HelpCommand(true, "/abc").executeCommand());
     }
 
+    /**
+     * Asserts that a flag followed by more input is not taken as a request for that flag's help page.
+     */
+    @Test
+    void helpCommand_flagWithExtraInput_expectException() {
+        assertThrows(MindMyMoneyException.class,
+            () -> new HelpCommand(true, "/e extra").executeCommand());
+        assertThrows(MindMyMoneyException.class,
+            () -> Parser.parseCommand("help /i extra", new User()).executeCommand());
+    }
+
     /**
      * Test if program is able to exit.
      */
@@ -121,7 +135,8 @@ public class HelpCommandTest {
     void helpCommand_fromUser_expectAllHelpPages() throws MindMyMoneyException {
         String helpPage = "---------------------------------------Expenditure Help Page------------------------"
             + "---------------\n"
-            + "1. Listing all Expenditures: list /e {DATE}\n"
+            + "1. Listing Expenditures: list /e {DATE or QUERY} {/search [DESCRIPTION]} {/sort [FIELD]} "
+            + "{/desc} {/top [COUNT]} {/page [PAGE]} {/size [SIZE]} {/limit [COUNT]}\n"
             + "2. Adding an Expenditure entry: add /e /pm [PAYMENT_METHOD] /c [CATEGORY] /d [DESCRIPTION] "
             + "/a [AMOUNT] /t [DATE]\n"
             + "3. Calculating the total expenditure in a month: calculate /epm [DATE]\n"
@@ -146,8 +161,8 @@ public class HelpCommandTest {
             + "--------------------------------Income Help Page------------------------------"
             + "---------\n"
             + "1. Listing all Incomes: list /i\n"
-            + "2. Adding an Income entry: add /i /a [AMOUNT] /c [CATEGORY]\n"
-            + "3. Updating an Income entry: update /i [INDEX] /a [NEW_AMOUNT] /c [NEW_CATEGORY]\n"
+            + "2. Adding an Income entry: add /i /a [AMOUNT] /c [CATEGORY] {/t [DATE]}\n"
+            + "3. Updating an Income entry: update /i [INDEX] /a [NEW_AMOUNT] /c [NEW_CATEGORY] {/t [NEW_DATE]}\n"
             + "4. Removing an Income entry: delete /i [INDEX]\n"
             + "---------------------------------------------------------------------------------------\n"
             + System.lineSeparator();
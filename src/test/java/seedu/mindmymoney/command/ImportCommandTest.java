@@ -0,0 +1,62 @@
+package seedu.mindmymoney.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.CreditCardList;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.userfinancial.User;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the Import command.
+ */
+class ImportCommandTest {
+    private static final String STATEMENT = "# DATE,AMOUNT,PAYMENT_METHOD,CATEGORY,DESCRIPTION\n"
+        + "30/03/2022,8.50,cash,food,McDonald's\n"
+        + "30/03/2022,8.50,Cash,Food,mcdonalds\n"
+        + "31/03/2022,2,Cash,Transport,Bus, to school\n"
+        + "31/03/2022,abc,Cash,Food,Coke\n";
+
+    /**
+     * Asserts that importing a statement skips duplicates in the file and in the list, and invalid lines.
+     */
+    @Test
+    void importFrom_statementImportedTwice_expectDuplicatesSkipped() throws MindMyMoneyException, IOException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/e /pm cash /c Food /d Coke /a 2 /t 01/04/2022", user).executeCommand();
+        File statement = File.createTempFile("statement", ".csv");
+        statement.deleteOnExit();
+        Files.write(statement.toPath(), STATEMENT.getBytes(StandardCharsets.UTF_8));
+
+        String summary = new ImportCommand("/e " + statement.getPath(), user).importFrom(statement.getPath());
+        assertTrue(summary.startsWith("Line 5 was not imported: Amount must be a number"));
+        assertTrue(summary.endsWith("Imported 2 expenditure(s) from " + statement.getPath() + "."
+            + System.lineSeparator() + "Skipped 1 duplicate(s) already in your list."));
+        assertEquals(3, user.getExpenditureListArray().size());
+        assertEquals("Bus, to school", user.getExpenditureListArray().get(2).getDescription());
+
+        summary = new ImportCommand("/e " + statement.getPath(), user).importFrom(statement.getPath());
+        assertTrue(summary.endsWith("Skipped 3 duplicate(s) already in your list."));
+        assertEquals(3, user.getExpenditureListArray().size());
+    }
+
+    /**
+     * Asserts that an import without a file, or with a file that cannot be read, is rejected.
+     */
+    @Test
+    void executeCommand_missingFile_expectException() {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        assertThrows(MindMyMoneyException.class, () -> new ImportCommand("", user).executeCommand());
+        assertThrows(MindMyMoneyException.class,
+            () -> new ImportCommand("/e no-such-statement.csv", user).executeCommand());
+    }
+}
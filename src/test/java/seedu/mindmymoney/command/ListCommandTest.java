@@ -54,6 +54,123 @@ class ListCommandTest {
                 + "-----------------------------------------------" + System.lineSeparator(), listInString2);
     }
 
+    /**
+     * Tests list command with a query on a non-empty list.
+     */
+    @Test
+    void listToString_query_expectMatchingExpenditures() throws MindMyMoneyException {
+        ExpenditureList expenditureTestList = new ExpenditureList();
+        CreditCardList creditCardTestList = new CreditCardList();
+        IncomeList incomeList = new IncomeList();
+        User user = new User(expenditureTestList, creditCardTestList, incomeList);
+        new AddCommand("/e /pm cash /c Personal /d Nike Shoes /a 300 /t 30/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Cream Pie /a 69 /t 30/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Coke /a 2 /t 01/04/2022", user).executeCommand();
+
+        String listInString = new ListCommand("/e amount>50 and category=Food and date in 2022", user)
+                .expenditureListToString();
+        assertEquals("-----------------------------------------------" + System.lineSeparator()
+                + "1. $69.00 was spent on Cream Pie(Food) using Cash [30/03/2022]\n"
+                + "-----------------------------------------------" + System.lineSeparator(), listInString);
+        assertThrows(MindMyMoneyException.class,
+            () -> new ListCommand("/e amount>500", user).expenditureListToString());
+    }
+
+    /**
+     * Asserts that a search lists expenditures with similar descriptions despite typos and punctuation, most similar
+     * description first.
+     */
+    @Test
+    void listToString_search_expectSimilarDescriptionsRanked() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/e /pm cash /c Food /d McDonald's /a 8 /t 30/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Mcdonalds Breakfast /a 5 /t 30/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Coke /a 2 /t 01/04/2022", user).executeCommand();
+
+        String listInString = new ListCommand("/e /search mcdonlds", user).expenditureListToString();
+        assertEquals("-----------------------------------------------" + System.lineSeparator()
+                + "1. $8.00 was spent on McDonald's(Food) using Cash [30/03/2022]\n"
+                + "2. $5.00 was spent on Mcdonalds Breakfast(Food) using Cash [30/03/2022]\n"
+                + "-----------------------------------------------" + System.lineSeparator(), listInString);
+        assertThrows(MindMyMoneyException.class,
+            () -> new ListCommand("/e /search pizza", user).expenditureListToString());
+    }
+
+    /**
+     * Tests list command with page and limit options on a non-empty list.
+     */
+    @Test
+    void listToString_pageAndLimit_expectOnlyShownRows() throws MindMyMoneyException {
+        ExpenditureList expenditureTestList = new ExpenditureList();
+        CreditCardList creditCardTestList = new CreditCardList();
+        IncomeList incomeList = new IncomeList();
+        User user = new User(expenditureTestList, creditCardTestList, incomeList);
+        for (int i = 1; i <= 5; i++) {
+            new AddCommand("/e /pm cash /c Food /d Item " + i + " /a " + i + ".5 /t 0" + i + "/03/2022", user)
+                    .executeCommand();
+        }
+
+        String listInString = new ListCommand("/e /page 2 /size 2", user).expenditureListToString();
+        assertEquals("-----------------------------------------------" + System.lineSeparator()
+                + "3. $3.50 was spent on Item 3(Food) using Cash [03/03/2022]\n"
+                + "4. $4.50 was spent on Item 4(Food) using Cash [04/03/2022]\n"
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Showing 3-4 of 5 expenditure(s) (page 2 of 3)" + System.lineSeparator(), listInString);
+
+        listInString = new ListCommand("/e amount>2 /limit 1", user).expenditureListToString();
+        assertEquals("-----------------------------------------------" + System.lineSeparator()
+                + "1. $2.50 was spent on Item 2(Food) using Cash [02/03/2022]\n"
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Showing 1 of 4 expenditure(s)" + System.lineSeparator(), listInString);
+
+        assertThrows(MindMyMoneyException.class,
+            () -> new ListCommand("/e /page 4 /size 2", user).expenditureListToString());
+        assertThrows(MindMyMoneyException.class,
+            () -> new ListCommand("/e /page 0", user).expenditureListToString());
+        assertThrows(MindMyMoneyException.class,
+            () -> new ListCommand("/e /limit", user).expenditureListToString());
+        assertThrows(MindMyMoneyException.class,
+            () -> new ListCommand("/e /limit 2 /page 1", user).expenditureListToString());
+    }
+
+    /**
+     * Tests list command with sort and top options on a non-empty list.
+     */
+    @Test
+    void listToString_sortAndTop_expectSortedRows() throws MindMyMoneyException {
+        ExpenditureList expenditureTestList = new ExpenditureList();
+        CreditCardList creditCardTestList = new CreditCardList();
+        IncomeList incomeList = new IncomeList();
+        User user = new User(expenditureTestList, creditCardTestList, incomeList);
+        new AddCommand("/e /pm cash /c Food /d Lunch /a 8 /t 02/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Transport /d Bus /a 2 /t 01/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Entertainment /d Movie /a 12 /t 03/03/2022", user).executeCommand();
+
+        String listInString = new ListCommand("/e /sort amount /desc /top 2", user).expenditureListToString();
+        assertEquals("-----------------------------------------------" + System.lineSeparator()
+                + "1. $12.00 was spent on Movie(Entertainment) using Cash [03/03/2022]\n"
+                + "2. $8.00 was spent on Lunch(Food) using Cash [02/03/2022]\n"
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Showing 2 of 3 expenditure(s)" + System.lineSeparator(), listInString);
+
+        listInString = new ListCommand("/e amount<10 /sort date", user).expenditureListToString();
+        assertEquals("-----------------------------------------------" + System.lineSeparator()
+                + "1. $2.00 was spent on Bus(Transport) using Cash [01/03/2022]\n"
+                + "2. $8.00 was spent on Lunch(Food) using Cash [02/03/2022]\n"
+                + "-----------------------------------------------" + System.lineSeparator(), listInString);
+
+        listInString = new ListCommand("/e pm=cash /sort category /top 1", user).expenditureListToString();
+        assertEquals("-----------------------------------------------" + System.lineSeparator()
+                + "1. $12.00 was spent on Movie(Entertainment) using Cash [03/03/2022]\n"
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Showing 1 of 3 expenditure(s)" + System.lineSeparator(), listInString);
+
+        assertThrows(MindMyMoneyException.class,
+            () -> new ListCommand("/e /top 2", user).expenditureListToString());
+        assertThrows(MindMyMoneyException.class,
+            () -> new ListCommand("/e /sort price", user).expenditureListToString());
+    }
+
     /**
      * Tests list command with exact date, month, year on a non-empty list. Prints list of size 1 first,
      * followed by list of size 2, to check for formatting.
@@ -0,0 +1,49 @@
+package seedu.mindmymoney.command;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.CreditCardList;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.data.IncomeList;
+import seedu.mindmymoney.userfinancial.User;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Performs tests for the stats command.
+ */
+class StatsCommandTest {
+
+    /**
+     * Asserts that the stats command shows the quantiles of each category and month in the given period.
+     */
+    @Test
+    void statsToString_categoryAndMonth_expectQuantiles() throws MindMyMoneyException {
+        User user = new User(new ExpenditureList(), new CreditCardList(), new IncomeList());
+        new AddCommand("/e /pm cash /c Food /d Lunch /a 8 /t 02/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Snack /a 2 /t 01/04/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Dinner /a 12 /t 05/04/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Transport /d Bus /a 1 /t 03/04/2021", user).executeCommand();
+
+        assertEquals("Spending distribution by category in 2022:" + System.lineSeparator()
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Food: count 3, median $8.00, p90 $12.00, p99 $12.00" + System.lineSeparator()
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Overall: count 3, median $8.00, p90 $12.00, p99 $12.00",
+                new StatsCommand("2022", user).statsToString());
+
+        assertEquals("Spending distribution by month:" + System.lineSeparator()
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "04/2021: count 1, median $1.00, p90 $1.00, p99 $1.00" + System.lineSeparator()
+                + "03/2022: count 1, median $8.00, p90 $8.00, p99 $8.00" + System.lineSeparator()
+                + "04/2022: count 2, median $2.00, p90 $12.00, p99 $12.00" + System.lineSeparator()
+                + "-----------------------------------------------" + System.lineSeparator()
+                + "Overall: count 4, median $2.00, p90 $12.00, p99 $12.00",
+                new StatsCommand("/by month", user).statsToString());
+
+        assertThrows(MindMyMoneyException.class, () -> new StatsCommand("2020", user).statsToString());
+        assertThrows(MindMyMoneyException.class, () -> new StatsCommand("30/03/2022", user).statsToString());
+        assertThrows(MindMyMoneyException.class, () -> new StatsCommand("/by pm", user).statsToString());
+    }
+}
@@ -10,6 +10,8 @@ import seedu.mindmymoney.userfinancial.Expenditure;
 import seedu.mindmymoney.userfinancial.Income;
 import seedu.mindmymoney.userfinancial.User;
 
+import java.time.YearMonth;
+
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -341,4 +343,57 @@ public class UpdateCommandTest {
         assertEquals(false, new UpdateCommand(inputStringUpdate, user).isExit());
 
     }
+
+    /**
+     * Asserts that all expenditures matching the conditions are updated and card totals follow the new amounts.
+     */
+    @Test
+    void updateCommand_whereConditions_expectMatchingExpendituresUpdated() throws MindMyMoneyException {
+        User user = new User();
+        new AddCommand("/cc /n DBS /cb 1.5 /cl 500", user).executeCommand();
+        new AddCommand("/e /pm DBS /c Food /d Chicken Rice /a 5 /t 01/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d Porridge /a 4 /t 02/03/2022", user).executeCommand();
+        new AddCommand("/e /pm DBS /c Personal /d Shoes /a 20 /t 03/03/2022", user).executeCommand();
+
+        new UpdateCommand("/e where category=Food set /c transport /a 10", user).executeCommand();
+
+        ExpenditureList expenditureList = user.getExpenditureListArray();
+        assertEquals("Transport", expenditureList.get(0).getCategory());
+        assertEquals(10, expenditureList.get(1).getAmount());
+        assertEquals("Personal", expenditureList.get(2).getCategory());
+        assertEquals(470.0, user.getCreditCardListArray().get(0).getBalanceLeft(YearMonth.of(2022, 3)));
+    }
+
+    /**
+     * Asserts that a bulk update that would exceed a card limit leaves every expenditure unchanged.
+     */
+    @Test
+    void updateCommand_whereConditionsOverCardLimit_expectException() throws MindMyMoneyException {
+        User user = new User();
+        new AddCommand("/cc /n DBS /cb 1.5 /cl 500", user).executeCommand();
+        new AddCommand("/e /pm DBS /c Food /d Chicken Rice /a 5 /t 01/03/2022", user).executeCommand();
+        new AddCommand("/e /pm DBS /c Food /d Porridge /a 4 /t 02/03/2022", user).executeCommand();
+
+        UpdateCommand updateCommand = new UpdateCommand("/e where pm=dbs set /a 300", user);
+        assertThrows(MindMyMoneyException.class, updateCommand::executeCommand);
+        assertEquals(5, user.getExpenditureListArray().get(0).getAmount());
+        assertEquals(491.0, user.getCreditCardListArray().get(0).getBalanceLeft(YearMonth.of(2022, 3)));
+    }
+
+    /**
+     * Asserts that a condition value containing " set " is kept whole, and that only the last " set " followed by a
+     * flag starts the new fields.
+     */
+    @Test
+    void updateCommand_conditionValueContainsSet_expectSplitAtLastSet() throws MindMyMoneyException {
+        User user = new User();
+        new AddCommand("/e /pm cash /c Food /d tea set box /a 5 /t 01/03/2022", user).executeCommand();
+        new AddCommand("/e /pm cash /c Food /d tea /a 4 /t 02/03/2022", user).executeCommand();
+
+        new UpdateCommand("/e where description=tea set box set /c Others", user).executeCommand();
+
+        ExpenditureList expenditureList = user.getExpenditureListArray();
+        assertEquals("Others", expenditureList.get(0).getCategory());
+        assertEquals("Food", expenditureList.get(1).getCategory());
+    }
 }
@@ -0,0 +1,48 @@
+package seedu.mindmymoney.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.userfinancial.CreditCard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the name index of CreditCardList.
+ */
+class CreditCardListTest {
+
+    /**
+     * Asserts that credit cards can be retrieved by name regardless of case.
+     */
+    @Test
+    void get_differentCaseName_expectCreditCardFound() {
+        CreditCardList creditCardList = new CreditCardList();
+        CreditCard creditCard = new CreditCard("DBS", 1.5, 500);
+        creditCardList.add(creditCard);
+
+        assertEquals(creditCard, creditCardList.get("dbs"));
+        assertTrue(creditCardList.contains("Dbs"));
+        assertNull(creditCardList.get("posb"));
+    }
+
+    /**
+     * Asserts that the name index follows updates and deletions of credit cards.
+     */
+    @Test
+    void get_afterSetAndDelete_expectIndexUpdated() {
+        CreditCardList creditCardList = new CreditCardList();
+        creditCardList.add(new CreditCard("DBS", 1.5, 500));
+        creditCardList.add(new CreditCard("OCBC", 1, 1000));
+
+        CreditCard newCreditCard = new CreditCard("POSB", 2, 800);
+        creditCardList.set(0, newCreditCard);
+        assertNull(creditCardList.get("DBS"));
+        assertEquals(newCreditCard, creditCardList.get("posb"));
+
+        creditCardList.delete(1);
+        assertFalse(creditCardList.contains("OCBC"));
+        assertTrue(creditCardList.contains("POSB"));
+    }
+}
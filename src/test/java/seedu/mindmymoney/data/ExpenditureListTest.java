@@ -0,0 +1,340 @@
+package seedu.mindmymoney.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.SortFields;
+import seedu.mindmymoney.helper.QuantileSketch;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the indexes and record ids kept by ExpenditureList.
+ */
+class ExpenditureListTest {
+
+    /**
+     * Asserts that expenditures can be retrieved by their payment method.
+     */
+    @Test
+    void getByPaymentMethod_mixedPaymentMethods_expectMatchingExpenditures() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        Expenditure shoes = new Expenditure("DBS", "Personal", "Nike Shoes", 300, "30/03/2022");
+        Expenditure coke = new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022");
+        Expenditure movie = new Expenditure("DBS", "Entertainment", "Movie", 10, "31/03/2022");
+        expenditureList.add(shoes);
+        expenditureList.add(coke);
+        expenditureList.add(movie);
+
+        List<Expenditure> dbsExpenditures = expenditureList.getByPaymentMethod("DBS");
+        assertEquals(2, dbsExpenditures.size());
+        assertEquals(shoes, dbsExpenditures.get(0));
+        assertEquals(movie, dbsExpenditures.get(1));
+        assertEquals(1, expenditureList.getByPaymentMethod("Cash").size());
+        assertTrue(expenditureList.getByPaymentMethod("OCBC").isEmpty());
+    }
+
+    /**
+     * Asserts that the payment method index follows updates and deletions of expenditures.
+     */
+    @Test
+    void getByPaymentMethod_afterSetAndDelete_expectIndexUpdated() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("DBS", "Personal", "Nike Shoes", 300, "30/03/2022"));
+        expenditureList.add(new Expenditure("DBS", "Personal", "Nike Shoes", 300, "30/03/2022"));
+
+        expenditureList.set(0, new Expenditure("Cash", "Personal", "Nike Shoes", 300, "30/03/2022"));
+        assertEquals(1, expenditureList.getByPaymentMethod("DBS").size());
+        assertEquals(1, expenditureList.getByPaymentMethod("Cash").size());
+
+        expenditureList.delete(1);
+        assertTrue(expenditureList.getByPaymentMethod("DBS").isEmpty());
+        assertFalse(expenditureList.getPaymentMethods().contains("DBS"));
+    }
+
+    /**
+     * Asserts that deleting an expenditure keeps the record ids of the others and shifts later positions forward.
+     */
+    @Test
+    void delete_middleExpenditure_expectIdsKeptAndPositionsShifted() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        Expenditure shoes = new Expenditure("DBS", "Personal", "Nike Shoes", 300, "30/03/2022");
+        Expenditure coke = new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022");
+        Expenditure movie = new Expenditure("DBS", "Entertainment", "Movie", 10, "31/03/2022");
+        expenditureList.add(shoes);
+        expenditureList.add(coke);
+        expenditureList.add(movie);
+        long movieId = expenditureList.getIdAt(2);
+
+        expenditureList.delete(1);
+        assertEquals(2, expenditureList.size());
+        assertEquals(movie, expenditureList.get(1));
+        assertEquals(movieId, expenditureList.getIdAt(1));
+        assertEquals(1, expenditureList.indexOf(movieId));
+        assertEquals(-1, expenditureList.indexOf(coke.getId()));
+        assertNull(expenditureList.getById(coke.getId()));
+        assertEquals(1, expenditureList.getDeletedSlotCount());
+    }
+
+    /**
+     * Asserts that updating an expenditure keeps its record id.
+     */
+    @Test
+    void set_existingExpenditure_expectSameId() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022"));
+        long id = expenditureList.getIdAt(0);
+
+        Expenditure pepsi = new Expenditure("Cash", "Food", "Pepsi", 2, "30/03/2022");
+        expenditureList.set(0, pepsi);
+        assertEquals(id, pepsi.getId());
+        assertEquals(pepsi, expenditureList.getById(id));
+    }
+
+    /**
+     * Asserts that adding the same expenditure twice gives the second entry its own id, without changing the id of
+     * the first entry.
+     */
+    @Test
+    void add_sameExpenditureTwice_expectFirstIdKept() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        Expenditure coke = new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022");
+        expenditureList.add(coke);
+        long firstId = coke.getId();
+        expenditureList.add(coke);
+
+        assertEquals(firstId, coke.getId());
+        assertEquals(firstId, expenditureList.getIdAt(0));
+        assertTrue(expenditureList.getIdAt(1) != firstId);
+        assertEquals(0, expenditureList.indexOf(firstId));
+        assertEquals(1, expenditureList.indexOf(expenditureList.getIdAt(1)));
+    }
+
+    /**
+     * Asserts that compacting the list reclaims deleted slots without changing positions, ids or indexes.
+     */
+    @Test
+    void compact_afterDeletes_expectSameEntries() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        for (int i = 0; i < 10; i++) {
+            String paymentMethod = (i % 2 == 0) ? "Cash" : "DBS";
+            expenditureList.add(new Expenditure(paymentMethod, "Food", "Item " + i, i, "30/03/2022"));
+        }
+        expenditureList.delete(0);
+        expenditureList.delete(3);
+        expenditureList.delete(5);
+        long lastId = expenditureList.getIdAt(6);
+        List<Expenditure> before = new ArrayList<>(expenditureList.getExpenditures());
+
+        expenditureList.compact();
+        assertEquals(0, expenditureList.getDeletedSlotCount());
+        assertEquals(before, expenditureList.getExpenditures());
+        assertEquals(6, expenditureList.indexOf(lastId));
+        assertEquals(4, expenditureList.getByPaymentMethod("DBS").size());
+        assertEquals("Item 9", expenditureList.getById(lastId).getDescription());
+
+        expenditureList.add(new Expenditure("DBS", "Food", "Item 10", 10, "30/03/2022"));
+        assertEquals("Item 10", expenditureList.get(7).getDescription());
+        assertEquals(5, expenditureList.getByPaymentMethod("DBS").size());
+    }
+
+    /**
+     * Asserts that the month index follows updates, deletes and compactions.
+     */
+    @Test
+    void findAllInMonths_afterUpdateAndDelete_expectIndexUpdated() throws MindMyMoneyException {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Pie", 5, "01/04/2022"));
+        expenditureList.add(new Expenditure("DBS", "Food", "Rice", 4, "15/04/2022"));
+        expenditureList.updateIf(expenditure -> expenditure.getDescription().equals("Coke"),
+            expenditure -> new Expenditure("Cash", "Food", "Coke", 2, "02/04/2022"), (oldItems, newItems) -> { });
+        assertEquals(3, expenditureList.countInMonths(YearMonth.of(2022, 4), YearMonth.of(2022, 4)));
+        assertEquals(0, expenditureList.countInMonths(YearMonth.of(2022, 3), YearMonth.of(2022, 3)));
+
+        expenditureList.deleteIf(expenditure -> expenditure.getDescription().equals("Pie"));
+        List<Expenditure> foundItems = expenditureList.findAllInMonths(YearMonth.of(2022, 1),
+            YearMonth.of(2022, 12), expenditure -> true);
+        assertEquals(2, foundItems.size());
+        assertEquals("Coke", foundItems.get(0).getDescription());
+        assertEquals("Rice", foundItems.get(1).getDescription());
+        assertEquals(1, expenditureList.countWithPaymentMethod("dbs"));
+    }
+
+    /**
+     * Asserts that a bulk update moves the updated expenditures to their new places in a sorted view that was built
+     * before the update.
+     */
+    @Test
+    void getSortedExpenditures_afterBulkUpdate_expectViewPatched() throws MindMyMoneyException {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Pie", 5, "01/04/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Rice", 4, "15/04/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Tea", 3, "16/04/2022"));
+        List<Expenditure> byAmount = expenditureList.getSortedExpenditures(SortFields.AMOUNT, false);
+        assertEquals("Coke", byAmount.get(0).getDescription());
+
+        List<Expenditure> newItems = expenditureList.updateIf(expenditure -> expenditure.getAmount() < 4.5,
+            expenditure -> new Expenditure("Cash", "Food", expenditure.getDescription(),
+                10 - expenditure.getAmount(), expenditure.getTime()), (oldItems, updatedItems) -> { });
+
+        assertEquals(3, newItems.size());
+        assertEquals("Pie", byAmount.get(0).getDescription());
+        assertEquals("Rice", byAmount.get(1).getDescription());
+        assertEquals("Tea", byAmount.get(2).getDescription());
+        assertEquals("Coke", byAmount.get(3).getDescription());
+    }
+
+    /**
+     * Asserts that positions are still found correctly when entries are deleted after a compaction.
+     */
+    @Test
+    void get_deleteAfterCompaction_expectCorrectEntries() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        for (int i = 0; i < 3000; i++) {
+            expenditureList.add(new Expenditure("Cash", "Food", "Item " + i, i + 1, "30/03/2022"));
+        }
+        expenditureList.deleteIf(expenditure -> expenditure.getAmount() <= 100);
+        expenditureList.delete(0);
+
+        assertEquals(2899, expenditureList.size());
+        assertEquals("Item 101", expenditureList.get(0).getDescription());
+        assertEquals("Item 2999", expenditureList.get(2898).getDescription());
+    }
+
+    /**
+     * Asserts that the cached sort order follows additions, updates, deletions and compactions of the list.
+     */
+    @Test
+    void getSortedExpenditures_afterChanges_expectSortedOrderKept() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "Lunch", 8, "02/03/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Snack", 2, "01/03/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Dinner", 8, "03/03/2022"));
+        List<Expenditure> byAmount = expenditureList.getSortedExpenditures(SortFields.AMOUNT, false);
+        assertEquals("Snack", byAmount.get(0).getDescription());
+        assertEquals("Lunch", byAmount.get(1).getDescription());
+        assertEquals("Dinner", byAmount.get(2).getDescription());
+
+        expenditureList.add(new Expenditure("Cash", "Food", "Coffee", 5, "04/03/2022"));
+        expenditureList.set(1, new Expenditure("Cash", "Food", "Snack", 20, "01/03/2022"));
+        expenditureList.delete(0);
+        expenditureList.compact();
+        List<Expenditure> byAmountDescending = expenditureList.getSortedExpenditures(SortFields.AMOUNT, true);
+        assertEquals(3, byAmountDescending.size());
+        assertEquals("Snack", byAmountDescending.get(0).getDescription());
+        assertEquals("Dinner", byAmountDescending.get(1).getDescription());
+        assertEquals("Coffee", byAmountDescending.get(2).getDescription());
+
+        List<Expenditure> byDate = expenditureList.getSortedExpenditures(SortFields.DATE, false);
+        assertEquals("Snack", byDate.get(0).getDescription());
+        assertEquals("Coffee", byDate.get(2).getDescription());
+    }
+
+    /**
+     * Asserts that the amount sketches follow additions, updates and deletions, and merge over a range of months.
+     */
+    @Test
+    void getAmountSketches_afterChanges_expectMatchingQuantiles() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "Lunch", 8, "02/03/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Snack", 2, "01/04/2022"));
+        expenditureList.add(new Expenditure("Cash", "Transport", "Bus", 1, "03/04/2022"));
+        expenditureList.set(1, new Expenditure("Cash", "Food", "Snack", 4, "01/04/2022"));
+        expenditureList.delete(2);
+
+        TreeMap<String, QuantileSketch> byCategory = expenditureList.getAmountSketchesByCategory(
+                YearMonth.of(2022, 1), YearMonth.of(2022, 12));
+        assertEquals(1, byCategory.size());
+        assertEquals(2, byCategory.get("Food").getCount());
+        assertEquals(400, byCategory.get("Food").getQuantile(0.5));
+        assertEquals(800, byCategory.get("Food").getQuantile(0.9));
+
+        TreeMap<YearMonth, QuantileSketch> byMonth = expenditureList.getAmountSketchesByMonth(
+                YearMonth.of(2022, 4), null);
+        assertEquals(1, byMonth.size());
+        assertEquals(400, byMonth.get(YearMonth.of(2022, 4)).getQuantile(0.5));
+    }
+
+    /**
+     * Asserts that the rolling totals follow additions, updates and deletions, and leave out days outside the window.
+     */
+    @Test
+    void getRollingTotals_afterChanges_expectTotalsInWindow() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        DateTimeFormatter dateFormat = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+        String today = LocalDate.now().format(dateFormat);
+        String monthAgo = LocalDate.now().minusDays(29).format(dateFormat);
+        expenditureList.add(new Expenditure("Cash", "Food", "Lunch", 8, today));
+        expenditureList.add(new Expenditure("DBS", "Food", "Dinner", 12, monthAgo));
+        expenditureList.add(new Expenditure("DBS", "Transport", "Taxi", 20, today));
+        expenditureList.set(0, new Expenditure("Cash", "Food", "Lunch", 6, today));
+        expenditureList.delete(2);
+
+        assertEquals(600, (long) expenditureList.getRollingTotalsByCategory(7).get("Food"));
+        assertEquals(1800, (long) expenditureList.getRollingTotalsByCategory(30).get("Food"));
+        assertNull(expenditureList.getRollingTotalsByCategory(30).get("Transport"));
+        assertNull(expenditureList.getRollingTotalsByPaymentMethod(7).get("DBS"));
+        assertEquals(1200, (long) expenditureList.getRollingTotalsByPaymentMethod(30).get("DBS"));
+    }
+
+    /**
+     * Asserts that description search follows adds, updates, deletes and compaction.
+     */
+    @Test
+    void searchDescriptions_listChanges_expectIndexKeptUpToDate() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "Mcdonalds", 8, "12/03/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Pizza", 10, "12/03/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "McDonald's", 6, "13/03/2022"));
+        assertEquals(2, expenditureList.searchDescriptions("mcdonald").size());
+
+        expenditureList.set(0, new Expenditure("Cash", "Food", "Burger King", 8, "12/03/2022"));
+        assertEquals(List.of("McDonald's"), getDescriptions(expenditureList.searchDescriptions("mcdonald")));
+        assertEquals(List.of("Burger King"), getDescriptions(expenditureList.searchDescriptions("burgr king")));
+
+        expenditureList.deleteIf(expenditure -> expenditure.getDescription().equals("Pizza"));
+        assertTrue(expenditureList.searchDescriptions("pizza").isEmpty());
+        expenditureList.delete(1);
+        expenditureList.compact();
+        assertTrue(expenditureList.searchDescriptions("mcdonald").isEmpty());
+        assertEquals(8, expenditureList.searchDescriptions("burger").get(0).getAmount());
+    }
+
+    /**
+     * Asserts that duplicates are found within the given number of days, ignoring case and punctuation in the
+     * description, and are forgotten once deleted.
+     */
+    @Test
+    void hasDuplicate_sameFieldsNearbyDay_expectFoundWithinTolerance() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "McDonald's", 8.5f, "12/03/2022"));
+        assertTrue(expenditureList.hasDuplicate(new Expenditure("cash", "Food", "mcdonalds", 8.5f, "12/03/2022")));
+        assertFalse(expenditureList.hasDuplicate(new Expenditure("Cash", "Food", "McDonald's", 8.6f, "12/03/2022")));
+        assertFalse(expenditureList.hasDuplicate(new Expenditure("Cash", "Food", "McDonald's", 8.5f, "14/03/2022")));
+        assertTrue(expenditureList.hasDuplicate(new Expenditure("Cash", "Food", "McDonald's", 8.5f, "14/03/2022"),
+                2));
+
+        expenditureList.delete(0);
+        assertFalse(expenditureList.hasDuplicate(new Expenditure("Cash", "Food", "McDonald's", 8.5f, "12/03/2022")));
+    }
+
+    private static List<String> getDescriptions(List<Expenditure> expenditures) {
+        List<String> descriptions = new ArrayList<>();
+        for (Expenditure expenditure : expenditures) {
+            descriptions.add(expenditure.getDescription());
+        }
+        return descriptions;
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.mindmymoney.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Performs tests for the snapshots of ExpenditureList.
+ */
+class ExpenditureSnapshotTest {
+
+    private static void addItems(ExpenditureList expenditureList, int count) {
+        for (int i = 0; i < count; i++) {
+            expenditureList.add(new Expenditure("Cash", "Food", "Item " + i, i + 1, "30/03/2022"));
+        }
+    }
+
+    private static void assertSnapshotUnchangedByLaterChanges(ExpenditureList expenditureList) {
+        addItems(expenditureList, 600);
+        expenditureList.delete(5);
+        ExpenditureSnapshot snapshot = expenditureList.snapshot();
+        List<Expenditure> expected = new ArrayList<>(expenditureList.getExpenditures());
+
+        expenditureList.set(0, new Expenditure("Cash", "Transport", "Bus", 1, "30/03/2022"));
+        expenditureList.delete(10);
+        expenditureList.deleteIf(expenditure -> expenditure.getAmount() > 300);
+        addItems(expenditureList, 5);
+
+        assertEquals(599, snapshot.size());
+        assertEquals(expected, snapshot.getExpenditures());
+        assertEquals("Item 6", snapshot.get(5).getDescription());
+        assertEquals("Bus", expenditureList.get(0).getDescription());
+    }
+
+    /**
+     * Asserts that a snapshot of a list on the heap does not see changes made after it was taken.
+     */
+    @Test
+    void snapshot_heapStoreChangedLater_expectSnapshotUnchanged() {
+        assertSnapshotUnchangedByLaterChanges(new ExpenditureList(new HeapExpenditureStore()));
+    }
+
+    /**
+     * Asserts that a snapshot of a list in direct memory does not see changes made after it was taken.
+     */
+    @Test
+    void snapshot_offHeapStoreChangedLater_expectSnapshotUnchanged() {
+        assertSnapshotUnchangedByLaterChanges(new ExpenditureList(new OffHeapExpenditureStore()));
+    }
+
+    /**
+     * Asserts that a snapshot serializes to the same text as the list it was taken from.
+     */
+    @Test
+    void serialize_snapshot_expectSameAsList() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        addItems(expenditureList, 3);
+        expenditureList.delete(1);
+
+        assertEquals(expenditureList.serialize(), expenditureList.snapshot().serialize());
+    }
+
+    /**
+     * Asserts that the same snapshot is returned until the list changes.
+     */
+    @Test
+    void snapshot_unchangedList_expectSnapshotReused() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        addItems(expenditureList, 3);
+        ExpenditureSnapshot snapshot = expenditureList.snapshot();
+
+        assertSame(snapshot, expenditureList.snapshot());
+        expenditureList.delete(0);
+        assertNotSame(snapshot, expenditureList.snapshot());
+    }
+
+    /**
+     * Asserts that a parallel stream of a snapshot visits every expenditure in list order.
+     */
+    @Test
+    void stream_parallelSnapshotWithDeletes_expectAllExpendituresInOrder() {
+        ExpenditureList expenditureList = new ExpenditureList(new OffHeapExpenditureStore());
+        addItems(expenditureList, 20000);
+        expenditureList.delete(0);
+        expenditureList.delete(9000);
+        ExpenditureSnapshot snapshot = expenditureList.snapshot();
+
+        List<Expenditure> streamed = snapshot.stream(true).collect(Collectors.toList());
+        assertEquals(new ArrayList<>(snapshot.getExpenditures()), streamed);
+        assertEquals(19998, streamed.size());
+        assertEquals("Item 1", streamed.get(0).getDescription());
+    }
+
+    /**
+     * Asserts that truncating a heap store clears the dropped slots without changing a snapshot that shares them.
+     */
+    @Test
+    void truncate_heapStoreWithSnapshot_expectSnapshotKeepsEntries() {
+        HeapExpenditureStore store = new HeapExpenditureStore();
+        for (int i = 0; i < 300; i++) {
+            store.add(new Expenditure("Cash", "Food", "Item " + i, i + 1, "30/03/2022"));
+        }
+        ExpenditureStore.Snapshot snapshot = store.snapshot();
+
+        store.truncate(260);
+        Expenditure bus = new Expenditure("Cash", "Transport", "Bus", 1, "30/03/2022");
+        store.add(bus);
+
+        assertEquals(261, store.size());
+        assertSame(bus, store.get(260));
+        assertEquals(300, snapshot.size());
+        assertEquals("Item 299", snapshot.get(299).getDescription());
+        assertEquals("Item 260", snapshot.get(260).getDescription());
+    }
+}
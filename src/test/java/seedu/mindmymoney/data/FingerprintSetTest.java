@@ -0,0 +1,47 @@
+package seedu.mindmymoney.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the open-addressing set of fingerprints.
+ */
+class FingerprintSetTest {
+
+    /**
+     * Asserts that a fingerprint added twice is only gone once it has been removed twice.
+     */
+    @Test
+    void remove_fingerprintAddedTwice_expectCounted() {
+        FingerprintSet set = new FingerprintSet();
+        set.add(42);
+        set.add(42);
+        set.remove(42);
+        assertTrue(set.contains(42));
+        set.remove(42);
+        assertFalse(set.contains(42));
+        assertEquals(0, set.size());
+    }
+
+    /**
+     * Asserts that fingerprints that collide in the table are still found after growing and after the fingerprints
+     * before them are removed.
+     */
+    @Test
+    void contains_collidingFingerprintsRemoved_expectOthersFound() {
+        FingerprintSet set = new FingerprintSet();
+        for (long i = 1; i <= 1000; i++) {
+            set.add(i << 32);
+        }
+        for (long i = 1; i <= 1000; i += 2) {
+            set.remove(i << 32);
+        }
+        for (long i = 1; i <= 1000; i++) {
+            assertEquals(i % 2 == 0, set.contains(i << 32));
+        }
+        assertEquals(500, set.size());
+    }
+}
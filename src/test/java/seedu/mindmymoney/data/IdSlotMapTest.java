@@ -0,0 +1,34 @@
+package seedu.mindmymoney.data;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Performs tests for the open-addressing map from record ids to slots.
+ */
+class IdSlotMapTest {
+
+    /**
+     * Asserts that ids that collide in the table keep their slots after growing, after the ids before them are
+     * removed, and after the slots are replaced.
+     */
+    @Test
+    void get_collidingIdsRemoved_expectOthersFound() {
+        IdSlotMap map = new IdSlotMap();
+        for (long i = 1; i <= 1000; i++) {
+            map.put(i << 32, (int) i);
+        }
+        for (long i = 1; i <= 1000; i += 2) {
+            map.remove(i << 32);
+        }
+        map.replaceSlots(slot -> slot / 2);
+
+        for (long i = 1; i <= 1000; i++) {
+            assertEquals(i % 2 == 0 ? (int) i / 2 : IdSlotMap.NO_SLOT, map.get(i << 32));
+        }
+        assertFalse(map.containsKey(0));
+        assertEquals(500, map.size());
+    }
+}
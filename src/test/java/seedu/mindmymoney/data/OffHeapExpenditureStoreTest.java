@@ -0,0 +1,120 @@
+package seedu.mindmymoney.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.io.File;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the off-heap storage of expenditures.
+ */
+class OffHeapExpenditureStoreTest {
+    @TempDir
+    File tempDir;
+
+    /**
+     * Asserts that expenditures read back from direct memory equal the ones stored.
+     */
+    @Test
+    void get_storedExpenditures_expectEqualExpenditures() {
+        OffHeapExpenditureStore store = new OffHeapExpenditureStore();
+        Expenditure shoes = new Expenditure("DBS", "Personal", "Nike Shoes", 300.5f, "30/03/2022");
+        Expenditure coke = new Expenditure("Cash", "Food", "Caf\u00e9 Latte", 2, "30/03/2022");
+        store.add(shoes);
+        store.add(coke);
+
+        assertEquals(2, store.size());
+        assertEquals(shoes, store.get(0));
+        assertEquals(coke, store.get(1));
+    }
+
+    /**
+     * Asserts that records can be replaced, moved and truncated in a file-backed store.
+     */
+    @Test
+    void move_fileBackedStore_expectRecordCopied() throws IOException {
+        OffHeapExpenditureStore store = new OffHeapExpenditureStore(new File(tempDir, "expenditures.dat"));
+        Expenditure shoes = new Expenditure("DBS", "Personal", "Nike Shoes", 300, "30/03/2022");
+        Expenditure coke = new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022");
+        Expenditure movie = new Expenditure("DBS", "Entertainment", "Movie", 10, "31/03/2022");
+        Expenditure bus = new Expenditure("Cash", "Transport", "Bus", 1, "01/04/2022");
+        store.add(shoes);
+        store.add(coke);
+        store.add(movie);
+
+        assertEquals(coke, store.set(1, bus));
+        assertEquals(bus, store.get(1));
+        store.move(2, 1);
+        store.truncate(2);
+        assertEquals(2, store.size());
+        assertEquals(shoes, store.get(0));
+        assertEquals(movie, store.get(1));
+    }
+
+    /**
+     * Asserts that repeatedly adding to a file-backed store and taking snapshots reuses the regions of snapshots that
+     * are no longer used, while a snapshot that is still held keeps its entries.
+     */
+    @Test
+    void snapshot_repeatedAddAndSnapshot_expectBoundedFileLength() throws IOException {
+        File file = new File(tempDir, "expenditures.dat");
+        OffHeapExpenditureStore store = new OffHeapExpenditureStore(file);
+        Expenditure shoes = new Expenditure("DBS", "Personal", "Nike Shoes", 300, "30/03/2022");
+        store.add(shoes);
+        ExpenditureStore.Snapshot heldSnapshot = store.snapshot();
+        store.set(0, new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022"));
+        long chunkLength = file.length() / 2;
+        for (int i = 0; i < 200; i++) {
+            store.add(new Expenditure("Cash", "Food", "Coke " + i, 2, "30/03/2022"));
+            store.snapshot();
+            System.gc();
+        }
+
+        assertEquals(201, store.size());
+        assertEquals("Coke 199", store.get(200).getDescription());
+        assertEquals(shoes, heldSnapshot.get(0));
+        assertTrue(file.length() <= 8 * chunkLength, "File length: " + file.length());
+    }
+
+    /**
+     * Asserts that an ExpenditureList backed by direct memory keeps its payment method index correct.
+     */
+    @Test
+    void getByPaymentMethod_offHeapStore_expectMatchingExpenditures() {
+        ExpenditureList expenditureList = new ExpenditureList(new OffHeapExpenditureStore());
+        Expenditure shoes = new Expenditure("DBS", "Personal", "Nike Shoes", 300, "30/03/2022");
+        Expenditure coke = new Expenditure("Cash", "Food", "Coke", 2, "30/03/2022");
+        Expenditure movie = new Expenditure("DBS", "Entertainment", "Movie", 10, "31/03/2022");
+        expenditureList.add(shoes);
+        expenditureList.add(coke);
+        expenditureList.add(movie);
+        expenditureList.delete(0);
+
+        assertEquals(1, expenditureList.getByPaymentMethod("DBS").size());
+        assertEquals(movie, expenditureList.getByPaymentMethod("DBS").get(0));
+        assertEquals(coke, expenditureList.getByPaymentMethod("Cash").get(0));
+    }
+
+    /**
+     * Asserts that the string dictionary stores each distinct string once.
+     */
+    @Test
+    void intern_repeatedStrings_expectSameId() {
+        OffHeapStringDictionary dictionary = new OffHeapStringDictionary();
+        int foodId = dictionary.intern("Food");
+        int transportId = dictionary.intern("Transport");
+        for (int i = 0; i < 1000; i++) {
+            dictionary.intern("Description " + i);
+        }
+
+        assertEquals(foodId, dictionary.intern("Food"));
+        assertEquals(transportId, dictionary.intern("Transport"));
+        assertEquals("Description 500", dictionary.get(dictionary.intern("Description 500")));
+        assertEquals(1002, dictionary.size());
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.mindmymoney.data;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.helper.ExpenditureQuery;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Performs tests for the result cache of reports and listings.
+ */
+class ResultCacheTest {
+
+    /**
+     * Asserts that a cached result survives changes to other months, and is dropped once its own month changes.
+     */
+    @Test
+    void get_changeInOtherMonth_expectOnlyChangedMonthInvalidated() throws MindMyMoneyException {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "Pizza", 10, "12/03/2022"));
+        ResultCache cache = new ResultCache();
+        cache.put("calculate /epm 03/2022", ExpenditureQuery.inPeriod("03/2022"), expenditureList.getEpoch(),
+                "March");
+        cache.put("list /e", ExpenditureQuery.all(), expenditureList.getEpoch(), "Everything");
+        assertEquals("March", cache.get("calculate /epm 03/2022", expenditureList));
+        assertEquals("Everything", cache.get("list /e", expenditureList));
+
+        expenditureList.add(new Expenditure("Cash", "Food", "Burger", 5, "01/04/2022"));
+        assertEquals("March", cache.get("calculate /epm 03/2022", expenditureList));
+        assertNull(cache.get("list /e", expenditureList));
+
+        expenditureList.delete(0);
+        assertNull(cache.get("calculate /epm 03/2022", expenditureList));
+        assertEquals(0, cache.size());
+    }
+
+    /**
+     * Asserts that the least recently used entry is evicted once the cache is full.
+     */
+    @Test
+    void put_fullCache_expectLeastRecentlyUsedEvicted() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        ResultCache cache = new ResultCache(2);
+        cache.put("list /e", ExpenditureQuery.all(), 0, "first");
+        cache.put("list /e /limit 1", ExpenditureQuery.all(), 0, "second");
+        cache.get("list /e", expenditureList);
+        cache.put("list /e /limit 2", ExpenditureQuery.all(), 0, "third");
+        assertEquals("first", cache.get("list /e", expenditureList));
+        assertNull(cache.get("list /e /limit 1", expenditureList));
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Asserts that the recording writer passes everything on, and only keeps outputs short enough to cache.
+     */
+    @Test
+    void recordingWriter_longOutput_expectPassedOnButNotRecorded() throws IOException {
+        StringWriter output = new StringWriter();
+        ResultCache.RecordingWriter recorder = new ResultCache.RecordingWriter(output);
+        recorder.write("row");
+        assertEquals("row", recorder.getRecording());
+        char[] longRow = new char[ResultCache.MAX_CACHED_LENGTH];
+        recorder.write(longRow);
+        assertNull(recorder.getRecording());
+        assertEquals(ResultCache.MAX_CACHED_LENGTH + 3, output.toString().length());
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.mindmymoney.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Performs tests for the trigram index of descriptions.
+ */
+class TrigramIndexTest {
+
+    /**
+     * Asserts that descriptions differing in case, punctuation or by a typo are found, and ranked by similarity.
+     */
+    @Test
+    void search_typoInTerm_expectSimilarDescriptionsRanked() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("McDonald's");
+        index.add("Mcdonalds Breakfast");
+        index.add("Chicken rice");
+        assertEquals(List.of("McDonald's", "Mcdonalds Breakfast"), index.search("mcdonlds"));
+        assertEquals(List.of("Chicken rice"), index.search("chiken  RICE"));
+        assertEquals(List.of(), index.search("pizza"));
+        assertEquals(List.of(), index.search("!!"));
+    }
+
+    /**
+     * Asserts that removed descriptions are no longer found, and that their ids are reused.
+     */
+    @Test
+    void remove_addedDescription_expectNotFound() {
+        TrigramIndex index = new TrigramIndex();
+        index.add("Coke");
+        index.add("Coke");
+        index.remove("Coke");
+        assertEquals(List.of(), index.search("coke"));
+        assertEquals(0, index.size());
+        index.add("Cola");
+        index.remove("Pizza");
+        assertEquals(List.of("Cola"), index.search("cola"));
+        assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.mindmymoney.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Performs tests for the functions that reduce arrays of amounts.
+ */
+class AmountFunctionsTest {
+
+    /**
+     * Asserts that sums, minimums and maximums match a simple loop for every length, including lengths that do not
+     * fill the last group of lanes.
+     */
+    @Test
+    void sumMinMax_allLengths_expectSameAsSimpleLoop() {
+        Random random = new Random(7);
+        long[] amounts = new long[37];
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = random.nextInt(2000000) - 1000000;
+        }
+        for (int length = 0; length <= amounts.length; length++) {
+            long expectedSum = 0;
+            long expectedMin = Long.MAX_VALUE;
+            long expectedMax = Long.MIN_VALUE;
+            for (int i = 0; i < length; i++) {
+                expectedSum += amounts[i];
+                expectedMin = Math.min(expectedMin, amounts[i]);
+                expectedMax = Math.max(expectedMax, amounts[i]);
+            }
+            assertEquals(expectedSum, AmountFunctions.sum(amounts, length));
+            assertEquals(expectedMin, AmountFunctions.min(amounts, length));
+            assertEquals(expectedMax, AmountFunctions.max(amounts, length));
+        }
+    }
+
+    /**
+     * Asserts that a year of small amounts adds up exactly to the cent.
+     */
+    @Test
+    void aggregateStats_manyAmounts_expectExactTotal() {
+        AggregateStats stats = new AggregateStats();
+        for (int i = 0; i < 1000000; i++) {
+            stats.add(GeneralFunctions.toCents(0.1f));
+        }
+        AggregateStats otherStats = new AggregateStats();
+        otherStats.add(1);
+        stats.merge(otherStats);
+        assertEquals(1000001, stats.getCount());
+        assertEquals(10000001, stats.getSumInCents());
+        assertEquals(1, stats.getMinInCents());
+        assertEquals(10, stats.getMaxInCents());
+    }
+}
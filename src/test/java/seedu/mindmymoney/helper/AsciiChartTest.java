@@ -0,0 +1,51 @@
+package seedu.mindmymoney.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Performs tests for the text chart renderer.
+ */
+class AsciiChartTest {
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    /**
+     * Asserts that histogram columns and sparkline levels are scaled to the largest value, that values above 0 are
+     * always drawn, and that a chart which outgrows its buffer is still written whole.
+     */
+    @Test
+    void appendHistogram_smallBuffer_expectScaledColumnsAndSparkline() throws IOException {
+        AsciiChart chart = new AsciiChart(1);
+        chart.appendHistogram(new long[] {0, 2, 4}, 2, '#').appendSparkline(new long[] {0, 1, 9});
+        String expectedOutput = "|  #" + LINE_SEPARATOR
+                + "| ##" + LINE_SEPARATOR
+                + "+---" + LINE_SEPARATOR
+                + " .@";
+        StringWriter output = new StringWriter();
+        chart.writeTo(output);
+        assertEquals(expectedOutput, output.toString());
+        assertEquals(expectedOutput, chart.toString());
+    }
+
+    /**
+     * Asserts that a heatmap puts each day under the weekday it falls on, and shades it by its value.
+     */
+    @Test
+    void appendHeatmap_startsOnSunday_expectDaysInWeekdayRows() {
+        AsciiChart chart = new AsciiChart(AsciiChart.heatmapLength(8));
+        chart.appendHeatmap(LocalDate.of(2022, 1, 2), new long[] {4, 1, 0, 0, 0, 0, 0, 2});
+        String expectedOutput = "Mon  ." + LINE_SEPARATOR
+                + "Tue " + LINE_SEPARATOR
+                + "Wed " + LINE_SEPARATOR
+                + "Thu " + LINE_SEPARATOR
+                + "Fri " + LINE_SEPARATOR
+                + "Sat " + LINE_SEPARATOR
+                + "Sun #:" + LINE_SEPARATOR;
+        assertEquals(expectedOutput, chart.toString());
+    }
+}
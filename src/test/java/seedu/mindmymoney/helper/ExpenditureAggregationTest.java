@@ -0,0 +1,116 @@
+package seedu.mindmymoney.helper;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.constants.GroupFields;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Performs tests for grouping expenditures and calculating their stats.
+ */
+class ExpenditureAggregationTest {
+    private static final List<Expenditure> EXPENDITURES = List.of(
+            new Expenditure("DBS", "Food", "Lunch", 10, "15/12/2021"),
+            new Expenditure("cash", "Food", "Dinner", 5.5f, "01/01/2022"),
+            new Expenditure("dbs", "Transport", "Bus", 2, "01/01/2022"),
+            new Expenditure("Cash", "Food", "Lunch", 7, "31/01/2022"));
+
+    /**
+     * Asserts that groups are sorted with dates in chronological order.
+     */
+    @Test
+    void aggregate_groupByDay_expectChronologicalOrder() {
+        ExpenditureAggregation aggregation = ExpenditureAggregation.aggregate(EXPENDITURES, expenditure -> true,
+                List.of(GroupFields.DAY));
+        List<ExpenditureAggregation.Group> groups = aggregation.getGroups();
+        assertEquals(3, groups.size());
+        assertEquals(List.of("15/12/2021"), groups.get(0).getValues());
+        assertEquals(List.of("01/01/2022"), groups.get(1).getValues());
+        assertEquals(List.of("31/01/2022"), groups.get(2).getValues());
+        assertEquals(750, groups.get(1).getStats().getSumInCents());
+    }
+
+    /**
+     * Asserts that payment methods are grouped ignoring case, and that filtered expenditures are left out.
+     */
+    @Test
+    void aggregate_groupByPaymentMethodAndYear_expectCaseInsensitiveGroups() {
+        ExpenditureAggregation aggregation = ExpenditureAggregation.aggregate(EXPENDITURES,
+            expenditure -> !expenditure.getDescription().equals("Bus"), List.of(GroupFields.PM, GroupFields.YEAR));
+        assertEquals(3, aggregation.getTotal().getCount());
+        AggregateStats cashIn2022 = aggregation.getStats("CASH", "2022");
+        assertEquals(2, cashIn2022.getCount());
+        assertEquals(1250, cashIn2022.getSumInCents());
+        assertEquals(550, cashIn2022.getMinInCents());
+        assertEquals(700, cashIn2022.getMaxInCents());
+        assertEquals(625, cashIn2022.getAverageInCents());
+        assertEquals(0, aggregation.getStats("dbs", "2022").getCount());
+    }
+
+    /**
+     * Asserts that unsupported group fields are rejected.
+     */
+    @Test
+    void parseGroupFields_invalidField_expectException() throws MindMyMoneyException {
+        assertEquals(List.of(GroupFields.CATEGORY, GroupFields.MONTH),
+                ExpenditureAggregation.parseGroupFields("Category, month"));
+        assertThrows(MindMyMoneyException.class, () -> ExpenditureAggregation.parseGroupFields("amount"));
+        assertThrows(MindMyMoneyException.class, () -> ExpenditureAggregation.parseGroupFields(" , "));
+    }
+
+    /**
+     * Asserts that grouping in parallel gives the same groups, values and stats as grouping on one thread.
+     */
+    @Test
+    void aggregate_parallelSnapshot_expectSameResultAsSequential() {
+        String[] paymentMethods = {"Cash", "cash", "DBS", "OCBC"};
+        String[] categories = {"Food", "Transport", "Personal"};
+        ExpenditureList expenditureList = new ExpenditureList();
+        Random random = new Random(42);
+        for (int i = 0; i < 20000; i++) {
+            String date = String.format("%02d/%02d/%d", random.nextInt(28) + 1, random.nextInt(12) + 1,
+                    2020 + random.nextInt(3));
+            expenditureList.add(new Expenditure(paymentMethods[random.nextInt(paymentMethods.length)],
+                    categories[random.nextInt(categories.length)], "Item", random.nextInt(100000) / 100f, date));
+        }
+        expenditureList.deleteIf(expenditure -> expenditure.getAmount() < 10);
+        for (int i = 0; i < 500; i++) {
+            expenditureList.delete(i * 10);
+        }
+        List<GroupFields> groupFields = List.of(GroupFields.PM, GroupFields.MONTH);
+        ExpenditureAggregation sequential = ExpenditureAggregation.aggregate(expenditureList.getExpenditures(),
+            expenditure -> expenditure.getAmount() < 900, groupFields);
+
+        String oldThreshold = System.getProperty(ExpenditureAggregation.PARALLEL_THRESHOLD_PROPERTY);
+        System.setProperty(ExpenditureAggregation.PARALLEL_THRESHOLD_PROPERTY, "1");
+        try {
+            ExpenditureAggregation parallel = ExpenditureAggregation.aggregate(expenditureList.snapshot(),
+                expenditure -> expenditure.getAmount() < 900, groupFields);
+            assertEquals(sequential.getTotal().getCount(), parallel.getTotal().getCount());
+            assertEquals(sequential.getTotal().getSumInCents(), parallel.getTotal().getSumInCents());
+            assertEquals(sequential.getGroups().size(), parallel.getGroups().size());
+            for (int i = 0; i < sequential.getGroups().size(); i++) {
+                ExpenditureAggregation.Group expected = sequential.getGroups().get(i);
+                ExpenditureAggregation.Group actual = parallel.getGroups().get(i);
+                assertEquals(expected.getValues(), actual.getValues());
+                assertEquals(expected.getStats().getCount(), actual.getStats().getCount());
+                assertEquals(expected.getStats().getSumInCents(), actual.getStats().getSumInCents());
+                assertEquals(expected.getStats().getMinInCents(), actual.getStats().getMinInCents());
+                assertEquals(expected.getStats().getMaxInCents(), actual.getStats().getMaxInCents());
+            }
+        } finally {
+            if (oldThreshold == null) {
+                System.clearProperty(ExpenditureAggregation.PARALLEL_THRESHOLD_PROPERTY);
+            } else {
+                System.setProperty(ExpenditureAggregation.PARALLEL_THRESHOLD_PROPERTY, oldThreshold);
+            }
+        }
+    }
+}
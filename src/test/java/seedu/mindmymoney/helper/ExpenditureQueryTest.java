@@ -0,0 +1,90 @@
+package seedu.mindmymoney.helper;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.ExpenditureList;
+import seedu.mindmymoney.userfinancial.Expenditure;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for parsing queries over expenditures and choosing how to run them.
+ */
+class ExpenditureQueryTest {
+
+    private static ExpenditureList createList() {
+        ExpenditureList expenditureList = new ExpenditureList();
+        expenditureList.add(new Expenditure("Cash", "Food", "Salt and pepper", 60, "15/12/2021"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Dinner", 55.5f, "01/01/2022"));
+        expenditureList.add(new Expenditure("DBS", "Food", "Buffet", 80, "31/01/2022"));
+        expenditureList.add(new Expenditure("Cash", "Transport", "Taxi", 70, "02/02/2022"));
+        expenditureList.add(new Expenditure("Cash", "Food", "Coke", 2, "03/02/2022"));
+        return expenditureList;
+    }
+
+    /**
+     * Asserts that all conditions of a query must match.
+     */
+    @Test
+    void findAll_conditionsJoinedByAnd_expectMatchingExpenditures() throws MindMyMoneyException {
+        ExpenditureList expenditureList = createList();
+        List<Expenditure> foundItems = ExpenditureQuery.parse("amount>50 and category=food and date in 2022")
+                .findAll(expenditureList);
+        assertEquals(2, foundItems.size());
+        assertEquals("Dinner", foundItems.get(0).getDescription());
+        assertEquals("Buffet", foundItems.get(1).getDescription());
+
+        foundItems = ExpenditureQuery.parse("date>=01/2022 AND date<02/2022 and amount!=80")
+                .findAll(expenditureList);
+        assertEquals(1, foundItems.size());
+        assertEquals("Dinner", foundItems.get(0).getDescription());
+    }
+
+    /**
+     * Asserts that quoted values may contain the word "and", and that ~ matches part of a value.
+     */
+    @Test
+    void findAll_quotedValue_expectValueKeptWhole() throws MindMyMoneyException {
+        ExpenditureList expenditureList = createList();
+        List<Expenditure> foundItems = ExpenditureQuery.parse("description=\"salt and pepper\"")
+                .findAll(expenditureList);
+        assertEquals(1, foundItems.size());
+        assertEquals(3, ExpenditureQuery.parse("description~E and amount<=60").findAll(expenditureList).size());
+        assertTrue(ExpenditureQuery.parse("amount>60 and amount<60").findAll(expenditureList).isEmpty());
+    }
+
+    /**
+     * Asserts that a query uses the index that visits the fewest expenditures.
+     */
+    @Test
+    void choosePlan_selectiveConditions_expectIndexUsed() throws MindMyMoneyException {
+        ExpenditureList expenditureList = createList();
+        assertEquals(ExpenditureQuery.Plan.FULL_SCAN,
+                ExpenditureQuery.parse("amount>50").choosePlan(expenditureList));
+        assertEquals(ExpenditureQuery.Plan.PAYMENT_METHOD_INDEX,
+                ExpenditureQuery.parse("pm=dbs and date in 2022").choosePlan(expenditureList));
+        assertEquals(ExpenditureQuery.Plan.MONTH_INDEX,
+                ExpenditureQuery.parse("pm=cash and date in 02/2022").choosePlan(expenditureList));
+        assertEquals(2, ExpenditureQuery.parse("pm=cash and date in 02/2022").findAll(expenditureList).size());
+        assertEquals(1, ExpenditureQuery.parse("pm=DBS").findAll(expenditureList).size());
+    }
+
+    /**
+     * Asserts that invalid queries are rejected.
+     */
+    @Test
+    void parse_invalidQuery_expectException() {
+        assertThrows(MindMyMoneyException.class, () -> ExpenditureQuery.parse("amount>fifty"));
+        assertThrows(MindMyMoneyException.class, () -> ExpenditureQuery.parse("price>50"));
+        assertThrows(MindMyMoneyException.class, () -> ExpenditureQuery.parse("category>Food"));
+        assertThrows(MindMyMoneyException.class, () -> ExpenditureQuery.parse("date in 13/2022"));
+        assertThrows(MindMyMoneyException.class, () -> ExpenditureQuery.parse("description=\"salt"));
+        assertThrows(MindMyMoneyException.class, () -> ExpenditureQuery.parse("amount>50 and"));
+        assertFalse(ExpenditureQuery.isQuery("03/2022"));
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.mindmymoney.helper;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.mindmymoney.helper.FlagTokenizer.EXPENDITURE_FLAGS;
+
+/**
+ * Performs tests for the tokenizer that reads the flags of a command.
+ */
+class FlagTokenizerTest {
+    /**
+     * Asserts that flags are read ignoring case, that a quoted value may hold words that are flags, that dates are
+     * not mistaken for flags, and that words before the first flag are kept as positional text.
+     */
+    @Test
+    void tokenize_quotedValueAndMixedCaseFlags_expectValuesByFlag() throws MindMyMoneyException {
+        CommandFlags flags = EXPENDITURE_FLAGS.tokenizeInOrder("/e  2 /PM cash /c Food /d \"Coke /a deal\" "
+            + "/a 4.50 /T 30/03/2022");
+        assertEquals("/e 2", flags.getPositionalText());
+        assertEquals("/pm", flags.getFirstFlag());
+        assertEquals("cash", flags.get("/pm"));
+        assertEquals("Coke /a deal", flags.get("/d"));
+        assertEquals("4.50", flags.get("/a"));
+        assertEquals("30/03/2022", flags.get("/t"));
+        assertEquals(5, flags.size());
+
+        CommandFlags literalQuotes = EXPENDITURE_FLAGS.tokenize("/d \"Big\" Mac /a 5");
+        assertEquals("\"Big\" Mac", literalQuotes.get("/d"));
+        assertFalse(literalQuotes.has("/t"));
+        assertNull(literalQuotes.get("/t"));
+    }
+
+    /**
+     * Asserts that word flags take a single word, that switches take none, and that a flag given twice, a missing
+     * flag or flags out of order are rejected.
+     */
+    @Test
+    void tokenize_wordFlagsAndInvalidInput_expectValuesOrException() throws MindMyMoneyException {
+        FlagTokenizer tokenizer = new FlagTokenizer(new String[] {"/search"}, new String[] {"/page"},
+            new String[] {"/desc"});
+        CommandFlags flags = tokenizer.tokenize("03/2022 /page 2 /desc category=food");
+        assertEquals("2", flags.get("/page"));
+        assertTrue(flags.has("/desc"));
+        assertEquals("03/2022 category=food", flags.getPositionalText());
+        assertEquals("", tokenizer.tokenize("/page /desc").get("/page"));
+
+        assertThrows(MindMyMoneyException.class, () -> tokenizer.tokenize("/page 1 /PAGE 2"));
+        assertThrows(MindMyMoneyException.class, () -> EXPENDITURE_FLAGS.tokenize("/pm cash").getRequired("/c"));
+        assertThrows(MindMyMoneyException.class,
+            () -> EXPENDITURE_FLAGS.tokenizeInOrder("/c Food /pm cash /d Rice /a 4 /t 30/03/2022"));
+    }
+}
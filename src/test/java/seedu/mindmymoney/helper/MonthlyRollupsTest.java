@@ -0,0 +1,80 @@
+package seedu.mindmymoney.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.YearMonth;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the monthly rollups of expenditure amounts.
+ */
+class MonthlyRollupsTest {
+
+    /**
+     * Asserts that totals over a range only count the months in the range, including months added before the
+     * earliest month seen so far.
+     */
+    @Test
+    void getTotals_monthsAcrossYears_expectOnlyMonthsInRange() {
+        MonthlyRollups rollups = new MonthlyRollups();
+        rollups.add("Food", YearMonth.of(2022, 3), 1000);
+        rollups.add("Food", YearMonth.of(2012, 12), 500);
+        rollups.add("Food", YearMonth.of(2023, 1), 700);
+        rollups.add("Cash", YearMonth.of(2022, 7), 200);
+
+        TreeMap<String, Long> totals = rollups.getTotals(YearMonth.of(2022, 1), YearMonth.of(2022, 12));
+        assertEquals(1000L, (long) totals.get("Food"));
+        assertEquals(200L, (long) totals.get("Cash"));
+        assertEquals(2200L, (long) rollups.getTotals(YearMonth.of(2012, 1), YearMonth.of(2023, 12)).get("Food"));
+        assertTrue(rollups.getTotals(YearMonth.of(2013, 1), YearMonth.of(2021, 12)).isEmpty());
+    }
+
+    /**
+     * Asserts that removed amounts are taken out of the totals, and names without spending are left out.
+     */
+    @Test
+    void remove_allAmountsOfName_expectNameLeftOut() {
+        MonthlyRollups rollups = new MonthlyRollups();
+        rollups.add("Food", YearMonth.of(2022, 3), 1000);
+        rollups.add("Food", YearMonth.of(2022, 3), 250);
+        rollups.remove("Food", YearMonth.of(2022, 3), 1000);
+        assertEquals(250L, (long) rollups.getTotals(YearMonth.of(2022, 3), YearMonth.of(2022, 3)).get("Food"));
+        rollups.remove("Food", YearMonth.of(2022, 3), 250);
+        assertTrue(rollups.getTotals(YearMonth.of(2022, 3), YearMonth.of(2022, 3)).isEmpty());
+    }
+
+    /**
+     * Asserts that the total of a name in a month adds up the names that differ only in case.
+     */
+    @Test
+    void getTotal_namesDifferingInCase_expectTotalsAddedUp() {
+        MonthlyRollups rollups = new MonthlyRollups();
+        rollups.add("Cash", YearMonth.of(2022, 3), 1000);
+        rollups.add("cash", YearMonth.of(2022, 3), 300);
+        rollups.add("Cash", YearMonth.of(2022, 4), 50);
+
+        assertEquals(1300L, rollups.getTotal("CASH", YearMonth.of(2022, 3)));
+        assertEquals(0L, rollups.getTotal("Cash", YearMonth.of(2021, 3)));
+        assertEquals(0L, rollups.getTotal("Visa", YearMonth.of(2022, 3)));
+    }
+
+    /**
+     * Asserts that the totals of each month add up every name, and months without spending are left out.
+     */
+    @Test
+    void getTotalsByMonth_severalNames_expectTotalOfEachMonth() {
+        MonthlyRollups rollups = new MonthlyRollups();
+        rollups.add("Food", YearMonth.of(2022, 1), 1000);
+        rollups.add("Transport", YearMonth.of(2022, 1), 200);
+        rollups.add("Transport", YearMonth.of(2022, 3), 400);
+        rollups.add("Food", YearMonth.of(2023, 1), 700);
+
+        TreeMap<YearMonth, Long> totals = rollups.getTotalsByMonth(YearMonth.of(2022, 1), YearMonth.of(2022, 12));
+        assertEquals(2, totals.size());
+        assertEquals(1200L, (long) totals.get(YearMonth.of(2022, 1)));
+        assertEquals(400L, (long) totals.get(YearMonth.of(2022, 3)));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.mindmymoney.helper;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for the quantile sketch of expenditure amounts.
+ */
+class QuantileSketchTest {
+
+    /**
+     * Asserts that quantiles of a small group are exact, and follow removed amounts.
+     */
+    @Test
+    void getQuantile_smallGroup_expectExactAmounts() {
+        QuantileSketch sketch = new QuantileSketch();
+        sketch.add(800);
+        sketch.add(200);
+        sketch.add(1200);
+        assertEquals(800, sketch.getQuantile(0.5));
+        assertEquals(1200, sketch.getQuantile(0.9));
+        assertEquals(200, sketch.getQuantile(0));
+
+        sketch.remove(800);
+        assertEquals(2, sketch.getCount());
+        assertEquals(200, sketch.getQuantile(0.5));
+    }
+
+    /**
+     * Asserts that quantiles of large merged groups are within 1% of the exact quantiles.
+     */
+    @Test
+    void getQuantile_mergedLargeGroups_expectWithinOnePercent() {
+        Random random = new Random(11);
+        long[] amounts = new long[20000];
+        QuantileSketch firstHalf = new QuantileSketch();
+        QuantileSketch secondHalf = new QuantileSketch();
+        for (int i = 0; i < amounts.length; i++) {
+            amounts[i] = 1 + random.nextInt(500000);
+            if (i < amounts.length / 2) {
+                firstHalf.add(amounts[i]);
+            } else {
+                secondHalf.add(amounts[i]);
+            }
+        }
+        firstHalf.merge(secondHalf);
+        Arrays.sort(amounts);
+        assertEquals(amounts.length, firstHalf.getCount());
+        for (double quantile : new double[] {0.5, 0.9, 0.99}) {
+            long exactAmount = amounts[(int) Math.ceil(quantile * amounts.length) - 1];
+            long estimatedAmount = firstHalf.getQuantile(quantile);
+            assertTrue(Math.abs(estimatedAmount - exactAmount) <= exactAmount * 0.01 + 1);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.mindmymoney.userfinancial;
+
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+import seedu.mindmymoney.data.PropertyList;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Performs tests for the monthly totals of credit cards.
+ */
+class CreditCardTest {
+
+    /**
+     * Asserts that expenditures only count towards the balance of the month they were made in.
+     */
+    @Test
+    void getBalanceLeft_expendituresInDifferentMonths_expectSeparateBalances() {
+        CreditCard creditCard = new CreditCard("DBS", 1.5, 500);
+        creditCard.addExpenditure(300, "30/03/2022");
+        creditCard.addExpenditure(50, "01/04/2022");
+
+        assertEquals(200.0, creditCard.getBalanceLeft(YearMonth.of(2022, 3)));
+        assertEquals(450.0, creditCard.getBalanceLeft(YearMonth.of(2022, 4)));
+        assertEquals(500.0, creditCard.getBalanceLeft(YearMonth.of(2022, 5)));
+        assertEquals(350.0, creditCard.getTotalExpenditure());
+        assertEquals(4.5, creditCard.getTotalCashback(YearMonth.of(2022, 3)));
+    }
+
+    /**
+     * Asserts that repeatedly adding and removing amounts does not leave a rounding error in the totals.
+     */
+    @Test
+    void deductExpenditure_manyFractionalAmounts_expectExactTotals() {
+        CreditCard creditCard = new CreditCard("DBS", 1.5, 500);
+        for (int i = 0; i < 1000; i++) {
+            creditCard.addExpenditure(0.1f, "15/03/2022");
+        }
+        for (int i = 0; i < 1000; i++) {
+            creditCard.deductExpenditure(0.1f, "15/03/2022");
+        }
+
+        assertEquals(0.0, creditCard.getTotalExpenditure(YearMonth.of(2022, 3)));
+        assertEquals(500.0, creditCard.getBalanceLeft(YearMonth.of(2022, 3)));
+    }
+
+    /**
+     * Asserts that only the current month is saved as the total expenditure, so that the saved total stays within
+     * the monthly limit that older versions check it against.
+     */
+    @Test
+    void serialize_expendituresInEarlierMonths_expectOnlyCurrentMonthTotal() throws MindMyMoneyException {
+        CreditCard creditCard = new CreditCard("DBS", 1.5, 500);
+        LocalDate today = LocalDate.now();
+        creditCard.addExpenditure(400, today.minusMonths(1).format(DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+        creditCard.addExpenditure(300, today.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")));
+
+        assertEquals("300.0", PropertyList.deserialize(creditCard.serialize()).getValue("totalExpenditure"));
+    }
+}
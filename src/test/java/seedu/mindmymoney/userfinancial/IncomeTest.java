@@ -1,5 +1,33 @@
 package seedu.mindmymoney.userfinancial;
 
+import org.junit.jupiter.api.Test;
+import seedu.mindmymoney.MindMyMoneyException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Performs tests for Incomes.
+ */
 class IncomeTest {
+    /**
+     * Asserts that a dated Income keeps its date when serialized and deserialized.
+     */
+    @Test
+    void serialization_datedIncome_expectDateKept() throws MindMyMoneyException {
+        Income income = new Income(3000, "Salary", "25/03/2022");
+        Income deserialized = Income.deserialize(income.serialize());
+        assertEquals(income, deserialized);
+        assertEquals("25/03/2022", deserialized.getTime());
+    }
 
-}
\ No newline at end of file
+    /**
+     * Asserts that an Income saved before incomes had dates is read back as a recurring income.
+     */
+    @Test
+    void deserialize_savedWithoutDate_expectRecurringIncome() throws MindMyMoneyException {
+        Income income = Income.deserialize(" \"amount\": \"500\"  \"category\": \"Allowance\" ");
+        assertTrue(income.isRecurring());
+        assertEquals(new Income(500, "Allowance"), income);
+    }
+}